@@ -374,4 +374,5 @@ public final class Constants {
     public static final String REQUEST_BODY_ATTRIBUTE = "requestBody";
     public static final String VALUE = "value";
     public static final String FILE_PATH = "filePath";
+    public static final String PARALLELISM_PROPERTY = "openapi.mapper.parallelism";
 }
@@ -65,8 +65,14 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
 
 import static io.ballerina.openapi.service.mapper.Constants.HYPHEN;
+import static io.ballerina.openapi.service.mapper.Constants.PARALLELISM_PROPERTY;
 import static io.ballerina.openapi.service.mapper.utils.MapperCommonUtils.containErrors;
 import static io.ballerina.openapi.service.mapper.utils.MapperCommonUtils.getModuleNameString;
 import static io.ballerina.openapi.service.mapper.utils.MapperCommonUtils.getOpenApiFileName;
@@ -116,6 +122,30 @@ public final class ServiceToOpenAPIMapper {
                                                          SemanticModel semanticModel,
                                                          String serviceName, Boolean needJson,
                                                          Path inputPath, Boolean ballerinaExtension) {
+        return generateOAS3Definition(project, syntaxTree, semanticModel, serviceName, needJson, inputPath,
+                ballerinaExtension, oasResult -> { });
+    }
+
+    /**
+     * This method will generate  openapi definition Map lists with ballerina code. The services are mapped
+     * concurrently, and the given consumer is called on the calling thread with each result in the order of the
+     * returned list as soon as it is available, so that the results can be written while the remaining services are
+     * being mapped.
+     *
+     * @param syntaxTree    - Syntax tree the related to ballerina service
+     * @param semanticModel - Semantic model related to ballerina module
+     * @param serviceName   - Service name that need to generate the openAPI specification
+     * @param needJson      - Flag for enabling the generated file format with json or YAML
+     * @param inputPath     - Input file path for resolve the annotation details
+     * @param ballerinaExtension - Flag to enable ballerina type extension
+     * @param resultConsumer - Consumer which is called with each result
+     * @return - {@link java.util.Map} with openAPI definitions for service nodes
+     */
+    public static List<OASResult> generateOAS3Definition(Project project, SyntaxTree syntaxTree,
+                                                         SemanticModel semanticModel,
+                                                         String serviceName, Boolean needJson,
+                                                         Path inputPath, Boolean ballerinaExtension,
+                                                         Consumer<OASResult> resultConsumer) {
         Map<String, ServiceNode> servicesToGenerate = new HashMap<>();
         List<String> availableService = new ArrayList<>();
         List<OpenAPIMapperDiagnostic> diagnostics = new ArrayList<>();
@@ -133,23 +163,92 @@ public final class ServiceToOpenAPIMapper {
                 diagnostics.add(error);
             }
             // Generating openapi specification for selected services
+            outputs.addAll(generateOasForServiceNodes(project, syntaxTree, semanticModel, needJson, inputPath,
+                    servicesToGenerate, ballerinaExtension, resultConsumer));
+        }
+        if (!diagnostics.isEmpty()) {
+            OASResult exceptions = new OASResult(null, diagnostics);
+            resultConsumer.accept(exceptions);
+            outputs.add(exceptions);
+        }
+        return outputs;
+    }
+
+    /**
+     * Maps the given services using a thread per service up to the parallelism given by the
+     * {@code openapi.mapper.parallelism} system property. The services only read the semantic model and the package
+     * members, which are shared, and the results are returned in the iteration order of the given services.
+     * <p>
+     * The services are mapped one after another by default, since the semantic model is not documented to be safe
+     * for concurrent use.
+     */
+    private static List<OASResult> generateOasForServiceNodes(Project project, SyntaxTree syntaxTree,
+                                                              SemanticModel semanticModel, Boolean needJson,
+                                                              Path inputPath,
+                                                              Map<String, ServiceNode> servicesToGenerate,
+                                                              Boolean ballerinaExtension,
+                                                              Consumer<OASResult> resultConsumer) {
+        List<OASResult> outputs = new ArrayList<>(servicesToGenerate.size());
+        if (servicesToGenerate.isEmpty()) {
+            return outputs;
+        }
+        PackageMemberVisitor packageMemberVisitor = extractNodesFromProject(project);
+        int parallelism = Math.min(servicesToGenerate.size(),
+                Integer.getInteger(PARALLELISM_PROPERTY, 1));
+        if (parallelism <= 1) {
             for (Map.Entry<String, ServiceNode> serviceNode : servicesToGenerate.entrySet()) {
                 String openApiName = getOpenApiFileName(syntaxTree.filePath(), serviceNode.getKey(), needJson);
-                OASResult oasDefinition = generateOasFroServiceNode(project, openApiName,
-                        semanticModel, inputPath, serviceNode.getValue(), ballerinaExtension);
+                OASResult oasDefinition = generateOasFroServiceNode(project, openApiName, semanticModel, inputPath,
+                        serviceNode.getValue(), ballerinaExtension, packageMemberVisitor);
+                resultConsumer.accept(oasDefinition);
                 outputs.add(oasDefinition);
             }
+            return outputs;
         }
-        if (!diagnostics.isEmpty()) {
-            OASResult exceptions = new OASResult(null, diagnostics);
-            outputs.add(exceptions);
+        try (ExecutorService executor = Executors.newFixedThreadPool(parallelism)) {
+            List<Future<OASResult>> results = new ArrayList<>(servicesToGenerate.size());
+            for (Map.Entry<String, ServiceNode> serviceNode : servicesToGenerate.entrySet()) {
+                String openApiName = getOpenApiFileName(syntaxTree.filePath(), serviceNode.getKey(), needJson);
+                results.add(executor.submit(() -> generateOasFroServiceNode(project, openApiName, semanticModel,
+                        inputPath, serviceNode.getValue(), ballerinaExtension, packageMemberVisitor)));
+            }
+            for (Future<OASResult> result : results) {
+                OASResult oasDefinition = getResult(result);
+                resultConsumer.accept(oasDefinition);
+                outputs.add(oasDefinition);
+            }
         }
         return outputs;
     }
 
+    private static OASResult getResult(Future<OASResult> result) {
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
     public static OASResult generateOasFroServiceNode(Project project, String openApiName, SemanticModel semanticModel,
                                                       Path inputPath, ServiceNode serviceNode,
                                                       Boolean ballerinaExtension) {
+        return generateOasFroServiceNode(project, openApiName, semanticModel, inputPath, serviceNode,
+                ballerinaExtension, null);
+    }
+
+    private static OASResult generateOasFroServiceNode(Project project, String openApiName,
+                                                       SemanticModel semanticModel, Path inputPath,
+                                                       ServiceNode serviceNode, Boolean ballerinaExtension,
+                                                       PackageMemberVisitor packageMemberVisitor) {
         OASGenerationMetaInfo.OASGenerationMetaInfoBuilder builder =
                 new OASGenerationMetaInfo.OASGenerationMetaInfoBuilder();
         builder.setServiceNode(serviceNode)
@@ -157,6 +256,7 @@ public final class ServiceToOpenAPIMapper {
                 .setOpenApiFileName(openApiName)
                 .setBallerinaFilePath(inputPath)
                 .setBallerinaExtension(ballerinaExtension)
+                .setPackageMemberVisitor(packageMemberVisitor)
                 .setProject(project);
         OASGenerationMetaInfo oasGenerationMetaInfo = builder.build();
         OASResult oasDefinition = generateOAS(oasGenerationMetaInfo);
@@ -87,7 +87,7 @@ import static io.ballerina.openapi.service.mapper.utils.MapperCommonUtils.getOpe
  * @since 2.0.1
  */
 public class MetaInfoMapperImpl implements MetaInfoMapper {
-    static List<OpenAPIMapperDiagnostic> diagnostics = new ArrayList<>();
+    private final List<OpenAPIMapperDiagnostic> diagnostics = new ArrayList<>();
 
     @Override
     public List<OpenAPIMapperDiagnostic> getDiagnostics() {
@@ -166,8 +166,8 @@ public class MetaInfoMapperImpl implements MetaInfoMapper {
         return Optional.empty();
     }
 
-    private static void handleExamples(ResourceMetaInfoAnnotation.Builder resMetaInfoBuilder,
-                                       ExpressionNode expressionNode, Path ballerinFilePath) {
+    private void handleExamples(ResourceMetaInfoAnnotation.Builder resMetaInfoBuilder,
+                                ExpressionNode expressionNode, Path ballerinFilePath) {
         if (expressionNode instanceof MappingConstructorExpressionNode mapNode) {
             SeparatedNodeList<MappingFieldNode> fields = mapNode.fields();
             for (MappingFieldNode resultField : fields) {
@@ -214,8 +214,8 @@ public class MetaInfoMapperImpl implements MetaInfoMapper {
     /**
      * This is for mapping response example in OAS.
      */
-    private static void setResponseExamples(ResourceMetaInfoAnnotation.Builder resMetaInfoBuilder, Map<?, ?> objectMap,
-                                            Path ballerinaFilePath, Location location) {
+    private void setResponseExamples(ResourceMetaInfoAnnotation.Builder resMetaInfoBuilder, Map<?, ?> objectMap,
+                                     Path ballerinaFilePath, Location location) {
         if (objectMap instanceof LinkedHashMap<?, ?> responseSet) {
             //<statusCode, <MediaType, Map<name, Object>>>
             Map<String, Map<String, Map<String, Object>>> responseExamples = new HashMap<>();
@@ -245,16 +245,16 @@ public class MetaInfoMapperImpl implements MetaInfoMapper {
     /**
      * This is for mapping request example in OAS.
      */
-    private static void setRequestExamples(ResourceMetaInfoAnnotation.Builder resMetaInfoBuilder, Map<?, ?> objectMap,
-                                            Path ballerinaFilePath, Location location) {
+    private void setRequestExamples(ResourceMetaInfoAnnotation.Builder resMetaInfoBuilder, Map<?, ?> objectMap,
+                                    Path ballerinaFilePath, Location location) {
         Map<String, Map<String, Object>> mediaTypeExampleMap = extractExamples(objectMap,
                 ballerinaFilePath, location);
             resMetaInfoBuilder.requestExamples(mediaTypeExampleMap);
 
     }
 
-    private static Map<String, Map<String, Object>> extractExamples(Object exampleValues, Path ballerinaFilePath,
-                                                                    Location location) {
+    private Map<String, Map<String, Object>> extractExamples(Object exampleValues, Path ballerinaFilePath,
+                                                             Location location) {
         //Map format: <key:mediaType ,value: <key:name, value>>
         Map<String, Map<String, Object>> mediaTypeExampleMap = new HashMap<>();
         if (exampleValues instanceof LinkedHashMap<?, ?> exampleValueMap) {
@@ -314,8 +314,8 @@ public class MetaInfoMapperImpl implements MetaInfoMapper {
         return mediaTypeExampleMap;
     }
 
-    private static Path resolveExampleFilePath(Path ballerinaFilePath, String jsonFilePath, Location location,
-                                               String exampleName) {
+    private Path resolveExampleFilePath(Path ballerinaFilePath, String jsonFilePath, Location location,
+                                        String exampleName) {
         if (jsonFilePath.isBlank()) {
             DiagnosticMessages messages = DiagnosticMessages.OAS_CONVERTOR_131;
             ExceptionDiagnostic diagnostic = new ExceptionDiagnostic(messages, location, exampleName);
@@ -117,6 +117,21 @@ public class ModuleMemberVisitor extends NodeVisitor {
         }
     }
 
+    /**
+     * Adds the members collected by the given visitor to this visitor. The members of the given visitor replace the
+     * members of this visitor which have the same name, as if the documents of the given visitor were visited after
+     * the documents of this visitor.
+     *
+     * @param visitor visitor which has visited the documents to be added
+     */
+    public void addMembers(ModuleMemberVisitor visitor) {
+        typeDefinitionNodes.putAll(visitor.typeDefinitionNodes);
+        listenerDeclarations.putAll(visitor.listenerDeclarations);
+        interceptorServiceClassNodes.putAll(visitor.interceptorServiceClassNodes);
+        serviceContractTypes.putAll(visitor.serviceContractTypes);
+        variableDeclarations.putAll(visitor.variableDeclarations);
+    }
+
     public Optional<ListenerDeclarationNode> getListenerDeclaration(String listenerName) {
         if (listenerDeclarations.containsKey(listenerName)) {
             return Optional.of(listenerDeclarations.get(listenerName));
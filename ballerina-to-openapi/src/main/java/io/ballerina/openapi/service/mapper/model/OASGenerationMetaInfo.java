@@ -52,7 +52,8 @@ public class OASGenerationMetaInfo {
         this.serviceNode = serviceNodeFromBuilder;
         this.project = builder.project;
         this.ballerinaExtensionLevel = builder.ballerinaExtension;
-        this.packageMemberVisitor = extractNodesFromProject(builder.project);
+        this.packageMemberVisitor = Objects.isNull(builder.packageMemberVisitor) ?
+                extractNodesFromProject(builder.project) : builder.packageMemberVisitor;
     }
 
     public String getOpenApiFileName() {
@@ -95,6 +96,7 @@ public class OASGenerationMetaInfo {
         private ServiceNode serviceNode;
         private Project project;
         private Boolean ballerinaExtension = false;
+        private PackageMemberVisitor packageMemberVisitor;
 
         public OASGenerationMetaInfoBuilder setBallerinaFilePath(Path ballerinaFilePath) {
             this.ballerinaFilePath = ballerinaFilePath;
@@ -135,6 +137,15 @@ public class OASGenerationMetaInfo {
             this.project = project;
         }
 
+        /**
+         * Sets the package member visitor of the project, so that the services of a project can share it. When it
+         * is not set, the members of the project are visited when building the meta info.
+         */
+        public OASGenerationMetaInfoBuilder setPackageMemberVisitor(PackageMemberVisitor packageMemberVisitor) {
+            this.packageMemberVisitor = packageMemberVisitor;
+            return this;
+        }
+
         public OASGenerationMetaInfo build() {
             return new OASGenerationMetaInfo(this);
         }
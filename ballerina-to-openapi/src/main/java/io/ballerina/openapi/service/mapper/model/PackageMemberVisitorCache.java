@@ -0,0 +1,79 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.openapi.service.mapper.model;
+
+import io.ballerina.compiler.api.SemanticModel;
+import io.ballerina.projects.DocumentId;
+import io.ballerina.projects.Module;
+import io.ballerina.projects.ModuleId;
+import io.ballerina.projects.Package;
+import io.ballerina.projects.PackageCompilation;
+import io.ballerina.projects.Project;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import static io.ballerina.openapi.service.mapper.utils.MapperCommonUtils.getModuleNameString;
+
+/**
+ * Caches the {@link PackageMemberVisitor} of the compilations which are analyzed by the compiler plugins and the
+ * language server, so that the visitor of a compilation is created once rather than for each analyzed node.
+ * <p>
+ * The visitors are weakly keyed by their compilation, hence a visitor is dropped along with its compilation. The
+ * cached visitors do not hold the semantic models of the compilation, so that they do not keep the compilation
+ * reachable.
+ *
+ * @since 2.4.2
+ */
+public final class PackageMemberVisitorCache {
+
+    private static final Map<PackageCompilation, PackageMemberVisitor> packageMemberVisitors =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
+    private PackageMemberVisitorCache() {
+    }
+
+    /**
+     * Returns the package member visitor of the current package of the given project for the given compilation.
+     *
+     * @param project     project which is being compiled
+     * @param compilation compilation of the current package of the project
+     * @return the package member visitor, which must not be modified
+     */
+    public static PackageMemberVisitor getPackageMemberVisitor(Project project, PackageCompilation compilation) {
+        return packageMemberVisitors.computeIfAbsent(compilation,
+                key -> createPackageMemberVisitor(project.currentPackage()));
+    }
+
+    private static PackageMemberVisitor createPackageMemberVisitor(Package currentPackage) {
+        PackageMemberVisitor packageMemberVisitor = new PackageMemberVisitor();
+        for (ModuleId moduleId : currentPackage.moduleIds()) {
+            Module module = currentPackage.module(moduleId);
+            SemanticModel semanticModel = module.getCompilation().getSemanticModel();
+            ModuleMemberVisitor moduleVisitor = new ModuleMemberVisitor(semanticModel);
+            for (DocumentId documentId : module.documentIds()) {
+                module.document(documentId).syntaxTree().rootNode().accept(moduleVisitor);
+            }
+            // The cached members do not keep the semantic model of the compilation.
+            packageMemberVisitor.createModuleVisitor(getModuleNameString(module.moduleName()), null)
+                    .addMembers(moduleVisitor);
+        }
+        return packageMemberVisitor;
+    }
+}
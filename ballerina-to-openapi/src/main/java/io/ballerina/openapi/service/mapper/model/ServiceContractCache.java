@@ -0,0 +1,124 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.openapi.service.mapper.model;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.ballerina.projects.DocumentId;
+import io.ballerina.projects.Package;
+import io.ballerina.projects.PackageDescriptor;
+import io.swagger.parser.OpenAPIParser;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.core.util.Json31;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.SpecVersion;
+import io.swagger.v3.parser.OpenAPIV3Parser;
+import io.swagger.v3.parser.core.models.ParseOptions;
+import io.swagger.v3.parser.core.models.SwaggerParseResult;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Caches the OpenAPI definitions of the service contracts which are packed as resources of the dependency packages.
+ * A definition is resolved and flattened once per resolved package version, and is parsed again only if the content
+ * of the resource is changed, as with a package which is pushed again to the local repository with the same version.
+ * <p>
+ * The cache keeps the JSON tree of the resolved definition, and each lookup deserializes a new definition from it,
+ * hence the definitions handed out do not share any member with each other.
+ *
+ * @since 2.4.2
+ */
+final class ServiceContractCache {
+
+    private static final int MAX_CACHED_CONTRACTS = 32;
+    private static final Map<String, CachedContract> contracts = Collections.synchronizedMap(
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, CachedContract> eldest) {
+                    return size() > MAX_CACHED_CONTRACTS;
+                }
+            });
+
+    private ServiceContractCache() {
+    }
+
+    /**
+     * Returns the OpenAPI definition of the given resource of the given dependency package.
+     *
+     * @param dependency package which has the OpenAPI definition as a resource
+     * @param resourceId id of the resource
+     * @return the OpenAPI definition, or an empty value if the resource can not be parsed
+     */
+    static Optional<OpenAPI> getOpenAPI(Package dependency, DocumentId resourceId) {
+        PackageDescriptor descriptor = dependency.descriptor();
+        String key = String.format("%s/%s:%s/%s", descriptor.org().value(), descriptor.name().value(),
+                descriptor.version().value(), resourceId);
+        return getOpenAPI(key, dependency.resource(resourceId).content());
+    }
+
+    /**
+     * Returns the OpenAPI definition of the given content, which is cached by the given key.
+     *
+     * @param key     key of the resource, along with the version of its package
+     * @param content content of the resource
+     * @return a new OpenAPI definition, or an empty value if the content can not be parsed
+     */
+    static Optional<OpenAPI> getOpenAPI(String key, byte[] content) {
+        CachedContract cachedContract = contracts.get(key);
+        if (cachedContract != null && Arrays.equals(cachedContract.content(), content)) {
+            Optional<OpenAPI> openAPI = deserialize(key, cachedContract);
+            if (openAPI.isPresent()) {
+                return openAPI;
+            }
+        }
+        ParseOptions parseOptions = new ParseOptions();
+        parseOptions.setResolve(true);
+        parseOptions.setFlatten(true);
+        OpenAPI openAPI = new OpenAPIParser().readContents(new String(content, StandardCharsets.UTF_8), null,
+                parseOptions).getOpenAPI();
+        if (openAPI == null) {
+            contracts.remove(key);
+            return Optional.empty();
+        }
+        SpecVersion specVersion = openAPI.getSpecVersion();
+        ObjectMapper mapper = SpecVersion.V31.equals(specVersion) ? Json31.mapper() : Json.mapper();
+        contracts.put(key, new CachedContract(content, specVersion, mapper.valueToTree(openAPI)));
+        // The parsed definition is not kept by the cache, hence it is handed out as it is.
+        return Optional.of(openAPI);
+    }
+
+    private static Optional<OpenAPI> deserialize(String key, CachedContract cachedContract) {
+        // The definition is already resolved and flattened, hence it is only deserialized.
+        SwaggerParseResult parseResult = new OpenAPIV3Parser().parseJsonNode(key,
+                cachedContract.definition().deepCopy());
+        OpenAPI openAPI = parseResult.getOpenAPI();
+        if (openAPI == null) {
+            return Optional.empty();
+        }
+        openAPI.setSpecVersion(cachedContract.specVersion());
+        return Optional.of(openAPI);
+    }
+
+    private record CachedContract(byte[] content, SpecVersion specVersion, JsonNode definition) {
+    }
+}
@@ -45,12 +45,9 @@ import io.ballerina.projects.PackageDescriptor;
 import io.ballerina.projects.ResolvedPackageDependency;
 import io.ballerina.tools.diagnostics.DiagnosticSeverity;
 import io.ballerina.tools.diagnostics.Location;
-import io.swagger.parser.OpenAPIParser;
 import io.swagger.v3.oas.models.OpenAPI;
-import io.swagger.v3.parser.core.models.ParseOptions;
-import io.swagger.v3.parser.core.models.SwaggerParseResult;
+import io.swagger.v3.parser.util.InlineModelResolver;
 
-import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -183,22 +180,6 @@ public class ServiceDeclaration implements ServiceNode {
     public Optional<OpenAPI> getOpenAPIFromServiceContract(Package pkg, SemanticModel semanticModel,
                                                            PackageMemberVisitor packageMemberVisitor,
                                                            List<OpenAPIMapperDiagnostic> diagnostics) {
-        Optional<String> jsonOpenApi = getOpenAPISpecFromResources(pkg, semanticModel, packageMemberVisitor,
-                diagnostics);
-        if (jsonOpenApi.isEmpty()) {
-            return Optional.empty();
-        }
-
-        ParseOptions parseOptions = new ParseOptions();
-        parseOptions.setResolve(true);
-        parseOptions.setFlatten(true);
-        SwaggerParseResult parseResult = new OpenAPIParser().readContents(jsonOpenApi.get(), null, parseOptions);
-        return Optional.of(parseResult.getOpenAPI());
-    }
-
-    private Optional<String> getOpenAPISpecFromResources(Package pkg, SemanticModel semanticModel,
-                                                         PackageMemberVisitor packageMemberVisitor,
-                                                         List<OpenAPIMapperDiagnostic> diagnostics) {
         Optional<String> serviceName = serviceContractType.getName();
         String moduleName = getModuleName(serviceContractType);
         if (serviceName.isEmpty()) {
@@ -242,7 +223,11 @@ public class ServiceDeclaration implements ServiceNode {
                 diagnostics.add(new ExceptionDiagnostic(DiagnosticMessages.OAS_CONVERTOR_136, serviceName.get()));
                 return Optional.empty();
             }
-            return oasResult.getJson();
+            // The generated definition is handed over as it is, and only its inline schemas are moved to the
+            // components as the parser does when the definition is parsed with flattening.
+            Optional<OpenAPI> openAPI = oasResult.getOpenAPI();
+            openAPI.ifPresent(definition -> new InlineModelResolver().flatten(definition));
+            return openAPI;
         }
 
         Optional<ResolvedPackageDependency> resolvedPackage = pkg.getResolution().allDependencies().stream()
@@ -268,7 +253,6 @@ public class ServiceDeclaration implements ServiceNode {
             return Optional.empty();
         }
 
-        byte[] openApiContent = packageInstance.resource(openApiDocument.get()).content();
-        return Optional.of(new String(openApiContent, StandardCharsets.UTF_8));
+        return ServiceContractCache.getOpenAPI(packageInstance, openApiDocument.get());
     }
 }
@@ -50,7 +50,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 
-import static io.ballerina.openapi.service.mapper.ServiceToOpenAPIMapper.extractNodesFromProject;
+import static io.ballerina.openapi.service.mapper.model.PackageMemberVisitorCache.getPackageMemberVisitor;
 import static io.ballerina.openapi.service.mapper.utils.MapperCommonUtils.getTypeName;
 
 /**
@@ -79,7 +79,7 @@ public class TypeMapperImpl implements TypeMapper {
         this.components = new Components().schemas(new HashMap<>());
         SemanticModel semanticModel = context.semanticModel();
         Project project = context.currentPackage().project();
-        PackageMemberVisitor packageMemberVisitor = extractNodesFromProject(project);
+        PackageMemberVisitor packageMemberVisitor = getPackageMemberVisitor(project, context.compilation());
         String moduleName = context.moduleId().moduleName();
         this.componentMapperData = new AdditionalData(semanticModel, packageMemberVisitor, moduleName);
     }
@@ -34,9 +34,17 @@ public class Constants {
     public static final String MODE = "mode";
     public static final String CLIENT = "client";
     public static final String CACHE_FILE = "openapi-cache.txt";
+    public static final String FORMATTER_CACHE_FILE = "openapi-formatter-cache.json";
+    public static final String PROFILE_FILE = "openapi-profile.json";
+    public static final String SNAPSHOT_FILE = "openapi-contract.snapshot";
+    public static final String TOOL_VERSION_FILE = "openapi-tool-version.properties";
+    public static final String OPENAPI_TOOL = "openapi";
+    public static final String PARALLELISM_PROPERTY = "openapi.tool.parallelism";
     public static final String STATUS_CODE_BINDING = "statusCodeBinding";
     public static final String MOCK = "mock";
     public static final String SINGLE_FILE = "singleFile";
+    public static final String NATIVE_SERIALIZERS = "nativeSerializers";
+    public static final String PROFILE = "profile";
     public static final String IS_SANITIZED_OAS = "isUsingSanitizedOas";
 
     /**
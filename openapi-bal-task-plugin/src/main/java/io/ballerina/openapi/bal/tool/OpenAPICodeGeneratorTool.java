@@ -26,10 +26,16 @@ import io.ballerina.openapi.core.generators.client.exception.ClientException;
 import io.ballerina.openapi.core.generators.client.mock.AdvanceMockClientGenerator;
 import io.ballerina.openapi.core.generators.client.mock.BallerinaMockClientGenerator;
 import io.ballerina.openapi.core.generators.client.model.OASClientConfig;
+import io.ballerina.openapi.core.generators.common.GenerationContext;
+import io.ballerina.openapi.core.generators.common.GenerationProfiler;
+import io.ballerina.openapi.core.generators.common.GeneratorUtils;
 import io.ballerina.openapi.core.generators.common.SingleFileGenerator;
+import io.ballerina.openapi.core.generators.common.SourceFileWriter;
+import io.ballerina.openapi.core.generators.common.SourceFormatter;
 import io.ballerina.openapi.core.generators.common.TypeHandler;
 import io.ballerina.openapi.core.generators.common.exception.BallerinaOpenApiException;
 import io.ballerina.openapi.core.generators.common.model.Filter;
+import io.ballerina.openapi.core.generators.common.model.FormatterCache;
 import io.ballerina.openapi.core.generators.common.model.GenSrcFile;
 import io.ballerina.openapi.core.generators.service.model.OASServiceMetadata;
 import io.ballerina.projects.Package;
@@ -48,6 +54,7 @@ import io.ballerina.toml.syntax.tree.NodeList;
 import io.ballerina.toml.syntax.tree.SyntaxTree;
 import io.ballerina.toml.syntax.tree.Token;
 import io.ballerina.toml.validator.SampleNodeGenerator;
+import io.ballerina.tools.diagnostics.Diagnostic;
 import io.ballerina.tools.diagnostics.DiagnosticFactory;
 import io.ballerina.tools.diagnostics.DiagnosticInfo;
 import io.ballerina.tools.diagnostics.DiagnosticSeverity;
@@ -55,10 +62,11 @@ import io.ballerina.tools.diagnostics.Location;
 import io.ballerina.tools.text.TextDocument;
 import io.ballerina.tools.text.TextDocuments;
 import io.swagger.v3.oas.models.OpenAPI;
+import org.apache.commons.codec.binary.Hex;
 import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.commons.lang3.tuple.ImmutablePair;
-import org.ballerinalang.formatter.core.Formatter;
 import org.ballerinalang.formatter.core.FormatterException;
+import org.wso2.ballerinalang.util.RepoUtils;
 
 import java.io.File;
 import java.io.FileWriter;
@@ -66,28 +74,50 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.security.MessageDigest;
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import static io.ballerina.openapi.bal.tool.Constants.CACHE_FILE;
 import static io.ballerina.openapi.bal.tool.Constants.CLIENT;
 import static io.ballerina.openapi.bal.tool.Constants.CLIENT_METHODS;
+import static io.ballerina.openapi.bal.tool.Constants.FORMATTER_CACHE_FILE;
 import static io.ballerina.openapi.bal.tool.Constants.IS_SANITIZED_OAS;
 import static io.ballerina.openapi.bal.tool.Constants.LICENSE;
 import static io.ballerina.openapi.bal.tool.Constants.MOCK;
 import static io.ballerina.openapi.bal.tool.Constants.MODE;
+import static io.ballerina.openapi.bal.tool.Constants.NATIVE_SERIALIZERS;
 import static io.ballerina.openapi.bal.tool.Constants.NULLABLE;
+import static io.ballerina.openapi.bal.tool.Constants.OPENAPI_TOOL;
 import static io.ballerina.openapi.bal.tool.Constants.OPERATIONS;
+import static io.ballerina.openapi.bal.tool.Constants.PARALLELISM_PROPERTY;
+import static io.ballerina.openapi.bal.tool.Constants.PROFILE;
+import static io.ballerina.openapi.bal.tool.Constants.PROFILE_FILE;
 import static io.ballerina.openapi.bal.tool.Constants.SINGLE_FILE;
+import static io.ballerina.openapi.bal.tool.Constants.SNAPSHOT_FILE;
 import static io.ballerina.openapi.bal.tool.Constants.STATUS_CODE_BINDING;
 import static io.ballerina.openapi.bal.tool.Constants.TAGS;
+import static io.ballerina.openapi.bal.tool.Constants.TOOL_VERSION_FILE;
 import static io.ballerina.openapi.bal.tool.Constants.TRUE;
 import static io.ballerina.openapi.core.generators.common.GeneratorConstants.CLIENT_FILE_NAME;
 import static io.ballerina.openapi.core.generators.common.GeneratorConstants.DO_NOT_MODIFY_FILE_HEADER;
@@ -106,19 +136,123 @@ import static io.ballerina.openapi.core.generators.common.GeneratorUtils.normali
  */
 @ToolConfig(name = "openapi")
 public class OpenAPICodeGeneratorTool implements CodeGeneratorTool {
-    String hashOpenAPI;
+    private static final Pattern EXTERNAL_REF_PATTERN =
+            Pattern.compile("[\"']?\\$ref[\"']?\\s*:\\s*[\"']?([^\"'\\s,}#][^\"'\\s,}]*)");
+    private static final Object BALLERINA_TOML_LOCK = new Object();
+    // The `[[tool.openapi]]` entries generated ahead by the last batch. Only the last batch is kept, hence the
+    // entries which the build never invokes the tool for are dropped once another package is built.
+    private static final AtomicReference<Batch> LAST_BATCH = new AtomicReference<>();
 
     @Override
     public void execute(ToolContext toolContext) {
-        ImmutablePair<OASClientConfig, OASServiceMetadata> codeGeneratorConfig;
+        BatchResult batchResult = takeBatchResult(toolContext);
+        if (batchResult != null &&
+                Objects.equals(batchResult.hashValue(), getHashValue(toolContext).orElse(null))) {
+            // The entry is already generated by the batch, hence report the diagnostics of that generation.
+            batchResult.diagnostics().forEach(toolContext::reportDiagnostic);
+            return;
+        }
+        List<ToolContext> siblingEntries = batchResult == null ? getSiblingToolContexts(toolContext) : List.of();
+        int parallelism = Math.min(siblingEntries.size() + 1,
+                Integer.getInteger(PARALLELISM_PROPERTY, Runtime.getRuntime().availableProcessors()));
+        if (parallelism <= 1) {
+            generate(toolContext);
+            return;
+        }
+        generateInBatch(toolContext, siblingEntries, parallelism);
+    }
+
+    /**
+     * This method uses to generate all the `[[tool.openapi]]` entries of the package on a bounded worker pool. The
+     * given entry is generated in place while the diagnostics of the sibling entries are kept until the build
+     * invokes the tool for them.
+     */
+    private void generateInBatch(ToolContext toolContext, List<ToolContext> siblingEntries, int parallelism) {
         TomlNodeLocation location = toolContext.currentPackage().ballerinaToml().get().tomlAstNode().location();
+        Map<String, BatchResult> batchResults = new ConcurrentHashMap<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(parallelism)) {
+            Future<String> currentEntry = executor.submit(() -> generate(toolContext));
+            Map<ToolContext, Future<String>> siblingResults = new LinkedHashMap<>();
+            for (ToolContext siblingEntry : siblingEntries) {
+                siblingResults.put(siblingEntry, executor.submit(() -> generate(siblingEntry)));
+            }
+            awaitGeneration(toolContext, currentEntry, location);
+            for (Map.Entry<ToolContext, Future<String>> siblingResult : siblingResults.entrySet()) {
+                ToolContext siblingEntry = siblingResult.getKey();
+                String hashValue = awaitGeneration(siblingEntry, siblingResult.getValue(), location);
+                batchResults.put(siblingEntry.toolId(),
+                        new BatchResult(hashValue, List.copyOf(siblingEntry.diagnostics())));
+            }
+        }
+        LAST_BATCH.set(new Batch(getPackagePath(toolContext), batchResults));
+    }
+
+    /**
+     * This method uses to take the outcome of the given entry from the last batch. The last batch is dropped once
+     * all of its entries are taken or an entry of another package is generated.
+     */
+    private static BatchResult takeBatchResult(ToolContext toolContext) {
+        Batch batch = LAST_BATCH.get();
+        if (batch == null) {
+            return null;
+        }
+        if (!batch.packagePath().equals(getPackagePath(toolContext))) {
+            LAST_BATCH.compareAndSet(batch, null);
+            return null;
+        }
+        BatchResult batchResult = batch.results().remove(toolContext.toolId());
+        if (batch.results().isEmpty()) {
+            LAST_BATCH.compareAndSet(batch, null);
+        }
+        return batchResult;
+    }
+
+    private String awaitGeneration(ToolContext toolContext, Future<String> generation, Location location) {
+        try {
+            return generation.get();
+        } catch (ExecutionException e) {
+            createDiagnostics(toolContext, DiagnosticMessages.ERROR_WHILE_GENERATING_CLIENT, location);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            createDiagnostics(toolContext, DiagnosticMessages.ERROR_WHILE_GENERATING_CLIENT, location);
+        }
+        return null;
+    }
+
+    /**
+     * This method uses to create the tool contexts for the other `[[tool.openapi]]` entries of the current package.
+     */
+    private List<ToolContext> getSiblingToolContexts(ToolContext toolContext) {
+        Package currentPackage = toolContext.currentPackage();
+        List<ToolContext> siblingEntries = new ArrayList<>();
+        for (PackageManifest.Tool tool : currentPackage.manifest().tools()) {
+            if (!OPENAPI_TOOL.equals(tool.type().value()) || tool.hasErrorDiagnostic() ||
+                    tool.id().value().equals(toolContext.toolId())) {
+                continue;
+            }
+            siblingEntries.add(ToolContext.from(tool, currentPackage));
+        }
+        return siblingEntries;
+    }
+
+    private static Path getPackagePath(ToolContext toolContext) {
+        return toolContext.currentPackage().project().sourceRoot().toAbsolutePath();
+    }
+
+    /**
+     * This method uses to generate the code for a single `[[tool.openapi]]` entry and returns the hash value of the
+     * generation, if it could be computed.
+     */
+    private String generate(ToolContext toolContext) {
+        TomlNodeLocation location = toolContext.currentPackage().ballerinaToml().get().tomlAstNode().location();
+        String hashValue = null;
         try {
             // Check the file path
             String oasPath = toolContext.filePath();
             if (Objects.isNull(oasPath)) {
                 DiagnosticMessages error = DiagnosticMessages.CONTRACT_PATH_NOT_PROVIDED;
                 createDiagnostics(toolContext, error, location);
-                return;
+                return null;
             }
             if (oasPath.isBlank()) {
                 DiagnosticMessages error = DiagnosticMessages.EMPTY_CONTRACT_PATH;
@@ -128,43 +262,35 @@ public class OpenAPICodeGeneratorTool implements CodeGeneratorTool {
             if (!canHandle(oasPath)) {
                 DiagnosticMessages error = DiagnosticMessages.WARNING_FOR_UNSUPPORTED_CONTRACT;
                 createDiagnostics(toolContext, error, location);
-                return;
+                return null;
             }
             // Handle the code generation
             String oasFilePath = toolContext.filePath();
             Path packagePath = toolContext.currentPackage().project().sourceRoot();
             Map<String, ToolContext.Option> options = toolContext.options();
 
-            Optional<OpenAPI> openAPI = getOpenAPIContract(packagePath, Path.of(oasFilePath), location, toolContext);
-            if (openAPI.isEmpty()) {
-                return;
+            Path contractPath = resolveContractPath(packagePath, Path.of(oasFilePath));
+            if (!Files.exists(contractPath)) {
+                DiagnosticMessages error = DiagnosticMessages.INVALID_CONTRACT_PATH;
+                createDiagnostics(toolContext, error, location);
+                return null;
             }
-            //Extract the details using the `tool config options` table in the `Ballerina.toml` file.
-            //If the `tool options` table is not specified in the TOML file, the client will be generated by default.
-            if (options == null) {
-                // Default generate client
-                Filter filter = new Filter();
-                OASClientConfig clientConfig = new OASClientConfig.Builder()
-                        .withFilters(filter).withOpenAPI(openAPI.get()).build();
-                OASServiceMetadata serviceMetaData = new OASServiceMetadata.Builder()
-                        .withFilters(filter).withOpenAPI(openAPI.get()).build();
-                codeGeneratorConfig =  new ImmutablePair<>(clientConfig, serviceMetaData);
-                if (validateCache(toolContext, clientConfig)) {
-                    return;
-                }
-                generateClient(toolContext, codeGeneratorConfig, location);
-            } else {
-                codeGeneratorConfig = extractOptionDetails(toolContext, openAPI.get());
-                if (validateCache(toolContext, codeGeneratorConfig.getLeft())) {
-                    return;
-                }
-                if (options.containsKey(MODE)) {
-                    String value = options.get(MODE).value().toString().trim();
-                    handleCodeGenerationMode(toolContext, codeGeneratorConfig, location, value);
-                } else {
-                    // Create client for the given OAS
-                    generateClient(toolContext, codeGeneratorConfig, location);
-                }
+            // The cache is validated against the raw contract bytes before parsing, so that an unchanged
+            // contract does not pay for building the `OpenAPI` model.
+            String contractHash = getContractHashValue(contractPath);
+            hashValue = getHashValue(toolContext, contractHash);
+            if (validateCache(toolContext, hashValue)) {
+                return hashValue;
+            }
+            GenerationProfiler profiler = isProfiled(toolContext) ? new GenerationProfiler() : null;
+            try (GenerationProfiler.Scope ignored = GenerationProfiler.enter(profiler)) {
+                generateFromContract(toolContext, contractPath, contractHash, options, location, hashValue);
+            }
+            if (profiler != null) {
+                // The profile is kept in the cache, so that the generation cost of the contract can be tracked over
+                // time.
+                writeGeneratedSources(List.of(new GenSrcFile(GenSrcFile.GenFileType.CACHE_SRC, null, PROFILE_FILE,
+                        profiler.toJson())), toolContext.cachePath());
             }
         } catch (BallerinaOpenApiException e) {
             DiagnosticMessages error = DiagnosticMessages.PARSER_ERROR;
@@ -173,21 +299,60 @@ public class OpenAPICodeGeneratorTool implements CodeGeneratorTool {
             DiagnosticMessages error = DiagnosticMessages.ERROR_WHILE_GENERATING_CLIENT;
             createDiagnostics(toolContext, error, location);
         }
+        return hashValue;
     }
 
     /**
-     * This method uses to validate the cache.
+     * This method uses to generate the code for the given contract, according to the options of the entry.
      */
-    private boolean validateCache(ToolContext toolContext, OASClientConfig clientConfig) throws IOException {
+    private void generateFromContract(ToolContext toolContext, Path contractPath, String contractHash,
+                                      Map<String, ToolContext.Option> options, TomlNodeLocation location,
+                                      String hashValue)
+            throws BallerinaOpenApiException, IOException, FormatterException, ClientException {
+        ImmutablePair<OASClientConfig, OASServiceMetadata> codeGeneratorConfig;
+        Optional<OpenAPI> openAPI = getOpenAPIContract(contractPath, contractHash, location, toolContext);
+        if (openAPI.isEmpty()) {
+            return;
+        }
+        //Extract the details using the `tool config options` table in the `Ballerina.toml` file.
+        //If the `tool options` table is not specified in the TOML file, the client will be generated by default.
+        if (options == null) {
+            // Default generate client
+            Filter filter = new Filter();
+            OASClientConfig clientConfig = new OASClientConfig.Builder()
+                    .withFilters(filter).withOpenAPI(openAPI.get()).build();
+            OASServiceMetadata serviceMetaData = new OASServiceMetadata.Builder()
+                    .withFilters(filter).withOpenAPI(openAPI.get()).build();
+            codeGeneratorConfig =  new ImmutablePair<>(clientConfig, serviceMetaData);
+            generateClient(toolContext, codeGeneratorConfig, location, hashValue);
+        } else {
+            codeGeneratorConfig = extractOptionDetails(toolContext, openAPI.get());
+            if (options.containsKey(MODE)) {
+                String value = options.get(MODE).value().toString().trim();
+                handleCodeGenerationMode(toolContext, codeGeneratorConfig, location, value, hashValue);
+            } else {
+                // Create client for the given OAS
+                generateClient(toolContext, codeGeneratorConfig, location, hashValue);
+            }
+        }
+    }
+
+    /**
+     * This method uses to validate the cache. The cache holds the fingerprint of the previous generation, hence a
+     * match means the contract, its referenced files, the tool options and the tool version are all unchanged.
+     */
+    private boolean validateCache(ToolContext toolContext, String hashValue) throws IOException {
         Path cachePath = toolContext.cachePath();
-        hashOpenAPI = getHashValue(clientConfig, toolContext.targetModule());
-        if (!Files.isDirectory(cachePath)) {
+        if (!Files.isDirectory(cachePath) || !Files.isDirectory(toolContext.outputPath())) {
             return false;
         }
         // read the cache file
-        Path cacheFilePath = Paths.get(cachePath.toString(), CACHE_FILE);
-        String cacheContent = Files.readString(Paths.get(cacheFilePath.toString()));
-        return cacheContent.equals(hashOpenAPI);
+        Path cacheFilePath = cachePath.resolve(CACHE_FILE);
+        if (!Files.exists(cacheFilePath)) {
+            return false;
+        }
+        String cacheContent = Files.readString(cacheFilePath);
+        return cacheContent.equals(hashValue);
     }
 
     /**
@@ -195,11 +360,11 @@ public class OpenAPICodeGeneratorTool implements CodeGeneratorTool {
      */
     private void handleCodeGenerationMode(ToolContext toolContext,
                                           ImmutablePair<OASClientConfig, OASServiceMetadata> codeGeneratorConfig,
-                                          TomlNodeLocation location, String mode)
+                                          TomlNodeLocation location, String mode, String hashValue)
             throws BallerinaOpenApiException, IOException, FormatterException, ClientException {
         if (mode.equals(CLIENT)) {
             // Create client for the given OAS
-            generateClient(toolContext, codeGeneratorConfig, location);
+            generateClient(toolContext, codeGeneratorConfig, location, hashValue);
         } else {
             DiagnosticMessages error = DiagnosticMessages.WARNING_FOR_OTHER_GENERATION;
             createDiagnostics(toolContext, error, location, mode);
@@ -216,11 +381,25 @@ public class OpenAPICodeGeneratorTool implements CodeGeneratorTool {
     }
 
     /**
-     * This method uses to read the openapi contract and return the {@code OpenAPI} object.
+     * This method uses to resolve the given openapi contract path against the package root.
+     */
+    private Path resolveContractPath(Path ballerinaFilePath, Path openAPIPath) throws IOException {
+        Path inputPath = Paths.get(openAPIPath.toString());
+        if (inputPath.isAbsolute()) {
+            return inputPath;
+        }
+        File file = new File(ballerinaFilePath.toString());
+        File openapiContract = new File(file, openAPIPath.toString());
+        return Paths.get(openapiContract.getCanonicalPath());
+    }
+
+    /**
+     * This method uses to read the openapi contract and return the {@code OpenAPI} object. The parsed contract is
+     * kept as a snapshot in the cache, hence a contract which is not changed is not parsed again when only the tool
+     * options are changed or the generated sources are removed.
      */
-    private Optional<OpenAPI> getOpenAPIContract(Path ballerinaFilePath, Path openAPIPath, Location location,
+    private Optional<OpenAPI> getOpenAPIContract(Path contractPath, String contractHash, Location location,
                                                  ToolContext toolContext) {
-        Path relativePath;
         boolean isSanitized = false;
         Map<String, ToolContext.Option> options = toolContext.options();
         if (options != null && options.containsKey(IS_SANITIZED_OAS)) {
@@ -229,22 +408,9 @@ public class OpenAPICodeGeneratorTool implements CodeGeneratorTool {
             isSanitized = Boolean.parseBoolean(value);
         }
         try {
-            Path inputPath = Paths.get(openAPIPath.toString());
-            if (inputPath.isAbsolute()) {
-                relativePath = inputPath;
-            } else {
-                File file = new File(ballerinaFilePath.toString());
-                File openapiContract = new File(file, openAPIPath.toString());
-                relativePath = Paths.get(openapiContract.getCanonicalPath());
-            }
-            if (Files.exists(relativePath)) {
-                return Optional.of(normalizeOpenAPI(relativePath, operationIdValidationRequired(toolContext),
-                        isSanitized));
-            } else {
-                DiagnosticMessages error = DiagnosticMessages.INVALID_CONTRACT_PATH;
-                createDiagnostics(toolContext, error, location);
-            }
-
+            OpenAPI openAPI = GeneratorUtils.getOpenAPIFromOpenAPIV3Parser(contractPath,
+                    toolContext.cachePath().resolve(SNAPSHOT_FILE), contractHash);
+            return Optional.of(normalizeOpenAPI(openAPI, operationIdValidationRequired(toolContext), isSanitized));
         } catch (BallerinaOpenApiException exp) {
             DiagnosticMessages error = DiagnosticMessages.OPENAPI_EXCEPTION;
             createDiagnostics(toolContext, error, location, exp.getMessage());
@@ -318,6 +484,9 @@ public class OpenAPICodeGeneratorTool implements CodeGeneratorTool {
                 case MOCK:
                     clientMetaDataBuilder.withMock(value.contains(TRUE));
                     break;
+                case NATIVE_SERIALIZERS:
+                    clientMetaDataBuilder.withNativeSerializers(value.contains(TRUE));
+                    break;
                 case SINGLE_FILE:
                     clientMetaDataBuilder.withSingleFile(value.contains(TRUE));
                     break;
@@ -346,12 +515,14 @@ public class OpenAPICodeGeneratorTool implements CodeGeneratorTool {
      * This method uses to generate the client module for the given openapi contract.
      */
     private void generateClient(ToolContext toolContext, ImmutablePair<OASClientConfig,
-            OASServiceMetadata> codeGeneratorConfig, Location location) throws BallerinaOpenApiException, IOException,
-            FormatterException, ClientException {
+            OASServiceMetadata> codeGeneratorConfig, Location location, String hashValue)
+            throws BallerinaOpenApiException, IOException, FormatterException, ClientException {
         boolean skipDependecyUpdate = true;
         if (getStatusCodeBindingOption(toolContext)) {
             try {
-                skipDependecyUpdate = clientNativeDependencyAlreadyExist(getVersion(), toolContext, location);
+                synchronized (BALLERINA_TOML_LOCK) {
+                    skipDependecyUpdate = clientNativeDependencyAlreadyExist(getVersion(), toolContext, location);
+                }
             } catch (BallerinaOpenApiException e) {
                 createDiagnostics(toolContext, DiagnosticMessages.CLIENT_NATIVE_DEPENDENCY_VERSION_MISMATCH,
                         location);
@@ -359,19 +530,35 @@ public class OpenAPICodeGeneratorTool implements CodeGeneratorTool {
             }
         }
         OASClientConfig clientConfig = codeGeneratorConfig.getLeft();
-        List<GenSrcFile> sources = generateClientFiles(clientConfig, toolContext, location);
+        Path cachePath = toolContext.cachePath();
         Path outputPath = toolContext.outputPath();
+        // The formatter output cache of the previous generation lets the unchanged files and members skip the
+        // formatting. Their formatted sources are read back from the generated files.
+        String formatterCacheVersion = getFormatterCacheVersion();
+        FormatterCache previousFormatterCache = FormatterCache.read(cachePath.resolve(FORMATTER_CACHE_FILE),
+                formatterCacheVersion, outputPath).orElse(null);
+        FormatterCache formatterCache = new FormatterCache(formatterCacheVersion);
+        List<GenSrcFile> sources = generateClientFiles(clientConfig, toolContext, location, previousFormatterCache,
+                formatterCache);
         writeGeneratedSources(sources, outputPath);
         // Update the cache file
-        Path cachePath = toolContext.cachePath();
         List<GenSrcFile> sourcesForCache = new ArrayList<>();
         GenSrcFile genSrcFile = new GenSrcFile(GenSrcFile.GenFileType.CACHE_SRC, null,
-                CACHE_FILE, hashOpenAPI);
+                CACHE_FILE, hashValue);
         sourcesForCache.add(genSrcFile);
+        sourcesForCache.add(new GenSrcFile(GenSrcFile.GenFileType.CACHE_SRC, null, FORMATTER_CACHE_FILE,
+                formatterCache.toJson()));
         writeGeneratedSources(sourcesForCache, cachePath);
         if (!skipDependecyUpdate) {
-            updateBallerinaTomlWithClientNativeDependency(toolContext,
-                    toolContext.currentPackage().project().sourceRoot().resolve("Ballerina.toml"), location);
+            // Entries generated in the same batch may update the `Ballerina.toml` concurrently, hence the dependency
+            // is checked again while holding the lock.
+            synchronized (BALLERINA_TOML_LOCK) {
+                if (!clientNativeDependencyAlreadyExist(getVersion(), toolContext, location)) {
+                    updateBallerinaTomlWithClientNativeDependency(toolContext,
+                            toolContext.currentPackage().project().sourceRoot().resolve("Ballerina.toml"),
+                            location);
+                }
+            }
         }
     }
 
@@ -380,6 +567,11 @@ public class OpenAPICodeGeneratorTool implements CodeGeneratorTool {
                 toolContext.options().get(STATUS_CODE_BINDING).value().toString().contains(TRUE);
     }
 
+    private boolean isProfiled(ToolContext toolContext) {
+        return toolContext.options().containsKey(PROFILE) &&
+                toolContext.options().get(PROFILE).value().toString().contains(TRUE);
+    }
+
     private void updateBallerinaTomlWithClientNativeDependency(ToolContext toolContext, Path ballerinaTomlPath,
                                                                Location location) {
         try {
@@ -470,33 +662,126 @@ public class OpenAPICodeGeneratorTool implements CodeGeneratorTool {
         return moduleMembers;
     }
 
+    private String getToolVersion() throws IOException {
+        try (InputStream inputStream = OpenAPICodeGeneratorTool.class.getClassLoader().getResourceAsStream(
+                TOOL_VERSION_FILE)) {
+            if (inputStream == null) {
+                return "";
+            }
+            Properties properties = new Properties();
+            properties.load(inputStream);
+            return properties.getProperty("version", "");
+        }
+    }
+
     /**
-     * This method uses to generate hash value for the given code generation details.
+     * This method uses to get the version of the formatter output cache. The formatted sources depend on the tool, the
+     * formatter and the Ballerina distribution, hence a cache is reused only if none of them changed.
+     */
+    private String getFormatterCacheVersion() throws IOException {
+        return getToolVersion() + "/" + SourceFormatter.getFormatterVersion() + "/" +
+                RepoUtils.getBallerinaVersion();
+    }
+
+    /**
+     * This method uses to generate hash value for the given code generation details. The hash is computed over the
+     * raw bytes of the contract and the files it refers via `$ref`, the tool options, the license content, the
+     * target module and the tool version, hence it can be computed without parsing the contract.
      * //TODO: This will be extended to support service generation.
      */
-    private String getHashValue(OASClientConfig clientConfig, String targetPath) {
-        String openAPIDefinitions = clientConfig.getOpenAPI().toString().trim().replaceAll("\\s+", "");
-        StringBuilder summaryOfCodegen = new StringBuilder();
-        summaryOfCodegen.append(openAPIDefinitions)
-                .append(targetPath)
-                .append(clientConfig.isResourceMode())
-                .append(clientConfig.getLicense())
-                .append(clientConfig.isNullable())
-                .append(clientConfig.isStatusCodeBinding())
-                .append(clientConfig.isMock())
-                .append(clientConfig.singleFile())
-                .append(clientConfig.isUsingSanitizedOas());
-        List<String> tags = clientConfig.getFilter().getTags();
-        tags.sort(String.CASE_INSENSITIVE_ORDER);
-        for (String str : tags) {
-            summaryOfCodegen.append(str);
-        }
-        List<String> operations = clientConfig.getFilter().getOperations();
-        operations.sort(String.CASE_INSENSITIVE_ORDER);
-        for (String str : operations) {
-            summaryOfCodegen.append(str);
-        }
-        return DigestUtils.sha256Hex(summaryOfCodegen.toString()).toUpperCase(Locale.ENGLISH);
+    private String getHashValue(ToolContext toolContext, String contractHash) throws IOException {
+        MessageDigest digest = DigestUtils.getSha256Digest();
+        updateDigest(digest, contractHash);
+        updateDigest(digest, toolContext.targetModule());
+        Map<String, ToolContext.Option> options = toolContext.options();
+        if (options != null) {
+            // Sort the options to make the hash independent of the declaration order in the `Ballerina.toml`.
+            for (Map.Entry<String, ToolContext.Option> option : new TreeMap<>(options).entrySet()) {
+                updateDigest(digest, option.getKey());
+                Object value = option.getValue().value();
+                if (value instanceof List<?> items) {
+                    items.stream().map(String::valueOf).sorted(String.CASE_INSENSITIVE_ORDER)
+                            .forEach(item -> updateDigest(digest, item));
+                } else {
+                    updateDigest(digest, String.valueOf(value).trim());
+                }
+            }
+            if (options.containsKey(LICENSE)) {
+                String license = options.get(LICENSE).value().toString().trim();
+                Path licensePath = license.isBlank() ? null :
+                        getLicensePath(Paths.get(license), toolContext.currentPackage().project().sourceRoot());
+                if (licensePath != null && Files.isRegularFile(licensePath)) {
+                    DigestUtils.updateDigest(digest, Files.readAllBytes(licensePath));
+                }
+            }
+        }
+        return Hex.encodeHexString(digest.digest()).toUpperCase(Locale.ENGLISH);
+    }
+
+    /**
+     * This method uses to generate hash value for the given contract, over the raw bytes of the contract and the files
+     * it refers via `$ref`, and the tool version. The snapshot of the parsed contract is kept against this hash.
+     */
+    private String getContractHashValue(Path contractPath) throws IOException {
+        MessageDigest digest = DigestUtils.getSha256Digest();
+        updateDigestWithContract(digest, contractPath, new HashSet<>());
+        updateDigest(digest, getToolVersion());
+        return Hex.encodeHexString(digest.digest()).toUpperCase(Locale.ENGLISH);
+    }
+
+    private Optional<String> getHashValue(ToolContext toolContext) {
+        String oasFilePath = toolContext.filePath();
+        if (Objects.isNull(oasFilePath) || oasFilePath.isBlank()) {
+            return Optional.empty();
+        }
+        try {
+            Path contractPath = resolveContractPath(toolContext.currentPackage().project().sourceRoot(),
+                    Path.of(oasFilePath));
+            return Optional.of(getHashValue(toolContext, getContractHashValue(contractPath)));
+        } catch (IOException | InvalidPathException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * This method uses to add the raw bytes of the given contract and the local files referred from it into the
+     * digest. Remote references are added by their URL as they cannot be read without a network round trip.
+     */
+    private void updateDigestWithContract(MessageDigest digest, Path contractPath, Set<Path> visited)
+            throws IOException {
+        Path normalizedPath = contractPath.toAbsolutePath().normalize();
+        if (!visited.add(normalizedPath) || !Files.isRegularFile(normalizedPath)) {
+            return;
+        }
+        byte[] content = Files.readAllBytes(normalizedPath);
+        updateDigest(digest, normalizedPath.toString());
+        DigestUtils.updateDigest(digest, content);
+        Matcher matcher = EXTERNAL_REF_PATTERN.matcher(new String(content, StandardCharsets.UTF_8));
+        while (matcher.find()) {
+            String reference = matcher.group(1);
+            int fragmentIndex = reference.indexOf('#');
+            String referencedFile = fragmentIndex < 0 ? reference : reference.substring(0, fragmentIndex);
+            if (referencedFile.isBlank()) {
+                continue;
+            }
+            if (referencedFile.startsWith("http://") || referencedFile.startsWith("https://")) {
+                updateDigest(digest, referencedFile);
+                continue;
+            }
+            Path parent = normalizedPath.getParent();
+            try {
+                Path referencedPath = parent == null ? Paths.get(referencedFile) : parent.resolve(referencedFile);
+                updateDigestWithContract(digest, referencedPath, visited);
+            } catch (InvalidPathException e) {
+                updateDigest(digest, referencedFile);
+            }
+        }
+    }
+
+    private static void updateDigest(MessageDigest digest, String value) {
+        DigestUtils.updateDigest(digest, value);
+        // Separate the entries to avoid collisions between adjacent values.
+        digest.update((byte) 0);
     }
 
     /**
@@ -504,15 +789,18 @@ public class OpenAPICodeGeneratorTool implements CodeGeneratorTool {
      * This will return list of (client.bal, util.bal, types.bal) {@code GenSrcFile}.
      */
     private List<GenSrcFile> generateClientFiles(OASClientConfig oasClientConfig, ToolContext toolContext,
-                                                        Location location) throws
+                                                 Location location, FormatterCache previousFormatterCache,
+                                                 FormatterCache formatterCache) throws
             BallerinaOpenApiException, IOException, FormatterException, ClientException {
 
         List<GenSrcFile> sourceFiles = new ArrayList<>();
 
         // Generate ballerina client files.
-        TypeHandler.createInstance(oasClientConfig.getOpenAPI(), oasClientConfig.isNullable());
+        GenerationContext generationContext = GenerationContext.create(oasClientConfig.getOpenAPI(),
+                oasClientConfig.isNullable());
+        TypeHandler typeHandler = generationContext.getTypeHandler();
         String licenseContent = oasClientConfig.getLicense();
-        BallerinaClientGenerator ballerinaClientGenerator = getClientGenerator(oasClientConfig);
+        BallerinaClientGenerator ballerinaClientGenerator = getClientGenerator(oasClientConfig, generationContext);
         io.ballerina.compiler.syntax.tree.SyntaxTree syntaxTree = ballerinaClientGenerator.generateSyntaxTree();
         List<ClientDiagnostic> clientDiagnostic = ballerinaClientGenerator.getDiagnostics();
 
@@ -529,16 +817,20 @@ public class OpenAPICodeGeneratorTool implements CodeGeneratorTool {
         List<TypeDefinitionNode> authNodes = ballerinaClientGenerator.getBallerinaAuthConfigGenerator()
                 .getAuthRelatedTypeDefinitionNodes();
         for (TypeDefinitionNode typeDef: authNodes) {
-            TypeHandler.getInstance().addTypeDefinitionNode(typeDef.typeName().text(), typeDef);
+            typeHandler.addTypeDefinitionNode(typeDef.typeName().text(), typeDef);
         }
 
         String licenseHeader = licenseContent == null || licenseContent.isBlank() ? "" :
                 licenseContent + System.lineSeparator();
 
-        if (oasClientConfig.singleFile()) {
-            generateSingleFileForClient(toolContext, syntaxTree, ballerinaClientGenerator, sourceFiles, licenseHeader);
-        } else {
-            generateFilesForClient(syntaxTree, sourceFiles, licenseHeader, ballerinaClientGenerator);
+        try (GenerationContext.Scope ignored = generationContext.enter()) {
+            if (oasClientConfig.singleFile()) {
+                generateSingleFileForClient(syntaxTree, ballerinaClientGenerator, typeHandler, sourceFiles,
+                        licenseHeader, previousFormatterCache, formatterCache);
+            } else {
+                generateFilesForClient(syntaxTree, sourceFiles, licenseHeader, ballerinaClientGenerator,
+                        typeHandler, previousFormatterCache, formatterCache);
+            }
         }
 
         return sourceFiles;
@@ -546,53 +838,62 @@ public class OpenAPICodeGeneratorTool implements CodeGeneratorTool {
 
     private static void generateFilesForClient(io.ballerina.compiler.syntax.tree.SyntaxTree syntaxTree,
                                                List<GenSrcFile> sourceFiles, String licenseHeader,
-                                               BallerinaClientGenerator ballerinaClientGenerator) throws
-            FormatterException, IOException {
-        String mainContent = Formatter.format(syntaxTree).toSourceCode();
+                                               BallerinaClientGenerator ballerinaClientGenerator,
+                                               TypeHandler typeHandler, FormatterCache previousFormatterCache,
+                                               FormatterCache formatterCache)
+            throws FormatterException, IOException {
+        io.ballerina.compiler.syntax.tree.SyntaxTree utilSyntaxTree =
+                ballerinaClientGenerator.getBallerinaUtilGenerator().generateUtilSyntaxTree();
+        // Generate ballerina records to represent schemas.
+        io.ballerina.compiler.syntax.tree.SyntaxTree schemaSyntaxTree = typeHandler.generateTypeSyntaxTree();
+        // The client, util and types syntax trees are formatted concurrently, reusing the unchanged members.
+        List<String> contents = SourceFormatter.format(List.of(syntaxTree, utilSyntaxTree, schemaSyntaxTree),
+                List.of(CLIENT_FILE_NAME, UTIL_FILE_NAME, TYPE_FILE_NAME), previousFormatterCache, formatterCache);
+        String mainContent = contents.get(0);
         sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, null, CLIENT_FILE_NAME,
                 licenseHeader + mainContent));
-        String utilContent = Formatter.format(
-                ballerinaClientGenerator.getBallerinaUtilGenerator().generateUtilSyntaxTree()).toString();
+        String utilContent = contents.get(1);
         if (!utilContent.isBlank()) {
             sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.UTIL_SRC, null, UTIL_FILE_NAME,
                     licenseHeader + utilContent));
         }
-        // Generate ballerina records to represent schemas.
-        io.ballerina.compiler.syntax.tree.SyntaxTree schemaSyntaxTree = TypeHandler.getInstance()
-                .generateTypeSyntaxTree();
-        String schemaContent = Formatter.format(schemaSyntaxTree).toSourceCode();
+        String schemaContent = contents.get(2);
         if (!schemaContent.isBlank()) {
             sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.MODEL_SRC, null, TYPE_FILE_NAME,
                     licenseHeader + schemaContent));
         }
     }
 
-    private void generateSingleFileForClient(ToolContext toolContext,
-                                             io.ballerina.compiler.syntax.tree.SyntaxTree syntaxTree,
-                                             BallerinaClientGenerator ballerinaClientGenerator,
-                                             List<GenSrcFile> sourceFiles, String licenseHeader) throws IOException,
+    private static void generateSingleFileForClient(io.ballerina.compiler.syntax.tree.SyntaxTree syntaxTree,
+                                                    BallerinaClientGenerator ballerinaClientGenerator,
+                                                    TypeHandler typeHandler, List<GenSrcFile> sourceFiles,
+                                                    String licenseHeader, FormatterCache previousFormatterCache,
+                                                    FormatterCache formatterCache) throws IOException,
             FormatterException {
         syntaxTree = SingleFileGenerator.combineSyntaxTrees(syntaxTree,
                 ballerinaClientGenerator.getBallerinaUtilGenerator().generateUtilSyntaxTree(),
-                TypeHandler.getInstance().generateTypeSyntaxTree());
-        sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, null,
-                CLIENT_FILE_NAME, licenseHeader + Formatter.format(syntaxTree).toSourceCode()));
+                typeHandler.generateTypeSyntaxTree());
+        String content = SourceFormatter.format(List.of(syntaxTree), List.of(CLIENT_FILE_NAME),
+                previousFormatterCache, formatterCache).get(0);
+        sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, null, CLIENT_FILE_NAME,
+                licenseHeader + content));
     }
 
-    private BallerinaClientGenerator getClientGenerator(OASClientConfig oasClientConfig) {
+    private BallerinaClientGenerator getClientGenerator(OASClientConfig oasClientConfig,
+                                                        GenerationContext generationContext) {
         boolean statusCodeBinding = oasClientConfig.isStatusCodeBinding();
         boolean isMock = oasClientConfig.isMock();
 
         if (statusCodeBinding && isMock) {
-            return new AdvanceMockClientGenerator(oasClientConfig);
+            return new AdvanceMockClientGenerator(oasClientConfig, generationContext);
         }
         if (statusCodeBinding) {
-            return new BallerinaClientGeneratorWithStatusCodeBinding(oasClientConfig);
+            return new BallerinaClientGeneratorWithStatusCodeBinding(oasClientConfig, generationContext);
         }
         if (isMock) {
-            return new BallerinaMockClientGenerator(oasClientConfig);
+            return new BallerinaMockClientGenerator(oasClientConfig, generationContext);
         }
-        return new BallerinaClientGenerator(oasClientConfig);
+        return new BallerinaClientGenerator(oasClientConfig, generationContext);
     }
 
     /**
@@ -683,17 +984,22 @@ public class OpenAPICodeGeneratorTool implements CodeGeneratorTool {
     }
 
     /**
-     * This method uses to write the content into the given file path.
+     * This method uses to write the content into the given file path. The file is not written again when its
+     * content is not changed, hence the unchanged generated modules are not compiled again.
      */
     public void writeFile(Path filePath, String content) throws IOException {
-        File file = new File(filePath.toString());
-        // Ensure the directory structure exists
-        File parentDirectory = file.getParentFile();
-        if (!parentDirectory.exists() && !parentDirectory.mkdirs()) {
-                return; // Directory creation failed
-        }
-        try (FileWriter writer = new FileWriter(filePath.toString(), StandardCharsets.UTF_8)) {
-            writer.write(content);
-        }
+        SourceFileWriter.write(filePath, content);
+    }
+
+    /**
+     * Holds the outcomes of the entries of a package generated ahead by a batch, keyed by the tool id.
+     */
+    private record Batch(Path packagePath, Map<String, BatchResult> results) {
+    }
+
+    /**
+     * Holds the outcome of an entry generated ahead by a batch.
+     */
+    private record BatchResult(String hashValue, List<Diagnostic> diagnostics) {
     }
 }
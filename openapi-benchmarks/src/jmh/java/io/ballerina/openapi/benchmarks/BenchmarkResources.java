@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.openapi.benchmarks;
+
+import java.nio.file.Path;
+
+/**
+ * Locates the definitions used by the benchmarks. The root directory is given by the
+ * {@code openapi.benchmarks.resources} system property, which the build points to the test resources of the CLI.
+ *
+ * @since 2.4.2
+ */
+final class BenchmarkResources {
+
+    private static final String RESOURCES_PROPERTY = "openapi.benchmarks.resources";
+
+    private BenchmarkResources() {
+    }
+
+    static Path resolve(String relativePath) {
+        return Path.of(System.getProperty(RESOURCES_PROPERTY, ".")).resolve(relativePath);
+    }
+}
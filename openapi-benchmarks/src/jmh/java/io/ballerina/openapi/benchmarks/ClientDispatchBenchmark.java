@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.openapi.benchmarks;
+
+import io.ballerina.openapi.client.ClientUtil;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.ClientType;
+import io.ballerina.runtime.api.types.RemoteMethodType;
+import io.ballerina.runtime.api.types.ResourceMethodType;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the lookup of the implementation function of a resource method of a generated client, which is done on
+ * each invocation of a client with the status code response binding. {@code scanMethods} is the lookup of the
+ * methods and their annotations without the dispatch table of the client type, and {@code lookupDispatchTable} is
+ * the lookup of {@link ClientUtil#getResourceImplFunctionName(String, BObject)}.
+ * {@code lookupDispatchTableConcurrently} is the same lookup by concurrent clients, as in a service which invokes a
+ * client for each request.
+ * <p>
+ * The client type and its methods are proxies, hence the benchmark does not need a compiled Ballerina client.
+ *
+ * @since 2.4.2
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ClientDispatchBenchmark {
+
+    private static final BString METHOD_IMPL_KEY = StringUtils.fromString("ballerina/openapi:2:MethodImpl");
+    private static final BString NAME_KEY = StringUtils.fromString("name");
+
+    @Param({"10", "200"})
+    public int methods;
+
+    private BObject client;
+    private String functionName;
+
+    @Setup
+    public void setup() {
+        ResourceMethodType[] resourceMethods = new ResourceMethodType[methods];
+        for (int i = 0; i < methods; i++) {
+            resourceMethods[i] = createResourceMethod("$get$resource_" + i, "getResource" + i + "Impl");
+        }
+        ClientType clientType = proxy(ClientType.class, (proxy, method, args) -> switch (method.getName()) {
+            case "getResourceMethods" -> resourceMethods;
+            case "getRemoteMethods" -> new RemoteMethodType[0];
+            case "getName" -> "Client";
+            case "equals" -> proxy == args[0];
+            case "hashCode" -> System.identityHashCode(proxy);
+            case "toString" -> "Client";
+            default -> throw new UnsupportedOperationException(method.getName());
+        });
+        client = proxy(BObject.class, (proxy, method, args) -> switch (method.getName()) {
+            case "getOriginalType", "getType" -> clientType;
+            case "equals" -> proxy == args[0];
+            case "hashCode" -> System.identityHashCode(proxy);
+            default -> throw new UnsupportedOperationException(method.getName());
+        });
+        // The last method is the worst case of the scan.
+        functionName = "$get$resource_" + (methods - 1);
+    }
+
+    @Benchmark
+    public String scanMethods() {
+        ClientType clientType = (ClientType) client.getOriginalType();
+        ResourceMethodType resourceMethod = Arrays.stream(clientType.getResourceMethods())
+                .filter(method -> method.getName().equals(functionName))
+                .findFirst().orElseThrow();
+        BString methodImplKey = Arrays.stream(resourceMethod.getAnnotations().getKeys())
+                .filter(key -> key.getValue().contains("MethodImpl"))
+                .findFirst().orElseThrow();
+        BMap<BString, ?> methodImplAnnotation = (BMap<BString, ?>) resourceMethod.getAnnotation(methodImplKey);
+        return methodImplAnnotation.getStringValue(NAME_KEY).getValue();
+    }
+
+    @Benchmark
+    public String lookupDispatchTable() {
+        return ClientUtil.getResourceImplFunctionName(functionName, client);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String lookupDispatchTableConcurrently() {
+        return ClientUtil.getResourceImplFunctionName(functionName, client);
+    }
+
+    private static ResourceMethodType createResourceMethod(String name, String implFunctionName) {
+        BMap<BString, Object> methodImpl = ValueCreator.createMapValue();
+        methodImpl.put(NAME_KEY, StringUtils.fromString(implFunctionName));
+        BMap<BString, Object> annotations = ValueCreator.createMapValue();
+        annotations.put(StringUtils.fromString("ballerina/http:2:ResourceConfig"), ValueCreator.createMapValue());
+        annotations.put(METHOD_IMPL_KEY, methodImpl);
+        return proxy(ResourceMethodType.class, (proxy, method, args) -> switch (method.getName()) {
+            case "getName" -> name;
+            case "getAnnotations" -> annotations;
+            case "getAnnotation" -> annotations.get(args[0]);
+            case "equals" -> proxy == args[0];
+            case "hashCode" -> System.identityHashCode(proxy);
+            case "toString" -> name;
+            default -> throw new UnsupportedOperationException(method.getName());
+        });
+    }
+
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(ClientDispatchBenchmark.class.getClassLoader(),
+                new Class<?>[]{type}, handler));
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.openapi.benchmarks;
+
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.openapi.core.generators.client.BallerinaClientGenerator;
+import io.ballerina.openapi.core.generators.client.exception.ClientException;
+import io.ballerina.openapi.core.generators.client.model.OASClientConfig;
+import io.ballerina.openapi.core.generators.common.GenerationContext;
+import io.ballerina.openapi.core.generators.common.GeneratorUtils;
+import io.ballerina.openapi.core.generators.common.exception.BallerinaOpenApiException;
+import io.ballerina.openapi.core.generators.common.model.Filter;
+import io.swagger.v3.oas.models.OpenAPI;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the generation of the client and the types syntax trees. Each operation parses and normalizes the
+ * definition first; subtract {@link NormalizationBenchmark#normalizeOpenAPI} to get the cost of the generation.
+ *
+ * @since 2.4.2
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ClientGenerationBenchmark {
+
+    @Benchmark
+    public SyntaxTree generateClientSyntaxTree(SyntheticSpec spec) throws IOException, BallerinaOpenApiException,
+            ClientException {
+        return newClientGeneration(spec).clientGenerator().generateSyntaxTree();
+    }
+
+    @Benchmark
+    public SyntaxTree generateTypeSyntaxTree(SyntheticSpec spec) throws IOException, BallerinaOpenApiException,
+            ClientException {
+        ClientGeneration clientGeneration = newClientGeneration(spec);
+        clientGeneration.clientGenerator().generateSyntaxTree();
+        return clientGeneration.generationContext().getTypeHandler().generateTypeSyntaxTree();
+    }
+
+    static ClientGeneration newClientGeneration(SyntheticSpec spec) throws IOException, BallerinaOpenApiException {
+        OpenAPI openAPI = GeneratorUtils.normalizeOpenAPI(spec.path(), false, false);
+        OASClientConfig clientConfig = new OASClientConfig.Builder()
+                .withFilters(new Filter())
+                .withNullable(false)
+                .withPlugin(false)
+                .withOpenAPI(openAPI)
+                .withResourceMode(true)
+                .withStatusCodeBinding(false)
+                .withMock(false)
+                .build();
+        GenerationContext generationContext = GenerationContext.create(openAPI, false);
+        return new ClientGeneration(new BallerinaClientGenerator(clientConfig, generationContext), generationContext);
+    }
+
+    record ClientGeneration(BallerinaClientGenerator clientGenerator, GenerationContext generationContext) {
+    }
+}
@@ -0,0 +1,246 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.openapi.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.management.ThreadMXBean;
+import io.ballerina.openapi.cmd.BallerinaCodeGenerator;
+import io.ballerina.openapi.core.generators.common.GenerationProfiler;
+import io.ballerina.openapi.core.generators.common.model.Filter;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+/**
+ * Runs the end-to-end generation of the CLI against the real-world definitions in the test resources, and checks the
+ * results against a baseline. Each definition is generated as a client, as a service and as both, and each
+ * generation records its wall time, the bytes allocated by all the threads, the peak heap usage, and the time and
+ * the bytes allocated in each phase.
+ * <p>
+ * A generation regresses when its median wall time or its median allocation exceeds the baseline by more than the
+ * threshold, in which case the run fails. Since the timings depend on the machine, the results of the run are written
+ * as the baseline when the baseline does not exist or is requested to be updated.
+ *
+ * @since 2.4.2
+ */
+public final class CorpusBenchmark {
+
+    private static final String BASELINE_PROPERTY = "openapi.benchmarks.baseline";
+    private static final String RESULTS_PROPERTY = "openapi.benchmarks.results";
+    private static final String THRESHOLD_PROPERTY = "openapi.benchmarks.threshold";
+    private static final String UPDATE_BASELINE_PROPERTY = "openapi.benchmarks.updateBaseline";
+    private static final String WARMUP_PROPERTY = "openapi.benchmarks.warmupIterations";
+    private static final String ITERATIONS_PROPERTY = "openapi.benchmarks.iterations";
+
+    private static final List<String> CORPUS = List.of(
+            "generators/diagnostic_files/ballerinax_connector_tests/stripe.yaml",
+            "generators/diagnostic_files/ballerinax_connector_tests/box.yaml",
+            "generators/diagnostic_files/ballerinax_connector_tests/vimeo.yaml",
+            "generators/diagnostic_files/3.1.0_openapis/codat_accounting.yaml",
+            "generators/client/file_provider/swagger/jira_openapi.yaml");
+
+    private static final String TIME_MILLIS = "timeMillis";
+    private static final String ALLOCATED_BYTES = "allocatedBytes";
+    private static final String PEAK_HEAP_BYTES = "peakHeapBytes";
+    private static final String PHASES = "phases";
+    private static final long NANOS_PER_MILLI = 1_000_000L;
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final ThreadMXBean THREAD_MX_BEAN = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+    private static final PrintStream outStream = System.out;
+    private static final PrintStream errStream = System.err;
+
+    private CorpusBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Path baselinePath = Path.of(System.getProperty(BASELINE_PROPERTY, "corpus-baseline.json"));
+        Path resultsPath = Path.of(System.getProperty(RESULTS_PROPERTY, "corpus-results.json"));
+        double threshold = Double.parseDouble(System.getProperty(THRESHOLD_PROPERTY, "0.25"));
+        int warmupIterations = Integer.getInteger(WARMUP_PROPERTY, 1);
+        int iterations = Integer.getInteger(ITERATIONS_PROPERTY, 3);
+
+        ObjectNode results = OBJECT_MAPPER.createObjectNode();
+        for (String definition : CORPUS) {
+            Path definitionPath = BenchmarkResources.resolve(definition);
+            for (Mode mode : Mode.values()) {
+                String key = definitionPath.getFileName() + "/" + mode.name().toLowerCase(Locale.ENGLISH);
+                results.set(key, measure(definitionPath, mode, warmupIterations, iterations));
+            }
+        }
+        writeJson(resultsPath, results);
+
+        if (Boolean.getBoolean(UPDATE_BASELINE_PROPERTY) || !Files.isRegularFile(baselinePath)) {
+            writeJson(baselinePath, results);
+            outStream.println("The results are written as the baseline: " + baselinePath);
+            return;
+        }
+        List<String> regressions = compare(OBJECT_MAPPER.readTree(baselinePath.toFile()), results, threshold);
+        if (!regressions.isEmpty()) {
+            errStream.println("The following generations regressed beyond the threshold of " + threshold + ":");
+            regressions.forEach(regression -> errStream.println("  " + regression));
+            System.exit(1);
+        }
+        outStream.println("No generation regressed beyond the threshold of " + threshold + ".");
+    }
+
+    /**
+     * Generates the given definition in the given mode, and returns the median of the measured iterations, along
+     * with the highest peak heap usage.
+     */
+    private static ObjectNode measure(Path definitionPath, Mode mode, int warmupIterations, int iterations)
+            throws Exception {
+        for (int i = 0; i < warmupIterations; i++) {
+            run(definitionPath, mode);
+        }
+        List<Run> runs = new ArrayList<>();
+        for (int i = 0; i < iterations; i++) {
+            runs.add(run(definitionPath, mode));
+        }
+        ObjectNode measurement = OBJECT_MAPPER.createObjectNode();
+        measurement.put(TIME_MILLIS, median(runs.stream().map(Run::timeNanos).toList()) / NANOS_PER_MILLI);
+        measurement.put(ALLOCATED_BYTES, median(runs.stream().map(Run::allocatedBytes).toList()));
+        measurement.put(PEAK_HEAP_BYTES, runs.stream().mapToLong(Run::peakHeapBytes).max().orElse(0));
+        ObjectNode phasesNode = measurement.putObject(PHASES);
+        Map<String, List<JsonNode>> phases = new TreeMap<>();
+        runs.forEach(run -> run.phases().fields().forEachRemaining(phase ->
+                phases.computeIfAbsent(phase.getKey(), key -> new ArrayList<>()).add(phase.getValue())));
+        phases.forEach((phase, stats) -> phasesNode.putObject(phase)
+                .put(TIME_MILLIS, median(stats.stream().map(stat -> stat.path("timeNanos").asLong()).toList()) /
+                        NANOS_PER_MILLI)
+                .put(ALLOCATED_BYTES, median(stats.stream().map(stat -> stat.path(ALLOCATED_BYTES).asLong())
+                        .toList())));
+        return measurement;
+    }
+
+    private static Run run(Path definitionPath, Mode mode) throws Exception {
+        Path outPath = Files.createTempDirectory("openapi_corpus_");
+        try {
+            System.gc();
+            List<MemoryPoolMXBean> heapPools = ManagementFactory.getMemoryPoolMXBeans().stream()
+                    .filter(pool -> pool.getType() == MemoryType.HEAP && pool.isValid())
+                    .toList();
+            heapPools.forEach(MemoryPoolMXBean::resetPeakUsage);
+            GenerationProfiler profiler = new GenerationProfiler();
+            // The total covers the threads of the formatter and of the client shards, including the terminated ones.
+            long allocatedBefore = THREAD_MX_BEAN.getTotalThreadAllocatedBytes();
+            long start = System.nanoTime();
+            try (GenerationProfiler.Scope ignored = GenerationProfiler.enter(profiler)) {
+                mode.generate(new BallerinaCodeGenerator(), definitionPath.toString(), outPath.toString());
+            }
+            long timeNanos = System.nanoTime() - start;
+            long allocatedBytes = THREAD_MX_BEAN.getTotalThreadAllocatedBytes() - allocatedBefore;
+            // The peaks of the pools are not reached at the same time, hence their sum is an upper bound.
+            long peakHeapBytes = heapPools.stream().mapToLong(pool -> pool.getPeakUsage().getUsed()).sum();
+            JsonNode phases = OBJECT_MAPPER.readTree(profiler.toJson()).path(PHASES);
+            return new Run(timeNanos, allocatedBytes, peakHeapBytes, phases);
+        } finally {
+            try (Stream<Path> paths = Files.walk(outPath)) {
+                for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                    Files.delete(path);
+                }
+            }
+        }
+    }
+
+    private static List<String> compare(JsonNode baseline, JsonNode results, double threshold) {
+        List<String> regressions = new ArrayList<>();
+        baseline.fields().forEachRemaining(entry -> {
+            JsonNode result = results.get(entry.getKey());
+            if (result == null) {
+                return;
+            }
+            for (String metric : List.of(TIME_MILLIS, ALLOCATED_BYTES)) {
+                long expected = entry.getValue().path(metric).asLong();
+                long actual = result.path(metric).asLong();
+                if (expected > 0 && actual > expected * (1 + threshold)) {
+                    regressions.add(String.format(Locale.ENGLISH, "%s: %s %d -> %d (%+.1f%%)", entry.getKey(),
+                            metric, expected, actual, (actual - expected) * 100.0 / expected));
+                }
+            }
+        });
+        return regressions;
+    }
+
+    private static long median(List<Long> values) {
+        List<Long> sortedValues = values.stream().sorted().toList();
+        return sortedValues.isEmpty() ? 0 : sortedValues.get(sortedValues.size() / 2);
+    }
+
+    private static void writeJson(Path path, JsonNode node) throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Files.writeString(path, OBJECT_MAPPER.writerWithDefaultPrettyPrinter().writeValueAsString(node));
+    }
+
+    /**
+     * The generation modes of the CLI which are measured.
+     */
+    private enum Mode {
+        CLIENT {
+            @Override
+            void generate(BallerinaCodeGenerator generator, String definitionPath, String outPath)
+                    throws Exception {
+                generator.generateClient(definitionPath, outPath, newFilter(),
+                        new BallerinaCodeGenerator.ClientGeneratorOptions(false, true, false, false, false, false));
+            }
+        },
+        SERVICE {
+            @Override
+            void generate(BallerinaCodeGenerator generator, String definitionPath, String outPath)
+                    throws Exception {
+                generator.generateService(definitionPath, "service", outPath, newFilter(),
+                        new BallerinaCodeGenerator.ServiceGeneratorOptions(false, false, false, false, false,
+                                false));
+            }
+        },
+        CLIENT_AND_SERVICE {
+            @Override
+            void generate(BallerinaCodeGenerator generator, String definitionPath, String outPath)
+                    throws Exception {
+                generator.generateClientAndService(definitionPath, "service", outPath, newFilter(),
+                        new BallerinaCodeGenerator.ClientServiceGeneratorOptions(false, true, false, false, false,
+                                false, false, false));
+            }
+        };
+
+        abstract void generate(BallerinaCodeGenerator generator, String definitionPath, String outPath)
+                throws Exception;
+
+        private static Filter newFilter() {
+            return new Filter(new ArrayList<>(), new ArrayList<>());
+        }
+    }
+
+    private record Run(long timeNanos, long allocatedBytes, long peakHeapBytes, JsonNode phases) {
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.openapi.benchmarks;
+
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.openapi.core.generators.client.exception.ClientException;
+import io.ballerina.openapi.core.generators.common.SourceFormatter;
+import io.ballerina.openapi.core.generators.common.exception.BallerinaOpenApiException;
+import org.ballerinalang.formatter.core.Formatter;
+import org.ballerinalang.formatter.core.FormatterException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static io.ballerina.openapi.core.generators.common.GeneratorConstants.FORMATTER_PARALLELISM_PROPERTY;
+
+/**
+ * Measures formatting the generated client and types syntax trees. The trees are generated once per trial, since
+ * formatting does not modify them. {@code formatClientAndTypesConcurrently} formats both trees with
+ * {@link SourceFormatter}, using as many threads as the {@code parallelism} parameter, which sets the
+ * {@code openapi.formatter.parallelism} system property for the trial. The chunking of the types is enabled with the
+ * {@code openapi.formatter.chunkSize} system property.
+ *
+ * @since 2.4.2
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class FormatterBenchmark {
+
+    @Param({"SMALL", "MEDIUM", "LARGE"})
+    public SyntheticSpecGenerator.Size size;
+
+    @Param({"1", "2"})
+    public int parallelism;
+
+    private SyntaxTree clientSyntaxTree;
+    private SyntaxTree typeSyntaxTree;
+
+    @Setup
+    public void setup() throws IOException, BallerinaOpenApiException, ClientException {
+        SyntheticSpec spec = new SyntheticSpec();
+        spec.size = size;
+        spec.setup();
+        try {
+            ClientGenerationBenchmark.ClientGeneration clientGeneration =
+                    ClientGenerationBenchmark.newClientGeneration(spec);
+            clientSyntaxTree = clientGeneration.clientGenerator().generateSyntaxTree();
+            typeSyntaxTree = clientGeneration.generationContext().getTypeHandler().generateTypeSyntaxTree();
+        } finally {
+            spec.tearDown();
+        }
+        System.setProperty(FORMATTER_PARALLELISM_PROPERTY, Integer.toString(parallelism));
+    }
+
+    @TearDown
+    public void tearDown() {
+        System.clearProperty(FORMATTER_PARALLELISM_PROPERTY);
+    }
+
+    @Benchmark
+    public SyntaxTree formatClient() throws FormatterException {
+        return Formatter.format(clientSyntaxTree);
+    }
+
+    @Benchmark
+    public SyntaxTree formatTypes() throws FormatterException {
+        return Formatter.format(typeSyntaxTree);
+    }
+
+    @Benchmark
+    public List<String> formatClientAndTypes() throws FormatterException {
+        return List.of(Formatter.format(clientSyntaxTree).toSourceCode(),
+                Formatter.format(typeSyntaxTree).toSourceCode());
+    }
+
+    @Benchmark
+    public List<String> formatClientAndTypesConcurrently() throws FormatterException {
+        return SourceFormatter.format(clientSyntaxTree, typeSyntaxTree);
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.openapi.benchmarks;
+
+import io.ballerina.openapi.core.generators.common.InlineModelResolver;
+import io.swagger.parser.OpenAPIParser;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.parser.core.models.ParseOptions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the time and the allocations of flattening the inline schemas of a large definition.
+ * <p>
+ * {@code parse} is the baseline cost of reading the definition, which the other benchmarks also pay since flattening
+ * modifies the model. {@code parseAndFlatten} measures {@link InlineModelResolver#flatten(OpenAPI)}, and
+ * {@code parseAndSerializeSchemas} measures the JSON serialization of each component schema, which is what the
+ * resolver used to pay to compare the inline schemas before the structural signatures. Run with the {@code gc}
+ * profiler and compare {@code gc.alloc.rate.norm} of the three.
+ *
+ * @since 2.4.2
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class InlineModelResolverBenchmark {
+
+    @Param({"generators/diagnostic_files/ballerinax_connector_tests/stripe.yaml",
+            "generators/diagnostic_files/ballerinax_connector_tests/zoom.yaml"})
+    public String spec;
+
+    private String content;
+
+    @Setup
+    public void setup() throws IOException {
+        content = Files.readString(BenchmarkResources.resolve(spec));
+    }
+
+    @Benchmark
+    public OpenAPI parse() {
+        return parseContent();
+    }
+
+    @Benchmark
+    public OpenAPI parseAndFlatten() {
+        OpenAPI openAPI = parseContent();
+        new InlineModelResolver(true, false).flatten(openAPI);
+        return openAPI;
+    }
+
+    @Benchmark
+    public void parseAndSerializeSchemas(Blackhole blackhole) {
+        OpenAPI openAPI = parseContent();
+        if (openAPI.getComponents() == null || openAPI.getComponents().getSchemas() == null) {
+            return;
+        }
+        for (Schema<?> schema : openAPI.getComponents().getSchemas().values()) {
+            blackhole.consume(Json.pretty(schema));
+        }
+    }
+
+    private OpenAPI parseContent() {
+        return new OpenAPIParser().readContents(content, null, new ParseOptions()).getOpenAPI();
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.openapi.benchmarks;
+
+import io.ballerina.openapi.core.generators.common.GeneratorUtils;
+import io.ballerina.openapi.core.generators.common.InlineModelResolver;
+import io.ballerina.openapi.core.generators.common.OASModifier;
+import io.ballerina.openapi.core.generators.common.exception.BallerinaOpenApiException;
+import io.swagger.parser.OpenAPIParser;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.parser.core.models.ParseOptions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the stages which prepare the parsed definition for the generators. Each operation parses the definition
+ * first, as these stages modify the model; subtract {@link ParserBenchmark} to get the cost of the stage itself.
+ *
+ * @since 2.4.2
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class NormalizationBenchmark {
+
+    @Benchmark
+    public OpenAPI normalizeOpenAPI(SyntheticSpec spec) throws IOException, BallerinaOpenApiException {
+        return GeneratorUtils.normalizeOpenAPI(spec.path(), true, false);
+    }
+
+    @Benchmark
+    public OpenAPI modifyWithBallerinaNamingConventions(SyntheticSpec spec) throws IOException,
+            BallerinaOpenApiException {
+        OpenAPI openAPI = GeneratorUtils.getOpenAPIFromOpenAPIV3Parser(spec.path());
+        return new OASModifier().modifyWithBallerinaNamingConventions(openAPI);
+    }
+
+    @Benchmark
+    public OpenAPI flatten(SyntheticSpec spec) {
+        // Parse without the parser flattening, so that the inline schemas are left to the resolver
+        OpenAPI openAPI = new OpenAPIParser().readContents(spec.content(), null, new ParseOptions()).getOpenAPI();
+        new InlineModelResolver(true, false).flatten(openAPI);
+        return openAPI;
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.openapi.benchmarks;
+
+import io.ballerina.compiler.api.SemanticModel;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.openapi.service.mapper.ServiceToOpenAPIMapper;
+import io.ballerina.openapi.service.mapper.model.OASResult;
+import io.ballerina.projects.DocumentId;
+import io.ballerina.projects.Module;
+import io.ballerina.projects.Project;
+import io.ballerina.projects.directory.ProjectLoader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static io.ballerina.openapi.service.mapper.Constants.PARALLELISM_PROPERTY;
+
+/**
+ * Measures the generation of the OpenAPI definitions of a Ballerina file with many HTTP services. The file is
+ * compiled once during the setup, hence only the mapping of the services is measured. The speedup of the concurrent
+ * mapping is the ratio between the scores with the parallelism of one and the other parallelism values.
+ * <p>
+ * The services use the {@code ballerina/http} module, hence the {@code ballerina.home} system property must point to
+ * a distribution with the standard libraries, which the build does.
+ *
+ * @since 2.4.2
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ServiceMappingBenchmark {
+
+    @Param({"10", "70"})
+    public int services;
+
+    @Param({"1", "4"})
+    public int parallelism;
+
+    private Path directory;
+    private Path balFile;
+    private Project project;
+    private SyntaxTree syntaxTree;
+    private SemanticModel semanticModel;
+
+    @Setup
+    public void setup() throws IOException {
+        directory = Files.createTempDirectory("openapi_service_mapping_");
+        balFile = directory.resolve("gateway.bal");
+        Files.writeString(balFile, generateServices(services));
+        project = ProjectLoader.load(balFile).project();
+        Module module = project.currentPackage().getDefaultModule();
+        DocumentId documentId = module.documentIds().iterator().next();
+        syntaxTree = module.document(documentId).syntaxTree();
+        semanticModel = project.currentPackage().getCompilation().getSemanticModel(module.moduleId());
+        System.setProperty(PARALLELISM_PROPERTY, Integer.toString(parallelism));
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        System.clearProperty(PARALLELISM_PROPERTY);
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @Benchmark
+    public List<OASResult> generateOAS3Definition() {
+        return ServiceToOpenAPIMapper.generateOAS3Definition(project, syntaxTree, semanticModel, null, false,
+                balFile, false);
+    }
+
+    private static String generateServices(int count) {
+        StringBuilder source = new StringBuilder("import ballerina/http;\n\n")
+                .append("listener http:Listener gateway = new (9090);\n\n")
+                .append("type Item record {|\n    int id;\n    string name;\n    string[] tags;\n")
+                .append("    decimal price?;\n|};\n\n")
+                .append("type ItemNotFound record {|\n    *http:NotFound;\n    record {|string message;|} body;\n")
+                .append("|};\n");
+        for (int i = 0; i < count; i++) {
+            source.append("\nservice /gateway/service_").append(i).append(" on gateway {\n")
+                    .append("    resource function get items(int 'limit = 10, string? filter = ()) ")
+                    .append("returns Item[] {\n        return [];\n    }\n\n")
+                    .append("    resource function get items/[int id](@http:Header string? x\\-request\\-id) ")
+                    .append("returns Item|ItemNotFound {\n")
+                    .append("        return {body: {message: \"not found\"}};\n    }\n\n")
+                    .append("    resource function post items(@http:Payload Item item) returns Item|error {\n")
+                    .append("        return item;\n    }\n\n")
+                    .append("    resource function delete items/[int id]() returns http:NoContent {\n")
+                    .append("        return http:NO_CONTENT;\n    }\n}\n");
+        }
+        return source.toString();
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.openapi.benchmarks;
+
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Benchmark state which holds a synthetic definition of each size, both as content and as a file.
+ *
+ * @since 2.4.2
+ */
+@State(Scope.Benchmark)
+public class SyntheticSpec {
+
+    @Param({"SMALL", "MEDIUM", "LARGE"})
+    public SyntheticSpecGenerator.Size size;
+
+    private String content;
+    private Path path;
+
+    @Setup
+    public void setup() throws IOException {
+        content = SyntheticSpecGenerator.generate(size);
+        path = Files.createTempFile("synthetic_openapi_", ".json");
+        Files.writeString(path, content);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(path);
+    }
+
+    public String content() {
+        return content;
+    }
+
+    public Path path() {
+        return path;
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.openapi.benchmarks;
+
+import java.util.Locale;
+import java.util.StringJoiner;
+
+/**
+ * Generates OpenAPI 3.0 definitions in JSON for the benchmarks. The output depends only on the requested size, so
+ * that the results of different runs can be compared.
+ * <p>
+ * The definitions exercise each stage of the generation: the component schema names and the operation ids do not
+ * follow the Ballerina naming conventions, the schemas refer to each other and use constraints, enums, arrays,
+ * {@code allOf} and {@code oneOf}, and the operations have path, query and header parameters, inline request and
+ * response objects which are flattened, and shared inline error objects which are deduplicated.
+ *
+ * @since 2.4.2
+ */
+public final class SyntheticSpecGenerator {
+
+    /**
+     * The sizes of the generated definitions.
+     */
+    public enum Size {
+        SMALL(10, 20),
+        MEDIUM(150, 300),
+        LARGE(1500, 4000);
+
+        private final int resources;
+        private final int schemas;
+
+        Size(int resources, int schemas) {
+            this.resources = resources;
+            this.schemas = schemas;
+        }
+
+        public int resources() {
+            return resources;
+        }
+
+        public int schemas() {
+            return schemas;
+        }
+    }
+
+    private SyntheticSpecGenerator() {
+    }
+
+    public static String generate(Size size) {
+        StringBuilder spec = new StringBuilder(size.schemas() * 1024 + size.resources() * 2048);
+        spec.append("{\"openapi\":\"3.0.1\",")
+                .append("\"info\":{\"title\":\"Synthetic ").append(size.name().toLowerCase(Locale.ROOT))
+                .append(" API\",")
+                .append("\"version\":\"1.0.0\",\"description\":\"Generated definition for the benchmarks.\"},")
+                .append("\"servers\":[{\"url\":\"https://api.example.com/v1\"}],");
+        appendPaths(spec, size);
+        spec.append(",\"components\":{\"schemas\":{");
+        StringJoiner schemas = new StringJoiner(",");
+        for (int i = 0; i < size.schemas(); i++) {
+            schemas.add(schema(i, size.schemas()));
+        }
+        spec.append(schemas).append("}}}");
+        return spec.toString();
+    }
+
+    private static void appendPaths(StringBuilder spec, Size size) {
+        StringJoiner paths = new StringJoiner(",", "\"paths\":{", "}");
+        for (int i = 0; i < size.resources(); i++) {
+            String schemaName = schemaName(i % size.schemas());
+            paths.add(quote("/resource_group_" + i) + ":{" + listOperation(i, schemaName) + "," +
+                    createOperation(i, schemaName) + "}");
+            paths.add(quote("/resource_group_" + i + "/{resource-id}") + ":{" + getOperation(i, schemaName) + "," +
+                    updateOperation(i, schemaName) + "}");
+        }
+        spec.append(paths);
+    }
+
+    private static String listOperation(int index, String schemaName) {
+        return "\"get\":{\"operationId\":\"list-resource_group_" + index + "\"," +
+                "\"summary\":\"Lists the resources of group " + index + "\",\"tags\":[\"group_" + index % 10 + "\"]," +
+                "\"parameters\":[" +
+                "{\"name\":\"page-size\",\"in\":\"query\",\"schema\":{\"type\":\"integer\",\"minimum\":1," +
+                "\"maximum\":100}}," +
+                "{\"name\":\"filter\",\"in\":\"query\",\"schema\":{\"type\":\"string\"}}," +
+                "{\"name\":\"expand\",\"in\":\"query\",\"style\":\"form\",\"explode\":true," +
+                "\"schema\":{\"type\":\"array\",\"items\":{\"type\":\"string\"}}}," +
+                "{\"name\":\"X-Request-Id\",\"in\":\"header\",\"schema\":{\"type\":\"string\"}}]," +
+                "\"responses\":{\"200\":{\"description\":\"The resources\",\"content\":{\"application/json\":" +
+                "{\"schema\":{\"type\":\"object\",\"properties\":{" +
+                "\"items\":{\"type\":\"array\",\"items\":" + ref(schemaName) + "}," +
+                "\"next_page\":{\"type\":\"string\"}}}}}}," + errorResponse() + "}}";
+    }
+
+    private static String createOperation(int index, String schemaName) {
+        return "\"post\":{\"operationId\":\"create-resource_group_" + index + "\"," +
+                "\"requestBody\":{\"required\":true,\"content\":{\"application/json\":{\"schema\":" +
+                "{\"type\":\"object\",\"required\":[\"name\"],\"properties\":{" +
+                "\"name\":{\"type\":\"string\",\"maxLength\":128}," +
+                "\"payload\":" + ref(schemaName) + "," +
+                "\"labels\":{\"type\":\"object\",\"additionalProperties\":{\"type\":\"string\"}}}}}}}," +
+                "\"responses\":{\"201\":{\"description\":\"Created\",\"content\":{\"application/json\":" +
+                "{\"schema\":" + ref(schemaName) + "}}}," + errorResponse() + "}}";
+    }
+
+    private static String getOperation(int index, String schemaName) {
+        return "\"get\":{\"operationId\":\"get-resource_group_" + index + "\"," +
+                "\"parameters\":[" + resourceIdParameter() + "]," +
+                "\"responses\":{\"200\":{\"description\":\"The resource\",\"content\":{\"application/json\":" +
+                "{\"schema\":" + ref(schemaName) + "}}}," + errorResponse() + "}}";
+    }
+
+    private static String updateOperation(int index, String schemaName) {
+        return "\"put\":{\"operationId\":\"update-resource_group_" + index + "\"," +
+                "\"parameters\":[" + resourceIdParameter() + "]," +
+                "\"requestBody\":{\"content\":{\"application/json\":{\"schema\":" + ref(schemaName) + "}}}," +
+                "\"responses\":{\"200\":{\"description\":\"Updated\",\"content\":{\"application/json\":" +
+                "{\"schema\":" + ref(schemaName) + "}}}," + errorResponse() + "}}";
+    }
+
+    private static String resourceIdParameter() {
+        return "{\"name\":\"resource-id\",\"in\":\"path\",\"required\":true,\"schema\":{\"type\":\"string\"}}";
+    }
+
+    // The same inline error object is used by all the operations, hence it is deduplicated when flattening.
+    private static String errorResponse() {
+        return "\"400\":{\"description\":\"Bad request\",\"content\":{\"application/json\":{\"schema\":" +
+                "{\"type\":\"object\",\"properties\":{\"code\":{\"type\":\"integer\"}," +
+                "\"message\":{\"type\":\"string\"}}}}}}";
+    }
+
+    private static String schema(int index, int schemaCount) {
+        String name = schemaName(index);
+        String properties = "\"id\":{\"type\":\"integer\",\"format\":\"int64\"}," +
+                "\"display-name\":{\"type\":\"string\",\"minLength\":1,\"maxLength\":64," +
+                "\"description\":\"Display name of the resource\"}," +
+                "\"status\":{\"type\":\"string\",\"enum\":[\"active\",\"inactive\",\"deleted\"]}," +
+                "\"created_at\":{\"type\":\"string\",\"format\":\"date-time\"}," +
+                "\"score\":{\"type\":\"number\",\"format\":\"double\",\"minimum\":0}," +
+                "\"tags\":{\"type\":\"array\",\"items\":{\"type\":\"string\"},\"maxItems\":20}," +
+                "\"parent\":" + ref(schemaName((index + 1) % schemaCount)) + "," +
+                "\"children\":{\"type\":\"array\",\"items\":" + ref(schemaName((index + 7) % schemaCount)) + "}," +
+                "\"metadata\":{\"type\":\"object\",\"properties\":{\"key\":{\"type\":\"string\"}," +
+                "\"value\":{\"type\":\"string\"}}}";
+        String object = "{\"type\":\"object\",\"description\":\"Synthetic schema " + index + "\"," +
+                "\"required\":[\"id\"],\"properties\":{" + properties + "}}";
+        if (index % 5 == 4) {
+            object = "{\"allOf\":[" + ref(schemaName((index + 3) % schemaCount)) + "," + object + "]}";
+        } else if (index % 7 == 6) {
+            object = "{\"oneOf\":[" + ref(schemaName((index + 2) % schemaCount)) + "," +
+                    ref(schemaName((index + 5) % schemaCount)) + "]}";
+        }
+        return quote(name) + ":" + object;
+    }
+
+    private static String schemaName(int index) {
+        return "synthetic_schema-" + index;
+    }
+
+    private static String ref(String schemaName) {
+        return "{\"$ref\":\"#/components/schemas/" + schemaName + "\"}";
+    }
+
+    private static String quote(String value) {
+        return "\"" + value + "\"";
+    }
+}
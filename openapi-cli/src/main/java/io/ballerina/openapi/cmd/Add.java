@@ -189,6 +189,7 @@ public class Add implements BLauncherCmd {
                 .withStatusCodeBinding(baseCmd.statusCodeBinding)
                 .withMock(baseCmd.mock)
                 .withSingleFile(baseCmd.singleFile)
+                .withNativeSerializers(baseCmd.nativeSerializers)
                 .build();
     }
 
@@ -268,6 +269,10 @@ public class Add implements BLauncherCmd {
             moduleMembers = moduleMembers.add(SampleNodeGenerator.createBooleanKV("options.singleFile",
                     optionsBuilder.getSingleFile(), null));
         }
+        if (optionsBuilder.getNativeSerializers()) {
+            moduleMembers = moduleMembers.add(SampleNodeGenerator.createBooleanKV("options.nativeSerializers",
+                    optionsBuilder.getNativeSerializers(), null));
+        }
         moduleMembers = CmdUtils.addNewLine(moduleMembers, 2);
         return moduleMembers;
     }
@@ -28,8 +28,11 @@ import io.ballerina.openapi.core.generators.client.exception.ClientException;
 import io.ballerina.openapi.core.generators.client.mock.AdvanceMockClientGenerator;
 import io.ballerina.openapi.core.generators.client.mock.BallerinaMockClientGenerator;
 import io.ballerina.openapi.core.generators.client.model.OASClientConfig;
+import io.ballerina.openapi.core.generators.common.GenerationContext;
 import io.ballerina.openapi.core.generators.common.GeneratorUtils;
 import io.ballerina.openapi.core.generators.common.SingleFileGenerator;
+import io.ballerina.openapi.core.generators.common.SourceFileWriter;
+import io.ballerina.openapi.core.generators.common.SourceFormatter;
 import io.ballerina.openapi.core.generators.common.TypeHandler;
 import io.ballerina.openapi.core.generators.common.exception.BallerinaOpenApiException;
 import io.ballerina.openapi.core.generators.common.model.Filter;
@@ -40,14 +43,11 @@ import io.ballerina.openapi.core.generators.type.GeneratorConstants;
 import io.ballerina.openapi.core.generators.type.exception.OASTypeGenException;
 import io.ballerina.tools.diagnostics.Diagnostic;
 import io.swagger.v3.oas.models.OpenAPI;
-import org.ballerinalang.formatter.core.Formatter;
 import org.ballerinalang.formatter.core.FormatterException;
 
 import java.io.File;
-import java.io.FileWriter;
 import java.io.IOException;
 import java.io.PrintStream;
-import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -128,8 +128,9 @@ public class BallerinaCodeGenerator {
         // absence of the operationId in operation. Therefore, we enable client flag true as default code generation.
         // if resource is enabled, we avoid checking operationId.
         OpenAPI normalizedOpenAPI = GeneratorUtils.normalizeOpenAPI(openAPIDef, !isResource, options.isSanitizedOas);
-        // Add typeHandler
-        TypeHandler.createInstance(normalizedOpenAPI, options.nullable);
+        // Create the generation context which holds the type handler of this generation
+        GenerationContext generationContext = GenerationContext.create(normalizedOpenAPI, options.nullable);
+        TypeHandler typeHandler = generationContext.getTypeHandler();
         // Generate client.
         // Generate ballerina client remote.
         OASClientConfig.Builder clientMetaDataBuilder = new OASClientConfig.Builder();
@@ -140,26 +141,24 @@ public class BallerinaCodeGenerator {
                 .withOpenAPI(normalizedOpenAPI)
                 .withResourceMode(isResource)
                 .withStatusCodeBinding(options.statusCodeBinding)
+                .withNativeSerializers(options.nativeSerializers)
                 .withMock(options.isMock).build();
 
-        BallerinaClientGenerator clientGenerator = getBallerinaClientGenerator(oasClientConfig);
-        String clientContent = Formatter.format(clientGenerator.generateSyntaxTree()).toSourceCode();
+        BallerinaClientGenerator clientGenerator = getBallerinaClientGenerator(oasClientConfig, generationContext);
+        SyntaxTree clientSyntaxTree = clientGenerator.generateSyntaxTree();
 
         //Update type definition list with auth related type definitions
         List<TypeDefinitionNode> authNodes = clientGenerator.getBallerinaAuthConfigGenerator()
                 .getAuthRelatedTypeDefinitionNodes();
         for (TypeDefinitionNode typeDef: authNodes) {
-            TypeHandler.getInstance().addTypeDefinitionNode(typeDef.typeName().text(), typeDef);
+            typeHandler.addTypeDefinitionNode(typeDef.typeName().text(), typeDef);
         }
-        sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, srcPackage, CLIENT_FILE_NAME,
-                (licenseHeader.isBlank() ? DO_NOT_MODIFY_FILE_HEADER : licenseHeader) + clientContent));
-        String utilContent = Formatter.format(clientGenerator.getBallerinaUtilGenerator()
-                .generateUtilSyntaxTree()).toString();
-        if (!utilContent.isBlank()) {
-            sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.UTIL_SRC, srcPackage, UTIL_FILE_NAME,
-                    (licenseHeader.isBlank() ? DEFAULT_FILE_HEADER : licenseHeader) + utilContent));
+        SyntaxTree utilSyntaxTree;
+        try (GenerationContext.Scope ignored = generationContext.enter()) {
+            utilSyntaxTree = clientGenerator.getBallerinaUtilGenerator().generateUtilSyntaxTree();
         }
 
+        List<GenSrcFile> serviceFiles = new ArrayList<>();
         if (complexPaths.isEmpty()) {
             OASServiceMetadata oasServiceMetadata = new OASServiceMetadata.Builder()
                     .withOpenAPI(normalizedOpenAPI)
@@ -173,22 +172,40 @@ public class BallerinaCodeGenerator {
                     .withLicenseHeader(licenseHeader)
                     .build();
 
-            ServiceGenerationHandler serviceGenerationHandler = new ServiceGenerationHandler();
-            sourceFiles.addAll(serviceGenerationHandler.generateServiceFiles(oasServiceMetadata));
+            ServiceGenerationHandler serviceGenerationHandler = new ServiceGenerationHandler(generationContext);
+            serviceFiles.addAll(serviceGenerationHandler.generateServiceFiles(oasServiceMetadata));
             this.diagnostics.addAll(serviceGenerationHandler.getDiagnostics());
         }
 
-        TypeHandler typeHandler = TypeHandler.getInstance();
         SyntaxTree schemaSyntaxTree = typeHandler.generateTypeSyntaxTree();
-        String schemaContent = Formatter.format(schemaSyntaxTree).toSourceCode();
-        this.diagnostics.addAll(TypeHandler.getInstance().getDiagnostics());
-
-        generateSchemaFile(sourceFiles, schemaContent, licenseHeader);
+        this.diagnostics.addAll(typeHandler.getDiagnostics());
 
         // Generate test boilerplate code for test cases
+        BallerinaTestGenerator ballerinaTestGenerator = null;
+        List<SyntaxTree> syntaxTrees = new ArrayList<>(List.of(clientSyntaxTree, utilSyntaxTree, schemaSyntaxTree));
         if (this.includeTestFiles) {
-            BallerinaTestGenerator ballerinaTestGenerator = new BallerinaTestGenerator(clientGenerator);
-            String testContent = Formatter.format(ballerinaTestGenerator.generateSyntaxTree()).toSourceCode();
+            ballerinaTestGenerator = new BallerinaTestGenerator(clientGenerator);
+            try (GenerationContext.Scope ignored = generationContext.enter()) {
+                syntaxTrees.add(ballerinaTestGenerator.generateSyntaxTree());
+            }
+        }
+        // The generated syntax trees are independent of each other, hence they are formatted concurrently.
+        List<String> contents = SourceFormatter.format(syntaxTrees);
+        String clientContent = contents.get(0);
+        String utilContent = contents.get(1);
+        String schemaContent = contents.get(2);
+
+        sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, srcPackage, CLIENT_FILE_NAME,
+                (licenseHeader.isBlank() ? DO_NOT_MODIFY_FILE_HEADER : licenseHeader) + clientContent));
+        if (!utilContent.isBlank()) {
+            sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.UTIL_SRC, srcPackage, UTIL_FILE_NAME,
+                    (licenseHeader.isBlank() ? DEFAULT_FILE_HEADER : licenseHeader) + utilContent));
+        }
+        sourceFiles.addAll(serviceFiles);
+        generateSchemaFile(sourceFiles, schemaContent, licenseHeader);
+
+        if (ballerinaTestGenerator != null) {
+            String testContent = contents.get(3);
             sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, srcPackage, TEST_FILE_NAME,
                     (licenseHeader.isBlank() ? DEFAULT_FILE_HEADER : licenseHeader) + testContent));
 
@@ -225,10 +242,21 @@ public class BallerinaCodeGenerator {
      *  @param isMock                       Enable isMock option to generate mocks
      *  @param isSanitizedOas               Enable isSanitizedOas option to modify the OAS to follow the Ballerina
      *                                      language best practices
+     *  @param nativeSerializers            Enable nativeSerializers option to serialize the query parameters and the
+     *                                      URL-encoded request bodies with the client native library
      */
     public record ClientServiceGeneratorOptions(boolean nullable, boolean isResource, boolean generateServiceType,
                                                 boolean generateServiceContract, boolean generateWithoutDataBinding,
-                                                boolean statusCodeBinding, boolean isMock, boolean isSanitizedOas) { }
+                                                boolean statusCodeBinding, boolean isMock, boolean isSanitizedOas,
+                                                boolean nativeSerializers) {
+
+        public ClientServiceGeneratorOptions(boolean nullable, boolean isResource, boolean generateServiceType,
+                                             boolean generateServiceContract, boolean generateWithoutDataBinding,
+                                             boolean statusCodeBinding, boolean isMock, boolean isSanitizedOas) {
+            this(nullable, isResource, generateServiceType, generateServiceContract, generateWithoutDataBinding,
+                    statusCodeBinding, isMock, isSanitizedOas, false);
+        }
+    }
 
     public static <T> Predicate<T> distinctByKey(Function<? super T, ?> keyExtractor) {
         Map<Object, Boolean> seen = new ConcurrentHashMap<>();
@@ -326,17 +354,19 @@ public class BallerinaCodeGenerator {
             }
         }
 
-        for (File file : listFiles) {
-            for (GenSrcFile gFile : sources) {
-                if (file.getName().equals(gFile.getFileName())) {
-                    if (System.console() != null) {
-                        String userInput = System.console().readLine("There is already a/an " + file.getName() +
-                                " in the location. Do you want to override the file? [y/N] ");
-                        if (!Objects.equals(userInput.toLowerCase(Locale.ENGLISH), "y")) {
-                            int duplicateCount = 0;
-                            setGeneratedFileName(listFiles, gFile, duplicateCount);
-                        }
-                    }
+        // Index the existing files by name instead of comparing each of them with each generated source.
+        Map<String, Long> existingFileNames = listFiles.stream()
+                .collect(Collectors.groupingBy(File::getName, Collectors.counting()));
+        for (GenSrcFile gFile : sources) {
+            String fileName = gFile.getFileName();
+            long matchingFiles = existingFileNames.getOrDefault(fileName, 0L);
+            for (long i = 0; i < matchingFiles && System.console() != null; i++) {
+                String userInput = System.console().readLine("There is already a/an " + fileName +
+                        " in the location. Do you want to override the file? [y/N] ");
+                if (!Objects.equals(userInput.toLowerCase(Locale.ENGLISH), "y")) {
+                    int duplicateCount = 0;
+                    setGeneratedFileName(listFiles, gFile, duplicateCount);
+                    break;
                 }
             }
         }
@@ -349,8 +379,7 @@ public class BallerinaCodeGenerator {
             if (!file.getType().isOverwritable()) {
                 filePath = implPath.resolve(file.getFileName());
                 if (Files.notExists(filePath)) {
-                    String fileContent = file.getContent();
-                    writeFile(filePath, fileContent);
+                    SourceFileWriter.write(filePath, file.getContent());
                 }
             } else {
                 boolean isDuplicatedFileInTests = file.getFileName().matches("test.+[0-9]+.bal") ||
@@ -364,8 +393,8 @@ public class BallerinaCodeGenerator {
                 } else {
                     filePath = Paths.get(srcPath.resolve(file.getFileName()).toFile().getCanonicalPath());
                 }
-                String fileContent = file.getContent();
-                writeFile(filePath, fileContent);
+                // The file is not written again when its content is not changed.
+                SourceFileWriter.write(filePath, file.getContent());
             }
         }
 
@@ -395,7 +424,10 @@ public class BallerinaCodeGenerator {
             srcPackage = DEFAULT_CLIENT_PKG;
         }
         List<GenSrcFile> sourceFiles = new ArrayList<>();
-        OpenAPI openAPIDef = GeneratorUtils.getOpenAPIFromOpenAPIV3Parser(openAPI);
+        // Only the operations selected by the filter and the components they refer are resolved. The sanitization
+        // names the schemas against all the schemas the operations refer, hence it needs the whole definition.
+        OpenAPI openAPIDef = options.isSanitizedOas ? GeneratorUtils.getOpenAPIFromOpenAPIV3Parser(openAPI) :
+                GeneratorUtils.getOpenAPIFromOpenAPIV3Parser(openAPI, filter);
         checkOpenAPIVersion(openAPIDef);
         // Validate the service generation
         List<String> complexPaths = GeneratorUtils.getComplexPaths(openAPIDef);
@@ -419,32 +451,51 @@ public class BallerinaCodeGenerator {
                 .withOpenAPI(normalizedOpenAPI)
                 .withResourceMode(isResource)
                 .withStatusCodeBinding(options.statusCodeBinding)
+                .withNativeSerializers(options.nativeSerializers)
                 .withMock(options.isMock)
                 .build();
         //Take default DO NOT modify
         licenseHeader = licenseHeader.isBlank() ? DO_NOT_MODIFY_FILE_HEADER : licenseHeader;
-        TypeHandler.createInstance(normalizedOpenAPI, options.nullable);
-        BallerinaClientGenerator clientGenerator = getBallerinaClientGenerator(oasClientConfig);
+        GenerationContext generationContext = GenerationContext.create(normalizedOpenAPI, options.nullable);
+        TypeHandler typeHandler = generationContext.getTypeHandler();
+        BallerinaClientGenerator clientGenerator = getBallerinaClientGenerator(oasClientConfig, generationContext);
         SyntaxTree syntaxTree = clientGenerator.generateSyntaxTree();
         //Update type definition list with auth related type definitions
         List<TypeDefinitionNode> authNodes = clientGenerator.getBallerinaAuthConfigGenerator()
                 .getAuthRelatedTypeDefinitionNodes();
         for (TypeDefinitionNode typeDef : authNodes) {
-            TypeHandler.getInstance().addTypeDefinitionNode(typeDef.typeName().text(), typeDef);
+            typeHandler.addTypeDefinitionNode(typeDef.typeName().text(), typeDef);
         }
 
-        if (options.singleFile) {
-            syntaxTree = generateSingleFileForClient(syntaxTree, clientGenerator);
-        } else {
-            generateFilesForClient(syntaxTree, sourceFiles, clientGenerator);
+        List<SyntaxTree> syntaxTrees = new ArrayList<>();
+        try (GenerationContext.Scope ignored = generationContext.enter()) {
+            if (options.singleFile) {
+                syntaxTree = generateSingleFileForClient(syntaxTree, clientGenerator, typeHandler);
+            } else {
+                syntaxTrees.addAll(generateFilesForClient(syntaxTree, clientGenerator, typeHandler));
+            }
         }
 
         //Type diagnostic
-        List<Diagnostic> diagnosticList = TypeHandler.getInstance().getDiagnostics();
+        List<Diagnostic> diagnosticList = typeHandler.getDiagnostics();
         // Generate test boilerplate code for test cases
+        BallerinaTestGenerator ballerinaTestGenerator = null;
         if (this.includeTestFiles) {
-            BallerinaTestGenerator ballerinaTestGenerator = new BallerinaTestGenerator(clientGenerator);
-            String testContent = Formatter.format(ballerinaTestGenerator.generateSyntaxTree()).toSourceCode();
+            ballerinaTestGenerator = new BallerinaTestGenerator(clientGenerator);
+            try (GenerationContext.Scope ignored = generationContext.enter()) {
+                syntaxTrees.add(ballerinaTestGenerator.generateSyntaxTree());
+            }
+        }
+        if (options.singleFile) {
+            syntaxTrees.add(syntaxTree);
+        }
+        // The generated syntax trees are independent of each other, hence they are formatted concurrently.
+        Iterator<String> contents = SourceFormatter.format(syntaxTrees).iterator();
+        if (!options.singleFile) {
+            addClientFiles(sourceFiles, contents.next(), contents.next(), contents.next());
+        }
+        if (ballerinaTestGenerator != null) {
+            String testContent = contents.next();
             sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, srcPackage, TEST_FILE_NAME,
                     licenseHeader + testContent));
 
@@ -462,7 +513,7 @@ public class BallerinaCodeGenerator {
         printDiagnostic(diagnosticList);
         if (options.singleFile) {
             sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, srcPackage,
-                    CLIENT_FILE_NAME, licenseHeader + Formatter.format(syntaxTree).toSourceCode()));
+                    CLIENT_FILE_NAME, licenseHeader + contents.next()));
         }
         return sourceFiles;
     }
@@ -477,33 +528,45 @@ public class BallerinaCodeGenerator {
      *  @param singleFile             Enable singleFile option to generate all content in a single file
      *  @param isSanitizedOas               Enable isSanitizedOas option to modify the OAS to follow the Ballerina
      *                                      language best practices
+     *  @param nativeSerializers      Enable nativeSerializers option to serialize the query parameters and the
+     *                                URL-encoded request bodies with the client native library
      */
     public record ClientGeneratorOptions(boolean nullable, boolean isResource, boolean statusCodeBinding,
-                                         boolean isMock, boolean singleFile, boolean isSanitizedOas) { }
+                                         boolean isMock, boolean singleFile, boolean isSanitizedOas,
+                                         boolean nativeSerializers) {
+
+        public ClientGeneratorOptions(boolean nullable, boolean isResource, boolean statusCodeBinding,
+                                      boolean isMock, boolean singleFile, boolean isSanitizedOas) {
+            this(nullable, isResource, statusCodeBinding, isMock, singleFile, isSanitizedOas, false);
+        }
+    }
 
-    private void generateFilesForClient(SyntaxTree syntaxTree, List<GenSrcFile> sourceFiles,
-                                        BallerinaClientGenerator clientGenerator) throws FormatterException,
-            IOException {
-        String mainContent = Formatter.format(syntaxTree).toSourceCode();
+    private static List<SyntaxTree> generateFilesForClient(SyntaxTree syntaxTree,
+                                                           BallerinaClientGenerator clientGenerator,
+                                                           TypeHandler typeHandler) throws IOException {
+        SyntaxTree utilSyntaxTree = clientGenerator.getBallerinaUtilGenerator().generateUtilSyntaxTree();
+        // Generate ballerina records to represent schemas.
+        SyntaxTree schemaSyntaxTree = typeHandler.generateTypeSyntaxTree();
+        return List.of(syntaxTree, utilSyntaxTree, schemaSyntaxTree);
+    }
+
+    private void addClientFiles(List<GenSrcFile> sourceFiles, String mainContent, String utilContent,
+                                String schemaContent) {
         sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, srcPackage, CLIENT_FILE_NAME,
                 licenseHeader + mainContent));
-        String utilContent = Formatter.format(
-                clientGenerator.getBallerinaUtilGenerator().generateUtilSyntaxTree()).toString();
         if (!utilContent.isBlank()) {
             sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.UTIL_SRC, srcPackage, UTIL_FILE_NAME,
                     licenseHeader + utilContent));
         }
-        // Generate ballerina records to represent schemas.
-        SyntaxTree schemaSyntaxTree = TypeHandler.getInstance().generateTypeSyntaxTree();
-        String schemaContent = Formatter.format(schemaSyntaxTree).toSourceCode();
         generateSchemaFile(sourceFiles, schemaContent, licenseHeader);
     }
 
     private static SyntaxTree generateSingleFileForClient(SyntaxTree syntaxTree,
-                                                          BallerinaClientGenerator clientGenerator) throws IOException {
+                                                          BallerinaClientGenerator clientGenerator,
+                                                          TypeHandler typeHandler) throws IOException {
         syntaxTree = SingleFileGenerator.combineSyntaxTrees(syntaxTree,
                 clientGenerator.getBallerinaUtilGenerator().generateUtilSyntaxTree(),
-                TypeHandler.getInstance().generateTypeSyntaxTree());
+                typeHandler.generateTypeSyntaxTree());
         return syntaxTree;
     }
 
@@ -514,20 +577,21 @@ public class BallerinaCodeGenerator {
         }
     }
 
-    private static BallerinaClientGenerator getBallerinaClientGenerator(OASClientConfig oasClientConfig) {
+    private static BallerinaClientGenerator getBallerinaClientGenerator(OASClientConfig oasClientConfig,
+                                                                        GenerationContext generationContext) {
         boolean statusCodeBinding = oasClientConfig.isStatusCodeBinding();
         boolean isMock = oasClientConfig.isMock();
 
         if (statusCodeBinding && isMock) {
-            return new AdvanceMockClientGenerator(oasClientConfig);
+            return new AdvanceMockClientGenerator(oasClientConfig, generationContext);
         }
         if (statusCodeBinding) {
-            return new BallerinaClientGeneratorWithStatusCodeBinding(oasClientConfig);
+            return new BallerinaClientGeneratorWithStatusCodeBinding(oasClientConfig, generationContext);
         }
         if (isMock) {
-            return new BallerinaMockClientGenerator(oasClientConfig);
+            return new BallerinaMockClientGenerator(oasClientConfig, generationContext);
         }
-        return new BallerinaClientGenerator(oasClientConfig);
+        return new BallerinaClientGenerator(oasClientConfig, generationContext);
     }
 
 
@@ -575,29 +639,30 @@ public class BallerinaCodeGenerator {
                 .withSrcFile(srcFile)
                 .withSrcPackage(srcPackage)
                 .build();
-        TypeHandler.createInstance(openAPIDef, options.nullable);
-        ServiceGenerationHandler serviceGenerationHandler = new ServiceGenerationHandler();
+        GenerationContext generationContext = GenerationContext.create(openAPIDef, options.nullable);
+        TypeHandler typeHandler = generationContext.getTypeHandler();
+        ServiceGenerationHandler serviceGenerationHandler = new ServiceGenerationHandler(generationContext);
         List<GenSrcFile> sourceFiles = new ArrayList<>();
         if (options.singleFile) {
-            generateSingleFileForService(serviceGenerationHandler, oasServiceMetadata, sourceFiles);
+            generateSingleFileForService(serviceGenerationHandler, typeHandler, oasServiceMetadata, sourceFiles);
         } else {
-            sourceFiles = generateFilesForService(serviceGenerationHandler, oasServiceMetadata);
+            sourceFiles = generateFilesForService(serviceGenerationHandler, typeHandler, oasServiceMetadata);
         }
 
         this.diagnostics.addAll(serviceGenerationHandler.getDiagnostics());
-        this.diagnostics.addAll(TypeHandler.getInstance().getDiagnostics());
+        this.diagnostics.addAll(typeHandler.getDiagnostics());
         printDiagnostic(diagnostics);
         return sourceFiles;
     }
 
     private static List<GenSrcFile> generateFilesForService(ServiceGenerationHandler serviceGenerationHandler,
+                                                            TypeHandler typeHandler,
                                                             OASServiceMetadata oasServiceMetadata) throws
             FormatterException, BallerinaOpenApiException {
         List<GenSrcFile> sourceFiles;
         sourceFiles = serviceGenerationHandler.generateServiceFiles(oasServiceMetadata);
         if (!oasServiceMetadata.generateWithoutDataBinding()) {
-            String schemaSyntaxTree = Formatter.format(TypeHandler.getInstance()
-                    .generateTypeSyntaxTree()).toSourceCode();
+            String schemaSyntaxTree = SourceFormatter.format(typeHandler.generateTypeSyntaxTree()).get(0);
             if (!schemaSyntaxTree.isBlank()) {
                 sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.MODEL_SRC, oasServiceMetadata.getSrcPackage(),
                         GeneratorConstants.TYPE_FILE_NAME,
@@ -609,18 +674,18 @@ public class BallerinaCodeGenerator {
     }
 
     private static void generateSingleFileForService(ServiceGenerationHandler serviceGenerationHandler,
+                                                     TypeHandler typeHandler,
                                                      OASServiceMetadata oasServiceMetadata,
                                                      List<GenSrcFile> sourceFiles) throws
             BallerinaOpenApiException, FormatterException {
         SyntaxTree syntaxTree = serviceGenerationHandler.generateSingleSyntaxTree(oasServiceMetadata);
         if (!oasServiceMetadata.generateWithoutDataBinding()) {
-            syntaxTree = SingleFileGenerator.combineSyntaxTrees(syntaxTree,
-                    TypeHandler.getInstance().generateTypeSyntaxTree());
+            syntaxTree = SingleFileGenerator.combineSyntaxTrees(syntaxTree, typeHandler.generateTypeSyntaxTree());
         }
         sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, oasServiceMetadata.getSrcPackage(),
                 oasServiceMetadata.getSrcFile(),
                 (oasServiceMetadata.getLicenseHeader().isBlank() ? DEFAULT_FILE_HEADER :
-                        oasServiceMetadata.getLicenseHeader()) + Formatter.format(syntaxTree).toSourceCode()));
+                        oasServiceMetadata.getLicenseHeader()) + SourceFormatter.format(syntaxTree).get(0)));
     }
 
     private void printDiagnostic(List<Diagnostic> diagnostics) {
@@ -664,17 +729,4 @@ public class BallerinaCodeGenerator {
     private static Path getImplPath(String pkg, Path srcPath) {
         return (pkg == null || pkg.isEmpty()) ? srcPath : srcPath.getParent();
     }
-
-    /**
-     * Writes a file with content to specified {@code filePath}.
-     *
-     * @param filePath valid file path to write the content
-     * @param content  content of the file
-     * @throws IOException when a file operation fails
-     */
-    private static void writeFile(Path filePath, String content) throws IOException {
-        try (FileWriter writer = new FileWriter(filePath.toString(), StandardCharsets.UTF_8)) {
-            writer.write(content);
-        }
-    }
 }
@@ -66,6 +66,11 @@ public class BaseCmd {
             "generation by modifying the given OAS to follow the Ballerina language best practices.")
     public boolean useSanitized;
 
+    @CommandLine.Option(names = {"--native-serializers"}, hidden = true, description = "Generate the client with " +
+            "the query parameter and the URL-encoded request body serializers of the client native library. This " +
+            "option is only available with the '--status-code-binding' option.")
+    public boolean nativeSerializers;
+
     /**
      * Exit with error code 1.
      *
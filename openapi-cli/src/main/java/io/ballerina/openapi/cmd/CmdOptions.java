@@ -37,6 +37,7 @@ public class CmdOptions {
     private boolean statusCodeBinding;
     private boolean mock;
     private boolean singleFile;
+    private boolean nativeSerializers;
 
     private CmdOptions(CmdOptionsBuilder builder) {
         this.input = builder.input;
@@ -52,6 +53,7 @@ public class CmdOptions {
         this.statusCodeBinding = builder.statusCodeBinding;
         this.mock = builder.mock;
         this.singleFile = builder.singleFile;
+        this.nativeSerializers = builder.nativeSerializers;
     }
 
     public String getInput() {
@@ -107,6 +109,10 @@ public class CmdOptions {
         return singleFile;
     }
 
+    public boolean getNativeSerializers() {
+        return nativeSerializers;
+    }
+
     /**
      * CMD options builder class.
      */
@@ -124,6 +130,7 @@ public class CmdOptions {
         private boolean statusCodeBinding;
         private boolean mock;
         private boolean singleFile;
+        private boolean nativeSerializers;
 
         public CmdOptionsBuilder withOutputModule(String outputModule) {
             this.outputModule = outputModule;
@@ -190,6 +197,11 @@ public class CmdOptions {
             return this;
         }
 
+        public CmdOptionsBuilder withNativeSerializers(boolean nativeSerializers) {
+            this.nativeSerializers = nativeSerializers;
+            return this;
+        }
+
         public CmdOptions build() {
             return new CmdOptions(this);
         }
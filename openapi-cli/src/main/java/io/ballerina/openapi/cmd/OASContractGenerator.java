@@ -63,6 +63,7 @@ public class OASContractGenerator {
     private PrintStream outStream = System.out;
     private Boolean ballerinaExtension = false;
     private ProjectEnvironmentBuilder environmentBuilder = null;
+    private boolean hasGenerationErrors = false;
 
     /**
      * Initialize constructor.
@@ -133,40 +134,15 @@ public class OASContractGenerator {
             return;
         }
         semanticModel = compilation.getSemanticModel(docId.moduleId());
+        // Each definition is written while the remaining services are being mapped.
+        List<String> fileNames = new ArrayList<>();
+        hasGenerationErrors = false;
         List<OASResult> openAPIDefinitions = ServiceToOpenAPIMapper.generateOAS3Definition(project, syntaxTree,
-                semanticModel, serviceName, needJson, inputPath, ballerinaExtension);
+                semanticModel, serviceName, needJson, inputPath, ballerinaExtension,
+                definition -> writeDefinition(definition, outPath, needJson, fileNames));
 
         if (!openAPIDefinitions.isEmpty()) {
-            List<String> fileNames = new ArrayList<>();
-            for (OASResult definition : openAPIDefinitions) {
-                try {
-                    List<OpenAPIMapperDiagnostic> definitionDiagnostics = definition.getDiagnostics();
-                    boolean hasErrors = definitionDiagnostics.stream()
-                            .anyMatch(d -> DiagnosticSeverity.ERROR.equals(d.getDiagnosticSeverity()));
-                    this.diagnostics.addAll(definition.getDiagnostics());
-                    if (hasErrors) {
-                        outStream.println("openapi contract generation skipped due to the following code generation " +
-                                "error(s):");
-                        return;
-                    }
-                    if (definition.getOpenAPI().isPresent()) {
-                        Optional<String> content;
-                        if (needJson) {
-                            content = definition.getJson();
-                        } else {
-                            content = definition.getYaml();
-                        }
-                        String fileName = resolveContractFileName(outPath, definition.getServiceName(), needJson);
-                        CodegenUtils.writeFile(outPath.resolve(fileName), content.get());
-                        fileNames.add(fileName);
-                    }
-                } catch (IOException e) {
-                    ExceptionDiagnostic error = new ExceptionDiagnostic(DiagnosticMessages.OAS_CONVERTOR_108,
-                            e.getLocalizedMessage());
-                    this.diagnostics.add(error);
-                }
-            }
-            if (fileNames.isEmpty()) {
+            if (hasGenerationErrors || fileNames.isEmpty()) {
                 return;
             }
             outStream.println("OpenAPI definition(s) generated successfully and copied to :");
@@ -179,4 +155,41 @@ public class OASContractGenerator {
             this.diagnostics.add(error);
         }
     }
+
+    /**
+     * Writes the given definition to the output directory. Once a definition has errors, the definitions after it
+     * are not written.
+     */
+    private void writeDefinition(OASResult definition, Path outPath, Boolean needJson, List<String> fileNames) {
+        if (hasGenerationErrors) {
+            return;
+        }
+        try {
+            List<OpenAPIMapperDiagnostic> definitionDiagnostics = definition.getDiagnostics();
+            boolean hasErrors = definitionDiagnostics.stream()
+                    .anyMatch(d -> DiagnosticSeverity.ERROR.equals(d.getDiagnosticSeverity()));
+            this.diagnostics.addAll(definition.getDiagnostics());
+            if (hasErrors) {
+                outStream.println("openapi contract generation skipped due to the following code generation " +
+                        "error(s):");
+                hasGenerationErrors = true;
+                return;
+            }
+            if (definition.getOpenAPI().isPresent()) {
+                Optional<String> content;
+                if (needJson) {
+                    content = definition.getJson();
+                } else {
+                    content = definition.getYaml();
+                }
+                String fileName = resolveContractFileName(outPath, definition.getServiceName(), needJson);
+                CodegenUtils.writeFile(outPath.resolve(fileName), content.get());
+                fileNames.add(fileName);
+            }
+        } catch (IOException e) {
+            ExceptionDiagnostic error = new ExceptionDiagnostic(DiagnosticMessages.OAS_CONVERTOR_108,
+                    e.getLocalizedMessage());
+            this.diagnostics.add(error);
+        }
+    }
 }
@@ -21,6 +21,7 @@ import io.ballerina.cli.BLauncherCmd;
 import io.ballerina.openapi.cmd.BallerinaCodeGenerator.ClientServiceGeneratorOptions;
 import io.ballerina.openapi.cmd.BallerinaCodeGenerator.ServiceGeneratorOptions;
 import io.ballerina.openapi.core.generators.client.exception.ClientException;
+import io.ballerina.openapi.core.generators.common.GenerationProfiler;
 import io.ballerina.openapi.core.generators.common.exception.BallerinaOpenApiException;
 import io.ballerina.openapi.core.generators.common.model.Filter;
 import io.ballerina.openapi.core.generators.type.exception.OASTypeGenException;
@@ -131,6 +132,10 @@ public class OpenApiCmd implements BLauncherCmd {
     @CommandLine.Option(names = {"--with-bal-ext"}, hidden = true, description = "Generate ballerina type extensions")
     private boolean addBallerinaExtension;
 
+    @CommandLine.Option(names = {"--profile"}, hidden = true,
+            description = "Print the time and the memory spent in each phase of the generation")
+    private boolean profile;
+
 
     @CommandLine.Parameters
     private List<String> argList;
@@ -265,18 +270,28 @@ public class OpenApiCmd implements BLauncherCmd {
                 }
             }
 
+            if (baseCmd.nativeSerializers && !baseCmd.statusCodeBinding) {
+                outStream.println("the '--native-serializers' option is only available with the " +
+                        "'--status-code-binding' option.");
+                exitError(this.exitWhenFinish);
+            }
+
             if (addBallerinaExtension) {
                 outStream.println("'--with-bal-ext' option is only available in OpenAPI specification " +
                         "generation mode.");
                 exitError(this.exitWhenFinish);
             }
 
-            try {
+            GenerationProfiler profiler = profile ? new GenerationProfiler() : null;
+            try (GenerationProfiler.Scope ignored = GenerationProfiler.enter(profiler)) {
                 openApiToBallerina(fileName, filter);
             } catch (IOException e) {
                 outStream.println(e.getLocalizedMessage());
                 exitError(this.exitWhenFinish);
             }
+            if (profiler != null) {
+                outStream.println(profiler.toReport());
+            }
         } else if (fileName.endsWith(BAL_EXTENSION)) {
             // Add the resource flag enable
             if (baseCmd.generateClientMethods != null && !baseCmd.generateClientMethods.isBlank()) {
@@ -450,7 +465,8 @@ public class OpenApiCmd implements BLauncherCmd {
         try {
             generator.generateClient(resourcePath.toString(), targetOutputPath.toString(), filter,
                     new BallerinaCodeGenerator.ClientGeneratorOptions(baseCmd.nullable, resourceMode,
-                            statusCodeBinding, baseCmd.mock, baseCmd.singleFile, baseCmd.useSanitized));
+                            statusCodeBinding, baseCmd.mock, baseCmd.singleFile, baseCmd.useSanitized,
+                            statusCodeBinding && baseCmd.nativeSerializers));
         } catch (IOException | FormatterException | BallerinaOpenApiException |
                  OASTypeGenException e) {
             if (e.getLocalizedMessage() != null) {
@@ -505,7 +521,8 @@ public class OpenApiCmd implements BLauncherCmd {
             assert resourcePath != null;
             ClientServiceGeneratorOptions options = new ClientServiceGeneratorOptions(baseCmd.nullable,
                     generateClientResourceFunctions, generateServiceType, generateServiceContract,
-                    generateWithoutDataBinding, statusCodeBinding, baseCmd.mock, baseCmd.useSanitized);
+                    generateWithoutDataBinding, statusCodeBinding, baseCmd.mock, baseCmd.useSanitized,
+                    statusCodeBinding && baseCmd.nativeSerializers);
             generator.generateClientAndService(resourcePath.toString(), fileName, targetOutputPath.toString(), filter,
                     options);
         } catch (BallerinaOpenApiException e) {
@@ -921,6 +921,19 @@ public class OpenAPICmdTest extends OpenAPICommandTest {
         Assert.assertTrue(tomlContent.contains(generatedTool));
     }
 
+    @Test(description = "Test the native serializers option without the status code binding option")
+    public void testNativeSerializersWithoutStatusCodeBinding() throws IOException {
+        Path yamlContract = resourceDir.resolve(Paths.get("petstore.yaml"));
+        String[] args = {"--input", yamlContract.toString(), "-o", this.tmpDir.toString(), "--mode", "client",
+                "--native-serializers"};
+        OpenApiCmd cmd = new OpenApiCmd(printStream, tmpDir, false);
+        new CommandLine(cmd).parseArgs(args);
+        cmd.execute();
+        String output = readOutput(true);
+        Assert.assertTrue(output.contains("the '--native-serializers' option is only available with the " +
+                "'--status-code-binding' option."));
+    }
+
     @Test(description = "Test openapi flatten sub command with default options with the json file")
     public void testFlattenCmdDefaultJson() throws IOException {
         Path expectedFilePath = resourceDir.resolve(Paths.get("cmd/flatten/flattened_openapi_expected.json"));
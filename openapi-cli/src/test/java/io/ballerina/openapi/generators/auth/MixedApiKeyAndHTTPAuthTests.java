@@ -26,6 +26,7 @@ import io.ballerina.openapi.core.generators.client.AuthConfigGeneratorImp;
 import io.ballerina.openapi.core.generators.client.BallerinaClientGenerator;
 import io.ballerina.openapi.core.generators.client.exception.ClientException;
 import io.ballerina.openapi.core.generators.client.model.OASClientConfig;
+import io.ballerina.openapi.core.generators.common.GenerationContext;
 import io.ballerina.openapi.core.generators.common.GeneratorUtils;
 import io.ballerina.openapi.core.generators.common.TypeHandler;
 import io.ballerina.openapi.core.generators.common.exception.BallerinaOpenApiException;
@@ -61,25 +62,26 @@ public class MixedApiKeyAndHTTPAuthTests {
         Optional<TypeDefinitionNode> connectionConfig = authRelatedTypeDefinitionNodes.stream()
                 .filter(typeDefinitionNode -> typeDefinitionNode.typeName().text().equals("ConnectionConfig"))
                 .findFirst();
-        TypeHandler.createInstance(openAPI, false);
-        OASClientConfig.Builder clientMetaDataBuilder = new OASClientConfig.Builder();
-        OASClientConfig oasClientConfig = clientMetaDataBuilder
-                .withFilters(new Filter())
-                .withOpenAPI(openAPI)
-                .withResourceMode(false).build();
-        BallerinaClientGenerator ballerinaClientGenerator = new BallerinaClientGenerator(oasClientConfig);
-        SyntaxTree syntaxTree = ballerinaClientGenerator.generateSyntaxTree();
-        Assert.assertTrue(syntaxTree.toSourceCode().trim().replaceAll("\\s+", "")
-                .contains(MIXED_AUTH_INIT_STATEMENTS.trim().replaceAll("\\s+", "")));
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, false)) {
+            OASClientConfig.Builder clientMetaDataBuilder = new OASClientConfig.Builder();
+            OASClientConfig oasClientConfig = clientMetaDataBuilder
+                    .withFilters(new Filter())
+                    .withOpenAPI(openAPI)
+                    .withResourceMode(false).build();
+            BallerinaClientGenerator ballerinaClientGenerator = new BallerinaClientGenerator(oasClientConfig);
+            SyntaxTree syntaxTree = ballerinaClientGenerator.generateSyntaxTree();
+            Assert.assertTrue(syntaxTree.toSourceCode().trim().replaceAll("\\s+", "")
+                    .contains(MIXED_AUTH_INIT_STATEMENTS.trim().replaceAll("\\s+", "")));
 
-        if (connectionConfig.isPresent()) {
-            String expectedRecord = TestConstants.CONNECTION_CONFIG_MIXED_AUTH;
-            String generatedRecord = connectionConfig.get().toString();
-            generatedRecord = (generatedRecord.trim()).replaceAll("\\s+", "");
-            expectedRecord = (expectedRecord.trim()).replaceAll("\\s+", "");
-            Assert.assertEquals(generatedRecord, expectedRecord);
-        } else {
-            Assert.fail();
+            if (connectionConfig.isPresent()) {
+                String expectedRecord = TestConstants.CONNECTION_CONFIG_MIXED_AUTH;
+                String generatedRecord = connectionConfig.get().toString();
+                generatedRecord = (generatedRecord.trim()).replaceAll("\\s+", "");
+                expectedRecord = (expectedRecord.trim()).replaceAll("\\s+", "");
+                Assert.assertEquals(generatedRecord, expectedRecord);
+            } else {
+                Assert.fail();
+            }
         }
     }
 
@@ -19,6 +19,7 @@
 package io.ballerina.openapi.generators.client;
 
 import io.ballerina.openapi.core.generators.client.FunctionReturnTypeGeneratorImp;
+import io.ballerina.openapi.core.generators.common.GenerationContext;
 import io.ballerina.openapi.core.generators.common.TypeHandler;
 import io.ballerina.openapi.core.generators.common.exception.BallerinaOpenApiException;
 import io.swagger.v3.oas.models.OpenAPI;
@@ -43,65 +44,76 @@ public class AllOfResponsesTests {
     @Test(description = "Tests for returnType")
     public void getReturnTypeTests() throws IOException, BallerinaOpenApiException {
         OpenAPI response = getOpenAPI(RES_DIR.resolve("swagger/return_type/response_with_allof_reference.yaml"));
-        TypeHandler.createInstance(response, false);
-        FunctionReturnTypeGeneratorImp functionReturnType = new FunctionReturnTypeGeneratorImp(
-                response.getPaths().get("/products").getGet(), response, "get");
-        assertEquals(functionReturnType.getReturnType().get().type().toString(), "inline_response_200|error");
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(response, false)) {
+            FunctionReturnTypeGeneratorImp functionReturnType = new FunctionReturnTypeGeneratorImp(
+                    response.getPaths().get("/products").getGet(), response, "get");
+            assertEquals(functionReturnType.getReturnType().get().type().toString(), "inline_response_200|error");
+        }
     }
 
     @Test(description = "Tests for returnType")
     public void getReturnTypeForAllOf() throws IOException, BallerinaOpenApiException {
         OpenAPI response = getOpenAPI(RES_DIR.resolve("swagger/return_type/inline_all_of_response.yaml"));
-        TypeHandler.createInstance(response, false);
-        Operation post = response.getPaths().get("/users/{userId}/meetings").getPost();
-        FunctionReturnTypeGeneratorImp functionReturnType = new FunctionReturnTypeGeneratorImp(post, response, "post");
-        assertEquals(functionReturnType.getReturnType().get().type().toString(), "inline_response_201|error?");
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(response, false)) {
+            Operation post = response.getPaths().get("/users/{userId}/meetings").getPost();
+            FunctionReturnTypeGeneratorImp functionReturnType = new FunctionReturnTypeGeneratorImp(post, response,
+                    "post");
+            assertEquals(functionReturnType.getReturnType().get().type().toString(), "inline_response_201|error?");
+        }
     }
 
     @Test(description = "Tests for the object response without property")
     public void getReturnTypeForObjectSchema() throws IOException, BallerinaOpenApiException {
         OpenAPI response = getOpenAPI(RES_DIR.resolve("swagger/return_type/" +
                 "response_without_properties_with_additional.yaml"));
-        TypeHandler.createInstance(response, false);
-        Operation get = response.getPaths().get("/products").getGet();
-        FunctionReturnTypeGeneratorImp functionReturnType = new FunctionReturnTypeGeneratorImp(get, response, "get");
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(response, false)) {
+            Operation get = response.getPaths().get("/products").getGet();
+            FunctionReturnTypeGeneratorImp functionReturnType = new FunctionReturnTypeGeneratorImp(get, response,
+                    "get");
 
-        String returnType = functionReturnType.getReturnType().get().type().toString();
-        Assert.assertEquals(returnType, "record{|string...;|}|error");
+            String returnType = functionReturnType.getReturnType().get().type().toString();
+            Assert.assertEquals(returnType, "record{|string...;|}|error");
+        }
     }
 
     @Test(description = "Tests for the object response without property")
     public void getReturnTypeForMapSchema() throws IOException, BallerinaOpenApiException {
         OpenAPI response = getOpenAPI(RES_DIR.resolve("swagger/return_type/response_with_properties_with_additional" +
                 ".yaml"));
-        TypeHandler.createInstance(response, false);
-        Operation get = response.getPaths().get("/products").getGet();
-        FunctionReturnTypeGeneratorImp functionReturnType = new FunctionReturnTypeGeneratorImp(get, response, "get");
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(response, false)) {
+            Operation get = response.getPaths().get("/products").getGet();
+            FunctionReturnTypeGeneratorImp functionReturnType = new FunctionReturnTypeGeneratorImp(get, response,
+                    "get");
 
-        String returnType = functionReturnType.getReturnType().get().type().toString();
-        Assert.assertEquals(returnType, "inline_response_200|error");
+            String returnType = functionReturnType.getReturnType().get().type().toString();
+            Assert.assertEquals(returnType, "inline_response_200|error");
+        }
     }
 
     @Test(description = "Tests for the object response without property and without additional properties")
     public void getReturnTypeForObjectSchemaWithOutAdditional() throws IOException, BallerinaOpenApiException {
         OpenAPI response = getOpenAPI(RES_DIR.resolve("swagger/return_type" +
                 "/response_without_properties_without_additional.yaml"));
-        TypeHandler.createInstance(response, false);
-        Operation get = response.getPaths().get("/products").getGet();
-        FunctionReturnTypeGeneratorImp functionReturnType = new FunctionReturnTypeGeneratorImp(get, response, "get");
-        String returnType = functionReturnType.getReturnType().get().type().toString();
-        Assert.assertEquals(returnType, "record{}|error");
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(response, false)) {
+            Operation get = response.getPaths().get("/products").getGet();
+            FunctionReturnTypeGeneratorImp functionReturnType = new FunctionReturnTypeGeneratorImp(get, response,
+                    "get");
+            String returnType = functionReturnType.getReturnType().get().type().toString();
+            Assert.assertEquals(returnType, "record{}|error");
+        }
     }
 
     @Test(description = "Tests for the map response with property without additional properties")
     public void getReturnTypeForMapSchemaWithOutAdditionalProperties() throws IOException, BallerinaOpenApiException {
         OpenAPI response = getOpenAPI(RES_DIR.resolve("swagger/return_type/" +
                 "response_with_properties_without_additional.yaml"));
-        TypeHandler.createInstance(response, false);
-        Operation get = response.getPaths().get("/products").getGet();
-        FunctionReturnTypeGeneratorImp functionReturnType = new FunctionReturnTypeGeneratorImp(get, response, "get");
-        String returnType = functionReturnType.getReturnType().get().type().toString();
-        Assert.assertEquals(returnType, "inline_response_200|error");
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(response, false)) {
+            Operation get = response.getPaths().get("/products").getGet();
+            FunctionReturnTypeGeneratorImp functionReturnType = new FunctionReturnTypeGeneratorImp(get, response,
+                    "get");
+            String returnType = functionReturnType.getReturnType().get().type().toString();
+            Assert.assertEquals(returnType, "inline_response_200|error");
+        }
     }
     // 1. nested allof
     // 2. allof with reference
@@ -24,6 +24,7 @@ import io.ballerina.compiler.syntax.tree.SyntaxTree;
 import io.ballerina.openapi.core.generators.client.BallerinaClientGenerator;
 import io.ballerina.openapi.core.generators.client.exception.ClientException;
 import io.ballerina.openapi.core.generators.client.model.OASClientConfig;
+import io.ballerina.openapi.core.generators.common.GenerationContext;
 import io.ballerina.openapi.core.generators.common.GeneratorUtils;
 import io.ballerina.openapi.core.generators.common.TypeHandler;
 import io.ballerina.openapi.core.generators.common.exception.BallerinaOpenApiException;
@@ -57,43 +58,46 @@ public class AnnotationTests {
     public void extractDisplayAnnotationTests() throws IOException, BallerinaOpenApiException {
         Path definitionPath = RESDIR.resolve("swagger/openapi_display_annotation.yaml");
         OpenAPI display = getOpenAPI(definitionPath);
-        TypeHandler.createInstance(display, false);
-        Map<String, Object> param01 =
-                display.getPaths().get("/weather").getGet().getParameters().get(0).getExtensions();
-        Map<String, Object> param02 =
-                display.getPaths().get("/weather").getGet().getParameters().get(1).getExtensions();
-        List<AnnotationNode> annotationNodes  = new ArrayList<>();
-        DocCommentsGeneratorUtil.extractDisplayAnnotation(param01, annotationNodes);
-        DocCommentsGeneratorUtil.extractDisplayAnnotation(param02, annotationNodes);
-        Assert.assertEquals(annotationNodes.get(0).annotValue().orElseThrow().toString().trim(),
-                "{label:\"City name\"}");
-        Assert.assertEquals(annotationNodes.size(), 1);
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(display, false)) {
+            Map<String, Object> param01 =
+                    display.getPaths().get("/weather").getGet().getParameters().get(0).getExtensions();
+            Map<String, Object> param02 =
+                    display.getPaths().get("/weather").getGet().getParameters().get(1).getExtensions();
+            List<AnnotationNode> annotationNodes  = new ArrayList<>();
+            DocCommentsGeneratorUtil.extractDisplayAnnotation(param01, annotationNodes);
+            DocCommentsGeneratorUtil.extractDisplayAnnotation(param02, annotationNodes);
+            Assert.assertEquals(annotationNodes.get(0).annotValue().orElseThrow().toString().trim(),
+                    "{label:\"City name\"}");
+            Assert.assertEquals(annotationNodes.size(), 1);
+        }
     }
 
     @Test(description = "Deprecated Annotation tests for parameters with x-ballerina-deprecated-reason")
     public void extractDisplayAnnotationInParametersWithReasonTest() throws IOException, BallerinaOpenApiException {
         Path definitionPath = RESDIR.resolve("swagger/deprecated_parameter.yaml");
         OpenAPI openAPI = getOpenAPI(definitionPath);
-        TypeHandler.createInstance(openAPI, false);
-        Map<String, Object> param01 =
-                openAPI.getPaths().get("/pets").getGet().getParameters().get(0).getExtensions();
-        List<AnnotationNode> annotationNodes  = new ArrayList<>();
-        List<Node> documentaion = new ArrayList<>();
-        DocCommentsGeneratorUtil.extractDeprecatedAnnotation(param01, documentaion, annotationNodes);
-        Assert.assertEquals(annotationNodes.get(0).annotReference().toString(), "deprecated");
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, false)) {
+            Map<String, Object> param01 =
+                    openAPI.getPaths().get("/pets").getGet().getParameters().get(0).getExtensions();
+            List<AnnotationNode> annotationNodes  = new ArrayList<>();
+            List<Node> documentaion = new ArrayList<>();
+            DocCommentsGeneratorUtil.extractDeprecatedAnnotation(param01, documentaion, annotationNodes);
+            Assert.assertEquals(annotationNodes.get(0).annotReference().toString(), "deprecated");
+        }
     }
 
     @Test(description = "Deprecated Annotation tests for parameters without deprecated reason")
     public void extractDisplayAnnotationInParametersTest() throws IOException, BallerinaOpenApiException {
         Path definitionPath = RESDIR.resolve("swagger/deprecated_parameter.yaml");
         OpenAPI openAPI = getOpenAPI(definitionPath);
-        TypeHandler.createInstance(openAPI, false);
-        Map<String, Object> param01 =
-                openAPI.getPaths().get("/pets").getGet().getParameters().get(1).getExtensions();
-        List<AnnotationNode> annotationNodes  = new ArrayList<>();
-        List<Node> documentaion = new ArrayList<>();
-        DocCommentsGeneratorUtil.extractDeprecatedAnnotation(param01, documentaion, annotationNodes);
-        Assert.assertEquals(annotationNodes.get(0).annotReference().toString(), "deprecated");
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, false)) {
+            Map<String, Object> param01 =
+                    openAPI.getPaths().get("/pets").getGet().getParameters().get(1).getExtensions();
+            List<AnnotationNode> annotationNodes  = new ArrayList<>();
+            List<Node> documentaion = new ArrayList<>();
+            DocCommentsGeneratorUtil.extractDeprecatedAnnotation(param01, documentaion, annotationNodes);
+            Assert.assertEquals(annotationNodes.get(0).annotReference().toString(), "deprecated");
+        }
     }
 
     @Test(description = "Test openAPI definition to ballerina client source code generation with deprecated annotation",
@@ -106,15 +110,16 @@ public class AnnotationTests {
         List<String> list2 = new ArrayList<>();
         Filter filter = new Filter(list1, list2);
         OpenAPI openAPI = GeneratorUtils.normalizeOpenAPI(definitionPath, true, false);
-        TypeHandler.createInstance(openAPI, false);
-        OASClientConfig.Builder clientMetaDataBuilder = new OASClientConfig.Builder();
-        OASClientConfig oasClientConfig = clientMetaDataBuilder
-                .withFilters(filter)
-                .withOpenAPI(openAPI)
-                .withResourceMode(false).build();
-        BallerinaClientGenerator ballerinaClientGenerator = new BallerinaClientGenerator(oasClientConfig);
-        SyntaxTree syntaxTree = ballerinaClientGenerator.generateSyntaxTree();
-        compareGeneratedSyntaxTreeWithExpectedSyntaxTree(expectedPath, syntaxTree);
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, false)) {
+            OASClientConfig.Builder clientMetaDataBuilder = new OASClientConfig.Builder();
+            OASClientConfig oasClientConfig = clientMetaDataBuilder
+                    .withFilters(filter)
+                    .withOpenAPI(openAPI)
+                    .withResourceMode(false).build();
+            BallerinaClientGenerator ballerinaClientGenerator = new BallerinaClientGenerator(oasClientConfig);
+            SyntaxTree syntaxTree = ballerinaClientGenerator.generateSyntaxTree();
+            compareGeneratedSyntaxTreeWithExpectedSyntaxTree(expectedPath, syntaxTree);
+        }
     }
 
     @DataProvider(name = "fileProviderForFilesComparison")
@@ -23,6 +23,7 @@ import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
 import io.ballerina.openapi.core.generators.client.BallerinaClientGenerator;
 import io.ballerina.openapi.core.generators.client.exception.ClientException;
 import io.ballerina.openapi.core.generators.client.model.OASClientConfig;
+import io.ballerina.openapi.core.generators.common.GenerationContext;
 import io.ballerina.openapi.core.generators.common.TypeHandler;
 import io.ballerina.openapi.core.generators.common.exception.BallerinaOpenApiException;
 import io.ballerina.openapi.core.generators.common.model.Filter;
@@ -65,24 +66,25 @@ public class BallerinaDiagnosticTests {
             BallerinaOpenApiException, OASTypeGenException, FormatterException, ClientException {
         Path definitionPath = RESDIR.resolve(yamlFile);
         OpenAPI openAPI = normalizeOpenAPI(definitionPath, true, SpecVersion.V30);
-        TypeHandler.createInstance(openAPI, false);
-        OASClientConfig.Builder clientMetaDataBuilder = new OASClientConfig.Builder();
-        OASClientConfig oasClientConfig = clientMetaDataBuilder
-                .withFilters(filter)
-                .withOpenAPI(openAPI)
-                .withResourceMode(false).build();
-        BallerinaClientGenerator ballerinaClientGenerator = new BallerinaClientGenerator(oasClientConfig);
-        syntaxTree = ballerinaClientGenerator.generateSyntaxTree();
-        List<TypeDefinitionNode> authNodes = ballerinaClientGenerator.getBallerinaAuthConfigGenerator()
-                .getAuthRelatedTypeDefinitionNodes();
-        for (TypeDefinitionNode typeDef: authNodes) {
-            TypeHandler.getInstance().addTypeDefinitionNode(typeDef.typeName().text(), typeDef);
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, false)) {
+            OASClientConfig.Builder clientMetaDataBuilder = new OASClientConfig.Builder();
+            OASClientConfig oasClientConfig = clientMetaDataBuilder
+                    .withFilters(filter)
+                    .withOpenAPI(openAPI)
+                    .withResourceMode(false).build();
+            BallerinaClientGenerator ballerinaClientGenerator = new BallerinaClientGenerator(oasClientConfig);
+            syntaxTree = ballerinaClientGenerator.generateSyntaxTree();
+            List<TypeDefinitionNode> authNodes = ballerinaClientGenerator.getBallerinaAuthConfigGenerator()
+                    .getAuthRelatedTypeDefinitionNodes();
+            for (TypeDefinitionNode typeDef: authNodes) {
+                TypeHandler.getInstance().addTypeDefinitionNode(typeDef.typeName().text(), typeDef);
+            }
+            SyntaxTree schemaSyntaxTree = TypeHandler.getInstance().generateTypeSyntaxTree();
+            List<Diagnostic> diagnostics = getDiagnostics(syntaxTree, schemaSyntaxTree, ballerinaClientGenerator);
+            boolean hasErrors = diagnostics.stream()
+                    .anyMatch(d -> DiagnosticSeverity.ERROR.equals(d.diagnosticInfo().severity()));
+            Assert.assertFalse(hasErrors);
         }
-        SyntaxTree schemaSyntaxTree = TypeHandler.getInstance().generateTypeSyntaxTree();
-        List<Diagnostic> diagnostics = getDiagnostics(syntaxTree, schemaSyntaxTree, ballerinaClientGenerator);
-        boolean hasErrors = diagnostics.stream()
-                .anyMatch(d -> DiagnosticSeverity.ERROR.equals(d.diagnosticInfo().severity()));
-        Assert.assertFalse(hasErrors);
     }
 
     @Test(description = "Test openAPI definition to ballerina client source code generation with resource functions",
@@ -92,24 +94,25 @@ public class BallerinaDiagnosticTests {
             FormatterException, ClientException {
         Path definitionPath = RESDIR.resolve(yamlFile);
         OpenAPI openAPI = normalizeOpenAPI(definitionPath, true, SpecVersion.V30);
-        TypeHandler.createInstance(openAPI, false);
-        OASClientConfig.Builder clientMetaDataBuilder = new OASClientConfig.Builder();
-        OASClientConfig oasClientConfig = clientMetaDataBuilder
-                .withFilters(filter)
-                .withOpenAPI(openAPI)
-                .withResourceMode(false).build();
-        BallerinaClientGenerator ballerinaClientGenerator = new BallerinaClientGenerator(oasClientConfig);
-        syntaxTree = ballerinaClientGenerator.generateSyntaxTree();
-        List<TypeDefinitionNode> authNodes = ballerinaClientGenerator.getBallerinaAuthConfigGenerator()
-                .getAuthRelatedTypeDefinitionNodes();
-        for (TypeDefinitionNode typeDef: authNodes) {
-            TypeHandler.getInstance().addTypeDefinitionNode(typeDef.typeName().text(), typeDef);
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, false)) {
+            OASClientConfig.Builder clientMetaDataBuilder = new OASClientConfig.Builder();
+            OASClientConfig oasClientConfig = clientMetaDataBuilder
+                    .withFilters(filter)
+                    .withOpenAPI(openAPI)
+                    .withResourceMode(false).build();
+            BallerinaClientGenerator ballerinaClientGenerator = new BallerinaClientGenerator(oasClientConfig);
+            syntaxTree = ballerinaClientGenerator.generateSyntaxTree();
+            List<TypeDefinitionNode> authNodes = ballerinaClientGenerator.getBallerinaAuthConfigGenerator()
+                    .getAuthRelatedTypeDefinitionNodes();
+            for (TypeDefinitionNode typeDef: authNodes) {
+                TypeHandler.getInstance().addTypeDefinitionNode(typeDef.typeName().text(), typeDef);
+            }
+            SyntaxTree schemaSyntaxTree = TypeHandler.getInstance().generateTypeSyntaxTree();
+            List<Diagnostic> diagnostics = getDiagnostics(syntaxTree, schemaSyntaxTree, ballerinaClientGenerator);
+            boolean hasErrors = diagnostics.stream()
+                    .anyMatch(d -> DiagnosticSeverity.ERROR.equals(d.diagnosticInfo().severity()));
+            Assert.assertFalse(hasErrors);
         }
-        SyntaxTree schemaSyntaxTree = TypeHandler.getInstance().generateTypeSyntaxTree();
-        List<Diagnostic> diagnostics = getDiagnostics(syntaxTree, schemaSyntaxTree, ballerinaClientGenerator);
-        boolean hasErrors = diagnostics.stream()
-                .anyMatch(d -> DiagnosticSeverity.ERROR.equals(d.diagnosticInfo().severity()));
-        Assert.assertFalse(hasErrors);
     }
 
     @Test(description = "Test OpenAPI 3.1 definition to ballerina client source code generation with remote functions",
@@ -119,24 +122,25 @@ public class BallerinaDiagnosticTests {
             , FormatterException, ClientException {
         Path definitionPath = RESDIR.resolve(yamlFile);
         OpenAPI openAPI = normalizeOpenAPI(definitionPath, true, SpecVersion.V31);
-        TypeHandler.createInstance(openAPI, false);
-        OASClientConfig.Builder clientMetaDataBuilder = new OASClientConfig.Builder();
-        OASClientConfig oasClientConfig = clientMetaDataBuilder
-                .withFilters(filter)
-                .withOpenAPI(openAPI)
-                .withResourceMode(false).build();
-        BallerinaClientGenerator ballerinaClientGenerator = new BallerinaClientGenerator(oasClientConfig);
-        syntaxTree = ballerinaClientGenerator.generateSyntaxTree();
-        List<TypeDefinitionNode> authNodes = ballerinaClientGenerator.getBallerinaAuthConfigGenerator().
-                getAuthRelatedTypeDefinitionNodes();
-        for (TypeDefinitionNode typeDef: authNodes) {
-            TypeHandler.getInstance().addTypeDefinitionNode(typeDef.typeName().text(), typeDef);
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, false)) {
+            OASClientConfig.Builder clientMetaDataBuilder = new OASClientConfig.Builder();
+            OASClientConfig oasClientConfig = clientMetaDataBuilder
+                    .withFilters(filter)
+                    .withOpenAPI(openAPI)
+                    .withResourceMode(false).build();
+            BallerinaClientGenerator ballerinaClientGenerator = new BallerinaClientGenerator(oasClientConfig);
+            syntaxTree = ballerinaClientGenerator.generateSyntaxTree();
+            List<TypeDefinitionNode> authNodes = ballerinaClientGenerator.getBallerinaAuthConfigGenerator().
+                    getAuthRelatedTypeDefinitionNodes();
+            for (TypeDefinitionNode typeDef: authNodes) {
+                TypeHandler.getInstance().addTypeDefinitionNode(typeDef.typeName().text(), typeDef);
+            }
+            SyntaxTree schemaSyntaxTree = TypeHandler.getInstance().generateTypeSyntaxTree();
+            List<Diagnostic> diagnostics = getDiagnostics(syntaxTree, schemaSyntaxTree, ballerinaClientGenerator);
+            boolean hasErrors = diagnostics.stream()
+                    .anyMatch(d -> DiagnosticSeverity.ERROR.equals(d.diagnosticInfo().severity()));
+            Assert.assertFalse(hasErrors);
         }
-        SyntaxTree schemaSyntaxTree = TypeHandler.getInstance().generateTypeSyntaxTree();
-        List<Diagnostic> diagnostics = getDiagnostics(syntaxTree, schemaSyntaxTree, ballerinaClientGenerator);
-        boolean hasErrors = diagnostics.stream()
-                .anyMatch(d -> DiagnosticSeverity.ERROR.equals(d.diagnosticInfo().severity()));
-        Assert.assertFalse(hasErrors);
     }
 
     @Test(description = "Test OpenAPI 3.1 definition to ballerina client source code generation " +
@@ -147,24 +151,25 @@ public class BallerinaDiagnosticTests {
             , FormatterException, ClientException {
         Path definitionPath = RESDIR.resolve(yamlFile);
         OpenAPI openAPI = normalizeOpenAPI(definitionPath, true, SpecVersion.V31);
-        TypeHandler.createInstance(openAPI, false);
-        OASClientConfig.Builder clientMetaDataBuilder = new OASClientConfig.Builder();
-        OASClientConfig oasClientConfig = clientMetaDataBuilder
-                .withFilters(filter)
-                .withOpenAPI(openAPI)
-                .withResourceMode(false).build();
-        BallerinaClientGenerator ballerinaClientGenerator = new BallerinaClientGenerator(oasClientConfig);
-        syntaxTree = ballerinaClientGenerator.generateSyntaxTree();
-        List<TypeDefinitionNode> authNodes = ballerinaClientGenerator.getBallerinaAuthConfigGenerator()
-                .getAuthRelatedTypeDefinitionNodes();
-        for (TypeDefinitionNode typeDef: authNodes) {
-            TypeHandler.getInstance().addTypeDefinitionNode(typeDef.typeName().text(), typeDef);
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, false)) {
+            OASClientConfig.Builder clientMetaDataBuilder = new OASClientConfig.Builder();
+            OASClientConfig oasClientConfig = clientMetaDataBuilder
+                    .withFilters(filter)
+                    .withOpenAPI(openAPI)
+                    .withResourceMode(false).build();
+            BallerinaClientGenerator ballerinaClientGenerator = new BallerinaClientGenerator(oasClientConfig);
+            syntaxTree = ballerinaClientGenerator.generateSyntaxTree();
+            List<TypeDefinitionNode> authNodes = ballerinaClientGenerator.getBallerinaAuthConfigGenerator()
+                    .getAuthRelatedTypeDefinitionNodes();
+            for (TypeDefinitionNode typeDef: authNodes) {
+                TypeHandler.getInstance().addTypeDefinitionNode(typeDef.typeName().text(), typeDef);
+            }
+            SyntaxTree schemaSyntaxTree = TypeHandler.getInstance().generateTypeSyntaxTree();
+            List<Diagnostic> diagnostics = getDiagnostics(syntaxTree, schemaSyntaxTree, ballerinaClientGenerator);
+            boolean hasErrors = diagnostics.stream()
+                    .anyMatch(d -> DiagnosticSeverity.ERROR.equals(d.diagnosticInfo().severity()));
+            Assert.assertFalse(hasErrors);
         }
-        SyntaxTree schemaSyntaxTree = TypeHandler.getInstance().generateTypeSyntaxTree();
-        List<Diagnostic> diagnostics = getDiagnostics(syntaxTree, schemaSyntaxTree, ballerinaClientGenerator);
-        boolean hasErrors = diagnostics.stream()
-                .anyMatch(d -> DiagnosticSeverity.ERROR.equals(d.diagnosticInfo().severity()));
-        Assert.assertFalse(hasErrors);
     }
 
     @DataProvider(name = "singleFileProviderForDiagnosticCheck")
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.openapi.generators.client;
+
+import io.ballerina.openapi.core.generators.client.BallerinaClientGenerator;
+import io.ballerina.openapi.core.generators.client.BallerinaClientGeneratorWithStatusCodeBinding;
+import io.ballerina.openapi.core.generators.client.diagnostic.ClientDiagnostic;
+import io.ballerina.openapi.core.generators.client.exception.ClientException;
+import io.ballerina.openapi.core.generators.client.model.OASClientConfig;
+import io.ballerina.openapi.core.generators.common.GenerationContext;
+import io.ballerina.openapi.core.generators.common.GeneratorUtils;
+import io.ballerina.openapi.core.generators.common.TypeHandler;
+import io.ballerina.openapi.core.generators.common.exception.BallerinaOpenApiException;
+import io.swagger.v3.oas.models.OpenAPI;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import static io.ballerina.openapi.TestUtils.FILTER;
+import static io.ballerina.openapi.core.generators.common.GeneratorConstants.CLIENT_PARALLELISM_PROPERTY;
+
+/**
+ * This contains the tests for generating the client functions of the operations concurrently.
+ */
+public class ClientFunctionShardsTests {
+    private static final Path RES_DIR = Paths.get("src/test/resources/generators/diagnostic_files/" +
+            "ballerinax_connector_tests").toAbsolutePath();
+
+    @AfterMethod
+    public void clearProperties() {
+        System.clearProperty(CLIENT_PARALLELISM_PROPERTY);
+    }
+
+    @Test(description = "Resource functions generated concurrently are the same as the sequentially generated ones")
+    public void testResourceFunctionsInShards() throws IOException, BallerinaOpenApiException, ClientException {
+        Assert.assertEquals(generate(true, false, "4"), generate(true, false, "1"));
+    }
+
+    @Test(description = "Remote functions with the status code binding generated concurrently are the same as the " +
+            "sequentially generated ones")
+    public void testStatusCodeBindingFunctionsInShards() throws IOException, BallerinaOpenApiException,
+            ClientException {
+        Assert.assertEquals(generate(false, true, "4"), generate(false, true, "1"));
+    }
+
+    /**
+     * Generates the client, the utils and the types of the definition, along with the names of the functions, the
+     * names of the schemas of the components and the diagnostics, with the given parallelism.
+     */
+    private static List<String> generate(boolean resourceMode, boolean statusCodeBinding, String parallelism)
+            throws IOException, BallerinaOpenApiException, ClientException {
+        System.setProperty(CLIENT_PARALLELISM_PROPERTY, parallelism);
+        // The definition is parsed for each generation, since the generators modify it.
+        OpenAPI openAPI = GeneratorUtils.normalizeOpenAPI(RES_DIR.resolve("soundcloud.yaml"), true, false);
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, false)) {
+            OASClientConfig oasClientConfig = new OASClientConfig.Builder()
+                    .withFilters(FILTER)
+                    .withOpenAPI(openAPI)
+                    .withResourceMode(resourceMode)
+                    .withStatusCodeBinding(statusCodeBinding).build();
+            BallerinaClientGenerator clientGenerator = statusCodeBinding ?
+                    new BallerinaClientGeneratorWithStatusCodeBinding(oasClientConfig) :
+                    new BallerinaClientGenerator(oasClientConfig);
+            String clientSource = clientGenerator.generateSyntaxTree().toSourceCode();
+            return List.of(clientSource,
+                    clientGenerator.getBallerinaUtilGenerator().generateUtilSyntaxTree().toSourceCode(),
+                    TypeHandler.getInstance().generateTypeSyntaxTree().toSourceCode(),
+                    String.join(",", clientGenerator.getRemoteFunctionNameList()),
+                    String.join(",", openAPI.getComponents().getSchemas().keySet()),
+                    String.join(",", clientGenerator.getDiagnostics().stream().map(ClientDiagnostic::getMessage)
+                            .toList()),
+                    String.join(",", TypeHandler.getInstance().getDiagnostics().stream()
+                            .map(diagnostic -> diagnostic.message()).toList()));
+        }
+    }
+}
@@ -23,6 +23,7 @@ import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
 import io.ballerina.openapi.core.generators.client.BallerinaClientGenerator;
 import io.ballerina.openapi.core.generators.client.exception.ClientException;
 import io.ballerina.openapi.core.generators.client.model.OASClientConfig;
+import io.ballerina.openapi.core.generators.common.GenerationContext;
 import io.ballerina.openapi.core.generators.common.GeneratorUtils;
 import io.ballerina.openapi.core.generators.common.TypeHandler;
 import io.ballerina.openapi.core.generators.common.exception.BallerinaOpenApiException;
@@ -86,25 +87,26 @@ public class ComparedGeneratedFileTests {
         Path definitionPath = RES_DIR.resolve("file_provider/swagger/" + yamlFile);
         Path expectedPath = RES_DIR.resolve("file_provider/ballerina/" + expectedFile);
         OpenAPI openAPI = GeneratorUtils.normalizeOpenAPI(definitionPath, true, false);
-        TypeHandler.createInstance(openAPI, false);
-        OASClientConfig.Builder clientMetaDataBuilder = new OASClientConfig.Builder();
-        OASClientConfig oasClientConfig = clientMetaDataBuilder
-                .withFilters(filter)
-                .withOpenAPI(openAPI)
-                .withResourceMode(false).build();
-        BallerinaClientGenerator ballerinaClientGenerator = new BallerinaClientGenerator(oasClientConfig);
-        syntaxTree = ballerinaClientGenerator.generateSyntaxTree();
-        List<TypeDefinitionNode> authNodes = ballerinaClientGenerator.getBallerinaAuthConfigGenerator()
-                .getAuthRelatedTypeDefinitionNodes();
-        for (TypeDefinitionNode typeDef: authNodes) {
-            TypeHandler.getInstance().addTypeDefinitionNode(typeDef.typeName().text(), typeDef);
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, false)) {
+            OASClientConfig.Builder clientMetaDataBuilder = new OASClientConfig.Builder();
+            OASClientConfig oasClientConfig = clientMetaDataBuilder
+                    .withFilters(filter)
+                    .withOpenAPI(openAPI)
+                    .withResourceMode(false).build();
+            BallerinaClientGenerator ballerinaClientGenerator = new BallerinaClientGenerator(oasClientConfig);
+            syntaxTree = ballerinaClientGenerator.generateSyntaxTree();
+            List<TypeDefinitionNode> authNodes = ballerinaClientGenerator.getBallerinaAuthConfigGenerator()
+                    .getAuthRelatedTypeDefinitionNodes();
+            for (TypeDefinitionNode typeDef: authNodes) {
+                TypeHandler.getInstance().addTypeDefinitionNode(typeDef.typeName().text(), typeDef);
+            }
+            SyntaxTree schemaSyntaxTree = TypeHandler.getInstance().generateTypeSyntaxTree();
+            List<Diagnostic> diagnostics = getDiagnostics(syntaxTree, schemaSyntaxTree, ballerinaClientGenerator);
+            boolean hasErrors = diagnostics.stream()
+                    .anyMatch(d -> DiagnosticSeverity.ERROR.equals(d.diagnosticInfo().severity()));
+            Assert.assertFalse(hasErrors);
+            compareGeneratedSyntaxTreeWithExpectedSyntaxTree(expectedPath, syntaxTree);
         }
-        SyntaxTree schemaSyntaxTree = TypeHandler.getInstance().generateTypeSyntaxTree();
-        List<Diagnostic> diagnostics = getDiagnostics(syntaxTree, schemaSyntaxTree, ballerinaClientGenerator);
-        boolean hasErrors = diagnostics.stream()
-                .anyMatch(d -> DiagnosticSeverity.ERROR.equals(d.diagnosticInfo().severity()));
-        Assert.assertFalse(hasErrors);
-        compareGeneratedSyntaxTreeWithExpectedSyntaxTree(expectedPath, syntaxTree);
     }
 
     @DataProvider(name = "fileProviderForFilesComparison")
@@ -23,6 +23,7 @@ import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
 import io.ballerina.openapi.core.generators.client.BallerinaClientGenerator;
 import io.ballerina.openapi.core.generators.client.exception.ClientException;
 import io.ballerina.openapi.core.generators.client.model.OASClientConfig;
+import io.ballerina.openapi.core.generators.common.GenerationContext;
 import io.ballerina.openapi.core.generators.common.GeneratorUtils;
 import io.ballerina.openapi.core.generators.common.TypeHandler;
 import io.ballerina.openapi.core.generators.common.exception.BallerinaOpenApiException;
@@ -70,25 +71,26 @@ public class EnumGenerationTests {
         Path definitionPath = RES_DIR.resolve("swagger/parameters_with_enum.yaml");
         Path expectedPath = RES_DIR.resolve("ballerina/parameters_with_enum.bal");
         OpenAPI openAPI = GeneratorUtils.normalizeOpenAPI(definitionPath, true, false);
-        TypeHandler.createInstance(openAPI, false);
-        OASClientConfig.Builder clientMetaDataBuilder = new OASClientConfig.Builder();
-        OASClientConfig oasClientConfig = clientMetaDataBuilder
-                .withFilters(filter)
-                .withOpenAPI(openAPI)
-                .withResourceMode(false).build();
-        BallerinaClientGenerator ballerinaClientGenerator = new BallerinaClientGenerator(oasClientConfig);
-        SyntaxTree syntaxTree = ballerinaClientGenerator.generateSyntaxTree();
-        List<TypeDefinitionNode> authNodes = ballerinaClientGenerator.getBallerinaAuthConfigGenerator()
-                .getAuthRelatedTypeDefinitionNodes();
-        for (TypeDefinitionNode typeDef: authNodes) {
-            TypeHandler.getInstance().addTypeDefinitionNode(typeDef.typeName().text(), typeDef);
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, false)) {
+            OASClientConfig.Builder clientMetaDataBuilder = new OASClientConfig.Builder();
+            OASClientConfig oasClientConfig = clientMetaDataBuilder
+                    .withFilters(filter)
+                    .withOpenAPI(openAPI)
+                    .withResourceMode(false).build();
+            BallerinaClientGenerator ballerinaClientGenerator = new BallerinaClientGenerator(oasClientConfig);
+            SyntaxTree syntaxTree = ballerinaClientGenerator.generateSyntaxTree();
+            List<TypeDefinitionNode> authNodes = ballerinaClientGenerator.getBallerinaAuthConfigGenerator()
+                    .getAuthRelatedTypeDefinitionNodes();
+            for (TypeDefinitionNode typeDef: authNodes) {
+                TypeHandler.getInstance().addTypeDefinitionNode(typeDef.typeName().text(), typeDef);
+            }
+            SyntaxTree schemaSyntaxTree = TypeHandler.getInstance().generateTypeSyntaxTree();
+            List<Diagnostic> diagnostics = getDiagnostics(syntaxTree, schemaSyntaxTree, ballerinaClientGenerator);
+            boolean hasErrors = diagnostics.stream()
+                    .anyMatch(d -> DiagnosticSeverity.ERROR.equals(d.diagnosticInfo().severity()));
+            Assert.assertFalse(hasErrors);
+            compareGeneratedSyntaxTreeWithExpectedSyntaxTree(expectedPath, syntaxTree);
         }
-        SyntaxTree schemaSyntaxTree = TypeHandler.getInstance().generateTypeSyntaxTree();
-        List<Diagnostic> diagnostics = getDiagnostics(syntaxTree, schemaSyntaxTree, ballerinaClientGenerator);
-        boolean hasErrors = diagnostics.stream()
-                .anyMatch(d -> DiagnosticSeverity.ERROR.equals(d.diagnosticInfo().severity()));
-        Assert.assertFalse(hasErrors);
-        compareGeneratedSyntaxTreeWithExpectedSyntaxTree(expectedPath, syntaxTree);
     }
 
     @Test(description = "Tests for all the nullable enum scenarios in remote function parameter generation:" +
@@ -102,25 +104,26 @@ public class EnumGenerationTests {
         Path definitionPath = RES_DIR.resolve("swagger/parameters_with_nullable_enums.yaml");
         Path expectedPath = RES_DIR.resolve("ballerina/parameters_with_nullable_enums.bal");
         OpenAPI openAPI = GeneratorUtils.normalizeOpenAPI(definitionPath, true, false);
-        TypeHandler.createInstance(openAPI, false);
-        OASClientConfig.Builder clientMetaDataBuilder = new OASClientConfig.Builder();
-        OASClientConfig oasClientConfig = clientMetaDataBuilder
-                .withFilters(filter)
-                .withOpenAPI(openAPI)
-                .withResourceMode(false).build();
-        BallerinaClientGenerator ballerinaClientGenerator = new BallerinaClientGenerator(oasClientConfig);
-        SyntaxTree syntaxTree = ballerinaClientGenerator.generateSyntaxTree();
-        List<TypeDefinitionNode> authNodes = ballerinaClientGenerator.getBallerinaAuthConfigGenerator()
-                .getAuthRelatedTypeDefinitionNodes();
-        for (TypeDefinitionNode typeDef: authNodes) {
-            TypeHandler.getInstance().addTypeDefinitionNode(typeDef.typeName().text(), typeDef);
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, false)) {
+            OASClientConfig.Builder clientMetaDataBuilder = new OASClientConfig.Builder();
+            OASClientConfig oasClientConfig = clientMetaDataBuilder
+                    .withFilters(filter)
+                    .withOpenAPI(openAPI)
+                    .withResourceMode(false).build();
+            BallerinaClientGenerator ballerinaClientGenerator = new BallerinaClientGenerator(oasClientConfig);
+            SyntaxTree syntaxTree = ballerinaClientGenerator.generateSyntaxTree();
+            List<TypeDefinitionNode> authNodes = ballerinaClientGenerator.getBallerinaAuthConfigGenerator()
+                    .getAuthRelatedTypeDefinitionNodes();
+            for (TypeDefinitionNode typeDef: authNodes) {
+                TypeHandler.getInstance().addTypeDefinitionNode(typeDef.typeName().text(), typeDef);
+            }
+            SyntaxTree schemaSyntaxTree = TypeHandler.getInstance().generateTypeSyntaxTree();
+            List<Diagnostic> diagnostics = getDiagnostics(syntaxTree, schemaSyntaxTree, ballerinaClientGenerator);
+            boolean hasErrors = diagnostics.stream()
+                    .anyMatch(d -> DiagnosticSeverity.ERROR.equals(d.diagnosticInfo().severity()));
+            Assert.assertFalse(hasErrors);
+            compareGeneratedSyntaxTreeWithExpectedSyntaxTree(expectedPath, syntaxTree);
         }
-        SyntaxTree schemaSyntaxTree = TypeHandler.getInstance().generateTypeSyntaxTree();
-        List<Diagnostic> diagnostics = getDiagnostics(syntaxTree, schemaSyntaxTree, ballerinaClientGenerator);
-        boolean hasErrors = diagnostics.stream()
-                .anyMatch(d -> DiagnosticSeverity.ERROR.equals(d.diagnosticInfo().severity()));
-        Assert.assertFalse(hasErrors);
-        compareGeneratedSyntaxTreeWithExpectedSyntaxTree(expectedPath, syntaxTree);
     }
 
     @Test(description = "Tests for all the enum scenarios in resource function parameter generation:" +
@@ -134,25 +137,26 @@ public class EnumGenerationTests {
         Path definitionPath = RES_DIR.resolve("swagger/parameters_with_enum.yaml");
         Path expectedPath = RES_DIR.resolve("ballerina/paramters_with_enum_resource.bal");
         OpenAPI openAPI = GeneratorUtils.normalizeOpenAPI(definitionPath, true, false);
-        TypeHandler.createInstance(openAPI, false);
-        OASClientConfig.Builder clientMetaDataBuilder = new OASClientConfig.Builder();
-        OASClientConfig oasClientConfig = clientMetaDataBuilder
-                .withFilters(filter)
-                .withOpenAPI(openAPI)
-                .withResourceMode(true).build();
-        BallerinaClientGenerator ballerinaClientGenerator = new BallerinaClientGenerator(oasClientConfig);
-        SyntaxTree syntaxTree = ballerinaClientGenerator.generateSyntaxTree();
-        List<TypeDefinitionNode> authNodes = ballerinaClientGenerator.getBallerinaAuthConfigGenerator()
-                .getAuthRelatedTypeDefinitionNodes();
-        for (TypeDefinitionNode typeDef: authNodes) {
-            TypeHandler.getInstance().addTypeDefinitionNode(typeDef.typeName().text(), typeDef);
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, false)) {
+            OASClientConfig.Builder clientMetaDataBuilder = new OASClientConfig.Builder();
+            OASClientConfig oasClientConfig = clientMetaDataBuilder
+                    .withFilters(filter)
+                    .withOpenAPI(openAPI)
+                    .withResourceMode(true).build();
+            BallerinaClientGenerator ballerinaClientGenerator = new BallerinaClientGenerator(oasClientConfig);
+            SyntaxTree syntaxTree = ballerinaClientGenerator.generateSyntaxTree();
+            List<TypeDefinitionNode> authNodes = ballerinaClientGenerator.getBallerinaAuthConfigGenerator()
+                    .getAuthRelatedTypeDefinitionNodes();
+            for (TypeDefinitionNode typeDef: authNodes) {
+                TypeHandler.getInstance().addTypeDefinitionNode(typeDef.typeName().text(), typeDef);
+            }
+            SyntaxTree schemaSyntaxTree = TypeHandler.getInstance().generateTypeSyntaxTree();
+            List<Diagnostic> diagnostics = getDiagnostics(syntaxTree, schemaSyntaxTree, ballerinaClientGenerator);
+            boolean hasErrors = diagnostics.stream()
+                    .anyMatch(d -> DiagnosticSeverity.ERROR.equals(d.diagnosticInfo().severity()));
+            Assert.assertFalse(hasErrors);
+            compareGeneratedSyntaxTreeWithExpectedSyntaxTree(expectedPath, syntaxTree);
         }
-        SyntaxTree schemaSyntaxTree = TypeHandler.getInstance().generateTypeSyntaxTree();
-        List<Diagnostic> diagnostics = getDiagnostics(syntaxTree, schemaSyntaxTree, ballerinaClientGenerator);
-        boolean hasErrors = diagnostics.stream()
-                .anyMatch(d -> DiagnosticSeverity.ERROR.equals(d.diagnosticInfo().severity()));
-        Assert.assertFalse(hasErrors);
-        compareGeneratedSyntaxTreeWithExpectedSyntaxTree(expectedPath, syntaxTree);
     }
 
     @Test(description = "Tests for all the nullable enum scenarios in resource function parameter generation:" +
@@ -166,25 +170,26 @@ public class EnumGenerationTests {
         Path definitionPath = RES_DIR.resolve("swagger/parameters_with_nullable_enums.yaml");
         Path expectedPath = RES_DIR.resolve("ballerina/parameters_with_nullable_enums_resource.bal");
         OpenAPI openAPI = GeneratorUtils.normalizeOpenAPI(definitionPath, true, false);
-        TypeHandler.createInstance(openAPI, false);
-        OASClientConfig.Builder clientMetaDataBuilder = new OASClientConfig.Builder();
-        OASClientConfig oasClientConfig = clientMetaDataBuilder
-                .withFilters(filter)
-                .withOpenAPI(openAPI)
-                .withResourceMode(true).build();
-        BallerinaClientGenerator ballerinaClientGenerator = new BallerinaClientGenerator(oasClientConfig);
-        SyntaxTree syntaxTree = ballerinaClientGenerator.generateSyntaxTree();
-        List<TypeDefinitionNode> authNodes = ballerinaClientGenerator.getBallerinaAuthConfigGenerator()
-                .getAuthRelatedTypeDefinitionNodes();
-        for (TypeDefinitionNode typeDef: authNodes) {
-            TypeHandler.getInstance().addTypeDefinitionNode(typeDef.typeName().text(), typeDef);
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, false)) {
+            OASClientConfig.Builder clientMetaDataBuilder = new OASClientConfig.Builder();
+            OASClientConfig oasClientConfig = clientMetaDataBuilder
+                    .withFilters(filter)
+                    .withOpenAPI(openAPI)
+                    .withResourceMode(true).build();
+            BallerinaClientGenerator ballerinaClientGenerator = new BallerinaClientGenerator(oasClientConfig);
+            SyntaxTree syntaxTree = ballerinaClientGenerator.generateSyntaxTree();
+            List<TypeDefinitionNode> authNodes = ballerinaClientGenerator.getBallerinaAuthConfigGenerator()
+                    .getAuthRelatedTypeDefinitionNodes();
+            for (TypeDefinitionNode typeDef: authNodes) {
+                TypeHandler.getInstance().addTypeDefinitionNode(typeDef.typeName().text(), typeDef);
+            }
+            SyntaxTree schemaSyntaxTree = TypeHandler.getInstance().generateTypeSyntaxTree();
+            List<Diagnostic> diagnostics = getDiagnostics(syntaxTree, schemaSyntaxTree, ballerinaClientGenerator);
+            boolean hasErrors = diagnostics.stream()
+                    .anyMatch(d -> DiagnosticSeverity.ERROR.equals(d.diagnosticInfo().severity()));
+            Assert.assertFalse(hasErrors);
+            compareGeneratedSyntaxTreeWithExpectedSyntaxTree(expectedPath, syntaxTree);
         }
-        SyntaxTree schemaSyntaxTree = TypeHandler.getInstance().generateTypeSyntaxTree();
-        List<Diagnostic> diagnostics = getDiagnostics(syntaxTree, schemaSyntaxTree, ballerinaClientGenerator);
-        boolean hasErrors = diagnostics.stream()
-                .anyMatch(d -> DiagnosticSeverity.ERROR.equals(d.diagnosticInfo().severity()));
-        Assert.assertFalse(hasErrors);
-        compareGeneratedSyntaxTreeWithExpectedSyntaxTree(expectedPath, syntaxTree);
     }
 
     @Test(description = "Test unsupported nullable path parameter with enums",
@@ -192,14 +197,15 @@ public class EnumGenerationTests {
             expectedExceptionsMessageRegExp = "Path parameter value cannot be null.", enabled = false)
     public void testNullablePathParamWithEnum() throws IOException, BallerinaOpenApiException, ClientException {
         OpenAPI openAPI = getOpenAPI(RES_DIR.resolve("swagger/path_param_nullable_enum.yaml"));
-        TypeHandler.createInstance(openAPI, false);
-        OASClientConfig.Builder clientMetaDataBuilder = new OASClientConfig.Builder();
-        OASClientConfig oasClientConfig = clientMetaDataBuilder
-                .withFilters(filter)
-                .withOpenAPI(openAPI)
-                .withResourceMode(true).build();
-        BallerinaClientGenerator ballerinaClientGenerator = new BallerinaClientGenerator(oasClientConfig);
-        SyntaxTree syntaxTree = ballerinaClientGenerator.generateSyntaxTree();
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, false)) {
+            OASClientConfig.Builder clientMetaDataBuilder = new OASClientConfig.Builder();
+            OASClientConfig oasClientConfig = clientMetaDataBuilder
+                    .withFilters(filter)
+                    .withOpenAPI(openAPI)
+                    .withResourceMode(true).build();
+            BallerinaClientGenerator ballerinaClientGenerator = new BallerinaClientGenerator(oasClientConfig);
+            SyntaxTree syntaxTree = ballerinaClientGenerator.generateSyntaxTree();
+        }
     }
 
     @AfterMethod
@@ -22,6 +22,7 @@ import io.ballerina.compiler.syntax.tree.FunctionBodyNode;
 import io.ballerina.openapi.core.generators.client.AuthConfigGeneratorImp;
 import io.ballerina.openapi.core.generators.client.BallerinaUtilGenerator;
 import io.ballerina.openapi.core.generators.client.FunctionBodyGeneratorImp;
+import io.ballerina.openapi.core.generators.common.GenerationContext;
 import io.ballerina.openapi.core.generators.common.TypeHandler;
 import io.ballerina.openapi.core.generators.common.exception.BallerinaOpenApiException;
 import io.swagger.v3.oas.models.OpenAPI;
@@ -65,15 +66,17 @@ public class FunctionBodyNodeTests {
                 openapi.getPaths().get(path).readOperationsMap().entrySet();
         Iterator<Map.Entry<PathItem.HttpMethod, Operation>> iterator = pathItem.iterator();
         Map.Entry<PathItem.HttpMethod, Operation> operation = iterator.next();
-        TypeHandler.createInstance(openapi, false);
-        FunctionBodyGeneratorImp functionBodyGeneratorImp = new FunctionBodyGeneratorImp(path, operation, openapi,
-                new AuthConfigGeneratorImp(false, false),
-                new BallerinaUtilGenerator(), new ArrayList<>(), hasHeaders, hasDefaultHeaders, hasQueries, HEADERS);
-        Optional<FunctionBodyNode> bodyNode = functionBodyGeneratorImp.getFunctionBodyNode();
-        content = content.trim().replaceAll("\n", "").replaceAll("\\s+", "");
-        String bodyNodeContent = bodyNode.get().toString().trim().replaceAll("\n", "")
-                .replaceAll("\\s+", "");
-        Assert.assertEquals(bodyNodeContent, content);
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openapi, false)) {
+            FunctionBodyGeneratorImp functionBodyGeneratorImp = new FunctionBodyGeneratorImp(path, operation, openapi,
+                    new AuthConfigGeneratorImp(false, false),
+                    new BallerinaUtilGenerator(), new ArrayList<>(), hasHeaders, hasDefaultHeaders, hasQueries,
+                    HEADERS);
+            Optional<FunctionBodyNode> bodyNode = functionBodyGeneratorImp.getFunctionBodyNode();
+            content = content.trim().replaceAll("\n", "").replaceAll("\\s+", "");
+            String bodyNodeContent = bodyNode.get().toString().trim().replaceAll("\n", "")
+                    .replaceAll("\\s+", "");
+            Assert.assertEquals(bodyNodeContent, content);
+        }
     }
     @DataProvider(name = "dataProviderForFunctionBody")
     public Object[][] dataProviderForFunctionBody() {
@@ -26,6 +26,7 @@ import io.ballerina.compiler.syntax.tree.RequiredParameterNode;
 import io.ballerina.compiler.syntax.tree.ReturnTypeDescriptorNode;
 import io.ballerina.compiler.syntax.tree.SeparatedNodeList;
 import io.ballerina.openapi.core.generators.client.RemoteFunctionSignatureGenerator;
+import io.ballerina.openapi.core.generators.common.GenerationContext;
 import io.ballerina.openapi.core.generators.common.GeneratorUtils;
 import io.ballerina.openapi.core.generators.common.TypeHandler;
 import io.ballerina.openapi.core.generators.common.exception.BallerinaOpenApiException;
@@ -60,65 +61,68 @@ public class FunctionSignatureNodeTests {
     public void getFunctionSignatureNodeTests() throws IOException, BallerinaOpenApiException {
         OpenAPI openAPI = getOpenAPI(RESDIR.resolve("swagger/valid_operation.yaml"));
         Operation operation = openAPI.getPaths().get("/products/{country}").getGet();
-        TypeHandler.createInstance(openAPI, false);
-        RemoteFunctionSignatureGenerator functionSignatureGenerator = new RemoteFunctionSignatureGenerator(operation,
-                openAPI, "get", "products/{country}");
-        Optional<FunctionSignatureNode> signature = functionSignatureGenerator.generateFunctionSignature();
-        SeparatedNodeList<ParameterNode> parameters = signature.get().parameters();
-        Assert.assertFalse(parameters.isEmpty());
-        RequiredParameterNode param01 = (RequiredParameterNode) parameters.get(0);
-        DefaultableParameterNode param02 = (DefaultableParameterNode) parameters.get(1);
-        IncludedRecordParameterNode param03 = (IncludedRecordParameterNode) parameters.get(2);
-
-        Assert.assertEquals(param01.paramName().orElseThrow().text(), "country");
-        Assert.assertEquals(param01.typeName().toString(), "string");
-
-        Assert.assertEquals(param02.paramName().orElseThrow().text(), "headers");
-        Assert.assertEquals(param02.typeName().toString(), "map<string|string[]>");
-
-        Assert.assertEquals(param03.paramName().orElseThrow().text(), "queries");
-        Assert.assertEquals(param03.typeName().toString(), "GetProductsCountryQueries");
-
-        ReturnTypeDescriptorNode returnTypeNode = signature.get().returnTypeDesc().orElseThrow();
-        Assert.assertEquals(returnTypeNode.type().toString(), "Product[]|error");
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, false)) {
+            RemoteFunctionSignatureGenerator functionSignatureGenerator = new RemoteFunctionSignatureGenerator(
+                    operation, openAPI, "get", "products/{country}");
+            Optional<FunctionSignatureNode> signature = functionSignatureGenerator.generateFunctionSignature();
+            SeparatedNodeList<ParameterNode> parameters = signature.get().parameters();
+            Assert.assertFalse(parameters.isEmpty());
+            RequiredParameterNode param01 = (RequiredParameterNode) parameters.get(0);
+            DefaultableParameterNode param02 = (DefaultableParameterNode) parameters.get(1);
+            IncludedRecordParameterNode param03 = (IncludedRecordParameterNode) parameters.get(2);
+
+            Assert.assertEquals(param01.paramName().orElseThrow().text(), "country");
+            Assert.assertEquals(param01.typeName().toString(), "string");
+
+            Assert.assertEquals(param02.paramName().orElseThrow().text(), "headers");
+            Assert.assertEquals(param02.typeName().toString(), "map<string|string[]>");
+
+            Assert.assertEquals(param03.paramName().orElseThrow().text(), "queries");
+            Assert.assertEquals(param03.typeName().toString(), "GetProductsCountryQueries");
+
+            ReturnTypeDescriptorNode returnTypeNode = signature.get().returnTypeDesc().orElseThrow();
+            Assert.assertEquals(returnTypeNode.type().toString(), "Product[]|error");
+        }
     }
 
     @Test(description = "Test for generate function signature for xml request body")
     public void testFunctionSignatureNodeForXMLPayload() throws IOException, BallerinaOpenApiException {
         OpenAPI openAPI = getOpenAPI(RESDIR.resolve("swagger/xml_request_payload.yaml"));
         Operation operation = openAPI.getPaths().get("/pets").getPost();
-        TypeHandler.createInstance(openAPI, false);
-        RemoteFunctionSignatureGenerator functionSignatureGenerator = new RemoteFunctionSignatureGenerator(operation,
-                 openAPI, "post", "/pets");
-        FunctionSignatureNode signature = functionSignatureGenerator.generateFunctionSignature().get();
-        SeparatedNodeList<ParameterNode> parameters = signature.parameters();
-        Assert.assertFalse(parameters.isEmpty());
-        RequiredParameterNode param01 = (RequiredParameterNode) parameters.get(0);
-
-        Assert.assertEquals(param01.paramName().orElseThrow().text(), "payload");
-        Assert.assertEquals(param01.typeName().toString(), "xml");
-
-        ReturnTypeDescriptorNode returnTypeNode = signature.returnTypeDesc().orElseThrow();
-        Assert.assertEquals(returnTypeNode.type().toString(), "error?");
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, false)) {
+            RemoteFunctionSignatureGenerator functionSignatureGenerator = new RemoteFunctionSignatureGenerator(
+                    operation, openAPI, "post", "/pets");
+            FunctionSignatureNode signature = functionSignatureGenerator.generateFunctionSignature().get();
+            SeparatedNodeList<ParameterNode> parameters = signature.parameters();
+            Assert.assertFalse(parameters.isEmpty());
+            RequiredParameterNode param01 = (RequiredParameterNode) parameters.get(0);
+
+            Assert.assertEquals(param01.paramName().orElseThrow().text(), "payload");
+            Assert.assertEquals(param01.typeName().toString(), "xml");
+
+            ReturnTypeDescriptorNode returnTypeNode = signature.returnTypeDesc().orElseThrow();
+            Assert.assertEquals(returnTypeNode.type().toString(), "error?");
+        }
     }
 
     @Test(description = "Test for generate function signature for json request body")
     public void testFunctionSignatureNodeForJSONPayload() throws IOException, BallerinaOpenApiException {
         OpenAPI openAPI = getOpenAPI(RESDIR.resolve("swagger/json_request_payload.yaml"));
         Operation operation = openAPI.getPaths().get("/pets").getPost();
-        TypeHandler.createInstance(openAPI, false);
-        RemoteFunctionSignatureGenerator functionSignatureGenerator = new RemoteFunctionSignatureGenerator(operation,
-                openAPI, "post", "/pets");
-        FunctionSignatureNode signature = functionSignatureGenerator.generateFunctionSignature().get();
-        SeparatedNodeList<ParameterNode> parameters = signature.parameters();
-        Assert.assertFalse(parameters.isEmpty());
-        RequiredParameterNode param01 = (RequiredParameterNode) parameters.get(0);
-
-        Assert.assertEquals(param01.paramName().orElseThrow().text(), "payload");
-        Assert.assertEquals(param01.typeName().toString(), "json");
-
-        ReturnTypeDescriptorNode returnTypeNode = signature.returnTypeDesc().orElseThrow();
-        Assert.assertEquals(returnTypeNode.type().toString(), "error?");
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, false)) {
+            RemoteFunctionSignatureGenerator functionSignatureGenerator = new RemoteFunctionSignatureGenerator(
+                    operation, openAPI, "post", "/pets");
+            FunctionSignatureNode signature = functionSignatureGenerator.generateFunctionSignature().get();
+            SeparatedNodeList<ParameterNode> parameters = signature.parameters();
+            Assert.assertFalse(parameters.isEmpty());
+            RequiredParameterNode param01 = (RequiredParameterNode) parameters.get(0);
+
+            Assert.assertEquals(param01.paramName().orElseThrow().text(), "payload");
+            Assert.assertEquals(param01.typeName().toString(), "json");
+
+            ReturnTypeDescriptorNode returnTypeNode = signature.returnTypeDesc().orElseThrow();
+            Assert.assertEquals(returnTypeNode.type().toString(), "error?");
+        }
     }
 
     @Test(description = "Test for generate function signature for multipart custom header")
@@ -126,73 +130,78 @@ public class FunctionSignatureNodeTests {
         OpenAPI openAPI = GeneratorUtils.normalizeOpenAPI(
                 RESDIR.resolve("swagger/multipart_formdata_custom.yaml"), true, false);
         Operation operation = openAPI.getPaths().get("/pets").getPost();
-        TypeHandler.createInstance(openAPI, false);
-        RemoteFunctionSignatureGenerator functionSignatureGenerator = new RemoteFunctionSignatureGenerator(operation,
-                openAPI, "post", "/pets");
-        FunctionSignatureNode signature = functionSignatureGenerator.generateFunctionSignature().get();
-        SeparatedNodeList<ParameterNode> parameters = signature.parameters();
-        Assert.assertFalse(parameters.isEmpty());
-
-        RequiredParameterNode param01 = (RequiredParameterNode) parameters.get(0);
-        Assert.assertEquals(param01.paramName().orElseThrow().text(), "payload");
-        Assert.assertEquals(param01.typeName().toString(), "pets_body");
-
-        DefaultableParameterNode param02 = (DefaultableParameterNode) parameters.get(1);
-        Assert.assertEquals(param02.paramName().orElseThrow().text(), "headers");
-        Assert.assertEquals(param02.typeName().toString(), "map<string|string[]>");
-
-        ReturnTypeDescriptorNode returnTypeNode = signature.returnTypeDesc().orElseThrow();
-        Assert.assertEquals(returnTypeNode.type().toString(), "error?");
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, false)) {
+            RemoteFunctionSignatureGenerator functionSignatureGenerator = new RemoteFunctionSignatureGenerator(
+                    operation, openAPI, "post", "/pets");
+            FunctionSignatureNode signature = functionSignatureGenerator.generateFunctionSignature().get();
+            SeparatedNodeList<ParameterNode> parameters = signature.parameters();
+            Assert.assertFalse(parameters.isEmpty());
+
+            RequiredParameterNode param01 = (RequiredParameterNode) parameters.get(0);
+            Assert.assertEquals(param01.paramName().orElseThrow().text(), "payload");
+            Assert.assertEquals(param01.typeName().toString(), "pets_body");
+
+            DefaultableParameterNode param02 = (DefaultableParameterNode) parameters.get(1);
+            Assert.assertEquals(param02.paramName().orElseThrow().text(), "headers");
+            Assert.assertEquals(param02.typeName().toString(), "map<string|string[]>");
+
+            ReturnTypeDescriptorNode returnTypeNode = signature.returnTypeDesc().orElseThrow();
+            Assert.assertEquals(returnTypeNode.type().toString(), "error?");
+        }
     }
 
     @Test(description = "Test for generate function signature with nested array return type")
     public void getFunctionSignatureForNestedArrayResponse() throws IOException, BallerinaOpenApiException {
         OpenAPI openAPI = getOpenAPI(RESDIR.resolve("swagger/response_nested_array.yaml"));
-        TypeHandler.createInstance(openAPI, false);
-        RemoteFunctionSignatureGenerator functionSignatureGenerator = new RemoteFunctionSignatureGenerator(
-                openAPI.getPaths().get("/timestags").getGet(), openAPI, "get", "/timestags");
-        FunctionSignatureNode signature = functionSignatureGenerator.generateFunctionSignature().get();
-        ReturnTypeDescriptorNode returnTypeNode = signature.returnTypeDesc().orElseThrow();
-        Assert.assertEquals(returnTypeNode.type().toString(), "string[][]|error");
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, false)) {
+            RemoteFunctionSignatureGenerator functionSignatureGenerator = new RemoteFunctionSignatureGenerator(
+                    openAPI.getPaths().get("/timestags").getGet(), openAPI, "get", "/timestags");
+            FunctionSignatureNode signature = functionSignatureGenerator.generateFunctionSignature().get();
+            ReturnTypeDescriptorNode returnTypeNode = signature.returnTypeDesc().orElseThrow();
+            Assert.assertEquals(returnTypeNode.type().toString(), "string[][]|error");
+        }
     }
 
     @Test(description = "Test for generate function signature with string array return type")
     public void getFunctionSignatureForStringArrayResponse() throws IOException, BallerinaOpenApiException {
         OpenAPI openAPI = getOpenAPI(RESDIR.resolve("swagger/response_string_array.yaml"));
-        TypeHandler.createInstance(openAPI, false);
-        RemoteFunctionSignatureGenerator functionSignatureGenerator = new RemoteFunctionSignatureGenerator(
-                openAPI.getPaths().get("/timestags").getGet(), openAPI, "get", "/timestags");
-        FunctionSignatureNode signature = functionSignatureGenerator.generateFunctionSignature().get();
-        ReturnTypeDescriptorNode returnTypeNode = signature.returnTypeDesc().orElseThrow();
-        Assert.assertEquals(returnTypeNode.type().toString(), "string[]|error");
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, false)) {
+            RemoteFunctionSignatureGenerator functionSignatureGenerator = new RemoteFunctionSignatureGenerator(
+                    openAPI.getPaths().get("/timestags").getGet(), openAPI, "get", "/timestags");
+            FunctionSignatureNode signature = functionSignatureGenerator.generateFunctionSignature().get();
+            ReturnTypeDescriptorNode returnTypeNode = signature.returnTypeDesc().orElseThrow();
+            Assert.assertEquals(returnTypeNode.type().toString(), "string[]|error");
+        }
     }
 
     @Test(description = "Test parameter generation for request body with reference")
     public void getFunctionSignatureForRequestBodyWithRef() throws IOException, BallerinaOpenApiException {
         OpenAPI openAPI = getOpenAPI(RESDIR.resolve("swagger/request_body_with_ref.yaml"));
-        TypeHandler.createInstance(openAPI, false);
-        RemoteFunctionSignatureGenerator functionSignatureGenerator = new RemoteFunctionSignatureGenerator(
-                openAPI.getPaths().get("/pets").getPost(), openAPI, "post", "/pets");
-        FunctionSignatureNode signature = functionSignatureGenerator.generateFunctionSignature().get();
-        SeparatedNodeList<ParameterNode> parameters = signature.parameters();
-        Assert.assertFalse(parameters.isEmpty());
-        RequiredParameterNode param01 = (RequiredParameterNode) parameters.get(0);
-        Assert.assertEquals(param01.paramName().orElseThrow().text(), "payload");
-        Assert.assertEquals(param01.typeName().toString(), "record{stringpetId?;stringcreatedDate?;}".trim());
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, false)) {
+            RemoteFunctionSignatureGenerator functionSignatureGenerator = new RemoteFunctionSignatureGenerator(
+                    openAPI.getPaths().get("/pets").getPost(), openAPI, "post", "/pets");
+            FunctionSignatureNode signature = functionSignatureGenerator.generateFunctionSignature().get();
+            SeparatedNodeList<ParameterNode> parameters = signature.parameters();
+            Assert.assertFalse(parameters.isEmpty());
+            RequiredParameterNode param01 = (RequiredParameterNode) parameters.get(0);
+            Assert.assertEquals(param01.paramName().orElseThrow().text(), "payload");
+            Assert.assertEquals(param01.typeName().toString(), "record{stringpetId?;stringcreatedDate?;}".trim());
+        }
     }
 
     @Test(description = "Test parameter generation for request body with unsupported (application/pdf) media type")
     public void getFunctionSignatureForUnsupportedRequests() throws IOException, BallerinaOpenApiException {
         OpenAPI openAPI = getOpenAPI(RESDIR.resolve("swagger/pdf_payload.yaml"));
-        TypeHandler.createInstance(openAPI, false);
-        RemoteFunctionSignatureGenerator functionSignatureGenerator = new RemoteFunctionSignatureGenerator(
-                openAPI.getPaths().get("/pets").getPost(), openAPI, "post", "/pets");
-        FunctionSignatureNode signature = functionSignatureGenerator.generateFunctionSignature().get();
-        SeparatedNodeList<ParameterNode> parameters = signature.parameters();
-        Assert.assertFalse(parameters.isEmpty());
-        RequiredParameterNode param01 = (RequiredParameterNode) parameters.get(0);
-        Assert.assertEquals(param01.paramName().orElseThrow().text(), "request");
-        Assert.assertEquals(param01.typeName().toString(), "http:Request");
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, false)) {
+            RemoteFunctionSignatureGenerator functionSignatureGenerator = new RemoteFunctionSignatureGenerator(
+                    openAPI.getPaths().get("/pets").getPost(), openAPI, "post", "/pets");
+            FunctionSignatureNode signature = functionSignatureGenerator.generateFunctionSignature().get();
+            SeparatedNodeList<ParameterNode> parameters = signature.parameters();
+            Assert.assertFalse(parameters.isEmpty());
+            RequiredParameterNode param01 = (RequiredParameterNode) parameters.get(0);
+            Assert.assertEquals(param01.paramName().orElseThrow().text(), "request");
+            Assert.assertEquals(param01.typeName().toString(), "http:Request");
+        }
     }
 
     @Test(description = "Test unsupported nested array type query parameter generation",
@@ -201,11 +210,12 @@ public class FunctionSignatureNodeTests {
             enabled = false)
     public void testNestedArrayQueryParamGeneration() throws IOException, BallerinaOpenApiException {
         OpenAPI openAPI = getOpenAPI(RESDIR.resolve("swagger/invalid_array_query_params.yaml"));
-        TypeHandler.createInstance(openAPI, false);
-        RemoteFunctionSignatureGenerator functionSignatureGenerator = new RemoteFunctionSignatureGenerator(
-                openAPI.getPaths().get("/pets").getPost(), openAPI, "post", "/pets");
-        FunctionSignatureNode signature = functionSignatureGenerator.generateFunctionSignature().get();
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, false)) {
+            RemoteFunctionSignatureGenerator functionSignatureGenerator = new RemoteFunctionSignatureGenerator(
+                    openAPI.getPaths().get("/pets").getPost(), openAPI, "post", "/pets");
+            FunctionSignatureNode signature = functionSignatureGenerator.generateFunctionSignature().get();
 
+        }
     }
 
     @Test(description = "Test generation of array type query parameter when type of the parameter not given",
@@ -214,36 +224,38 @@ public class FunctionSignatureNodeTests {
             enabled = false)
     public void testArrayQueryParamWithNoTypeGeneration() throws IOException, BallerinaOpenApiException {
         OpenAPI openAPI = getOpenAPI(RESDIR.resolve("swagger/invalid_array_query_params.yaml"));
-        TypeHandler.createInstance(openAPI, false);
-        RemoteFunctionSignatureGenerator functionSignatureGenerator = new RemoteFunctionSignatureGenerator(
-                openAPI.getPaths().get("/dogs").getGet(), openAPI, "get", "/dogs");
-        FunctionSignatureNode signature = functionSignatureGenerator.generateFunctionSignature().get();
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, false)) {
+            RemoteFunctionSignatureGenerator functionSignatureGenerator = new RemoteFunctionSignatureGenerator(
+                    openAPI.getPaths().get("/dogs").getGet(), openAPI, "get", "/dogs");
+            FunctionSignatureNode signature = functionSignatureGenerator.generateFunctionSignature().get();
 
+        }
     }
 
     @Test(description = "Test for generate function signature for an integer request")
     public void testNumericFunctionSignatureJSONPayload() throws IOException, BallerinaOpenApiException {
         OpenAPI openAPI = getOpenAPI(RESDIR.resolve("swagger/integer_request_payload.yaml"));
-        TypeHandler.createInstance(openAPI, false);
-        RemoteFunctionSignatureGenerator signature = new RemoteFunctionSignatureGenerator(openAPI.getPaths().
-                get("/pets").getPost(), openAPI, "post", "/pets");
-        FunctionSignatureNode petSignature = signature.generateFunctionSignature().get();
-        RemoteFunctionSignatureGenerator owSignature = new RemoteFunctionSignatureGenerator(openAPI.getPaths().
-                get("/owners").getPost(), openAPI, "post", "/owners");
-        FunctionSignatureNode ownerSignature = owSignature.generateFunctionSignature().get();
-        SeparatedNodeList<ParameterNode> parameters = petSignature.parameters();
-        Assert.assertFalse(parameters.isEmpty());
-        RequiredParameterNode petParams = (RequiredParameterNode) parameters.get(0);
-        RequiredParameterNode ownerParams = (RequiredParameterNode) ownerSignature.parameters().get(0);
-
-        Assert.assertEquals(petParams.paramName().orElseThrow().text(), "payload");
-        Assert.assertEquals(petParams.typeName().toString(), "int:Signed32");
-        Assert.assertEquals(ownerParams.typeName().toString(), "int");
-
-        ReturnTypeDescriptorNode petReturnTypeNode = petSignature.returnTypeDesc().orElseThrow();
-        Assert.assertEquals(petReturnTypeNode.type().toString(), "int:Signed32|error");
-        ReturnTypeDescriptorNode ownerReturnTypeNode = ownerSignature.returnTypeDesc().orElseThrow();
-        Assert.assertEquals(ownerReturnTypeNode.type().toString(), "int|error");
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, false)) {
+            RemoteFunctionSignatureGenerator signature = new RemoteFunctionSignatureGenerator(openAPI.getPaths().
+                    get("/pets").getPost(), openAPI, "post", "/pets");
+            FunctionSignatureNode petSignature = signature.generateFunctionSignature().get();
+            RemoteFunctionSignatureGenerator owSignature = new RemoteFunctionSignatureGenerator(openAPI.getPaths().
+                    get("/owners").getPost(), openAPI, "post", "/owners");
+            FunctionSignatureNode ownerSignature = owSignature.generateFunctionSignature().get();
+            SeparatedNodeList<ParameterNode> parameters = petSignature.parameters();
+            Assert.assertFalse(parameters.isEmpty());
+            RequiredParameterNode petParams = (RequiredParameterNode) parameters.get(0);
+            RequiredParameterNode ownerParams = (RequiredParameterNode) ownerSignature.parameters().get(0);
+
+            Assert.assertEquals(petParams.paramName().orElseThrow().text(), "payload");
+            Assert.assertEquals(petParams.typeName().toString(), "int:Signed32");
+            Assert.assertEquals(ownerParams.typeName().toString(), "int");
+
+            ReturnTypeDescriptorNode petReturnTypeNode = petSignature.returnTypeDesc().orElseThrow();
+            Assert.assertEquals(petReturnTypeNode.type().toString(), "int:Signed32|error");
+            ReturnTypeDescriptorNode ownerReturnTypeNode = ownerSignature.returnTypeDesc().orElseThrow();
+            Assert.assertEquals(ownerReturnTypeNode.type().toString(), "int|error");
+        }
     }
 
     @AfterTest
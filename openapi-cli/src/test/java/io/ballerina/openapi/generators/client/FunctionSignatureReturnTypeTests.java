@@ -23,6 +23,7 @@ import io.ballerina.openapi.core.generators.client.BallerinaClientGenerator;
 import io.ballerina.openapi.core.generators.client.FunctionReturnTypeGeneratorImp;
 import io.ballerina.openapi.core.generators.client.exception.ClientException;
 import io.ballerina.openapi.core.generators.client.model.OASClientConfig;
+import io.ballerina.openapi.core.generators.common.GenerationContext;
 import io.ballerina.openapi.core.generators.common.TypeHandler;
 import io.ballerina.openapi.core.generators.common.exception.BallerinaOpenApiException;
 import io.ballerina.openapi.core.generators.common.model.Filter;
@@ -49,53 +50,56 @@ public class FunctionSignatureReturnTypeTests {
     @Test(description = "Tests for returnType", enabled = false)
     public void getReturnTypeTests() throws IOException, BallerinaOpenApiException {
         OpenAPI openAPI = getOpenAPI(RES_DIR.resolve("swagger/return_type/all_return_type_operation.yaml"));
-        TypeHandler.createInstance(openAPI, false);
-        FunctionReturnTypeGeneratorImp returnType = new FunctionReturnTypeGeneratorImp(openAPI.getPaths().
-                get("/jsonproducts").getGet(), openAPI, "get");
-        Assert.assertEquals(returnType.getReturnType().get().type().toString(), "json|error");
-        FunctionReturnTypeGeneratorImp returnType2 = new FunctionReturnTypeGeneratorImp(openAPI.getPaths().
-                get("/stringproducts/record").getGet(), openAPI, "get");
-        //todo check the- this should be product array
-        Assert.assertEquals(returnType2.getReturnType().get().type().toString(), "Product[]|error");
-//        Assert.assertEquals(functionReturnType.getReturnType(openAPI.getPaths().get("/stringproducts/record")
-//        .getGet(), false), "ProductArr|error");
-        FunctionReturnTypeGeneratorImp returnType3 = new FunctionReturnTypeGeneratorImp(openAPI.getPaths().
-                get("/xmlproducts").getGet(), openAPI, "get");
-        Assert.assertEquals(returnType3.getReturnType().get().type().toString(), "xml|error");
-        FunctionReturnTypeGeneratorImp returnType4 = new FunctionReturnTypeGeneratorImp(openAPI.getPaths().
-                get("/xmlarrayproducts").getGet(), openAPI, "get");
-        //todo need to check convention this should be xml
-//        Assert.assertEquals(returnType4.getReturnType().get().type().toString(), "xml[]|error");
-        FunctionReturnTypeGeneratorImp returnType5 = new FunctionReturnTypeGeneratorImp(openAPI.getPaths().
-                get("/xmlarrayproducts").getGet(), openAPI, "get");
-        //todo need to check convention
-//        Assert.assertEquals(returnType5.getReturnType().get().type().toString(), "XMLArr|error");
-        FunctionReturnTypeGeneratorImp returnType6 = new FunctionReturnTypeGeneratorImp(openAPI.getPaths().
-                get("/products/nocontent").getGet(), openAPI, "get");
-        String returnTypeV = returnType6.getReturnType().get().type().toString();
-        Assert.assertEquals(returnTypeV, "error?");
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, false)) {
+            FunctionReturnTypeGeneratorImp returnType = new FunctionReturnTypeGeneratorImp(openAPI.getPaths().
+                    get("/jsonproducts").getGet(), openAPI, "get");
+            Assert.assertEquals(returnType.getReturnType().get().type().toString(), "json|error");
+            FunctionReturnTypeGeneratorImp returnType2 = new FunctionReturnTypeGeneratorImp(openAPI.getPaths().
+                    get("/stringproducts/record").getGet(), openAPI, "get");
+            //todo check the- this should be product array
+            Assert.assertEquals(returnType2.getReturnType().get().type().toString(), "Product[]|error");
+    //        Assert.assertEquals(functionReturnType.getReturnType(openAPI.getPaths().get("/stringproducts/record")
+    //        .getGet(), false), "ProductArr|error");
+            FunctionReturnTypeGeneratorImp returnType3 = new FunctionReturnTypeGeneratorImp(openAPI.getPaths().
+                    get("/xmlproducts").getGet(), openAPI, "get");
+            Assert.assertEquals(returnType3.getReturnType().get().type().toString(), "xml|error");
+            FunctionReturnTypeGeneratorImp returnType4 = new FunctionReturnTypeGeneratorImp(openAPI.getPaths().
+                    get("/xmlarrayproducts").getGet(), openAPI, "get");
+            //todo need to check convention this should be xml
+    //        Assert.assertEquals(returnType4.getReturnType().get().type().toString(), "xml[]|error");
+            FunctionReturnTypeGeneratorImp returnType5 = new FunctionReturnTypeGeneratorImp(openAPI.getPaths().
+                    get("/xmlarrayproducts").getGet(), openAPI, "get");
+            //todo need to check convention
+    //        Assert.assertEquals(returnType5.getReturnType().get().type().toString(), "XMLArr|error");
+            FunctionReturnTypeGeneratorImp returnType6 = new FunctionReturnTypeGeneratorImp(openAPI.getPaths().
+                    get("/products/nocontent").getGet(), openAPI, "get");
+            String returnTypeV = returnType6.getReturnType().get().type().toString();
+            Assert.assertEquals(returnTypeV, "error?");
+        }
     }
 
     @Test(description = "Tests for the object response without property")
     public void getReturnTypeForObjectSchema() throws IOException, BallerinaOpenApiException {
         OpenAPI openapi = getOpenAPI(RES_DIR.resolve("swagger/return_type/response_without_pro" +
                 "perties_with_additional.yaml"));
-        TypeHandler.createInstance(openapi, false);
-        FunctionReturnTypeGeneratorImp functionReturnType = new FunctionReturnTypeGeneratorImp(openapi
-                .getPaths().get("/products").getGet(), openapi, "get");
-        String returnType = functionReturnType.getReturnType().get().type().toString();
-        Assert.assertEquals(returnType, "record{|string...;|}|error");
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openapi, false)) {
+            FunctionReturnTypeGeneratorImp functionReturnType = new FunctionReturnTypeGeneratorImp(openapi
+                    .getPaths().get("/products").getGet(), openapi, "get");
+            String returnType = functionReturnType.getReturnType().get().type().toString();
+            Assert.assertEquals(returnType, "record{|string...;|}|error");
+        }
     }
 
     @Test(description = "Tests for the object response without property")
     public void getReturnTypeForMapSchema() throws IOException, BallerinaOpenApiException {
         OpenAPI openapi = getOpenAPI(RES_DIR.resolve("swagger/return_type/" +
                 "response_with_properties_with_additional.yaml"));
-        TypeHandler.createInstance(openapi, false);
-        FunctionReturnTypeGeneratorImp functionReturnType = new FunctionReturnTypeGeneratorImp(
-                openapi.getPaths().get("/products").getGet(), openapi, "get");
-        String returnType = functionReturnType.getReturnType().get().type().toString();
-        Assert.assertEquals(returnType, "inline_response_200|error");
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openapi, false)) {
+            FunctionReturnTypeGeneratorImp functionReturnType = new FunctionReturnTypeGeneratorImp(
+                    openapi.getPaths().get("/products").getGet(), openapi, "get");
+            String returnType = functionReturnType.getReturnType().get().type().toString();
+            Assert.assertEquals(returnType, "inline_response_200|error");
+        }
     }
 
     @Test(description = "Tests for the object response without property and without additional properties")
@@ -103,53 +107,58 @@ public class FunctionSignatureReturnTypeTests {
         OpenAPI openapi = getOpenAPI(RES_DIR.resolve("swagger/return_type" +
                 "/response_without_properties_without_additional" +
                 ".yaml"));
-        TypeHandler.createInstance(openapi, false);
-        FunctionReturnTypeGeneratorImp functionReturnType = new FunctionReturnTypeGeneratorImp(
-                openapi.getPaths().get("/products").getGet(), openapi, "get");
-        String returnType = functionReturnType.getReturnType().get().type().toString();
-        Assert.assertEquals(returnType, "record{}|error");
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openapi, false)) {
+            FunctionReturnTypeGeneratorImp functionReturnType = new FunctionReturnTypeGeneratorImp(
+                    openapi.getPaths().get("/products").getGet(), openapi, "get");
+            String returnType = functionReturnType.getReturnType().get().type().toString();
+            Assert.assertEquals(returnType, "record{}|error");
+        }
     }
 
     @Test(description = "Tests for the map response with property without additional properties")
     public void getReturnTypeForMapSchemaWithOutAdditionalProperties() throws IOException, BallerinaOpenApiException {
         OpenAPI openapi = getOpenAPI(RES_DIR.resolve("swagger/return_type/response_with_properties_" +
                 "without_additional.yaml"));
-        TypeHandler.createInstance(openapi, false);
-        FunctionReturnTypeGeneratorImp functionReturnType = new FunctionReturnTypeGeneratorImp(
-                openapi.getPaths().get("/products").getGet(), openapi, "get");
-        String returnType = functionReturnType.getReturnType().get().type().toString();
-        Assert.assertEquals(returnType, "inline_response_200|error");
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openapi, false)) {
+            FunctionReturnTypeGeneratorImp functionReturnType = new FunctionReturnTypeGeneratorImp(
+                    openapi.getPaths().get("/products").getGet(), openapi, "get");
+            String returnType = functionReturnType.getReturnType().get().type().toString();
+            Assert.assertEquals(returnType, "inline_response_200|error");
+        }
     }
 
     @Test(description = "Tests for the response with no schema")
     public void getReturnTypeForResponseWithoutSchema() throws IOException, BallerinaOpenApiException {
         OpenAPI openapi = getOpenAPI(RES_DIR.resolve("swagger/return_type/response_no_schema.yaml"));
-        TypeHandler.createInstance(openapi, false);
-        FunctionReturnTypeGeneratorImp functionReturnType = new FunctionReturnTypeGeneratorImp(
-                openapi.getPaths().get("/path01").getGet(), openapi, "get");
-        String returnType = functionReturnType.getReturnType().get().type().toString();
-        Assert.assertEquals(returnType, "json|error");
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openapi, false)) {
+            FunctionReturnTypeGeneratorImp functionReturnType = new FunctionReturnTypeGeneratorImp(
+                    openapi.getPaths().get("/path01").getGet(), openapi, "get");
+            String returnType = functionReturnType.getReturnType().get().type().toString();
+            Assert.assertEquals(returnType, "json|error");
+        }
     }
 
     @Test(description = "Tests for the empty response")
     public void getReturnTypeForEmptyResponse() throws IOException, BallerinaOpenApiException {
         OpenAPI openapi = getOpenAPI(RES_DIR.resolve("swagger/return_type/no_response.yaml"));
-        TypeHandler.createInstance(openapi, false);
-        FunctionReturnTypeGeneratorImp functionReturnType = new FunctionReturnTypeGeneratorImp(
-                openapi.getPaths().get("/pets").getGet(), openapi, "get");
-        String returnType = functionReturnType.getReturnType().get().type().toString();
-        Assert.assertEquals(returnType, "http:Response|error");
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openapi, false)) {
+            FunctionReturnTypeGeneratorImp functionReturnType = new FunctionReturnTypeGeneratorImp(
+                    openapi.getPaths().get("/pets").getGet(), openapi, "get");
+            String returnType = functionReturnType.getReturnType().get().type().toString();
+            Assert.assertEquals(returnType, "http:Response|error");
+        }
     }
 
     @Test(description = "Tests for the response with additional properties in OpenAPI 3.1 spec")
     public void getReturnTypeForAdditionalPropertySchema() throws IOException, BallerinaOpenApiException {
         OpenAPI openapi = getOpenAPI(RES_DIR.resolve("swagger/return_type/" +
                 "response_with_only_additional_schema.yaml"));
-        TypeHandler.createInstance(openapi, false);
-        FunctionReturnTypeGeneratorImp functionReturnType = new FunctionReturnTypeGeneratorImp(
-                openapi.getPaths().get("/store/inventory").getGet(), openapi, "get");
-        String returnType = functionReturnType.getReturnType().get().type().toString();
-        Assert.assertEquals(returnType, "record{|int:Signed32...;|}|error");
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openapi, false)) {
+            FunctionReturnTypeGeneratorImp functionReturnType = new FunctionReturnTypeGeneratorImp(
+                    openapi.getPaths().get("/store/inventory").getGet(), openapi, "get");
+            String returnType = functionReturnType.getReturnType().get().type().toString();
+            Assert.assertEquals(returnType, "record{|int:Signed32...;|}|error");
+        }
     }
 
     @Test(description = "Tests for the response without content type")
@@ -157,16 +166,17 @@ public class FunctionSignatureReturnTypeTests {
         OpenAPI openAPI = getOpenAPI(RES_DIR.resolve("swagger/return_type" +
                 "/no_content_type.yaml"));
         Path expectedPath = RES_DIR.resolve("ballerina/return/no_content_type.bal");
-        TypeHandler.createInstance(openAPI, false);
-        List<String> list1 = new ArrayList<>();
-        Filter filter = new Filter(list1, list1);
-        OASClientConfig.Builder clientMetaDataBuilder = new OASClientConfig.Builder();
-        OASClientConfig oasClientConfig = clientMetaDataBuilder
-                .withFilters(filter)
-                .withOpenAPI(openAPI).build();
-        BallerinaClientGenerator ballerinaClientGenerator = new BallerinaClientGenerator(oasClientConfig);
-        SyntaxTree syntaxTree = ballerinaClientGenerator.generateSyntaxTree();
-        compareGeneratedSyntaxTreeWithExpectedSyntaxTree(expectedPath, syntaxTree);
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, false)) {
+            List<String> list1 = new ArrayList<>();
+            Filter filter = new Filter(list1, list1);
+            OASClientConfig.Builder clientMetaDataBuilder = new OASClientConfig.Builder();
+            OASClientConfig oasClientConfig = clientMetaDataBuilder
+                    .withFilters(filter)
+                    .withOpenAPI(openAPI).build();
+            BallerinaClientGenerator ballerinaClientGenerator = new BallerinaClientGenerator(oasClientConfig);
+            SyntaxTree syntaxTree = ballerinaClientGenerator.generateSyntaxTree();
+            compareGeneratedSyntaxTreeWithExpectedSyntaxTree(expectedPath, syntaxTree);
+        }
     }
 
     @Test(description = "Tests for the response which has some encoding details in media type")
@@ -174,16 +184,17 @@ public class FunctionSignatureReturnTypeTests {
         OpenAPI openAPI = getOpenAPI(RES_DIR.resolve("swagger/return_type" +
                 "/return_type_encoding.yaml"));
         Path expectedPath = RES_DIR.resolve("ballerina/return/return_type_encode.bal");
-        TypeHandler.createInstance(openAPI, false);
-        List<String> list1 = new ArrayList<>();
-        Filter filter = new Filter(list1, list1);
-        OASClientConfig.Builder clientMetaDataBuilder = new OASClientConfig.Builder();
-        OASClientConfig oasClientConfig = clientMetaDataBuilder
-                .withFilters(filter)
-                .withOpenAPI(openAPI).build();
-        BallerinaClientGenerator ballerinaClientGenerator = new BallerinaClientGenerator(oasClientConfig);
-        SyntaxTree syntaxTree = ballerinaClientGenerator.generateSyntaxTree();
-        compareGeneratedSyntaxTreeWithExpectedSyntaxTree(expectedPath, syntaxTree);
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, false)) {
+            List<String> list1 = new ArrayList<>();
+            Filter filter = new Filter(list1, list1);
+            OASClientConfig.Builder clientMetaDataBuilder = new OASClientConfig.Builder();
+            OASClientConfig oasClientConfig = clientMetaDataBuilder
+                    .withFilters(filter)
+                    .withOpenAPI(openAPI).build();
+            BallerinaClientGenerator ballerinaClientGenerator = new BallerinaClientGenerator(oasClientConfig);
+            SyntaxTree syntaxTree = ballerinaClientGenerator.generateSyntaxTree();
+            compareGeneratedSyntaxTreeWithExpectedSyntaxTree(expectedPath, syntaxTree);
+        }
     }
 
     @Test(description = "Tests for the server sent event return type with resource function")
@@ -191,16 +202,17 @@ public class FunctionSignatureReturnTypeTests {
         OpenAPI openAPI = getOpenAPI(RES_DIR.resolve("swagger/return_type" +
                 "/sse_return_type.yaml"));
         Path expectedPath = RES_DIR.resolve("ballerina/return/sse_return_type_resource.bal");
-        TypeHandler.createInstance(openAPI, false);
-        List<String> list1 = new ArrayList<>();
-        Filter filter = new Filter(list1, list1);
-        OASClientConfig.Builder clientMetaDataBuilder = new OASClientConfig.Builder();
-        OASClientConfig oasClientConfig = clientMetaDataBuilder
-                .withFilters(filter)
-                .withOpenAPI(openAPI).build();
-        BallerinaClientGenerator ballerinaClientGenerator = new BallerinaClientGenerator(oasClientConfig);
-        SyntaxTree syntaxTree = ballerinaClientGenerator.generateSyntaxTree();
-        compareGeneratedSyntaxTreeWithExpectedSyntaxTree(expectedPath, syntaxTree);
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, false)) {
+            List<String> list1 = new ArrayList<>();
+            Filter filter = new Filter(list1, list1);
+            OASClientConfig.Builder clientMetaDataBuilder = new OASClientConfig.Builder();
+            OASClientConfig oasClientConfig = clientMetaDataBuilder
+                    .withFilters(filter)
+                    .withOpenAPI(openAPI).build();
+            BallerinaClientGenerator ballerinaClientGenerator = new BallerinaClientGenerator(oasClientConfig);
+            SyntaxTree syntaxTree = ballerinaClientGenerator.generateSyntaxTree();
+            compareGeneratedSyntaxTreeWithExpectedSyntaxTree(expectedPath, syntaxTree);
+        }
     }
 
     @Test(description = "Tests for the server sent event return type with remote function")
@@ -208,16 +220,17 @@ public class FunctionSignatureReturnTypeTests {
         OpenAPI openAPI = getOpenAPI(RES_DIR.resolve("swagger/return_type" +
                 "/sse_return_type.yaml"));
         Path expectedPath = RES_DIR.resolve("ballerina/return/sse_return_type_remote.bal");
-        TypeHandler.createInstance(openAPI, false);
-        List<String> list1 = new ArrayList<>();
-        Filter filter = new Filter(list1, list1);
-        OASClientConfig.Builder clientMetaDataBuilder = new OASClientConfig.Builder();
-        OASClientConfig oasClientConfig = clientMetaDataBuilder
-                .withFilters(filter)
-                .withOpenAPI(openAPI)
-                .withResourceMode(false).build();
-        BallerinaClientGenerator ballerinaClientGenerator = new BallerinaClientGenerator(oasClientConfig);
-        SyntaxTree syntaxTree = ballerinaClientGenerator.generateSyntaxTree();
-        compareGeneratedSyntaxTreeWithExpectedSyntaxTree(expectedPath, syntaxTree);
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, false)) {
+            List<String> list1 = new ArrayList<>();
+            Filter filter = new Filter(list1, list1);
+            OASClientConfig.Builder clientMetaDataBuilder = new OASClientConfig.Builder();
+            OASClientConfig oasClientConfig = clientMetaDataBuilder
+                    .withFilters(filter)
+                    .withOpenAPI(openAPI)
+                    .withResourceMode(false).build();
+            BallerinaClientGenerator ballerinaClientGenerator = new BallerinaClientGenerator(oasClientConfig);
+            SyntaxTree syntaxTree = ballerinaClientGenerator.generateSyntaxTree();
+            compareGeneratedSyntaxTreeWithExpectedSyntaxTree(expectedPath, syntaxTree);
+        }
     }
 }
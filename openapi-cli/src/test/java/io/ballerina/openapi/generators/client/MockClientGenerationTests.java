@@ -25,6 +25,7 @@ import io.ballerina.openapi.core.generators.client.mock.AdvanceMockClientGenerat
 import io.ballerina.openapi.core.generators.client.mock.BallerinaMockClientGenerator;
 import io.ballerina.openapi.core.generators.client.mock.MockFunctionBodyGenerator;
 import io.ballerina.openapi.core.generators.client.model.OASClientConfig;
+import io.ballerina.openapi.core.generators.common.GenerationContext;
 import io.ballerina.openapi.core.generators.common.TypeHandler;
 import io.ballerina.openapi.core.generators.common.exception.BallerinaOpenApiException;
 import io.swagger.v3.oas.models.OpenAPI;
@@ -54,21 +55,23 @@ public class MockClientGenerationTests {
     public void mockClientTestForExamplesAttribute() throws IOException, BallerinaOpenApiException {
         Path definitionPath = RES_DIR.resolve("basic_response_examples.yaml");
         OpenAPI openapi = getOpenAPI(definitionPath);
-        TypeHandler.createInstance(openapi, false);
-        String path = "/api/v1/payment_run_schedules";
-        Set<Map.Entry<PathItem.HttpMethod, Operation>> pathItem = openapi.getPaths().get(path).
-                readOperationsMap().entrySet();
-        Iterator<Map.Entry<PathItem.HttpMethod, Operation>> iterator = pathItem.iterator();
-        Map.Entry<PathItem.HttpMethod, Operation> operation = iterator.next();
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openapi, false)) {
+            String path = "/api/v1/payment_run_schedules";
+            Set<Map.Entry<PathItem.HttpMethod, Operation>> pathItem = openapi.getPaths().get(path).
+                    readOperationsMap().entrySet();
+            Iterator<Map.Entry<PathItem.HttpMethod, Operation>> iterator = pathItem.iterator();
+            Map.Entry<PathItem.HttpMethod, Operation> operation = iterator.next();
 
-        MockFunctionBodyGenerator mockFunctionBodyGenerator = new MockFunctionBodyGenerator(path, operation, openapi,
-                false);
-        Optional<FunctionBodyNode> functionBodyNode = mockFunctionBodyGenerator.getFunctionBodyNode();
-        FunctionBodyNode body = functionBodyNode.get();
-        String node = body.toString();
-        Assert.assertEquals("{return {\"success\":true,\"size\":3,\"schedules\":[{\"id\":6,\"status\":\"Active\"" +
-                ",\"filter\":\"Account.BillCycleDay = 8\",\"schedule\":\"At 6:00 AM, only on Monday and" +
-                " Tuesday\"}]};}", node);
+            MockFunctionBodyGenerator mockFunctionBodyGenerator = new MockFunctionBodyGenerator(path, operation,
+                    openapi,
+                    false);
+            Optional<FunctionBodyNode> functionBodyNode = mockFunctionBodyGenerator.getFunctionBodyNode();
+            FunctionBodyNode body = functionBodyNode.get();
+            String node = body.toString();
+            Assert.assertEquals("{return {\"success\":true,\"size\":3,\"schedules\":[{\"id\":6,\"status\":\"Active\"" +
+                    ",\"filter\":\"Account.BillCycleDay = 8\",\"schedule\":\"At 6:00 AM, only on Monday and" +
+                    " Tuesday\"}]};}", node);
+        }
     }
 
     @Test
@@ -76,15 +79,16 @@ public class MockClientGenerationTests {
         Path definitionPath = RES_DIR.resolve("ref_example.json");
         Path expectedPath = RES_DIR.resolve("reference_example.bal");
         OpenAPI openapi = getOpenAPI(definitionPath);
-        TypeHandler.createInstance(openapi, false);
-        OASClientConfig.Builder clientMetaDataBuilder = new OASClientConfig.Builder();
-        OASClientConfig oasClientConfig = clientMetaDataBuilder
-                .withPlugin(false)
-                .withOpenAPI(openapi)
-                .withMock(true).build();
-        BallerinaMockClientGenerator mockClientGenerator = new BallerinaMockClientGenerator(oasClientConfig);
-        SyntaxTree syntaxTree = mockClientGenerator.generateSyntaxTree();
-        compareGeneratedSyntaxTreeWithExpectedSyntaxTree(expectedPath, syntaxTree);
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openapi, false)) {
+            OASClientConfig.Builder clientMetaDataBuilder = new OASClientConfig.Builder();
+            OASClientConfig oasClientConfig = clientMetaDataBuilder
+                    .withPlugin(false)
+                    .withOpenAPI(openapi)
+                    .withMock(true).build();
+            BallerinaMockClientGenerator mockClientGenerator = new BallerinaMockClientGenerator(oasClientConfig);
+            SyntaxTree syntaxTree = mockClientGenerator.generateSyntaxTree();
+            compareGeneratedSyntaxTreeWithExpectedSyntaxTree(expectedPath, syntaxTree);
+        }
     }
 
     @Test
@@ -92,16 +96,17 @@ public class MockClientGenerationTests {
         Path definitionPath = RES_DIR.resolve("basic_response_examples.yaml");
         Path expectedPath = RES_DIR.resolve("mock_client_for_remote.bal");
         OpenAPI openapi = getOpenAPI(definitionPath);
-        TypeHandler.createInstance(openapi, false);
-        OASClientConfig.Builder clientMetaDataBuilder = new OASClientConfig.Builder();
-        OASClientConfig oasClientConfig = clientMetaDataBuilder
-                .withPlugin(false)
-                .withOpenAPI(openapi)
-                .withResourceMode(false)
-                .withMock(true).build();
-        BallerinaMockClientGenerator mockClientGenerator = new BallerinaMockClientGenerator(oasClientConfig);
-        SyntaxTree syntaxTree = mockClientGenerator.generateSyntaxTree();
-        compareGeneratedSyntaxTreeWithExpectedSyntaxTree(expectedPath, syntaxTree);
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openapi, false)) {
+            OASClientConfig.Builder clientMetaDataBuilder = new OASClientConfig.Builder();
+            OASClientConfig oasClientConfig = clientMetaDataBuilder
+                    .withPlugin(false)
+                    .withOpenAPI(openapi)
+                    .withResourceMode(false)
+                    .withMock(true).build();
+            BallerinaMockClientGenerator mockClientGenerator = new BallerinaMockClientGenerator(oasClientConfig);
+            SyntaxTree syntaxTree = mockClientGenerator.generateSyntaxTree();
+            compareGeneratedSyntaxTreeWithExpectedSyntaxTree(expectedPath, syntaxTree);
+        }
     }
 
     @Test
@@ -109,15 +114,16 @@ public class MockClientGenerationTests {
         Path definitionPath = RES_DIR.resolve("basic_response_example.yaml");
         Path expectedPath = RES_DIR.resolve("basic_response_example.bal");
         OpenAPI openapi = getOpenAPI(definitionPath);
-        TypeHandler.createInstance(openapi, false);
-        OASClientConfig.Builder clientMetaDataBuilder = new OASClientConfig.Builder();
-        OASClientConfig oasClientConfig = clientMetaDataBuilder
-                .withPlugin(false)
-                .withOpenAPI(openapi)
-                .withMock(true).build();
-        BallerinaMockClientGenerator mockClientGenerator = new BallerinaMockClientGenerator(oasClientConfig);
-        SyntaxTree syntaxTree = mockClientGenerator.generateSyntaxTree();
-        compareGeneratedSyntaxTreeWithExpectedSyntaxTree(expectedPath, syntaxTree);
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openapi, false)) {
+            OASClientConfig.Builder clientMetaDataBuilder = new OASClientConfig.Builder();
+            OASClientConfig oasClientConfig = clientMetaDataBuilder
+                    .withPlugin(false)
+                    .withOpenAPI(openapi)
+                    .withMock(true).build();
+            BallerinaMockClientGenerator mockClientGenerator = new BallerinaMockClientGenerator(oasClientConfig);
+            SyntaxTree syntaxTree = mockClientGenerator.generateSyntaxTree();
+            compareGeneratedSyntaxTreeWithExpectedSyntaxTree(expectedPath, syntaxTree);
+        }
     }
 
     @Test
@@ -125,14 +131,15 @@ public class MockClientGenerationTests {
         Path definitionPath = RES_DIR.resolve("basic_response_examples.yaml");
         Path expectedPath = RES_DIR.resolve("mock_client_for_advance_return_type.bal");
         OpenAPI openapi = getOpenAPI(definitionPath);
-        TypeHandler.createInstance(openapi, false);
-        OASClientConfig.Builder clientMetaDataBuilder = new OASClientConfig.Builder();
-        OASClientConfig oasClientConfig = clientMetaDataBuilder
-                .withPlugin(false)
-                .withOpenAPI(openapi)
-                .withMock(true).build();
-        AdvanceMockClientGenerator mockClientGenerator = new AdvanceMockClientGenerator(oasClientConfig);
-        SyntaxTree syntaxTree = mockClientGenerator.generateSyntaxTree();
-        compareGeneratedSyntaxTreeWithExpectedSyntaxTree(expectedPath, syntaxTree);
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openapi, false)) {
+            OASClientConfig.Builder clientMetaDataBuilder = new OASClientConfig.Builder();
+            OASClientConfig oasClientConfig = clientMetaDataBuilder
+                    .withPlugin(false)
+                    .withOpenAPI(openapi)
+                    .withMock(true).build();
+            AdvanceMockClientGenerator mockClientGenerator = new AdvanceMockClientGenerator(oasClientConfig);
+            SyntaxTree syntaxTree = mockClientGenerator.generateSyntaxTree();
+            compareGeneratedSyntaxTreeWithExpectedSyntaxTree(expectedPath, syntaxTree);
+        }
     }
 }
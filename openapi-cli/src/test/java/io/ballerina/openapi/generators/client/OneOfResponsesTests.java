@@ -19,6 +19,7 @@
 package io.ballerina.openapi.generators.client;
 
 import io.ballerina.openapi.core.generators.client.FunctionReturnTypeGeneratorImp;
+import io.ballerina.openapi.core.generators.common.GenerationContext;
 import io.ballerina.openapi.core.generators.common.TypeHandler;
 import io.ballerina.openapi.core.generators.common.exception.BallerinaOpenApiException;
 import io.swagger.v3.oas.models.OpenAPI;
@@ -41,11 +42,12 @@ public class OneOfResponsesTests {
     @Test(description = "Tests for returnType when response has array oneOf")
     public void getReturnTypeOneOfArray() throws IOException, BallerinaOpenApiException {
         OpenAPI openapi = getOpenAPI(RES_DIR.resolve("swagger/return_type/inline_oneOf_response.yaml"));
-        TypeHandler.createInstance(openapi, false);
-        FunctionReturnTypeGeneratorImp functionReturnType = new FunctionReturnTypeGeneratorImp(
-                openapi.getPaths().get("/pet").getGet(), openapi, "get");
-        Assert.assertEquals(functionReturnType.getReturnType().get().type().toString(),
-                "inline_response_2XX|error");
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openapi, false)) {
+            FunctionReturnTypeGeneratorImp functionReturnType = new FunctionReturnTypeGeneratorImp(
+                    openapi.getPaths().get("/pet").getGet(), openapi, "get");
+            Assert.assertEquals(functionReturnType.getReturnType().get().type().toString(),
+                    "inline_response_2XX|error");
+        }
     }
 
 }
@@ -23,11 +23,13 @@ import io.ballerina.openapi.cmd.BallerinaCodeGenerator;
 import io.ballerina.openapi.core.generators.client.BallerinaClientGenerator;
 import io.ballerina.openapi.core.generators.client.exception.ClientException;
 import io.ballerina.openapi.core.generators.client.model.OASClientConfig;
+import io.ballerina.openapi.core.generators.common.GenerationContext;
 import io.ballerina.openapi.core.generators.common.GeneratorUtils;
 import io.ballerina.openapi.core.generators.common.TypeHandler;
 import io.ballerina.openapi.core.generators.common.exception.BallerinaOpenApiException;
 import io.ballerina.openapi.core.generators.common.model.Filter;
 import io.swagger.v3.oas.models.OpenAPI;
+import org.testng.annotations.AfterMethod;
 import org.testng.annotations.Test;
 
 import java.io.IOException;
@@ -48,6 +50,15 @@ public class PathParameterTests {
     List<String> list1 = new ArrayList<>();
     List<String> list2 = new ArrayList<>();
     Filter filter = new Filter(list1, list2);
+    private GenerationContext.Scope scope;
+
+    @AfterMethod
+    public void exitGenerationContext() {
+        if (scope != null) {
+            scope.close();
+            scope = null;
+        }
+    }
 
     @Test(description = "Generate Client for path parameter has parameter name as key word - unit tests for method")
     public void generatePathWithPathParameterTests() throws IOException, BallerinaOpenApiException, ClientException {
@@ -149,7 +160,9 @@ public class PathParameterTests {
     private BallerinaClientGenerator getBallerinaClientGenerator(Path definitionPath) throws IOException,
             BallerinaOpenApiException {
         OpenAPI openAPI = GeneratorUtils.normalizeOpenAPI(definitionPath, true, false);
-        TypeHandler.createInstance(openAPI, true);
+        // The type handler of the generation is used by the tests, hence the scope is closed after each test.
+        exitGenerationContext();
+        scope = TypeHandler.createScopedInstance(openAPI, true);
         OASClientConfig.Builder clientMetaDataBuilder = new OASClientConfig.Builder();
         OASClientConfig oasClientConfig = clientMetaDataBuilder
                 .withFilters(filter)
@@ -8,8 +8,10 @@ import io.ballerina.compiler.syntax.tree.SyntaxKind;
 import io.ballerina.compiler.syntax.tree.SyntaxTree;
 import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
 import io.ballerina.openapi.core.generators.client.BallerinaClientGenerator;
+import io.ballerina.openapi.core.generators.client.BallerinaClientGeneratorWithStatusCodeBinding;
 import io.ballerina.openapi.core.generators.client.exception.ClientException;
 import io.ballerina.openapi.core.generators.client.model.OASClientConfig;
+import io.ballerina.openapi.core.generators.common.GenerationContext;
 import io.ballerina.openapi.core.generators.common.GeneratorUtils;
 import io.ballerina.openapi.core.generators.common.TypeHandler;
 import io.ballerina.openapi.core.generators.common.exception.BallerinaOpenApiException;
@@ -21,6 +23,7 @@ import io.swagger.v3.oas.models.OpenAPI;
 import org.ballerinalang.formatter.core.FormatterException;
 import org.testng.Assert;
 import org.testng.annotations.AfterClass;
+import org.testng.annotations.AfterMethod;
 import org.testng.annotations.Test;
 
 import java.io.IOException;
@@ -42,6 +45,15 @@ public class UtilGenerationTests {
     List<String> list1 = new ArrayList<>();
     List<String> list2 = new ArrayList<>();
     Filter filter = new Filter(list1, list2);
+    private GenerationContext.Scope scope;
+
+    @AfterMethod
+    public void exitGenerationContext() {
+        if (scope != null) {
+            scope.close();
+            scope = null;
+        }
+    }
 
     private static final String CREATE_FORM_URLENCODED_REQUEST_BODY = "createFormURLEncodedRequestBody";
     private static final String GET_DEEP_OBJECT_STYLE_REQUEST = "getDeepObjectStyleRequest";
@@ -225,6 +237,34 @@ public class UtilGenerationTests {
         compareGeneratedSyntaxTreeWithExpectedSyntaxTree(expectedUtilsPath, utilsSyntaxTree);
     }
 
+    @Test(description = "Validate the util functions generated with the native serializers for OpenAPI definition " +
+            "with query parameters")
+    public void testUtilFileGenWithNativeSerializers() throws IOException, BallerinaOpenApiException,
+            ClientException {
+        Path definitionPath = RESDIR.resolve("swagger/query_param.yaml");
+        OpenAPI openAPI = GeneratorUtils.normalizeOpenAPI(definitionPath, true, false);
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, true)) {
+            OASClientConfig oasClientConfig = new OASClientConfig.Builder()
+                    .withFilters(filter)
+                    .withOpenAPI(openAPI)
+                    .withResourceMode(true)
+                    .withStatusCodeBinding(true)
+                    .withNativeSerializers(true).build();
+            BallerinaClientGenerator ballerinaClientGenerator =
+                    new BallerinaClientGeneratorWithStatusCodeBinding(oasClientConfig);
+            ballerinaClientGenerator.generateSyntaxTree();
+            SyntaxTree utilSyntaxTree = ballerinaClientGenerator.getBallerinaUtilGenerator().generateUtilSyntaxTree();
+            List<String> invalidFunctionNames = Arrays.asList(CREATE_FORM_URLENCODED_REQUEST_BODY,
+                    GET_FORM_STYLE_REQUEST,
+                    GET_SERIALIZED_RECORD_ARRAY, GET_ENCODED_URI);
+            Assert.assertTrue(checkUtil(invalidFunctionNames, utilSyntaxTree));
+            String utilSource = utilSyntaxTree.toSourceCode();
+            Assert.assertTrue(utilSource.contains("import ballerina/jballerina.java;"));
+            Assert.assertTrue(utilSource.contains("isolated function getPathForQueryMap("));
+            Assert.assertTrue(utilSource.contains("'class: \"io.ballerina.openapi.client.ParameterSerializer\""));
+        }
+    }
+
     private boolean checkUtil(List<String> invalidFunctionNames, SyntaxTree utilSyntaxTree) {
         ModulePartNode modulePartNode = utilSyntaxTree.rootNode();
         NodeList<ModuleMemberDeclarationNode> members = modulePartNode.members();
@@ -248,7 +288,9 @@ public class UtilGenerationTests {
     private BallerinaClientGenerator getBallerinaClientGenerator(Path definitionPath) throws IOException,
             BallerinaOpenApiException {
         OpenAPI openAPI = GeneratorUtils.normalizeOpenAPI(definitionPath, true, false);
-        TypeHandler.createInstance(openAPI, true);
+        // The type handler of the generation is used by the tests, hence the scope is closed after each test.
+        exitGenerationContext();
+        scope = TypeHandler.createScopedInstance(openAPI, true);
         OASClientConfig.Builder clientMetaDataBuilder = new OASClientConfig.Builder();
         OASClientConfig oasClientConfig = clientMetaDataBuilder
                 .withFilters(filter)
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.openapi.generators.common;
+
+import io.ballerina.openapi.core.generators.common.GenerationContext;
+import io.ballerina.openapi.core.generators.common.TypeHandler;
+import io.ballerina.openapi.core.generators.type.model.GeneratorMetaData;
+import io.swagger.v3.oas.models.OpenAPI;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * This contains the tests for binding the generation context to the threads of a generation.
+ */
+public class GenerationContextTests {
+
+    @Test(description = "A scoped instance is unbound and the previous instance is restored when the scope is closed")
+    public void testScopedInstance() {
+        TypeHandler previousTypeHandler = TypeHandler.getInstance();
+        try (GenerationContext.Scope outerScope = TypeHandler.createScopedInstance(new OpenAPI(), false)) {
+            TypeHandler outerTypeHandler = TypeHandler.getInstance();
+            Assert.assertNotNull(outerTypeHandler);
+            try (GenerationContext.Scope innerScope = TypeHandler.createScopedInstance(new OpenAPI(), true)) {
+                Assert.assertNotSame(TypeHandler.getInstance(), outerTypeHandler);
+                Assert.assertTrue(GeneratorMetaData.getInstance().isNullable());
+            }
+            Assert.assertSame(TypeHandler.getInstance(), outerTypeHandler);
+            Assert.assertFalse(GeneratorMetaData.getInstance().isNullable());
+        }
+        Assert.assertSame(TypeHandler.getInstance(), previousTypeHandler);
+    }
+
+    @Test(description = "An instance created without a scope stays bound until an enclosing scope is closed")
+    public void testInstanceWithoutScope() {
+        TypeHandler previousTypeHandler = TypeHandler.getInstance();
+        try (GenerationContext.Scope ignored = GenerationContext.enter(null)) {
+            TypeHandler.createInstance(new OpenAPI(), false);
+            TypeHandler typeHandler = TypeHandler.getInstance();
+            Assert.assertNotNull(typeHandler);
+            GeneratorMetaData.createInstance(new OpenAPI(), true);
+            Assert.assertSame(TypeHandler.getInstance(), typeHandler);
+            Assert.assertTrue(GeneratorMetaData.getInstance().isNullable());
+        }
+        Assert.assertSame(TypeHandler.getInstance(), previousTypeHandler);
+    }
+
+    @Test(description = "A worker reaches the generation context only when the context is handed to it")
+    public void testHandoffToWorker() throws ExecutionException, InterruptedException {
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(new OpenAPI(), false);
+             ExecutorService executor = Executors.newSingleThreadExecutor()) {
+            GenerationContext generationContext = GenerationContext.current();
+            Assert.assertNull(executor.submit(TypeHandler::getInstance).get());
+            TypeHandler workerTypeHandler = executor.submit(() -> {
+                try (GenerationContext.Scope workerScope = GenerationContext.enter(generationContext)) {
+                    return TypeHandler.getInstance();
+                }
+            }).get();
+            Assert.assertSame(workerTypeHandler, TypeHandler.getInstance());
+            // The context is unbound from the worker once the handed work is done.
+            Assert.assertNull(executor.submit(TypeHandler::getInstance).get());
+        }
+    }
+}
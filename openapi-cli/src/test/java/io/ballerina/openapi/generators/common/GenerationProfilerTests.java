@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.openapi.generators.common;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.openapi.core.generators.common.GenerationContext;
+import io.ballerina.openapi.core.generators.common.GenerationProfiler;
+import io.ballerina.openapi.core.generators.common.GeneratorUtils;
+import io.ballerina.openapi.core.generators.common.SourceFormatter;
+import io.ballerina.openapi.core.generators.common.TypeHandler;
+import io.ballerina.openapi.core.generators.common.exception.BallerinaOpenApiException;
+import io.swagger.v3.oas.models.OpenAPI;
+import org.ballerinalang.formatter.core.FormatterException;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+/**
+ * This contains the tests for profiling the phases of a generation.
+ */
+public class GenerationProfilerTests {
+    private static final Path RES_DIR = Paths.get("src/test/resources/generators/schema").toAbsolutePath();
+
+    @Test(description = "The phases and the counts of a generation are recorded in the bound profiler")
+    public void testProfileGeneration() throws IOException, BallerinaOpenApiException, FormatterException {
+        GenerationProfiler profiler = new GenerationProfiler();
+        try (GenerationProfiler.Scope ignored = GenerationProfiler.enter(profiler)) {
+            OpenAPI openAPI = GeneratorUtils.normalizeOpenAPI(RES_DIR.resolve("swagger/allOf.yaml"), true, false);
+            try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, false)) {
+                SyntaxTree typeSyntaxTree = TypeHandler.getInstance().generateTypeSyntaxTree();
+                SourceFormatter.format(typeSyntaxTree);
+            }
+        }
+        String profile = profiler.toJson();
+        for (String name : List.of(GenerationProfiler.PARSE, GenerationProfiler.TYPES, GenerationProfiler.TYPE_FIXER,
+                GenerationProfiler.DOC_COMMENTS, GenerationProfiler.FORMAT, GenerationProfiler.SCHEMAS,
+                GenerationProfiler.TYPE_DEFINITIONS, GenerationProfiler.MODULE_MEMBERS)) {
+            Assert.assertTrue(profile.contains("\"" + name + "\""), name);
+        }
+        Assert.assertFalse(profile.contains("\"" + GenerationProfiler.CLIENT + "\""));
+    }
+
+    @Test(description = "Nothing is recorded once the profiler is unbound from the thread")
+    public void testUnboundProfiler() throws IOException {
+        GenerationProfiler profiler = new GenerationProfiler();
+        try (GenerationProfiler.Scope ignored = GenerationProfiler.enter(profiler)) {
+            GenerationProfiler.count(GenerationProfiler.OPERATIONS, 1);
+        }
+        try (GenerationProfiler.Phase ignored = GenerationProfiler.phase(GenerationProfiler.PARSE)) {
+            GenerationProfiler.count(GenerationProfiler.OPERATIONS, 1);
+        }
+        String profile = profiler.toJson();
+        Assert.assertFalse(profile.contains("\"" + GenerationProfiler.PARSE + "\""));
+        Assert.assertTrue(profile.matches("(?s).*\"" + GenerationProfiler.OPERATIONS + "\" : 1\\b.*"));
+    }
+
+    @Test(description = "The self time of a phase excludes the phases nested in it")
+    public void testNestedPhases() throws IOException, InterruptedException {
+        GenerationProfiler profiler = new GenerationProfiler();
+        try (GenerationProfiler.Scope ignored = GenerationProfiler.enter(profiler)) {
+            try (GenerationProfiler.Phase outer = GenerationProfiler.phase(GenerationProfiler.CLIENT)) {
+                try (GenerationProfiler.Phase nested = GenerationProfiler.phase(GenerationProfiler.PARSE)) {
+                    Thread.sleep(50);
+                }
+            }
+        }
+        JsonNode phases = new ObjectMapper().readTree(profiler.toJson()).get("phases");
+        JsonNode client = phases.get(GenerationProfiler.CLIENT);
+        JsonNode parse = phases.get(GenerationProfiler.PARSE);
+        Assert.assertEquals(parse.get("selfTimeNanos").asLong(), parse.get("timeNanos").asLong());
+        Assert.assertTrue(client.get("timeNanos").asLong() >= parse.get("timeNanos").asLong());
+        Assert.assertEquals(client.get("selfTimeNanos").asLong(),
+                client.get("timeNanos").asLong() - parse.get("timeNanos").asLong());
+        Assert.assertEquals(client.get("selfAllocatedBytes").asLong(),
+                client.get("allocatedBytes").asLong() - parse.get("allocatedBytes").asLong());
+    }
+}
@@ -23,6 +23,7 @@ import io.ballerina.compiler.syntax.tree.SyntaxTree;
 import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
 import io.ballerina.openapi.cmd.CmdUtils;
 import io.ballerina.openapi.core.generators.client.BallerinaClientGenerator;
+import io.ballerina.openapi.core.generators.common.GenerationContext;
 import io.ballerina.openapi.core.generators.common.GeneratorUtils;
 import io.ballerina.openapi.core.generators.common.TypeHandler;
 import io.ballerina.openapi.core.generators.common.exception.BallerinaOpenApiException;
@@ -79,14 +80,15 @@ public class GeneratorTestUtils {
         List<TypeDefinitionNode> preGeneratedTypeDefinitionNodes = new LinkedList<>();
         preGeneratedTypeDefinitionNodes.addAll(ballerinaClientGenerator.
                 getBallerinaAuthConfigGenerator().getAuthRelatedTypeDefinitionNodes());
-        TypeHandler.createInstance(openAPI, false);
-        SyntaxTree schemaSyntax = TypeHandler.getInstance().generateTypeSyntaxTree();
-        SyntaxTree utilSyntaxTree = ballerinaClientGenerator.getBallerinaUtilGenerator().generateUtilSyntaxTree();
-        writeFile(clientPath, Formatter.format(syntaxTree).toSourceCode());
-        writeFile(schemaPath, Formatter.format(schemaSyntax).toSourceCode());
-        writeFile(utilPath, Formatter.format(utilSyntaxTree).toSourceCode());
-        SemanticModel semanticModel = getSemanticModel(clientPath);
-        return semanticModel.diagnostics();
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, false)) {
+            SyntaxTree schemaSyntax = TypeHandler.getInstance().generateTypeSyntaxTree();
+            SyntaxTree utilSyntaxTree = ballerinaClientGenerator.getBallerinaUtilGenerator().generateUtilSyntaxTree();
+            writeFile(clientPath, Formatter.format(syntaxTree).toSourceCode());
+            writeFile(schemaPath, Formatter.format(schemaSyntax).toSourceCode());
+            writeFile(utilPath, Formatter.format(utilSyntaxTree).toSourceCode());
+            SemanticModel semanticModel = getSemanticModel(clientPath);
+            return semanticModel.diagnostics();
+        }
     }
 
     // Get diagnostics
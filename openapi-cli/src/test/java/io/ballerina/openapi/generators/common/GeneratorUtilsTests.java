@@ -19,19 +19,31 @@
 package io.ballerina.openapi.generators.common;
 
 import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.openapi.core.generators.client.BallerinaClientGenerator;
+import io.ballerina.openapi.core.generators.client.exception.ClientException;
+import io.ballerina.openapi.core.generators.client.model.OASClientConfig;
+import io.ballerina.openapi.core.generators.common.ContractSnapshot;
+import io.ballerina.openapi.core.generators.common.GenerationContext;
 import io.ballerina.openapi.core.generators.common.GeneratorUtils;
+import io.ballerina.openapi.core.generators.common.OASModifier;
 import io.ballerina.openapi.core.generators.common.TypeHandler;
 import io.ballerina.openapi.core.generators.common.exception.BallerinaOpenApiException;
+import io.ballerina.openapi.core.generators.common.model.Filter;
 import io.ballerina.openapi.core.generators.service.ServiceGenerationHandler;
 import io.ballerina.openapi.core.generators.service.model.OASServiceMetadata;
+import io.swagger.v3.core.util.Json;
 import io.swagger.v3.oas.models.OpenAPI;
 import org.ballerinalang.formatter.core.FormatterException;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 import static io.ballerina.openapi.TestUtils.FILTER;
 import static io.ballerina.openapi.core.generators.common.GeneratorUtils.extractReferenceType;
@@ -82,16 +94,115 @@ public class GeneratorUtilsTests {
         OpenAPI openAPI = GeneratorUtils.normalizeOpenAPI(RES_DIR.resolve("schema/swagger/recordName" +
                 ".yaml"), false, false);
         SyntaxTree syntaxTree = null;
-        TypeHandler.createInstance(openAPI, false);
-        ServiceGenerationHandler serviceGenerationHandler = new ServiceGenerationHandler();
-        OASServiceMetadata oasServiceMetadata = new OASServiceMetadata.Builder()
-                .withOpenAPI(openAPI)
-                .withNullable(false)
-                .withFilters(FILTER)
-                .build();
-        serviceGenerationHandler.generateServiceFiles(oasServiceMetadata);
-        syntaxTree = TypeHandler.getInstance().generateTypeSyntaxTree();
-        Path expectedPath = RES_DIR.resolve("schema/ballerina/recordName.bal");
-        compareGeneratedSyntaxTreeWithExpectedSyntaxTree(expectedPath, syntaxTree);
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, false)) {
+            ServiceGenerationHandler serviceGenerationHandler = new ServiceGenerationHandler();
+            OASServiceMetadata oasServiceMetadata = new OASServiceMetadata.Builder()
+                    .withOpenAPI(openAPI)
+                    .withNullable(false)
+                    .withFilters(FILTER)
+                    .build();
+            serviceGenerationHandler.generateServiceFiles(oasServiceMetadata);
+            syntaxTree = TypeHandler.getInstance().generateTypeSyntaxTree();
+            Path expectedPath = RES_DIR.resolve("schema/ballerina/recordName.bal");
+            compareGeneratedSyntaxTreeWithExpectedSyntaxTree(expectedPath, syntaxTree);
+        }
+    }
+
+    @Test(description = "Only the selected operations and the components they refer are parsed with a filter")
+    public static void testParseFilteredOperations() throws IOException, BallerinaOpenApiException {
+        Path path = RES_DIR.resolve("client/swagger/filtered_operations.yaml");
+        OpenAPI openAPI = GeneratorUtils.getOpenAPIFromOpenAPIV3Parser(path,
+                new Filter(List.of("pets"), List.of("getStore")));
+        Assert.assertEquals(openAPI.getPaths().keySet(), Set.of("/pets", "/stores/{storeId}", "/owners"));
+        Assert.assertNull(openAPI.getPaths().get("/owners").getGet().getResponses().get("200").getContent());
+        Assert.assertEquals(openAPI.getComponents().getSchemas().keySet(),
+                Set.of("Pet", "Category", "Store", "StoreId", "Owner"));
+        Assert.assertNotNull(openAPI.getComponents().getSchemas().get("Category").getProperties());
+        Assert.assertNull(openAPI.getComponents().getSchemas().get("Owner").getProperties());
+        Assert.assertEquals(openAPI.getComponents().getParameters().keySet(), Set.of("StoreId"));
+    }
+
+    @Test(description = "The operations and the schemas which may change the generated code are kept with a filter")
+    public static void testParseFilteredOperationsWithInlineModels() throws IOException, BallerinaOpenApiException {
+        Path path = RES_DIR.resolve("client/swagger/filtered_operations_unselected.yaml");
+        OpenAPI openAPI = GeneratorUtils.getOpenAPIFromOpenAPIV3Parser(path, new Filter(List.of("pets"), List.of()));
+        Assert.assertEquals(GeneratorUtils.getComplexPaths(openAPI), List.of("/owners/{ownerId}.json"));
+        Assert.assertEquals(openAPI.getPaths().get("/owners/{ownerId}.json").getGet().getOperationId(), "getOwner");
+        Assert.assertNotNull(openAPI.getPaths().get("/owners").getPost().getResponses().get("201").getContent());
+        Assert.assertNotNull(openAPI.getComponents().getSchemas().get("Dog").getProperties());
+        Assert.assertNull(openAPI.getComponents().getSchemas().get("Owner").getProperties());
+    }
+
+    @Test(description = "The code generated for the selected operations is the same with and without the reduced " +
+            "parse")
+    public static void testGenerateFilteredOperations() throws IOException, BallerinaOpenApiException,
+            ClientException {
+        Path path = RES_DIR.resolve("client/swagger/filtered_operations_unselected.yaml");
+        Filter filter = new Filter(List.of("pets"), List.of());
+        Assert.assertEquals(generateClient(GeneratorUtils.getOpenAPIFromOpenAPIV3Parser(path, filter), filter),
+                generateClient(GeneratorUtils.getOpenAPIFromOpenAPIV3Parser(path), filter));
+    }
+
+    /**
+     * Generates the client and the types of the given definition, in the mode the CLI selects for it.
+     */
+    private static List<String> generateClient(OpenAPI openAPI, Filter filter) throws BallerinaOpenApiException,
+            ClientException {
+        boolean isResource = GeneratorUtils.getComplexPaths(openAPI).isEmpty();
+        OpenAPI normalizedOpenAPI = GeneratorUtils.normalizeOpenAPI(openAPI, !isResource, false);
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(normalizedOpenAPI, false)) {
+            OASClientConfig oasClientConfig = new OASClientConfig.Builder()
+                    .withFilters(filter)
+                    .withOpenAPI(normalizedOpenAPI)
+                    .withResourceMode(isResource).build();
+            BallerinaClientGenerator clientGenerator = new BallerinaClientGenerator(oasClientConfig);
+            return List.of(clientGenerator.generateSyntaxTree().toSourceCode(),
+                    TypeHandler.getInstance().generateTypeSyntaxTree().toSourceCode());
+        }
+    }
+
+    @Test(description = "The whole definition is parsed without a filter")
+    public static void testParseWithoutFilter() throws IOException, BallerinaOpenApiException {
+        Path path = RES_DIR.resolve("client/swagger/filtered_operations.yaml");
+        OpenAPI openAPI = GeneratorUtils.getOpenAPIFromOpenAPIV3Parser(path, FILTER);
+        Assert.assertEquals(openAPI.getPaths().size(), 3);
+        Assert.assertEquals(openAPI.getComponents().getSchemas().size(), 6);
+    }
+
+    @Test(description = "The names are sanitized into identifiers")
+    public static void testSanitizeIdentifiers() {
+        Assert.assertEquals(GeneratorUtils.escapeIdentifier("220"), "'220");
+        Assert.assertEquals(GeneratorUtils.escapeIdentifier("2023-06-28"), "'2023\\-06\\-28");
+        Assert.assertEquals(GeneratorUtils.escapeIdentifier("3h"), "'3h");
+        Assert.assertEquals(GeneratorUtils.escapeIdentifier("string"), "'string");
+        Assert.assertEquals(GeneratorUtils.escapeIdentifier("first-name"), "first\\-name");
+        Assert.assertEquals(GeneratorUtils.escapeIdentifier("name"), "name");
+        Assert.assertEquals(GeneratorUtils.getValidName("pet-store_id", false), "petStoreId");
+        Assert.assertEquals(GeneratorUtils.getValidName("pet-store_id", true), "PetStoreId");
+        Assert.assertEquals(GeneratorUtils.getValidName("-name", true), "Name");
+        Assert.assertEquals(GeneratorUtils.getValidName("123", false), "'123");
+        Assert.assertFalse(GeneratorUtils.isValidSchemaName("123"));
+        Assert.assertTrue(GeneratorUtils.isValidSchemaName("Pet1"));
+        Assert.assertEquals(OASModifier.getValidNameForType("+1 value"), "Plus1Value");
+        Assert.assertEquals(OASModifier.getValidNameForParameter("-limit"), "minusLimit");
+        Assert.assertEquals(OASModifier.getValidNameForParameter("1st"), "param1st");
+    }
+
+    @Test(description = "A parsed definition is loaded from its snapshot for the same contract")
+    public static void testParseThroughSnapshot() throws IOException, BallerinaOpenApiException {
+        Path path = RES_DIR.resolve("client/swagger/filtered_operations.yaml");
+        Path snapshotDir = Files.createTempDirectory("openapi_snapshot_");
+        Path snapshotPath = snapshotDir.resolve("openapi-contract.snapshot");
+        try {
+            OpenAPI openAPI = GeneratorUtils.getOpenAPIFromOpenAPIV3Parser(path, snapshotPath, "contractHash");
+            Assert.assertTrue(Files.isRegularFile(snapshotPath));
+            Optional<OpenAPI> snapshot = ContractSnapshot.read(snapshotPath, "contractHash");
+            Assert.assertTrue(snapshot.isPresent());
+            Assert.assertEquals(Json.pretty(snapshot.get()), Json.pretty(openAPI));
+            Assert.assertTrue(ContractSnapshot.read(snapshotPath, "changedContractHash").isEmpty());
+        } finally {
+            Files.deleteIfExists(snapshotPath);
+            Files.delete(snapshotDir);
+        }
     }
 }
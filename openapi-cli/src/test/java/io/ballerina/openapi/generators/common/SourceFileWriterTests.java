@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.openapi.generators.common;
+
+import io.ballerina.openapi.core.generators.common.SourceFileWriter;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Comparator;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * This contains the tests for writing the generated source files.
+ */
+public class SourceFileWriterTests {
+    private Path tempDir;
+
+    @BeforeMethod
+    public void setUp() throws IOException {
+        tempDir = Files.createTempDirectory("openapi_source_writer_");
+    }
+
+    @AfterMethod
+    public void tearDown() throws IOException {
+        try (Stream<Path> paths = Files.walk(tempDir)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @Test(description = "A file with the same content is not written again")
+    public void testSkipUnchangedFile() throws IOException {
+        Path filePath = tempDir.resolve("types.bal");
+        String content = "public type Pet record {|\n    string name;\n    string tag = \"ü\";\n|};\n";
+        Assert.assertTrue(SourceFileWriter.write(filePath, content));
+        FileTime lastModifiedTime = FileTime.fromMillis(0);
+        Files.setLastModifiedTime(filePath, lastModifiedTime);
+
+        Assert.assertFalse(SourceFileWriter.write(filePath, content));
+        Assert.assertEquals(Files.getLastModifiedTime(filePath), lastModifiedTime);
+        Assert.assertEquals(Files.readString(filePath), content);
+    }
+
+    @Test(description = "A file with a changed content is written again without leaving a temporary file")
+    public void testWriteChangedFile() throws IOException {
+        Path filePath = tempDir.resolve("tests").resolve("test.bal");
+        Assert.assertTrue(SourceFileWriter.write(filePath, "import ballerina/test;\n"));
+        Assert.assertTrue(SourceFileWriter.write(filePath, "import ballerina/http;\n"));
+        Assert.assertEquals(Files.readString(filePath), "import ballerina/http;\n");
+        try (Stream<Path> files = Files.list(filePath.getParent())) {
+            Assert.assertEquals(files.count(), 1);
+        }
+    }
+
+    @Test(description = "A new file has the default permissions and a file written again keeps its permissions")
+    public void testFilePermissions() throws IOException {
+        if (!tempDir.getFileSystem().supportedFileAttributeViews().contains("posix")) {
+            return;
+        }
+        Path defaultFile = Files.createFile(tempDir.resolve("default.bal"));
+        Path filePath = tempDir.resolve("client.bal");
+        Assert.assertTrue(SourceFileWriter.write(filePath, "import ballerina/http;\n"));
+        Assert.assertEquals(Files.getPosixFilePermissions(filePath), Files.getPosixFilePermissions(defaultFile));
+
+        Set<PosixFilePermission> permissions = PosixFilePermissions.fromString("rwxr-----");
+        Files.setPosixFilePermissions(filePath, permissions);
+        Assert.assertTrue(SourceFileWriter.write(filePath, "import ballerina/test;\n"));
+        Assert.assertEquals(Files.readString(filePath), "import ballerina/test;\n");
+        Assert.assertEquals(Files.getPosixFilePermissions(filePath), permissions);
+    }
+}
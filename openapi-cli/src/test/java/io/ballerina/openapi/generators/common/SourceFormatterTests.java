@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.openapi.generators.common;
+
+import io.ballerina.compiler.syntax.tree.ModulePartNode;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.openapi.core.generators.client.BallerinaClientGenerator;
+import io.ballerina.openapi.core.generators.client.exception.ClientException;
+import io.ballerina.openapi.core.generators.client.model.OASClientConfig;
+import io.ballerina.openapi.core.generators.common.GenerationContext;
+import io.ballerina.openapi.core.generators.common.GeneratorUtils;
+import io.ballerina.openapi.core.generators.common.SourceFormatter;
+import io.ballerina.openapi.core.generators.common.TypeHandler;
+import io.ballerina.openapi.core.generators.common.exception.BallerinaOpenApiException;
+import io.ballerina.openapi.core.generators.common.model.FormatterCache;
+import io.ballerina.openapi.core.generators.service.ServiceGenerationHandler;
+import io.ballerina.openapi.core.generators.service.model.OASServiceMetadata;
+import io.swagger.v3.oas.models.OpenAPI;
+import org.ballerinalang.formatter.core.Formatter;
+import org.ballerinalang.formatter.core.FormatterException;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import static io.ballerina.openapi.TestUtils.FILTER;
+import static io.ballerina.openapi.core.generators.common.GeneratorConstants.FORMATTER_CHUNK_SIZE_PROPERTY;
+import static io.ballerina.openapi.core.generators.common.GeneratorConstants.FORMATTER_PARALLELISM_PROPERTY;
+
+/**
+ * This contains the tests for formatting the generated syntax trees concurrently.
+ */
+public class SourceFormatterTests {
+    private static final Path RES_DIR = Paths.get("src/test/resources/generators/schema").toAbsolutePath();
+    private static final Path CLIENT_RES_DIR = Paths.get("src/test/resources/generators/client/swagger")
+            .toAbsolutePath();
+    private static final List<String> CLIENT_FILE_NAMES = List.of("client.bal", "utils.bal", "types.bal");
+
+    @AfterMethod
+    public void clearProperties() {
+        System.clearProperty(FORMATTER_CHUNK_SIZE_PROPERTY);
+        System.clearProperty(FORMATTER_PARALLELISM_PROPERTY);
+    }
+
+    @Test(description = "Formatted sources are returned in the order of the given syntax trees")
+    public void testFormatInOrder() throws IOException, BallerinaOpenApiException, FormatterException {
+        OpenAPI openAPI = getOpenAPI();
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, false)) {
+            SyntaxTree serviceSyntaxTree = generateServiceSyntaxTree(openAPI);
+            SyntaxTree typeSyntaxTree = TypeHandler.getInstance().generateTypeSyntaxTree();
+            System.setProperty(FORMATTER_PARALLELISM_PROPERTY, "2");
+            List<String> sources = SourceFormatter.format(serviceSyntaxTree, typeSyntaxTree);
+            Assert.assertEquals(sources, List.of(Formatter.format(serviceSyntaxTree).toSourceCode(),
+                    Formatter.format(typeSyntaxTree).toSourceCode()));
+        }
+    }
+
+    @Test(description = "Types formatted in chunks are merged into the source of the whole types syntax tree")
+    public void testFormatInChunks() throws IOException, BallerinaOpenApiException, FormatterException {
+        SyntaxTree typeSyntaxTree = generateTypeSyntaxTree();
+        System.setProperty(FORMATTER_CHUNK_SIZE_PROPERTY, "1");
+        System.setProperty(FORMATTER_PARALLELISM_PROPERTY, "4");
+        Assert.assertEquals(SourceFormatter.format(typeSyntaxTree).get(0),
+                Formatter.format(typeSyntaxTree).toSourceCode());
+    }
+
+    @Test(description = "Changed types are formatted and spliced with the formatted types of the previous generation")
+    public void testFormatIncrementally() throws IOException, BallerinaOpenApiException, FormatterException {
+        SyntaxTree typeSyntaxTree = generateTypeSyntaxTree();
+        FormatterCache previous = new FormatterCache("");
+        List<String> fileNames = List.of("types.bal");
+        Assert.assertEquals(SourceFormatter.format(List.of(typeSyntaxTree), fileNames, null, previous),
+                List.of(Formatter.format(typeSyntaxTree).toSourceCode()));
+        Assert.assertNotNull(previous.getFile("types.bal").orElseThrow().members());
+
+        // Removing the first type changes the file, while the remaining types are reused.
+        ModulePartNode modulePartNode = typeSyntaxTree.rootNode();
+        SyntaxTree changedSyntaxTree = typeSyntaxTree.modifyWith(modulePartNode.modify().withMembers(
+                modulePartNode.members().remove(0)).apply());
+        FormatterCache current = new FormatterCache("");
+        Assert.assertEquals(SourceFormatter.format(List.of(changedSyntaxTree), fileNames, previous, current),
+                List.of(Formatter.format(changedSyntaxTree).toSourceCode()));
+    }
+
+    @Test(description = "Sources formatted with the cache read back from the generated files are the same as the " +
+            "sources formatted without a cache, when the contract is changed")
+    public void testFormatWithCacheOfGeneratedFiles() throws IOException, BallerinaOpenApiException,
+            ClientException, FormatterException {
+        String contract = Files.readString(CLIENT_RES_DIR.resolve("filtered_operations_unselected.yaml"));
+        Path tempDir = Files.createTempDirectory("formatter-cache");
+        List<SyntaxTree> syntaxTrees = generateClientSyntaxTrees(tempDir, contract);
+        FormatterCache cache = new FormatterCache("");
+        List<String> previousSources = SourceFormatter.format(syntaxTrees, CLIENT_FILE_NAMES, null, cache);
+        for (int i = 0; i < CLIENT_FILE_NAMES.size(); i++) {
+            Files.writeString(tempDir.resolve(CLIENT_FILE_NAMES.get(i)), previousSources.get(i));
+        }
+        Path cachePath = tempDir.resolve("openapi-formatter-cache.json");
+        Files.writeString(cachePath, cache.toJson());
+        FormatterCache previous = FormatterCache.read(cachePath, "", tempDir).orElseThrow();
+        Assert.assertTrue(previous.getFile("types.bal").isPresent());
+
+        // A query parameter is added to an operation and the type of a field of a schema is changed.
+        String changedContract = contract.replace("operationId: getOwner\n      parameters:\n",
+                "operationId: getOwner\n      parameters:\n" +
+                        "        - name: verbose\n          in: query\n          schema:\n            type: boolean\n")
+                .replace("breed:\n          type: string", "breed:\n          type: integer");
+        Assert.assertNotEquals(changedContract, contract);
+        List<SyntaxTree> changedSyntaxTrees = generateClientSyntaxTrees(tempDir, changedContract);
+        List<String> sources = SourceFormatter.format(changedSyntaxTrees, CLIENT_FILE_NAMES, previous,
+                new FormatterCache(""));
+        Assert.assertEquals(sources, SourceFormatter.format(changedSyntaxTrees));
+        Assert.assertNotEquals(sources, previousSources);
+    }
+
+    /**
+     * Generates the client, the utils and the types syntax trees of the given contract.
+     */
+    private static List<SyntaxTree> generateClientSyntaxTrees(Path tempDir, String contract)
+            throws IOException, BallerinaOpenApiException, ClientException {
+        Path contractPath = tempDir.resolve("openapi.yaml");
+        Files.writeString(contractPath, contract);
+        OpenAPI openAPI = GeneratorUtils.normalizeOpenAPI(contractPath, true, false);
+        GenerationContext context = GenerationContext.create(openAPI, false);
+        try (GenerationContext.Scope ignored = context.enter()) {
+            OASClientConfig oasClientConfig = new OASClientConfig.Builder()
+                    .withFilters(FILTER)
+                    .withOpenAPI(openAPI)
+                    .withResourceMode(false).build();
+            BallerinaClientGenerator clientGenerator = new BallerinaClientGenerator(oasClientConfig, context);
+            SyntaxTree clientSyntaxTree = clientGenerator.generateSyntaxTree();
+            return List.of(clientSyntaxTree, clientGenerator.getBallerinaUtilGenerator().generateUtilSyntaxTree(),
+                    context.getTypeHandler().generateTypeSyntaxTree());
+        }
+    }
+
+    private static OpenAPI getOpenAPI() throws IOException, BallerinaOpenApiException {
+        return GeneratorUtils.normalizeOpenAPI(RES_DIR.resolve("swagger/allOf.yaml"), true, false);
+    }
+
+    /**
+     * Generates the types of the service of the definition.
+     */
+    private static SyntaxTree generateTypeSyntaxTree() throws IOException, BallerinaOpenApiException {
+        OpenAPI openAPI = getOpenAPI();
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, false)) {
+            generateServiceSyntaxTree(openAPI);
+            return TypeHandler.getInstance().generateTypeSyntaxTree();
+        }
+    }
+
+    private static SyntaxTree generateServiceSyntaxTree(OpenAPI openAPI) throws BallerinaOpenApiException {
+        ServiceGenerationHandler serviceGenerationHandler = new ServiceGenerationHandler();
+        OASServiceMetadata oasServiceMetadata = new OASServiceMetadata.Builder()
+                .withOpenAPI(openAPI)
+                .withNullable(false)
+                .withFilters(FILTER)
+                .build();
+        return serviceGenerationHandler.generateSingleSyntaxTree(oasServiceMetadata);
+    }
+}
@@ -19,6 +19,7 @@
 package io.ballerina.openapi.generators.schema;
 
 import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.openapi.core.generators.common.GenerationContext;
 import io.ballerina.openapi.core.generators.common.GeneratorUtils;
 import io.ballerina.openapi.core.generators.common.TypeHandler;
 import io.ballerina.openapi.core.generators.common.exception.BallerinaOpenApiException;
@@ -47,50 +48,53 @@ public class AdvanceRecordTypeTests {
     public void generateSchemaHasNotType() throws IOException, FormatterException, BallerinaOpenApiException {
         Path definitionPath = RES_DIR.resolve("swagger/scenario10.yaml");
         OpenAPI openAPI = GeneratorUtils.normalizeOpenAPI(definitionPath, true, false);
-        TypeHandler.createInstance(openAPI, false);
-        ServiceGenerationHandler serviceGenerationHandler = new ServiceGenerationHandler();
-        OASServiceMetadata oasServiceMetadata = new OASServiceMetadata.Builder()
-                .withOpenAPI(openAPI)
-                .withNullable(false)
-                .withFilters(FILTER)
-                .build();
-        serviceGenerationHandler.generateServiceFiles(oasServiceMetadata);
-        syntaxTree = TypeHandler.getInstance().generateTypeSyntaxTree();
-        assertGeneratedSyntaxTreeContainsExpectedSyntaxTree("schema/ballerina/schema10.bal", syntaxTree);
-        // todo : design a more suitable way to handle not types
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, false)) {
+            ServiceGenerationHandler serviceGenerationHandler = new ServiceGenerationHandler();
+            OASServiceMetadata oasServiceMetadata = new OASServiceMetadata.Builder()
+                    .withOpenAPI(openAPI)
+                    .withNullable(false)
+                    .withFilters(FILTER)
+                    .build();
+            serviceGenerationHandler.generateServiceFiles(oasServiceMetadata);
+            syntaxTree = TypeHandler.getInstance().generateTypeSyntaxTree();
+            assertGeneratedSyntaxTreeContainsExpectedSyntaxTree("schema/ballerina/schema10.bal", syntaxTree);
+            // todo : design a more suitable way to handle not types
+        }
     }
 
     @Test(description = "Generate record for schema has inline record in fields reference")
     public void generateSchemaHasInlineRecord() throws IOException, FormatterException, BallerinaOpenApiException {
         Path definitionPath = RES_DIR.resolve("swagger/scenario11.yaml");
         OpenAPI openAPI = GeneratorUtils.normalizeOpenAPI(definitionPath, true, false);
-        TypeHandler.createInstance(openAPI, false);
-        ServiceGenerationHandler serviceGenerationHandler = new ServiceGenerationHandler();
-        OASServiceMetadata oasServiceMetadata = new OASServiceMetadata.Builder()
-                .withOpenAPI(openAPI)
-                .withNullable(false)
-                .withFilters(FILTER)
-                .build();
-        serviceGenerationHandler.generateServiceFiles(oasServiceMetadata);
-        syntaxTree = TypeHandler.getInstance().generateTypeSyntaxTree();
-        assertGeneratedSyntaxTreeContainsExpectedSyntaxTree("schema/ballerina/schema11.bal", syntaxTree);
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, false)) {
+            ServiceGenerationHandler serviceGenerationHandler = new ServiceGenerationHandler();
+            OASServiceMetadata oasServiceMetadata = new OASServiceMetadata.Builder()
+                    .withOpenAPI(openAPI)
+                    .withNullable(false)
+                    .withFilters(FILTER)
+                    .build();
+            serviceGenerationHandler.generateServiceFiles(oasServiceMetadata);
+            syntaxTree = TypeHandler.getInstance().generateTypeSyntaxTree();
+            assertGeneratedSyntaxTreeContainsExpectedSyntaxTree("schema/ballerina/schema11.bal", syntaxTree);
+        }
     }
 
     @Test(description = "Generate record for openapi weather api")
     public void generateOpenAPIWeatherAPI() throws IOException, FormatterException, BallerinaOpenApiException {
         Path definitionPath = RES_DIR.resolve("swagger/openapi_weather_api.yaml");
         OpenAPI openAPI = GeneratorUtils.normalizeOpenAPI(definitionPath, true, false);
-        TypeHandler.createInstance(openAPI, false);
-        ServiceGenerationHandler serviceGenerationHandler = new ServiceGenerationHandler();
-        OASServiceMetadata oasServiceMetadata = new OASServiceMetadata.Builder()
-                .withOpenAPI(openAPI)
-                .withNullable(false)
-                .withFilters(FILTER)
-                .build();
-        serviceGenerationHandler.generateServiceFiles(oasServiceMetadata);
-        syntaxTree = TypeHandler.getInstance().generateTypeSyntaxTree();
-        assertGeneratedSyntaxTreeContainsExpectedSyntaxTree("schema/ballerina/openapi_weather_api_schema.bal",
-                syntaxTree);
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, false)) {
+            ServiceGenerationHandler serviceGenerationHandler = new ServiceGenerationHandler();
+            OASServiceMetadata oasServiceMetadata = new OASServiceMetadata.Builder()
+                    .withOpenAPI(openAPI)
+                    .withNullable(false)
+                    .withFilters(FILTER)
+                    .build();
+            serviceGenerationHandler.generateServiceFiles(oasServiceMetadata);
+            syntaxTree = TypeHandler.getInstance().generateTypeSyntaxTree();
+            assertGeneratedSyntaxTreeContainsExpectedSyntaxTree("schema/ballerina/openapi_weather_api_schema.bal",
+                    syntaxTree);
+        }
     }
 
     @Test(description = "Generate record for schema has object type only")
@@ -98,15 +102,16 @@ public class AdvanceRecordTypeTests {
             FormatterException {
         Path definitionPath = RES_DIR.resolve("swagger/scenario14.yaml");
         OpenAPI openAPI = GeneratorUtils.normalizeOpenAPI(definitionPath, true, false);
-        TypeHandler.createInstance(openAPI, false);
-        ServiceGenerationHandler serviceGenerationHandler = new ServiceGenerationHandler();
-        OASServiceMetadata oasServiceMetadata = new OASServiceMetadata.Builder()
-                .withOpenAPI(openAPI)
-                .withNullable(false)
-                .withFilters(FILTER)
-                .build();
-        serviceGenerationHandler.generateServiceFiles(oasServiceMetadata);
-        syntaxTree = TypeHandler.getInstance().generateTypeSyntaxTree();
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, false)) {
+            ServiceGenerationHandler serviceGenerationHandler = new ServiceGenerationHandler();
+            OASServiceMetadata oasServiceMetadata = new OASServiceMetadata.Builder()
+                    .withOpenAPI(openAPI)
+                    .withNullable(false)
+                    .withFilters(FILTER)
+                    .build();
+            serviceGenerationHandler.generateServiceFiles(oasServiceMetadata);
+            syntaxTree = TypeHandler.getInstance().generateTypeSyntaxTree();
+        }
     }
 
     @Test(description = "Generate record for schema has allOf types ")
@@ -114,16 +119,17 @@ public class AdvanceRecordTypeTests {
             FormatterException {
         Path definitionPath = RES_DIR.resolve("swagger/inclusion_types.yaml");
         OpenAPI openAPI = GeneratorUtils.normalizeOpenAPI(definitionPath, true, false);
-        TypeHandler.createInstance(openAPI, false);
-        ServiceGenerationHandler serviceGenerationHandler = new ServiceGenerationHandler();
-        OASServiceMetadata oasServiceMetadata = new OASServiceMetadata.Builder()
-                .withOpenAPI(openAPI)
-                .withNullable(false)
-                .withFilters(FILTER)
-                .build();
-        serviceGenerationHandler.generateServiceFiles(oasServiceMetadata);
-        syntaxTree = TypeHandler.getInstance().generateTypeSyntaxTree();
-        assertGeneratedSyntaxTreeContainsExpectedSyntaxTree("schema/ballerina/type_inclusion.bal",
-                syntaxTree);
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, false)) {
+            ServiceGenerationHandler serviceGenerationHandler = new ServiceGenerationHandler();
+            OASServiceMetadata oasServiceMetadata = new OASServiceMetadata.Builder()
+                    .withOpenAPI(openAPI)
+                    .withNullable(false)
+                    .withFilters(FILTER)
+                    .build();
+            serviceGenerationHandler.generateServiceFiles(oasServiceMetadata);
+            syntaxTree = TypeHandler.getInstance().generateTypeSyntaxTree();
+            assertGeneratedSyntaxTreeContainsExpectedSyntaxTree("schema/ballerina/type_inclusion.bal",
+                    syntaxTree);
+        }
     }
 }
@@ -20,6 +20,7 @@ package io.ballerina.openapi.generators.schema;
 
 import io.ballerina.compiler.syntax.tree.SyntaxTree;
 import io.ballerina.openapi.TestUtils;
+import io.ballerina.openapi.core.generators.common.GenerationContext;
 import io.ballerina.openapi.core.generators.common.GeneratorUtils;
 import io.ballerina.openapi.core.generators.common.TypeHandler;
 import io.ballerina.openapi.core.generators.common.exception.BallerinaOpenApiException;
@@ -47,51 +48,54 @@ public class AllOfDataTypeTests {
     public void generateAllOf() throws IOException, BallerinaOpenApiException, FormatterException {
         Path definitionPath = RES_DIR.resolve("swagger/scenario09.yaml");
         OpenAPI openAPI = GeneratorUtils.normalizeOpenAPI(definitionPath, true, false);
-        TypeHandler.createInstance(openAPI, false);
-        ServiceGenerationHandler serviceGenerationHandler = new ServiceGenerationHandler();
-        OASServiceMetadata oasServiceMetadata = new OASServiceMetadata.Builder()
-                .withOpenAPI(openAPI)
-                .withNullable(false)
-                .withFilters(FILTER)
-                .build();
-        serviceGenerationHandler.generateServiceFiles(oasServiceMetadata);
-        syntaxTree = TypeHandler.getInstance().generateTypeSyntaxTree();
-        GeneratorTestUtils.assertGeneratedSyntaxTreeContainsExpectedSyntaxTree("schema/ballerina/schema09.bal",
-                syntaxTree);
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, false)) {
+            ServiceGenerationHandler serviceGenerationHandler = new ServiceGenerationHandler();
+            OASServiceMetadata oasServiceMetadata = new OASServiceMetadata.Builder()
+                    .withOpenAPI(openAPI)
+                    .withNullable(false)
+                    .withFilters(FILTER)
+                    .build();
+            serviceGenerationHandler.generateServiceFiles(oasServiceMetadata);
+            syntaxTree = TypeHandler.getInstance().generateTypeSyntaxTree();
+            GeneratorTestUtils.assertGeneratedSyntaxTreeContainsExpectedSyntaxTree("schema/ballerina/schema09.bal",
+                    syntaxTree);
+        }
     }
 
     @Test(description = "Generate record for schema has allOf reference in record field")
     public void generateAllOfInRecordField() throws IOException, BallerinaOpenApiException, FormatterException {
         Path definitionPath = RES_DIR.resolve("swagger/allOf.yaml");
         OpenAPI openAPI = GeneratorUtils.normalizeOpenAPI(definitionPath, true, false);
-        TypeHandler.createInstance(openAPI, false);
-        ServiceGenerationHandler serviceGenerationHandler = new ServiceGenerationHandler();
-        OASServiceMetadata oasServiceMetadata = new OASServiceMetadata.Builder()
-                .withOpenAPI(openAPI)
-                .withNullable(false)
-                .withFilters(FILTER)
-                .build();
-        serviceGenerationHandler.generateServiceFiles(oasServiceMetadata);
-        syntaxTree = TypeHandler.getInstance().generateTypeSyntaxTree();
-        GeneratorTestUtils.assertGeneratedSyntaxTreeContainsExpectedSyntaxTree("schema/ballerina/allOf.bal",
-                syntaxTree);
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, false)) {
+            ServiceGenerationHandler serviceGenerationHandler = new ServiceGenerationHandler();
+            OASServiceMetadata oasServiceMetadata = new OASServiceMetadata.Builder()
+                    .withOpenAPI(openAPI)
+                    .withNullable(false)
+                    .withFilters(FILTER)
+                    .build();
+            serviceGenerationHandler.generateServiceFiles(oasServiceMetadata);
+            syntaxTree = TypeHandler.getInstance().generateTypeSyntaxTree();
+            GeneratorTestUtils.assertGeneratedSyntaxTreeContainsExpectedSyntaxTree("schema/ballerina/allOf.bal",
+                    syntaxTree);
+        }
     }
 
     @Test(description = "Generate record when allOf schema has only one references schema")
     public void generateTypeForSingleAllOfSchema() throws IOException, BallerinaOpenApiException, FormatterException {
         Path definitionPath = RES_DIR.resolve("swagger/allOf_with_one_ref.yaml");
         OpenAPI openAPI = GeneratorUtils.normalizeOpenAPI(definitionPath, true, false);
-        TypeHandler.createInstance(openAPI, false);
-        ServiceGenerationHandler serviceGenerationHandler = new ServiceGenerationHandler();
-        OASServiceMetadata oasServiceMetadata = new OASServiceMetadata.Builder()
-                .withOpenAPI(openAPI)
-                .withNullable(false)
-                .withFilters(FILTER)
-                .build();
-        serviceGenerationHandler.generateServiceFiles(oasServiceMetadata);
-        syntaxTree = TypeHandler.getInstance().generateTypeSyntaxTree();
-        GeneratorTestUtils.assertGeneratedSyntaxTreeContainsExpectedSyntaxTree(
-                "schema/ballerina/allOf_with_one_ref.bal", syntaxTree);
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, false)) {
+            ServiceGenerationHandler serviceGenerationHandler = new ServiceGenerationHandler();
+            OASServiceMetadata oasServiceMetadata = new OASServiceMetadata.Builder()
+                    .withOpenAPI(openAPI)
+                    .withNullable(false)
+                    .withFilters(FILTER)
+                    .build();
+            serviceGenerationHandler.generateServiceFiles(oasServiceMetadata);
+            syntaxTree = TypeHandler.getInstance().generateTypeSyntaxTree();
+            GeneratorTestUtils.assertGeneratedSyntaxTreeContainsExpectedSyntaxTree(
+                    "schema/ballerina/allOf_with_one_ref.bal", syntaxTree);
+        }
     }
 
     @Test(description = "Generate record when allOf schema has only one references schema with cyclic dependency " +
@@ -99,17 +103,18 @@ public class AllOfDataTypeTests {
     public void generateCyclicSchemaAllOfSchema() throws IOException, BallerinaOpenApiException, FormatterException {
         Path definitionPath = RES_DIR.resolve("swagger/allOf_with_cyclic.yaml");
         OpenAPI openAPI = GeneratorUtils.normalizeOpenAPI(definitionPath, true, false);
-        TypeHandler.createInstance(openAPI, false);
-        ServiceGenerationHandler serviceGenerationHandler = new ServiceGenerationHandler();
-        OASServiceMetadata oasServiceMetadata = new OASServiceMetadata.Builder()
-                .withOpenAPI(openAPI)
-                .withNullable(false)
-                .withFilters(FILTER)
-                .build();
-        serviceGenerationHandler.generateServiceFiles(oasServiceMetadata);
-        syntaxTree = TypeHandler.getInstance().generateTypeSyntaxTree();
-        GeneratorTestUtils.assertGeneratedSyntaxTreeContainsExpectedSyntaxTree(
-                "schema/ballerina/allOf_with_cyclic.bal", syntaxTree);
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, false)) {
+            ServiceGenerationHandler serviceGenerationHandler = new ServiceGenerationHandler();
+            OASServiceMetadata oasServiceMetadata = new OASServiceMetadata.Builder()
+                    .withOpenAPI(openAPI)
+                    .withNullable(false)
+                    .withFilters(FILTER)
+                    .build();
+            serviceGenerationHandler.generateServiceFiles(oasServiceMetadata);
+            syntaxTree = TypeHandler.getInstance().generateTypeSyntaxTree();
+            GeneratorTestUtils.assertGeneratedSyntaxTreeContainsExpectedSyntaxTree(
+                    "schema/ballerina/allOf_with_cyclic.bal", syntaxTree);
+        }
     }
 
     @Test(description = "Generate record for allOf schema with array schema")
@@ -117,34 +122,36 @@ public class AllOfDataTypeTests {
             BallerinaOpenApiException, FormatterException {
         Path definitionPath = RES_DIR.resolve("swagger/allOfWithNoType.yaml");
         OpenAPI openAPI = GeneratorUtils.normalizeOpenAPI(definitionPath, true, false);
-        TypeHandler.createInstance(openAPI, false);
-        ServiceGenerationHandler serviceGenerationHandler = new ServiceGenerationHandler();
-        OASServiceMetadata oasServiceMetadata = new OASServiceMetadata.Builder()
-                .withOpenAPI(openAPI)
-                .withNullable(false)
-                .withFilters(FILTER)
-                .build();
-        serviceGenerationHandler.generateServiceFiles(oasServiceMetadata);
-        syntaxTree = TypeHandler.getInstance().generateTypeSyntaxTree();
-        GeneratorTestUtils.assertGeneratedSyntaxTreeContainsExpectedSyntaxTree(
-                "schema/ballerina/allOfWithNoType.bal", syntaxTree);
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, false)) {
+            ServiceGenerationHandler serviceGenerationHandler = new ServiceGenerationHandler();
+            OASServiceMetadata oasServiceMetadata = new OASServiceMetadata.Builder()
+                    .withOpenAPI(openAPI)
+                    .withNullable(false)
+                    .withFilters(FILTER)
+                    .build();
+            serviceGenerationHandler.generateServiceFiles(oasServiceMetadata);
+            syntaxTree = TypeHandler.getInstance().generateTypeSyntaxTree();
+            GeneratorTestUtils.assertGeneratedSyntaxTreeContainsExpectedSyntaxTree(
+                    "schema/ballerina/allOfWithNoType.bal", syntaxTree);
+        }
     }
 
     @Test(description = "Generate record for allOf type array schemas with inline object schemas")
     public void generateArrayAllOfInlineObjects() throws IOException, BallerinaOpenApiException, FormatterException {
         Path definitionPath = RES_DIR.resolve("swagger/array_with_inline_allOf.yaml");
         OpenAPI openAPI = GeneratorUtils.normalizeOpenAPI(definitionPath, true, false);
-        TypeHandler.createInstance(openAPI, false);
-        ServiceGenerationHandler serviceGenerationHandler = new ServiceGenerationHandler();
-        OASServiceMetadata oasServiceMetadata = new OASServiceMetadata.Builder()
-                .withOpenAPI(openAPI)
-                .withNullable(false)
-                .withFilters(FILTER)
-                .build();
-        serviceGenerationHandler.generateServiceFiles(oasServiceMetadata);
-        syntaxTree = TypeHandler.getInstance().generateTypeSyntaxTree();
-        GeneratorTestUtils.assertGeneratedSyntaxTreeContainsExpectedSyntaxTree(
-                "schema/ballerina/array_with_inline_allOf.bal", syntaxTree);
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, false)) {
+            ServiceGenerationHandler serviceGenerationHandler = new ServiceGenerationHandler();
+            OASServiceMetadata oasServiceMetadata = new OASServiceMetadata.Builder()
+                    .withOpenAPI(openAPI)
+                    .withNullable(false)
+                    .withFilters(FILTER)
+                    .build();
+            serviceGenerationHandler.generateServiceFiles(oasServiceMetadata);
+            syntaxTree = TypeHandler.getInstance().generateTypeSyntaxTree();
+            GeneratorTestUtils.assertGeneratedSyntaxTreeContainsExpectedSyntaxTree(
+                    "schema/ballerina/array_with_inline_allOf.bal", syntaxTree);
+        }
     }
 
     @Test(description = "Generate record for allOf schema with empty object schema")
@@ -152,69 +159,73 @@ public class AllOfDataTypeTests {
             FormatterException {
         Path definitionPath = RES_DIR.resolve("swagger/allOfWithEmptyObject.yaml");
         OpenAPI openAPI = GeneratorUtils.normalizeOpenAPI(definitionPath, true, false);
-        TypeHandler.createInstance(openAPI, false);
-        ServiceGenerationHandler serviceGenerationHandler = new ServiceGenerationHandler();
-        OASServiceMetadata oasServiceMetadata = new OASServiceMetadata.Builder()
-                .withOpenAPI(openAPI)
-                .withNullable(false)
-                .withFilters(FILTER)
-                .build();
-        serviceGenerationHandler.generateServiceFiles(oasServiceMetadata);
-        syntaxTree = TypeHandler.getInstance().generateTypeSyntaxTree();
-        GeneratorTestUtils.assertGeneratedSyntaxTreeContainsExpectedSyntaxTree(
-                "schema/ballerina/allOfWithEmptyObject.bal", syntaxTree);
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, false)) {
+            ServiceGenerationHandler serviceGenerationHandler = new ServiceGenerationHandler();
+            OASServiceMetadata oasServiceMetadata = new OASServiceMetadata.Builder()
+                    .withOpenAPI(openAPI)
+                    .withNullable(false)
+                    .withFilters(FILTER)
+                    .build();
+            serviceGenerationHandler.generateServiceFiles(oasServiceMetadata);
+            syntaxTree = TypeHandler.getInstance().generateTypeSyntaxTree();
+            GeneratorTestUtils.assertGeneratedSyntaxTreeContainsExpectedSyntaxTree(
+                    "schema/ballerina/allOfWithEmptyObject.bal", syntaxTree);
+        }
     }
 
     @Test(description = "Generate record for nested allOf schemas")
     public void generateNestedAllOfSchema() throws IOException, BallerinaOpenApiException, FormatterException {
         Path definitionPath = RES_DIR.resolve("swagger/nested_allOf_with_allOf.yaml");
         OpenAPI openAPI = GeneratorUtils.normalizeOpenAPI(definitionPath, true, false);
-        TypeHandler.createInstance(openAPI, false);
-        ServiceGenerationHandler serviceGenerationHandler = new ServiceGenerationHandler();
-        OASServiceMetadata oasServiceMetadata = new OASServiceMetadata.Builder()
-                .withOpenAPI(openAPI)
-                .withNullable(false)
-                .withFilters(FILTER)
-                .build();
-        serviceGenerationHandler.generateServiceFiles(oasServiceMetadata);
-        syntaxTree = TypeHandler.getInstance().generateTypeSyntaxTree();
-        GeneratorTestUtils.assertGeneratedSyntaxTreeContainsExpectedSyntaxTree("schema/ballerina/nested_all_of.bal",
-                syntaxTree);
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, false)) {
+            ServiceGenerationHandler serviceGenerationHandler = new ServiceGenerationHandler();
+            OASServiceMetadata oasServiceMetadata = new OASServiceMetadata.Builder()
+                    .withOpenAPI(openAPI)
+                    .withNullable(false)
+                    .withFilters(FILTER)
+                    .build();
+            serviceGenerationHandler.generateServiceFiles(oasServiceMetadata);
+            syntaxTree = TypeHandler.getInstance().generateTypeSyntaxTree();
+            GeneratorTestUtils.assertGeneratedSyntaxTreeContainsExpectedSyntaxTree("schema/ballerina/nested_all_of.bal",
+                    syntaxTree);
+        }
     }
 
     @Test(description = "Generate type definition from allOf schema with valid single item")
     public void generateAllOfwithValidSingleItem() throws IOException, BallerinaOpenApiException, FormatterException {
         Path definitionPath = RES_DIR.resolve("swagger/single_item_allOf.yaml");
         OpenAPI openAPI = GeneratorUtils.normalizeOpenAPI(definitionPath, true, false);
-        TypeHandler.createInstance(openAPI, false);
-        ServiceGenerationHandler serviceGenerationHandler = new ServiceGenerationHandler();
-        OASServiceMetadata oasServiceMetadata = new OASServiceMetadata.Builder()
-                .withOpenAPI(openAPI)
-                .withNullable(false)
-                .withFilters(FILTER)
-                .build();
-        serviceGenerationHandler.generateServiceFiles(oasServiceMetadata);
-        syntaxTree = TypeHandler.getInstance().generateTypeSyntaxTree();
-        GeneratorTestUtils.assertGeneratedSyntaxTreeContainsExpectedSyntaxTree(
-                "schema/ballerina/single_item_allOf.bal", syntaxTree);
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, false)) {
+            ServiceGenerationHandler serviceGenerationHandler = new ServiceGenerationHandler();
+            OASServiceMetadata oasServiceMetadata = new OASServiceMetadata.Builder()
+                    .withOpenAPI(openAPI)
+                    .withNullable(false)
+                    .withFilters(FILTER)
+                    .build();
+            serviceGenerationHandler.generateServiceFiles(oasServiceMetadata);
+            syntaxTree = TypeHandler.getInstance().generateTypeSyntaxTree();
+            GeneratorTestUtils.assertGeneratedSyntaxTreeContainsExpectedSyntaxTree(
+                    "schema/ballerina/single_item_allOf.bal", syntaxTree);
+        }
     }
 
     @Test(description = "Tests record generation for nested OneOf schema inside AllOf schema")
     public void generateAllOfWithOneOf() throws IOException, BallerinaOpenApiException, FormatterException {
         Path definitionPath = RES_DIR.resolve("swagger/nested_allOf_with_oneOf.yaml");
         OpenAPI openAPI = GeneratorUtils.normalizeOpenAPI(definitionPath, true, false);
-        TypeHandler.createInstance(openAPI, false);
-        ServiceGenerationHandler serviceGenerationHandler = new ServiceGenerationHandler();
-        OASServiceMetadata oasServiceMetadata = new OASServiceMetadata.Builder()
-                .withOpenAPI(openAPI)
-                .withNullable(false)
-                .withFilters(FILTER)
-                .build();
-        serviceGenerationHandler.generateServiceFiles(oasServiceMetadata);
-        syntaxTree = TypeHandler.getInstance().generateTypeSyntaxTree();
-        GeneratorTestUtils.assertGeneratedSyntaxTreeContainsExpectedSyntaxTree(
-                "schema/ballerina/nested_allOf_with_oneOf.bal", syntaxTree);
-        TestUtils.compareDiagnosticWarnings(TypeHandler.getInstance().getDiagnostics(),
-                "Unsupported nested AllOf schema is found inside a AllOf schema.");
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, false)) {
+            ServiceGenerationHandler serviceGenerationHandler = new ServiceGenerationHandler();
+            OASServiceMetadata oasServiceMetadata = new OASServiceMetadata.Builder()
+                    .withOpenAPI(openAPI)
+                    .withNullable(false)
+                    .withFilters(FILTER)
+                    .build();
+            serviceGenerationHandler.generateServiceFiles(oasServiceMetadata);
+            syntaxTree = TypeHandler.getInstance().generateTypeSyntaxTree();
+            GeneratorTestUtils.assertGeneratedSyntaxTreeContainsExpectedSyntaxTree(
+                    "schema/ballerina/nested_allOf_with_oneOf.bal", syntaxTree);
+            TestUtils.compareDiagnosticWarnings(TypeHandler.getInstance().getDiagnostics(),
+                    "Unsupported nested AllOf schema is found inside a AllOf schema.");
+        }
     }
 }
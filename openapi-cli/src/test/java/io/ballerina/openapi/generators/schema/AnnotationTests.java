@@ -1,6 +1,7 @@
 package io.ballerina.openapi.generators.schema;
 
 import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.openapi.core.generators.common.GenerationContext;
 import io.ballerina.openapi.core.generators.common.GeneratorUtils;
 import io.ballerina.openapi.core.generators.common.TypeHandler;
 import io.ballerina.openapi.core.generators.common.exception.BallerinaOpenApiException;
@@ -30,15 +31,16 @@ public class AnnotationTests {
         Path definitionPath = RES_DIR.resolve("swagger/deprecated_schemas.yaml");
         Path expectedPath = RES_DIR.resolve("ballerina/deprecated_schemas.bal");
         OpenAPI openAPI = GeneratorUtils.normalizeOpenAPI(definitionPath, true, false);
-        TypeHandler.createInstance(openAPI, false);
-        ServiceGenerationHandler serviceGenerationHandler = new ServiceGenerationHandler();
-        OASServiceMetadata oasServiceMetadata = new OASServiceMetadata.Builder()
-                .withOpenAPI(openAPI)
-                .withNullable(false)
-                .withFilters(FILTER)
-                .build();
-        serviceGenerationHandler.generateServiceFiles(oasServiceMetadata);
-        syntaxTree = TypeHandler.getInstance().generateTypeSyntaxTree();
-        compareGeneratedSyntaxTreeWithExpectedSyntaxTree(expectedPath, syntaxTree);
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, false)) {
+            ServiceGenerationHandler serviceGenerationHandler = new ServiceGenerationHandler();
+            OASServiceMetadata oasServiceMetadata = new OASServiceMetadata.Builder()
+                    .withOpenAPI(openAPI)
+                    .withNullable(false)
+                    .withFilters(FILTER)
+                    .build();
+            serviceGenerationHandler.generateServiceFiles(oasServiceMetadata);
+            syntaxTree = TypeHandler.getInstance().generateTypeSyntaxTree();
+            compareGeneratedSyntaxTreeWithExpectedSyntaxTree(expectedPath, syntaxTree);
+        }
     }
 }
@@ -19,6 +19,7 @@
 package io.ballerina.openapi.generators.schema;
 
 import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.openapi.core.generators.common.GenerationContext;
 import io.ballerina.openapi.core.generators.common.GeneratorUtils;
 import io.ballerina.openapi.core.generators.common.TypeHandler;
 import io.ballerina.openapi.core.generators.common.exception.BallerinaOpenApiException;
@@ -70,16 +71,17 @@ public class AnyOfDataTypeTests {
         Path definitionPath = RES_DIR.resolve("swagger/scenario15.yaml");
         Path expectedPath = RES_DIR.resolve("ballerina/schema15.bal");
         OpenAPI openAPI = GeneratorUtils.normalizeOpenAPI(definitionPath, true, false);
-        TypeHandler.createInstance(openAPI, false);
-        ServiceGenerationHandler serviceGenerationHandler = new ServiceGenerationHandler();
-        OASServiceMetadata oasServiceMetadata = new OASServiceMetadata.Builder()
-                .withOpenAPI(openAPI)
-                .withNullable(false)
-                .withFilters(FILTER)
-                .build();
-        serviceGenerationHandler.generateServiceFiles(oasServiceMetadata);
-        syntaxTree = TypeHandler.getInstance().generateTypeSyntaxTree();
-        compareGeneratedSyntaxTreeWithExpectedSyntaxTree(expectedPath, syntaxTree);
-        // todo : constraints are not added correctly
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, false)) {
+            ServiceGenerationHandler serviceGenerationHandler = new ServiceGenerationHandler();
+            OASServiceMetadata oasServiceMetadata = new OASServiceMetadata.Builder()
+                    .withOpenAPI(openAPI)
+                    .withNullable(false)
+                    .withFilters(FILTER)
+                    .build();
+            serviceGenerationHandler.generateServiceFiles(oasServiceMetadata);
+            syntaxTree = TypeHandler.getInstance().generateTypeSyntaxTree();
+            compareGeneratedSyntaxTreeWithExpectedSyntaxTree(expectedPath, syntaxTree);
+            // todo : constraints are not added correctly
+        }
     }
 }
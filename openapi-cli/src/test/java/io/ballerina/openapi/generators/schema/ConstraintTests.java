@@ -22,6 +22,7 @@ import io.ballerina.openapi.core.generators.client.BallerinaClientGenerator;
 import io.ballerina.openapi.core.generators.client.exception.ClientException;
 import io.ballerina.openapi.core.generators.client.model.OASClientConfig;
 import io.ballerina.openapi.core.generators.client.parameter.RequestBodyGenerator;
+import io.ballerina.openapi.core.generators.common.GenerationContext;
 import io.ballerina.openapi.core.generators.common.GeneratorUtils;
 import io.ballerina.openapi.core.generators.common.TypeHandler;
 import io.ballerina.openapi.core.generators.common.exception.BallerinaOpenApiException;
@@ -63,15 +64,16 @@ public class ConstraintTests {
     public void testRecordFiledConstraint() throws IOException, BallerinaOpenApiException, FormatterException {
         OpenAPI openAPI = GeneratorUtils.normalizeOpenAPI(RES_DIR.resolve("swagger/constraint/record_field.yaml"),
                 true, false);
-        TypeHandler.createInstance(openAPI, false);
-        RequestBodyGenerator requestBodyGenerator = new RequestBodyGenerator(openAPI.getPaths()
-                .get("/admin").getPost().getRequestBody(), openAPI);
-        requestBodyGenerator.generateParameterNode();
-        syntaxTree = TypeHandler.getInstance().generateTypeSyntaxTree();
-        GeneratorTestUtils.assertGeneratedSyntaxTreeContainsExpectedSyntaxTree(
-                "schema/ballerina/constraint/record_field.bal", syntaxTree);
-        List<Diagnostic> diagnostics = getDiagnostics(syntaxTree);
-        assertTrue(diagnostics.isEmpty());
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, false)) {
+            RequestBodyGenerator requestBodyGenerator = new RequestBodyGenerator(openAPI.getPaths()
+                    .get("/admin").getPost().getRequestBody(), openAPI);
+            requestBodyGenerator.generateParameterNode();
+            syntaxTree = TypeHandler.getInstance().generateTypeSyntaxTree();
+            GeneratorTestUtils.assertGeneratedSyntaxTreeContainsExpectedSyntaxTree(
+                    "schema/ballerina/constraint/record_field.bal", syntaxTree);
+            List<Diagnostic> diagnostics = getDiagnostics(syntaxTree);
+            assertTrue(diagnostics.isEmpty());
+        }
     }
 
     @Test(description = "Tests for all the array type scenarios:" +
@@ -83,15 +85,17 @@ public class ConstraintTests {
     public void testForArray() throws IOException, BallerinaOpenApiException, FormatterException {
         OpenAPI openAPI = GeneratorUtils.normalizeOpenAPI(RES_DIR.resolve("swagger/constraint/array.yaml"),
                 true, false);
-        TypeHandler.createInstance(openAPI, false);
-        RequestBodyGenerator requestBodyGenerator = new RequestBodyGenerator(openAPI.getPaths()
-                .get("/admin").getPost().getRequestBody(), openAPI);
-        requestBodyGenerator.generateParameterNode();
-        syntaxTree = TypeHandler.getInstance().generateTypeSyntaxTree();
-        GeneratorTestUtils.assertGeneratedSyntaxTreeContainsExpectedSyntaxTree("schema/ballerina/constraint/array.bal",
-                syntaxTree);
-        List<Diagnostic> diagnostics = getDiagnostics(syntaxTree);
-        assertTrue(diagnostics.isEmpty());
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, false)) {
+            RequestBodyGenerator requestBodyGenerator = new RequestBodyGenerator(openAPI.getPaths()
+                    .get("/admin").getPost().getRequestBody(), openAPI);
+            requestBodyGenerator.generateParameterNode();
+            syntaxTree = TypeHandler.getInstance().generateTypeSyntaxTree();
+            GeneratorTestUtils.assertGeneratedSyntaxTreeContainsExpectedSyntaxTree(
+                    "schema/ballerina/constraint/array.bal",
+                    syntaxTree);
+            List<Diagnostic> diagnostics = getDiagnostics(syntaxTree);
+            assertTrue(diagnostics.isEmpty());
+        }
     }
 
     @Test(description = "Tests for the field has reference type scenarios" +
@@ -101,15 +105,16 @@ public class ConstraintTests {
     public void testForReference() throws IOException, BallerinaOpenApiException, FormatterException {
         OpenAPI openAPI = GeneratorUtils.normalizeOpenAPI(RES_DIR.resolve("swagger/constraint/type_def_node.yaml"),
                 true, false);
-        TypeHandler.createInstance(openAPI, false);
-        RequestBodyGenerator requestBodyGenerator = new RequestBodyGenerator(openAPI.getPaths().get("/admin")
-                .getPost().getRequestBody(), openAPI);
-        requestBodyGenerator.generateParameterNode();
-        syntaxTree = TypeHandler.getInstance().generateTypeSyntaxTree();
-        GeneratorTestUtils.assertGeneratedSyntaxTreeContainsExpectedSyntaxTree(
-                "schema/ballerina/constraint/type_def_node.bal", syntaxTree);
-        List<Diagnostic> diagnostics = getDiagnostics(syntaxTree);
-        assertTrue(diagnostics.isEmpty());
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, false)) {
+            RequestBodyGenerator requestBodyGenerator = new RequestBodyGenerator(openAPI.getPaths().get("/admin")
+                    .getPost().getRequestBody(), openAPI);
+            requestBodyGenerator.generateParameterNode();
+            syntaxTree = TypeHandler.getInstance().generateTypeSyntaxTree();
+            GeneratorTestUtils.assertGeneratedSyntaxTreeContainsExpectedSyntaxTree(
+                    "schema/ballerina/constraint/type_def_node.bal", syntaxTree);
+            List<Diagnostic> diagnostics = getDiagnostics(syntaxTree);
+            assertTrue(diagnostics.isEmpty());
+        }
     }
 
 
@@ -119,16 +124,17 @@ public class ConstraintTests {
         OpenAPI openAPI = GeneratorUtils.normalizeOpenAPI(RES_DIR.resolve(
                 "swagger/constraint/record_field_02.yaml"),
                 true, false);
-        TypeHandler.createInstance(openAPI, false);
-        RequestBodyGenerator requestBodyGenerator = new RequestBodyGenerator(openAPI.getPaths()
-                .get("/admin").getPost().getRequestBody(), openAPI);
-        requestBodyGenerator.generateParameterNode();
-        syntaxTree = TypeHandler.getInstance().generateTypeSyntaxTree();
-        //todo need fix with oneOF anyOf
-        GeneratorTestUtils.assertGeneratedSyntaxTreeContainsExpectedSyntaxTree(
-                "schema/ballerina/constraint/record_field_02.bal", syntaxTree);
-        List<Diagnostic> diagnostics = getDiagnostics(syntaxTree);
-        assertTrue(diagnostics.isEmpty());
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, false)) {
+            RequestBodyGenerator requestBodyGenerator = new RequestBodyGenerator(openAPI.getPaths()
+                    .get("/admin").getPost().getRequestBody(), openAPI);
+            requestBodyGenerator.generateParameterNode();
+            syntaxTree = TypeHandler.getInstance().generateTypeSyntaxTree();
+            //todo need fix with oneOF anyOf
+            GeneratorTestUtils.assertGeneratedSyntaxTreeContainsExpectedSyntaxTree(
+                    "schema/ballerina/constraint/record_field_02.bal", syntaxTree);
+            List<Diagnostic> diagnostics = getDiagnostics(syntaxTree);
+            assertTrue(diagnostics.isEmpty());
+        }
     }
 
     @Test(description = "Tests with nested array field has constraint.", enabled = false)
@@ -136,22 +142,23 @@ public class ConstraintTests {
             FormatterException, ClientException {
         OpenAPI openAPI = GeneratorUtils.normalizeOpenAPI(RES_DIR.resolve("swagger/constraint" +
                         "/nested_array_with_constraint.yaml"), true, false);
-        TypeHandler.createInstance(openAPI, false);
-        OASClientConfig.Builder clientMetaDataBuilder = new OASClientConfig.Builder();
-        OASClientConfig oasClientConfig = clientMetaDataBuilder
-                .withFilters(new Filter())
-                .withOpenAPI(openAPI)
-                .withResourceMode(false).build();
-        BallerinaClientGenerator ballerinaClientGenerator = new BallerinaClientGenerator(oasClientConfig);
-        ballerinaClientGenerator.generateSyntaxTree();
-        syntaxTree = TypeHandler.getInstance().generateTypeSyntaxTree();
-        //todo need to fix oneOf any off
-        GeneratorTestUtils.assertGeneratedSyntaxTreeContainsExpectedSyntaxTree(
-                "schema/ballerina/constraint/nested_array.bal", syntaxTree);
-        List<Diagnostic> diagnostics = getDiagnostics(syntaxTree);
-        boolean hasErrors = diagnostics.stream()
-                .anyMatch(d -> DiagnosticSeverity.ERROR.equals(d.diagnosticInfo().severity()));
-        assertFalse(hasErrors);
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, false)) {
+            OASClientConfig.Builder clientMetaDataBuilder = new OASClientConfig.Builder();
+            OASClientConfig oasClientConfig = clientMetaDataBuilder
+                    .withFilters(new Filter())
+                    .withOpenAPI(openAPI)
+                    .withResourceMode(false).build();
+            BallerinaClientGenerator ballerinaClientGenerator = new BallerinaClientGenerator(oasClientConfig);
+            ballerinaClientGenerator.generateSyntaxTree();
+            syntaxTree = TypeHandler.getInstance().generateTypeSyntaxTree();
+            //todo need to fix oneOf any off
+            GeneratorTestUtils.assertGeneratedSyntaxTreeContainsExpectedSyntaxTree(
+                    "schema/ballerina/constraint/nested_array.bal", syntaxTree);
+            List<Diagnostic> diagnostics = getDiagnostics(syntaxTree);
+            boolean hasErrors = diagnostics.stream()
+                    .anyMatch(d -> DiagnosticSeverity.ERROR.equals(d.diagnosticInfo().severity()));
+            assertFalse(hasErrors);
+        }
     }
 
     @Test(description = "Tests with additional properties field has constraint.")
@@ -159,21 +166,22 @@ public class ConstraintTests {
             FormatterException, ClientException {
         OpenAPI openAPI = GeneratorUtils.normalizeOpenAPI(RES_DIR.resolve("swagger/constraint" +
                 "/additional_properties_with_constraint.yaml"), true, false);
-        TypeHandler.createInstance(openAPI, false);
-        OASClientConfig.Builder clientMetaDataBuilder = new OASClientConfig.Builder();
-        OASClientConfig oasClientConfig = clientMetaDataBuilder
-                .withFilters(new Filter())
-                .withOpenAPI(openAPI)
-                .withResourceMode(false).build();
-        BallerinaClientGenerator ballerinaClientGenerator = new BallerinaClientGenerator(oasClientConfig);
-        ballerinaClientGenerator.generateSyntaxTree();
-        syntaxTree = TypeHandler.getInstance().generateTypeSyntaxTree();
-        GeneratorTestUtils.assertGeneratedSyntaxTreeContainsExpectedSyntaxTree(
-                "schema/ballerina/constraint/additional_properties_with_constraint.bal", syntaxTree);
-        List<Diagnostic> diagnostics = getDiagnostics(syntaxTree);
-        boolean hasErrors = diagnostics.stream()
-                .anyMatch(d -> DiagnosticSeverity.ERROR.equals(d.diagnosticInfo().severity()));
-        assertFalse(hasErrors);
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, false)) {
+            OASClientConfig.Builder clientMetaDataBuilder = new OASClientConfig.Builder();
+            OASClientConfig oasClientConfig = clientMetaDataBuilder
+                    .withFilters(new Filter())
+                    .withOpenAPI(openAPI)
+                    .withResourceMode(false).build();
+            BallerinaClientGenerator ballerinaClientGenerator = new BallerinaClientGenerator(oasClientConfig);
+            ballerinaClientGenerator.generateSyntaxTree();
+            syntaxTree = TypeHandler.getInstance().generateTypeSyntaxTree();
+            GeneratorTestUtils.assertGeneratedSyntaxTreeContainsExpectedSyntaxTree(
+                    "schema/ballerina/constraint/additional_properties_with_constraint.bal", syntaxTree);
+            List<Diagnostic> diagnostics = getDiagnostics(syntaxTree);
+            boolean hasErrors = diagnostics.stream()
+                    .anyMatch(d -> DiagnosticSeverity.ERROR.equals(d.diagnosticInfo().severity()));
+            assertFalse(hasErrors);
+        }
     }
     //TODO current tool doesn't handle union type: therefore union type constraint will handle once union type
     // generation available in tool.
@@ -183,21 +191,22 @@ public class ConstraintTests {
             ClientException {
         OpenAPI openAPI = GeneratorUtils.normalizeOpenAPI(RES_DIR.resolve("swagger/constraint" +
                 "/invalidConstraintFieldWithDataType.yaml"), true, false);
-        TypeHandler.createInstance(openAPI, false);
-        OASClientConfig.Builder clientMetaDataBuilder = new OASClientConfig.Builder();
-        OASClientConfig oasClientConfig = clientMetaDataBuilder
-                .withFilters(new Filter())
-                .withOpenAPI(openAPI)
-                .withResourceMode(false).build();
-        BallerinaClientGenerator ballerinaClientGenerator = new BallerinaClientGenerator(oasClientConfig);
-        ballerinaClientGenerator.generateSyntaxTree();
-        syntaxTree = TypeHandler.getInstance().generateTypeSyntaxTree();
-        GeneratorTestUtils.assertGeneratedSyntaxTreeContainsExpectedSyntaxTree(
-                "schema/ballerina/constraint/invalidConstraintFieldWithDtaType.bal", syntaxTree);
-        List<Diagnostic> diagnostics = getDiagnostics(syntaxTree);
-        boolean hasErrors = diagnostics.stream()
-                .anyMatch(d -> DiagnosticSeverity.ERROR.equals(d.diagnosticInfo().severity()));
-        assertFalse(hasErrors);
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, false)) {
+            OASClientConfig.Builder clientMetaDataBuilder = new OASClientConfig.Builder();
+            OASClientConfig oasClientConfig = clientMetaDataBuilder
+                    .withFilters(new Filter())
+                    .withOpenAPI(openAPI)
+                    .withResourceMode(false).build();
+            BallerinaClientGenerator ballerinaClientGenerator = new BallerinaClientGenerator(oasClientConfig);
+            ballerinaClientGenerator.generateSyntaxTree();
+            syntaxTree = TypeHandler.getInstance().generateTypeSyntaxTree();
+            GeneratorTestUtils.assertGeneratedSyntaxTreeContainsExpectedSyntaxTree(
+                    "schema/ballerina/constraint/invalidConstraintFieldWithDtaType.bal", syntaxTree);
+            List<Diagnostic> diagnostics = getDiagnostics(syntaxTree);
+            boolean hasErrors = diagnostics.stream()
+                    .anyMatch(d -> DiagnosticSeverity.ERROR.equals(d.diagnosticInfo().severity()));
+            assertFalse(hasErrors);
+        }
     }
 
     @Test(description = "Test for invalid constraint value with valid constraint value")
@@ -205,21 +214,22 @@ public class ConstraintTests {
             FormatterException, ClientException {
         OpenAPI openAPI = GeneratorUtils.normalizeOpenAPI(RES_DIR.resolve("swagger/constraint" +
                 "/invalidAndValidConstraintFieldWithDataType.yaml"), true, false);
-        TypeHandler.createInstance(openAPI, false);
-        OASClientConfig.Builder clientMetaDataBuilder = new OASClientConfig.Builder();
-        OASClientConfig oasClientConfig = clientMetaDataBuilder
-                .withFilters(new Filter())
-                .withOpenAPI(openAPI)
-                .withResourceMode(false).build();
-        BallerinaClientGenerator ballerinaClientGenerator = new BallerinaClientGenerator(oasClientConfig);
-        ballerinaClientGenerator.generateSyntaxTree();
-        syntaxTree = TypeHandler.getInstance().generateTypeSyntaxTree();
-        GeneratorTestUtils.assertGeneratedSyntaxTreeContainsExpectedSyntaxTree(
-                "schema/ballerina/constraint/invalidAndValidConstraintFieldWithDtaType.bal", syntaxTree);
-        List<Diagnostic> diagnostics = getDiagnostics(syntaxTree);
-        boolean hasErrors = diagnostics.stream()
-                .anyMatch(d -> DiagnosticSeverity.ERROR.equals(d.diagnosticInfo().severity()));
-        assertFalse(hasErrors);
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, false)) {
+            OASClientConfig.Builder clientMetaDataBuilder = new OASClientConfig.Builder();
+            OASClientConfig oasClientConfig = clientMetaDataBuilder
+                    .withFilters(new Filter())
+                    .withOpenAPI(openAPI)
+                    .withResourceMode(false).build();
+            BallerinaClientGenerator ballerinaClientGenerator = new BallerinaClientGenerator(oasClientConfig);
+            ballerinaClientGenerator.generateSyntaxTree();
+            syntaxTree = TypeHandler.getInstance().generateTypeSyntaxTree();
+            GeneratorTestUtils.assertGeneratedSyntaxTreeContainsExpectedSyntaxTree(
+                    "schema/ballerina/constraint/invalidAndValidConstraintFieldWithDtaType.bal", syntaxTree);
+            List<Diagnostic> diagnostics = getDiagnostics(syntaxTree);
+            boolean hasErrors = diagnostics.stream()
+                    .anyMatch(d -> DiagnosticSeverity.ERROR.equals(d.diagnosticInfo().severity()));
+            assertFalse(hasErrors);
+        }
     }
 
     @Test(description = "Test for allowing zero value for number and integer type")
@@ -227,21 +237,22 @@ public class ConstraintTests {
             ClientException {
         OpenAPI openAPI = GeneratorUtils.normalizeOpenAPI(RES_DIR.resolve("swagger/constraint" +
                 "/allow_zero_values_for_number_constraint.yaml"), true, false);
-        TypeHandler.createInstance(openAPI, false);
-        OASClientConfig.Builder clientMetaDataBuilder = new OASClientConfig.Builder();
-        OASClientConfig oasClientConfig = clientMetaDataBuilder
-                .withFilters(new Filter())
-                .withOpenAPI(openAPI)
-                .withResourceMode(false).build();
-        BallerinaClientGenerator ballerinaClientGenerator = new BallerinaClientGenerator(oasClientConfig);
-        ballerinaClientGenerator.generateSyntaxTree();
-        syntaxTree = TypeHandler.getInstance().generateTypeSyntaxTree();
-        GeneratorTestUtils.assertGeneratedSyntaxTreeContainsExpectedSyntaxTree(
-                "schema/ballerina/constraint/allow_zero_values_for_number_constraint.bal", syntaxTree);
-        List<Diagnostic> diagnostics = getDiagnostics(syntaxTree);
-        boolean hasErrors = diagnostics.stream()
-                .anyMatch(d -> DiagnosticSeverity.ERROR.equals(d.diagnosticInfo().severity()));
-        assertFalse(hasErrors);
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, false)) {
+            OASClientConfig.Builder clientMetaDataBuilder = new OASClientConfig.Builder();
+            OASClientConfig oasClientConfig = clientMetaDataBuilder
+                    .withFilters(new Filter())
+                    .withOpenAPI(openAPI)
+                    .withResourceMode(false).build();
+            BallerinaClientGenerator ballerinaClientGenerator = new BallerinaClientGenerator(oasClientConfig);
+            ballerinaClientGenerator.generateSyntaxTree();
+            syntaxTree = TypeHandler.getInstance().generateTypeSyntaxTree();
+            GeneratorTestUtils.assertGeneratedSyntaxTreeContainsExpectedSyntaxTree(
+                    "schema/ballerina/constraint/allow_zero_values_for_number_constraint.bal", syntaxTree);
+            List<Diagnostic> diagnostics = getDiagnostics(syntaxTree);
+            boolean hasErrors = diagnostics.stream()
+                    .anyMatch(d -> DiagnosticSeverity.ERROR.equals(d.diagnosticInfo().severity()));
+            assertFalse(hasErrors);
+        }
     }
 
     @Test(description = "Tests for nullable reference types with constraint.", enabled = false)
@@ -249,21 +260,22 @@ public class ConstraintTests {
             FormatterException, ClientException {
         OpenAPI openAPI = GeneratorUtils.normalizeOpenAPI(RES_DIR.resolve("swagger/constraint" +
                 "/constraint_with_nullable.yaml"), true, false);
-        TypeHandler.createInstance(openAPI, false);
-        OASClientConfig.Builder clientMetaDataBuilder = new OASClientConfig.Builder();
-        OASClientConfig oasClientConfig = clientMetaDataBuilder
-                .withFilters(new Filter())
-                .withOpenAPI(openAPI)
-                .withResourceMode(false).build();
-        BallerinaClientGenerator ballerinaClientGenerator = new BallerinaClientGenerator(oasClientConfig);
-        ballerinaClientGenerator.generateSyntaxTree();
-        syntaxTree = TypeHandler.getInstance().generateTypeSyntaxTree();
-        GeneratorTestUtils.assertGeneratedSyntaxTreeContainsExpectedSyntaxTree(
-                "schema/ballerina/constraint/constraint_with_nullable.bal", syntaxTree);
-        List<Diagnostic> diagnostics = getDiagnostics(syntaxTree);
-        boolean hasErrors = diagnostics.stream()
-                .anyMatch(d -> DiagnosticSeverity.ERROR.equals(d.diagnosticInfo().severity()));
-        assertFalse(hasErrors);
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, false)) {
+            OASClientConfig.Builder clientMetaDataBuilder = new OASClientConfig.Builder();
+            OASClientConfig oasClientConfig = clientMetaDataBuilder
+                    .withFilters(new Filter())
+                    .withOpenAPI(openAPI)
+                    .withResourceMode(false).build();
+            BallerinaClientGenerator ballerinaClientGenerator = new BallerinaClientGenerator(oasClientConfig);
+            ballerinaClientGenerator.generateSyntaxTree();
+            syntaxTree = TypeHandler.getInstance().generateTypeSyntaxTree();
+            GeneratorTestUtils.assertGeneratedSyntaxTreeContainsExpectedSyntaxTree(
+                    "schema/ballerina/constraint/constraint_with_nullable.bal", syntaxTree);
+            List<Diagnostic> diagnostics = getDiagnostics(syntaxTree);
+            boolean hasErrors = diagnostics.stream()
+                    .anyMatch(d -> DiagnosticSeverity.ERROR.equals(d.diagnosticInfo().severity()));
+            assertFalse(hasErrors);
+        }
     }
 
     @Test(description = "Test for schema properties having pattern constraint.")
@@ -271,21 +283,22 @@ public class ConstraintTests {
             FormatterException, ClientException {
         OpenAPI openAPI = GeneratorUtils.normalizeOpenAPI(RES_DIR.resolve("swagger/constraint" +
                 "/pattern_string.yaml"), true, false);
-        TypeHandler.createInstance(openAPI, false);
-        OASClientConfig.Builder clientMetaDataBuilder = new OASClientConfig.Builder();
-        OASClientConfig oasClientConfig = clientMetaDataBuilder
-                .withFilters(new Filter())
-                .withOpenAPI(openAPI)
-                .withResourceMode(false).build();
-        BallerinaClientGenerator ballerinaClientGenerator = new BallerinaClientGenerator(oasClientConfig);
-        ballerinaClientGenerator.generateSyntaxTree();
-        syntaxTree = TypeHandler.getInstance().generateTypeSyntaxTree();
-        GeneratorTestUtils.assertGeneratedSyntaxTreeContainsExpectedSyntaxTree(
-                "schema/ballerina/constraint/string_pattern.bal", syntaxTree);
-        List<Diagnostic> diagnostics = getDiagnostics(syntaxTree);
-        boolean hasErrors = diagnostics.stream()
-                .anyMatch(d -> DiagnosticSeverity.ERROR.equals(d.diagnosticInfo().severity()));
-        assertFalse(hasErrors);
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, false)) {
+            OASClientConfig.Builder clientMetaDataBuilder = new OASClientConfig.Builder();
+            OASClientConfig oasClientConfig = clientMetaDataBuilder
+                    .withFilters(new Filter())
+                    .withOpenAPI(openAPI)
+                    .withResourceMode(false).build();
+            BallerinaClientGenerator ballerinaClientGenerator = new BallerinaClientGenerator(oasClientConfig);
+            ballerinaClientGenerator.generateSyntaxTree();
+            syntaxTree = TypeHandler.getInstance().generateTypeSyntaxTree();
+            GeneratorTestUtils.assertGeneratedSyntaxTreeContainsExpectedSyntaxTree(
+                    "schema/ballerina/constraint/string_pattern.bal", syntaxTree);
+            List<Diagnostic> diagnostics = getDiagnostics(syntaxTree);
+            boolean hasErrors = diagnostics.stream()
+                    .anyMatch(d -> DiagnosticSeverity.ERROR.equals(d.diagnosticInfo().severity()));
+            assertFalse(hasErrors);
+        }
     }
 
     @Test(description = "Test for exclusiveMin and exclusiveMax property changes in OpenAPI 3.1")
@@ -293,21 +306,22 @@ public class ConstraintTests {
             FormatterException, ClientException {
         OpenAPI openAPI = GeneratorUtils.normalizeOpenAPI(RES_DIR.resolve("swagger/constraint" +
                 "/exclusive_min_max_3_1.yaml"), true, false);
-        TypeHandler.createInstance(openAPI, false);
-        OASClientConfig.Builder clientMetaDataBuilder = new OASClientConfig.Builder();
-        OASClientConfig oasClientConfig = clientMetaDataBuilder
-                .withFilters(new Filter())
-                .withOpenAPI(openAPI)
-                .withResourceMode(false).build();
-        BallerinaClientGenerator ballerinaClientGenerator = new BallerinaClientGenerator(oasClientConfig);
-        ballerinaClientGenerator.generateSyntaxTree();
-        syntaxTree = TypeHandler.getInstance().generateTypeSyntaxTree();
-        GeneratorTestUtils.assertGeneratedSyntaxTreeContainsExpectedSyntaxTree(
-                "schema/ballerina/constraint/exclusive_min_max_3_1.bal", syntaxTree);
-        List<Diagnostic> diagnostics = getDiagnostics(syntaxTree);
-        boolean hasErrors = diagnostics.stream()
-                .anyMatch(d -> DiagnosticSeverity.ERROR.equals(d.diagnosticInfo().severity()));
-        assertFalse(hasErrors);
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, false)) {
+            OASClientConfig.Builder clientMetaDataBuilder = new OASClientConfig.Builder();
+            OASClientConfig oasClientConfig = clientMetaDataBuilder
+                    .withFilters(new Filter())
+                    .withOpenAPI(openAPI)
+                    .withResourceMode(false).build();
+            BallerinaClientGenerator ballerinaClientGenerator = new BallerinaClientGenerator(oasClientConfig);
+            ballerinaClientGenerator.generateSyntaxTree();
+            syntaxTree = TypeHandler.getInstance().generateTypeSyntaxTree();
+            GeneratorTestUtils.assertGeneratedSyntaxTreeContainsExpectedSyntaxTree(
+                    "schema/ballerina/constraint/exclusive_min_max_3_1.bal", syntaxTree);
+            List<Diagnostic> diagnostics = getDiagnostics(syntaxTree);
+            boolean hasErrors = diagnostics.stream()
+                    .anyMatch(d -> DiagnosticSeverity.ERROR.equals(d.diagnosticInfo().severity()));
+            assertFalse(hasErrors);
+        }
     }
 
     @Test(description = "Test for schema properties containing data types with format constraints for OASV3.",
@@ -315,17 +329,18 @@ public class ConstraintTests {
     public void testDataTypeHasFormatWithConstraint() throws IOException, BallerinaOpenApiException, ClientException {
         OpenAPI openAPI = GeneratorUtils.normalizeOpenAPI(RES_DIR.resolve("swagger/constraint" +
                 "/format_types_v3_0.yaml"), true, false);
-        TypeHandler.createInstance(openAPI, false);
-        OASClientConfig.Builder clientMetaDataBuilder = new OASClientConfig.Builder();
-        OASClientConfig oasClientConfig = clientMetaDataBuilder
-                .withFilters(new Filter())
-                .withOpenAPI(openAPI)
-                .withResourceMode(false).build();
-        BallerinaClientGenerator ballerinaClientGenerator = new BallerinaClientGenerator(oasClientConfig);
-        ballerinaClientGenerator.generateSyntaxTree();
-        syntaxTree = TypeHandler.getInstance().generateTypeSyntaxTree();
-        GeneratorTestUtils.assertGeneratedSyntaxTreeContainsExpectedSyntaxTree(
-                "schema/ballerina/constraint/format_type.bal", syntaxTree);
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, false)) {
+            OASClientConfig.Builder clientMetaDataBuilder = new OASClientConfig.Builder();
+            OASClientConfig oasClientConfig = clientMetaDataBuilder
+                    .withFilters(new Filter())
+                    .withOpenAPI(openAPI)
+                    .withResourceMode(false).build();
+            BallerinaClientGenerator ballerinaClientGenerator = new BallerinaClientGenerator(oasClientConfig);
+            ballerinaClientGenerator.generateSyntaxTree();
+            syntaxTree = TypeHandler.getInstance().generateTypeSyntaxTree();
+            GeneratorTestUtils.assertGeneratedSyntaxTreeContainsExpectedSyntaxTree(
+                    "schema/ballerina/constraint/format_type.bal", syntaxTree);
+        }
     }
 
     @Test(description = "Test for schema properties containing data types with format constraints.", enabled = false)
@@ -335,17 +350,18 @@ public class ConstraintTests {
         //Test for OpenAPI version 3.1
         OpenAPI openAPIV31 = GeneratorUtils.normalizeOpenAPI(RES_DIR.resolve("swagger/constraint" +
                 "/format_types_v3_1.yaml"), true, false);
-        TypeHandler.createInstance(openAPIV31, false);
-        OASClientConfig.Builder cBuilder = new OASClientConfig.Builder();
-        OASClientConfig cBuilderConfig = cBuilder
-                .withFilters(new Filter())
-                .withOpenAPI(openAPIV31)
-                .withResourceMode(false).build();
-        BallerinaClientGenerator oasv3 = new BallerinaClientGenerator(cBuilderConfig);
-        oasv3.generateSyntaxTree();
-        SyntaxTree syntaxTreeV3 = TypeHandler.getInstance().generateTypeSyntaxTree();
-        GeneratorTestUtils.assertGeneratedSyntaxTreeContainsExpectedSyntaxTree(
-                "schema/ballerina/constraint/format_type_v3.bal", syntaxTreeV3);
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPIV31, false)) {
+            OASClientConfig.Builder cBuilder = new OASClientConfig.Builder();
+            OASClientConfig cBuilderConfig = cBuilder
+                    .withFilters(new Filter())
+                    .withOpenAPI(openAPIV31)
+                    .withResourceMode(false).build();
+            BallerinaClientGenerator oasv3 = new BallerinaClientGenerator(cBuilderConfig);
+            oasv3.generateSyntaxTree();
+            SyntaxTree syntaxTreeV3 = TypeHandler.getInstance().generateTypeSyntaxTree();
+            GeneratorTestUtils.assertGeneratedSyntaxTreeContainsExpectedSyntaxTree(
+                    "schema/ballerina/constraint/format_type_v3.bal", syntaxTreeV3);
+        }
     }
 
     @Test(description = "Tests that decimal values defined for integer fields in the OpenAPI schema are correctly" +
@@ -355,15 +371,16 @@ public class ConstraintTests {
         OpenAPI openAPI = GeneratorUtils.normalizeOpenAPI(RES_DIR
                         .resolve("swagger/constraint/integer_constraint_with_decimal_values.yaml"),
                 true, false);
-        TypeHandler.createInstance(openAPI, false);
-        RequestBodyGenerator requestBodyGenerator = new RequestBodyGenerator(openAPI.getPaths()
-                .get("/admin").getPost().getRequestBody(), openAPI);
-        requestBodyGenerator.generateParameterNode();
-        syntaxTree = TypeHandler.getInstance().generateTypeSyntaxTree();
-        GeneratorTestUtils.assertGeneratedSyntaxTreeContainsExpectedSyntaxTree(
-                "schema/ballerina/constraint/integer_constraint_with_decimal_values.bal", syntaxTree);
-        List<Diagnostic> diagnostics = getDiagnostics(syntaxTree);
-        assertTrue(diagnostics.isEmpty());
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, false)) {
+            RequestBodyGenerator requestBodyGenerator = new RequestBodyGenerator(openAPI.getPaths()
+                    .get("/admin").getPost().getRequestBody(), openAPI);
+            requestBodyGenerator.generateParameterNode();
+            syntaxTree = TypeHandler.getInstance().generateTypeSyntaxTree();
+            GeneratorTestUtils.assertGeneratedSyntaxTreeContainsExpectedSyntaxTree(
+                    "schema/ballerina/constraint/integer_constraint_with_decimal_values.bal", syntaxTree);
+            List<Diagnostic> diagnostics = getDiagnostics(syntaxTree);
+            assertTrue(diagnostics.isEmpty());
+        }
     }
 
     @AfterMethod
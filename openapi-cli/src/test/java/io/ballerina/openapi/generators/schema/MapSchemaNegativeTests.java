@@ -17,6 +17,7 @@
 package io.ballerina.openapi.generators.schema;
 
 import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.openapi.core.generators.common.GenerationContext;
 import io.ballerina.openapi.core.generators.common.GeneratorUtils;
 import io.ballerina.openapi.core.generators.common.TypeHandler;
 import io.ballerina.openapi.core.generators.common.exception.BallerinaOpenApiException;
@@ -58,14 +59,15 @@ public class MapSchemaNegativeTests {
             FormatterException {
         OpenAPI openAPI = GeneratorUtils.normalizeOpenAPI(RES_DIR.resolve("swagger" +
                 "/additional_properties_true_negative.yaml"), true, false);
-        TypeHandler.createInstance(openAPI, true);
-        ServiceGenerationHandler serviceGenerationHandler = new ServiceGenerationHandler();
-        OASServiceMetadata oasServiceMetadata = new OASServiceMetadata.Builder()
-                .withOpenAPI(openAPI)
-                .withNullable(true)
-                .withFilters(FILTER)
-                .build();
-        serviceGenerationHandler.generateServiceFiles(oasServiceMetadata);
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, true)) {
+            ServiceGenerationHandler serviceGenerationHandler = new ServiceGenerationHandler();
+            OASServiceMetadata oasServiceMetadata = new OASServiceMetadata.Builder()
+                    .withOpenAPI(openAPI)
+                    .withNullable(true)
+                    .withFilters(FILTER)
+                    .build();
+            serviceGenerationHandler.generateServiceFiles(oasServiceMetadata);
+        }
     }
 
     @Test
@@ -73,25 +75,27 @@ public class MapSchemaNegativeTests {
             throws IOException, BallerinaOpenApiException, FormatterException {
         OpenAPI openAPI = GeneratorUtils.normalizeOpenAPI(RES_DIR.resolve("swagger" +
                 "/additional_properties_true_negative_without_parser_issue.yaml"), true, false);
-        TypeHandler.createInstance(openAPI, true);
-        ServiceGenerationHandler serviceGenerationHandler = new ServiceGenerationHandler();
-        OASServiceMetadata oasServiceMetadata = new OASServiceMetadata.Builder()
-                .withOpenAPI(openAPI)
-                .withNullable(true)
-                .withFilters(FILTER)
-                .build();
-        serviceGenerationHandler.generateServiceFiles(oasServiceMetadata);
-        syntaxTree = TypeHandler.getInstance().generateTypeSyntaxTree();
-        // Check the generated content, till the warning test enable.
-        GeneratorTestUtils.assertGeneratedSyntaxTreeContainsExpectedSyntaxTree(
-                "schema/ballerina/additional_properties_negative.bal", syntaxTree);
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, true)) {
+            ServiceGenerationHandler serviceGenerationHandler = new ServiceGenerationHandler();
+            OASServiceMetadata oasServiceMetadata = new OASServiceMetadata.Builder()
+                    .withOpenAPI(openAPI)
+                    .withNullable(true)
+                    .withFilters(FILTER)
+                    .build();
+            serviceGenerationHandler.generateServiceFiles(oasServiceMetadata);
+            syntaxTree = TypeHandler.getInstance().generateTypeSyntaxTree();
+            // Check the generated content, till the warning test enable.
+            GeneratorTestUtils.assertGeneratedSyntaxTreeContainsExpectedSyntaxTree(
+                    "schema/ballerina/additional_properties_negative.bal", syntaxTree);
 
-        String expectedOut = "WARNING: constraints in the OpenAPI contract will be ignored for the " +
-                "additionalProperties field, as constraints are not supported on Ballerina rest record field.\n" +
-                "WARNING: generating Ballerina rest record field will be ignored for the OpenAPI contract " +
-                "additionalProperties type `ComposedSchema`, as it is not supported on Ballerina rest record field.";
-//        Assert.assertTrue(output.toString().contains(expectedOut));
-        // todo : check the diagnostics list
+            String expectedOut = "WARNING: constraints in the OpenAPI contract will be ignored for the " +
+                    "additionalProperties field, as constraints are not supported on Ballerina rest record field.\n" +
+                    "WARNING: generating Ballerina rest record field will be ignored for the OpenAPI contract " +
+                    "additionalProperties type `ComposedSchema`, as it is not supported on Ballerina rest record " +
+                    "field.";
+    //        Assert.assertTrue(output.toString().contains(expectedOut));
+            // todo : check the diagnostics list
+        }
     }
 
     @AfterSuite
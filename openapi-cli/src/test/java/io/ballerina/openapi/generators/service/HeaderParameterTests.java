@@ -19,6 +19,7 @@ package io.ballerina.openapi.generators.service;
 
 import io.ballerina.compiler.syntax.tree.SyntaxTree;
 import io.ballerina.openapi.TestUtils;
+import io.ballerina.openapi.core.generators.common.GenerationContext;
 import io.ballerina.openapi.core.generators.common.GeneratorUtils;
 import io.ballerina.openapi.core.generators.common.TypeHandler;
 import io.ballerina.openapi.core.generators.common.exception.BallerinaOpenApiException;
@@ -52,10 +53,11 @@ public class HeaderParameterTests {
                 .withOpenAPI(openAPI)
                 .withFilters(filter)
                 .build();
-        TypeHandler.createInstance(openAPI, false);
-        ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
-        syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
-        CommonTestFunctions.compareGeneratedSyntaxTreewithExpectedSyntaxTree("headers/header_01.bal", syntaxTree);
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, false)) {
+            ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
+            syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
+            CommonTestFunctions.compareGeneratedSyntaxTreewithExpectedSyntaxTree("headers/header_01.bal", syntaxTree);
+        }
     }
 
     @Test(description = "02. Required header parameter without header data type")
@@ -66,12 +68,13 @@ public class HeaderParameterTests {
                 .withOpenAPI(openAPI)
                 .withFilters(filter)
                 .build();
-        TypeHandler.createInstance(openAPI, false);
-        ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
-        syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
-        CommonTestFunctions.compareGeneratedSyntaxTreewithExpectedSyntaxTree("headers/header.bal", syntaxTree);
-        TestUtils.compareDiagnosticWarnings(ballerinaServiceGenerator.getDiagnostics(),
-                "Header 'x-request-id' with no header type can not be mapped to the Ballerina headers.");
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, false)) {
+            ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
+            syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
+            CommonTestFunctions.compareGeneratedSyntaxTreewithExpectedSyntaxTree("headers/header.bal", syntaxTree);
+            TestUtils.compareDiagnosticWarnings(ballerinaServiceGenerator.getDiagnostics(),
+                    "Header 'x-request-id' with no header type can not be mapped to the Ballerina headers.");
+        }
     }
 
     @Test(description = "03. Header parameter with integer header data type")
@@ -82,10 +85,11 @@ public class HeaderParameterTests {
                 .withOpenAPI(openAPI)
                 .withFilters(filter)
                 .build();
-        TypeHandler.createInstance(openAPI, false);
-        ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
-        syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
-        CommonTestFunctions.compareGeneratedSyntaxTreewithExpectedSyntaxTree("headers/header_03.bal", syntaxTree);
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, false)) {
+            ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
+            syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
+            CommonTestFunctions.compareGeneratedSyntaxTreewithExpectedSyntaxTree("headers/header_03.bal", syntaxTree);
+        }
     }
 
     @Test(description = "04. Header parameter with array type with no item type")
@@ -96,13 +100,14 @@ public class HeaderParameterTests {
                 .withOpenAPI(openAPI)
                 .withFilters(filter)
                 .build();
-        TypeHandler.createInstance(openAPI, false);
-        ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
-        syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
-        CommonTestFunctions.compareGeneratedSyntaxTreewithExpectedSyntaxTree("headers/header_04.bal", syntaxTree);
-        TestUtils.compareDiagnosticWarnings(ballerinaServiceGenerator.getDiagnostics(),
-                "Header 'x-request-id' with no array item type can " +
-                        "not be mapped as a valid Ballerina header parameter.");
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, false)) {
+            ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
+            syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
+            CommonTestFunctions.compareGeneratedSyntaxTreewithExpectedSyntaxTree("headers/header_04.bal", syntaxTree);
+            TestUtils.compareDiagnosticWarnings(ballerinaServiceGenerator.getDiagnostics(),
+                    "Header 'x-request-id' with no array item type can " +
+                            "not be mapped as a valid Ballerina header parameter.");
+        }
     }
 
     @Test(description = "05. Header parameter has array type with integer item type")
@@ -113,10 +118,11 @@ public class HeaderParameterTests {
                 .withOpenAPI(openAPI)
                 .withFilters(filter)
                 .build();
-        TypeHandler.createInstance(openAPI, false);
-        ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
-        syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
-        CommonTestFunctions.compareGeneratedSyntaxTreewithExpectedSyntaxTree("headers/header_05.bal", syntaxTree);
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, false)) {
+            ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
+            syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
+            CommonTestFunctions.compareGeneratedSyntaxTreewithExpectedSyntaxTree("headers/header_05.bal", syntaxTree);
+        }
     }
 
     @Test(description = "06. Optional header parameter")
@@ -127,10 +133,11 @@ public class HeaderParameterTests {
                 .withOpenAPI(openAPI)
                 .withFilters(filter)
                 .build();
-        TypeHandler.createInstance(openAPI, false);
-        ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
-        syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
-        CommonTestFunctions.compareGeneratedSyntaxTreewithExpectedSyntaxTree("headers/header_06.bal", syntaxTree);
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, false)) {
+            ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
+            syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
+            CommonTestFunctions.compareGeneratedSyntaxTreewithExpectedSyntaxTree("headers/header_06.bal", syntaxTree);
+        }
     }
 
     @Test(description = "07. Optional header parameter with array type")
@@ -141,10 +148,11 @@ public class HeaderParameterTests {
                 .withOpenAPI(openAPI)
                 .withFilters(filter)
                 .build();
-        TypeHandler.createInstance(openAPI, false);
-        ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
-        syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
-        CommonTestFunctions.compareGeneratedSyntaxTreewithExpectedSyntaxTree("headers/header_07.bal", syntaxTree);
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, false)) {
+            ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
+            syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
+            CommonTestFunctions.compareGeneratedSyntaxTreewithExpectedSyntaxTree("headers/header_07.bal", syntaxTree);
+        }
     }
 
     @Test(description = "08. Optional header parameter with array type default type value")
@@ -155,10 +163,11 @@ public class HeaderParameterTests {
                 .withOpenAPI(openAPI)
                 .withFilters(filter)
                 .build();
-        TypeHandler.createInstance(openAPI, false);
-        ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
-        syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
-        CommonTestFunctions.compareGeneratedSyntaxTreewithExpectedSyntaxTree("headers/header_08.bal", syntaxTree);
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, false)) {
+            ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
+            syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
+            CommonTestFunctions.compareGeneratedSyntaxTreewithExpectedSyntaxTree("headers/header_08.bal", syntaxTree);
+        }
     }
 
     @Test(description = "09. Header parameter with default type value")
@@ -169,10 +178,11 @@ public class HeaderParameterTests {
                 .withOpenAPI(openAPI)
                 .withFilters(filter)
                 .build();
-        TypeHandler.createInstance(openAPI, false);
-        ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
-        syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
-        CommonTestFunctions.compareGeneratedSyntaxTreewithExpectedSyntaxTree("headers/header_09.bal", syntaxTree);
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, false)) {
+            ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
+            syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
+            CommonTestFunctions.compareGeneratedSyntaxTreewithExpectedSyntaxTree("headers/header_09.bal", syntaxTree);
+        }
     }
 
     @Test(description = "10. Header parameter with required nullabe true attribute")
@@ -183,10 +193,11 @@ public class HeaderParameterTests {
                 .withOpenAPI(openAPI)
                 .withFilters(filter)
                 .build();
-        TypeHandler.createInstance(openAPI, false);
-        ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
-        syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
-        CommonTestFunctions.compareGeneratedSyntaxTreewithExpectedSyntaxTree("headers/header_10.bal", syntaxTree);
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, false)) {
+            ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
+            syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
+            CommonTestFunctions.compareGeneratedSyntaxTreewithExpectedSyntaxTree("headers/header_10.bal", syntaxTree);
+        }
     }
 
     @Test(description = "11. Optional header parameter has nullable true property")
@@ -197,10 +208,11 @@ public class HeaderParameterTests {
                 .withOpenAPI(openAPI)
                 .withFilters(filter)
                 .build();
-        TypeHandler.createInstance(openAPI, false);
-        ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
-        syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
-        CommonTestFunctions.compareGeneratedSyntaxTreewithExpectedSyntaxTree("headers/header_11.bal", syntaxTree);
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, false)) {
+            ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
+            syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
+            CommonTestFunctions.compareGeneratedSyntaxTreewithExpectedSyntaxTree("headers/header_11.bal", syntaxTree);
+        }
     }
 
     @Test(description = "12. Header parameter order")
@@ -211,10 +223,11 @@ public class HeaderParameterTests {
                 .withOpenAPI(openAPI)
                 .withFilters(filter)
                 .build();
-        TypeHandler.createInstance(openAPI, false);
-        ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
-        syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
-        CommonTestFunctions.compareGeneratedSyntaxTreewithExpectedSyntaxTree("headers/header_12.bal", syntaxTree);
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, false)) {
+            ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
+            syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
+            CommonTestFunctions.compareGeneratedSyntaxTreewithExpectedSyntaxTree("headers/header_12.bal", syntaxTree);
+        }
     }
 
     @Test(description = "13. Header parameters with references")
@@ -225,11 +238,12 @@ public class HeaderParameterTests {
                 .withOpenAPI(openAPI)
                 .withFilters(filter)
                 .build();
-        TypeHandler.createInstance(openAPI, false);
-        ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
-        syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
-        CommonTestFunctions.compareGeneratedSyntaxTreewithExpectedSyntaxTree(
-                "headers/header_with_reference.bal", syntaxTree);
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, false)) {
+            ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
+            syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
+            CommonTestFunctions.compareGeneratedSyntaxTreewithExpectedSyntaxTree(
+                    "headers/header_with_reference.bal", syntaxTree);
+        }
     }
 
     @Test(description = "14. Header parameter with invalid reference")
@@ -240,11 +254,12 @@ public class HeaderParameterTests {
                 .withOpenAPI(openAPI)
                 .withFilters(filter)
                 .build();
-        TypeHandler.createInstance(openAPI, false);
-        ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
-        syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
-        TestUtils.compareDiagnosticWarnings(ballerinaServiceGenerator.getDiagnostics(),
-                "Header 'X-User' with type 'object' can not be mapped as a valid Ballerina header parameter.");
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, false)) {
+            ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
+            syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
+            TestUtils.compareDiagnosticWarnings(ballerinaServiceGenerator.getDiagnostics(),
+                    "Header 'X-User' with type 'object' can not be mapped as a valid Ballerina header parameter.");
+        }
     }
 
     @Test(description = "15. Header parameter with invalid array reference with record type")
@@ -255,11 +270,12 @@ public class HeaderParameterTests {
                 .withOpenAPI(openAPI)
                 .withFilters(filter)
                 .build();
-        TypeHandler.createInstance(openAPI, false);
-        ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
-        syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
-        TestUtils.compareDiagnosticWarnings(ballerinaServiceGenerator.getDiagnostics(),
-                "Header 'X-Users' with array item type: 'User' is not supported in Ballerina.");
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, false)) {
+            ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
+            syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
+            TestUtils.compareDiagnosticWarnings(ballerinaServiceGenerator.getDiagnostics(),
+                    "Header 'X-Users' with array item type: 'User' is not supported in Ballerina.");
+        }
     }
 
     @Test(description = "16. Header parameter with invalid type (object)")
@@ -270,11 +286,12 @@ public class HeaderParameterTests {
                 .withOpenAPI(openAPI)
                 .withFilters(filter)
                 .build();
-        TypeHandler.createInstance(openAPI, false);
-        ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
-        syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
-        TestUtils.compareDiagnosticWarnings(ballerinaServiceGenerator.getDiagnostics(),
-                "Header 'X-User' with type 'object' can not be mapped as a valid Ballerina header parameter.");
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, false)) {
+            ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
+            syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
+            TestUtils.compareDiagnosticWarnings(ballerinaServiceGenerator.getDiagnostics(),
+                    "Header 'X-User' with type 'object' can not be mapped as a valid Ballerina header parameter.");
+        }
     }
 
     @Test(description = "17. Header parameter with invalid array type (object)")
@@ -285,11 +302,12 @@ public class HeaderParameterTests {
                 .withOpenAPI(openAPI)
                 .withFilters(filter)
                 .build();
-        TypeHandler.createInstance(openAPI, false);
-        ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
-        syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
-        TestUtils.compareDiagnosticWarnings(ballerinaServiceGenerator.getDiagnostics(),
-                "Header 'X-User' with array item type: 'object' is not supported in Ballerina.");
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, false)) {
+            ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
+            syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
+            TestUtils.compareDiagnosticWarnings(ballerinaServiceGenerator.getDiagnostics(),
+                    "Header 'X-User' with array item type: 'object' is not supported in Ballerina.");
+        }
     }
 
     @Test(description = "18. Header parameter with invalid type (empty object)")
@@ -300,11 +318,12 @@ public class HeaderParameterTests {
                 .withOpenAPI(openAPI)
                 .withFilters(filter)
                 .build();
-        TypeHandler.createInstance(openAPI, false);
-        ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
-        syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
-        TestUtils.compareDiagnosticWarnings(ballerinaServiceGenerator.getDiagnostics(),
-                "Header 'X-User' with type 'object' can not be mapped as a valid Ballerina header parameter.");
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, false)) {
+            ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
+            syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
+            TestUtils.compareDiagnosticWarnings(ballerinaServiceGenerator.getDiagnostics(),
+                    "Header 'X-User' with type 'object' can not be mapped as a valid Ballerina header parameter.");
+        }
     }
 
     @Test(description = "19. Header with blank name")
@@ -315,9 +334,10 @@ public class HeaderParameterTests {
                 .withOpenAPI(openAPI)
                 .withFilters(filter)
                 .build();
-        TypeHandler.createInstance(openAPI, false);
-        ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
-        syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
-        CommonTestFunctions.compareGeneratedSyntaxTreewithExpectedSyntaxTree("headers/header_13.bal", syntaxTree);
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, false)) {
+            ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
+            syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
+            CommonTestFunctions.compareGeneratedSyntaxTreewithExpectedSyntaxTree("headers/header_13.bal", syntaxTree);
+        }
     }
 }
@@ -21,6 +21,7 @@ package io.ballerina.openapi.generators.service;
 import io.ballerina.compiler.syntax.tree.SyntaxTree;
 import io.ballerina.openapi.TestUtils;
 import io.ballerina.openapi.cmd.CmdUtils;
+import io.ballerina.openapi.core.generators.common.GenerationContext;
 import io.ballerina.openapi.core.generators.common.TypeHandler;
 import io.ballerina.openapi.core.generators.common.exception.BallerinaOpenApiException;
 import io.ballerina.openapi.core.generators.common.model.Filter;
@@ -53,10 +54,11 @@ public class ListenerTests {
                 .withOpenAPI(openAPI)
                 .withFilters(filter)
                 .build();
-        TypeHandler.createInstance(openAPI, false);
-        ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
-        syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
-        CommonTestFunctions.compareGeneratedSyntaxTreewithExpectedSyntaxTree("listeners/importors.bal", syntaxTree);
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, false)) {
+            ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
+            syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
+            CommonTestFunctions.compareGeneratedSyntaxTreewithExpectedSyntaxTree("listeners/importors.bal", syntaxTree);
+        }
     }
 
     @Test(description = "Generate listeners")
@@ -67,12 +69,13 @@ public class ListenerTests {
                 .withOpenAPI(openAPI)
                 .withFilters(filter)
                 .build();
-        TypeHandler.createInstance(openAPI, false);
-        ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
-        syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
-        CommonTestFunctions.compareGeneratedSyntaxTreewithExpectedSyntaxTree("listeners/listeners.bal", syntaxTree);
-        TestUtils.compareDiagnosticWarnings(ballerinaServiceGenerator.getDiagnostics(),
-                "Failed to read endpoint details of the server: /v1");
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, false)) {
+            ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
+            syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
+            CommonTestFunctions.compareGeneratedSyntaxTreewithExpectedSyntaxTree("listeners/listeners.bal", syntaxTree);
+            TestUtils.compareDiagnosticWarnings(ballerinaServiceGenerator.getDiagnostics(),
+                    "Failed to read endpoint details of the server: /v1");
+        }
     }
 
     @Test(description = "Generate listeners")
@@ -83,10 +86,12 @@ public class ListenerTests {
                 .withOpenAPI(openAPI)
                 .withFilters(filter)
                 .build();
-        TypeHandler.createInstance(openAPI, false);
-        ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
-        syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
-        CommonTestFunctions.compareGeneratedSyntaxTreewithExpectedSyntaxTree("listeners/listeners03.bal", syntaxTree);
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, false)) {
+            ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
+            syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
+            CommonTestFunctions.compareGeneratedSyntaxTreewithExpectedSyntaxTree("listeners/listeners03.bal",
+                    syntaxTree);
+        }
     }
 
     @Test(description = "Generate listeners when the server url is there and variables are absent")
@@ -97,10 +102,12 @@ public class ListenerTests {
                 .withOpenAPI(openAPI)
                 .withFilters(filter)
                 .build();
-        TypeHandler.createInstance(openAPI, false);
-        ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
-        syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
-        CommonTestFunctions.compareGeneratedSyntaxTreewithExpectedSyntaxTree("listeners/listeners04.bal", syntaxTree);
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, false)) {
+            ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
+            syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
+            CommonTestFunctions.compareGeneratedSyntaxTreewithExpectedSyntaxTree("listeners/listeners04.bal",
+                    syntaxTree);
+        }
     }
 
     @Test(description = "Generate listeners when the server url base path is absent")
@@ -111,10 +118,12 @@ public class ListenerTests {
                 .withOpenAPI(openAPI)
                 .withFilters(filter)
                 .build();
-        TypeHandler.createInstance(openAPI, false);
-        ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
-        syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
-        CommonTestFunctions.compareGeneratedSyntaxTreewithExpectedSyntaxTree("listeners/listeners05.bal", syntaxTree);
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, false)) {
+            ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
+            syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
+            CommonTestFunctions.compareGeneratedSyntaxTreewithExpectedSyntaxTree("listeners/listeners05.bal",
+                    syntaxTree);
+        }
     }
 
     @Test(description = "Generate listeners when the server url is invalid")
@@ -125,12 +134,13 @@ public class ListenerTests {
                 .withOpenAPI(openAPI)
                 .withFilters(filter)
                 .build();
-        TypeHandler.createInstance(openAPI, false);
-        ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
-        syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
-        CommonTestFunctions.compareGeneratedSyntaxTreewithExpectedSyntaxTree("listeners/listeners06.bal",
-                syntaxTree);
-        TestUtils.compareDiagnosticWarnings(ballerinaServiceGenerator.getDiagnostics(),
-                "Failed to read endpoint details of the server: {server}:{port}/resource-registry");
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, false)) {
+            ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
+            syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
+            CommonTestFunctions.compareGeneratedSyntaxTreewithExpectedSyntaxTree("listeners/listeners06.bal",
+                    syntaxTree);
+            TestUtils.compareDiagnosticWarnings(ballerinaServiceGenerator.getDiagnostics(),
+                    "Failed to read endpoint details of the server: {server}:{port}/resource-registry");
+        }
     }
 }
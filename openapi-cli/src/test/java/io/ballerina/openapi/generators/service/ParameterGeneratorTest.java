@@ -20,6 +20,7 @@ package io.ballerina.openapi.generators.service;
 
 import io.ballerina.compiler.syntax.tree.SyntaxTree;
 import io.ballerina.openapi.TestUtils;
+import io.ballerina.openapi.core.generators.common.GenerationContext;
 import io.ballerina.openapi.core.generators.common.GeneratorUtils;
 import io.ballerina.openapi.core.generators.common.TypeHandler;
 import io.ballerina.openapi.core.generators.common.exception.BallerinaOpenApiException;
@@ -55,10 +56,11 @@ public class ParameterGeneratorTest {
                 .withOpenAPI(openAPI)
                 .withFilters(filter)
                 .build();
-        TypeHandler.createInstance(openAPI, false);
-        ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
-        syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
-        CommonTestFunctions.compareGeneratedSyntaxTreewithExpectedSyntaxTree("service_gen.bal", syntaxTree);
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, false)) {
+            ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
+            syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
+            CommonTestFunctions.compareGeneratedSyntaxTreewithExpectedSyntaxTree("service_gen.bal", syntaxTree);
+        }
     }
 
     @Test(description = "Generate service with path having special characters")
@@ -69,11 +71,12 @@ public class ParameterGeneratorTest {
                 .withOpenAPI(openAPI)
                 .withFilters(filter)
                 .build();
-        TypeHandler.createInstance(openAPI, false);
-        ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
-        syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
-        CommonTestFunctions.compareGeneratedSyntaxTreewithExpectedSyntaxTree("service_gen_special_characters.bal",
-                syntaxTree);
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, false)) {
+            ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
+            syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
+            CommonTestFunctions.compareGeneratedSyntaxTreewithExpectedSyntaxTree("service_gen_special_characters.bal",
+                    syntaxTree);
+        }
     }
 
     @Test(description = "Generate functionDefinitionNode for multiple operations")
@@ -84,10 +87,11 @@ public class ParameterGeneratorTest {
                 .withOpenAPI(openAPI)
                 .withFilters(filter)
                 .build();
-        TypeHandler.createInstance(openAPI, false);
-        ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
-        syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
-        CommonTestFunctions.compareGeneratedSyntaxTreewithExpectedSyntaxTree("multi_operations.bal", syntaxTree);
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, false)) {
+            ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
+            syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
+            CommonTestFunctions.compareGeneratedSyntaxTreewithExpectedSyntaxTree("multi_operations.bal", syntaxTree);
+        }
     }
 
     @Test(description = "Generate functionDefinitionNode for multiple paths")
@@ -98,10 +102,11 @@ public class ParameterGeneratorTest {
                 .withOpenAPI(openAPI)
                 .withFilters(filter)
                 .build();
-        TypeHandler.createInstance(openAPI, false);
-        ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
-        syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
-        CommonTestFunctions.compareGeneratedSyntaxTreewithExpectedSyntaxTree("multi_paths.bal", syntaxTree);
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, false)) {
+            ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
+            syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
+            CommonTestFunctions.compareGeneratedSyntaxTreewithExpectedSyntaxTree("multi_paths.bal", syntaxTree);
+        }
     }
 
     //Scenario 01 - Path parameters.
@@ -113,10 +118,11 @@ public class ParameterGeneratorTest {
                 .withOpenAPI(openAPI)
                 .withFilters(filter)
                 .build();
-        TypeHandler.createInstance(openAPI, false);
-        ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
-        syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
-        CommonTestFunctions.compareGeneratedSyntaxTreewithExpectedSyntaxTree("path_parameters.bal", syntaxTree);
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, false)) {
+            ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
+            syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
+            CommonTestFunctions.compareGeneratedSyntaxTreewithExpectedSyntaxTree("path_parameters.bal", syntaxTree);
+        }
     }
 
     //Scenario 02 - Path parameters.
@@ -128,10 +134,11 @@ public class ParameterGeneratorTest {
                 .withOpenAPI(openAPI)
                 .withFilters(filter)
                 .build();
-        TypeHandler.createInstance(openAPI, false);
-        ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
-        syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
-        CommonTestFunctions.compareGeneratedSyntaxTreewithExpectedSyntaxTree("path_parameters02.bal", syntaxTree);
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, false)) {
+            ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
+            syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
+            CommonTestFunctions.compareGeneratedSyntaxTreewithExpectedSyntaxTree("path_parameters02.bal", syntaxTree);
+        }
     }
 
     @Test(description = "Tests when path parameter(s) having a keyword as the parameter name")
@@ -142,10 +149,11 @@ public class ParameterGeneratorTest {
                 .withOpenAPI(openAPI)
                 .withFilters(filter)
                 .build();
-        TypeHandler.createInstance(openAPI, false);
-        ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
-        syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
-        CommonTestFunctions.compareGeneratedSyntaxTreewithExpectedSyntaxTree("path_parameters03.bal", syntaxTree);
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, false)) {
+            ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
+            syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
+            CommonTestFunctions.compareGeneratedSyntaxTreewithExpectedSyntaxTree("path_parameters03.bal", syntaxTree);
+        }
     }
 
     //Scenario 02 - Query parameters.
@@ -157,12 +165,13 @@ public class ParameterGeneratorTest {
                 .withOpenAPI(openAPI)
                 .withFilters(filter)
                 .build();
-        TypeHandler.createInstance(openAPI, false);
-        ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
-        syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
-        CommonTestFunctions.compareGeneratedSyntaxTreewithExpectedSyntaxTree("query_parameters.bal", syntaxTree);
-        TestUtils.compareDiagnosticWarnings(ballerinaServiceGenerator.getDiagnostics(),
-                "Query parameters with nested array types are not supported in Ballerina.");
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, false)) {
+            ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
+            syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
+            CommonTestFunctions.compareGeneratedSyntaxTreewithExpectedSyntaxTree("query_parameters.bal", syntaxTree);
+            TestUtils.compareDiagnosticWarnings(ballerinaServiceGenerator.getDiagnostics(),
+                    "Query parameters with nested array types are not supported in Ballerina.");
+        }
     }
 
     @Test(description = "Generate functionDefinitionNode for paramter for content instead of schema")
@@ -173,14 +182,16 @@ public class ParameterGeneratorTest {
                 .withOpenAPI(openAPI)
                 .withFilters(filter)
                 .build();
-        TypeHandler.createInstance(openAPI, false);
-        ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
-        syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
-        CommonTestFunctions.compareGeneratedSyntaxTreewithExpectedSyntaxTree("param_type_with_content.bal", syntaxTree);
-        TestUtils.compareDiagnosticWarnings(ballerinaServiceGenerator.getDiagnostics(),
-                "Type 'json' is not a valid query parameter type in Ballerina. The supported " +
-                        "types are string, int, float, boolean, decimal, array types of the " +
-                        "aforementioned types and map<json>.");
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, false)) {
+            ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
+            syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
+            CommonTestFunctions.compareGeneratedSyntaxTreewithExpectedSyntaxTree("param_type_with_content.bal",
+                    syntaxTree);
+            TestUtils.compareDiagnosticWarnings(ballerinaServiceGenerator.getDiagnostics(),
+                    "Type 'json' is not a valid query parameter type in Ballerina. The supported " +
+                            "types are string, int, float, boolean, decimal, array types of the " +
+                            "aforementioned types and map<json>.");
+        }
     }
 
     @Test(description = "Tests when query parameter(s) having a keyword as the parameter name")
@@ -191,10 +202,11 @@ public class ParameterGeneratorTest {
                 .withOpenAPI(openAPI)
                 .withFilters(filter)
                 .build();
-        TypeHandler.createInstance(openAPI, false);
-        ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
-        syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
-        CommonTestFunctions.compareGeneratedSyntaxTreewithExpectedSyntaxTree("keywords.bal", syntaxTree);
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, false)) {
+            ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
+            syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
+            CommonTestFunctions.compareGeneratedSyntaxTreewithExpectedSyntaxTree("keywords.bal", syntaxTree);
+        }
     }
 
     @Test(description = "Tests for all the enum scenarios in resource function parameter generation:" +
@@ -210,10 +222,12 @@ public class ParameterGeneratorTest {
                 .withOpenAPI(openAPI)
                 .withFilters(filter)
                 .build();
-        TypeHandler.createInstance(openAPI, false);
-        ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
-        syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
-        CommonTestFunctions.compareGeneratedSyntaxTreewithExpectedSyntaxTree("parameters_with_enum.bal", syntaxTree);
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, false)) {
+            ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
+            syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
+            CommonTestFunctions.compareGeneratedSyntaxTreewithExpectedSyntaxTree("parameters_with_enum.bal",
+                    syntaxTree);
+        }
     }
 
     @Test(description = "Tests for all the nullable enum scenarios in resource function parameter generation:" +
@@ -228,11 +242,12 @@ public class ParameterGeneratorTest {
                 .withOpenAPI(openAPI)
                 .withFilters(filter)
                 .build();
-        TypeHandler.createInstance(openAPI, false);
-        ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
-        syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
-        CommonTestFunctions.compareGeneratedSyntaxTreewithExpectedSyntaxTree(
-                "parameters_with_nullable_enums.bal", syntaxTree);
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, false)) {
+            ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
+            syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
+            CommonTestFunctions.compareGeneratedSyntaxTreewithExpectedSyntaxTree(
+                    "parameters_with_nullable_enums.bal", syntaxTree);
+        }
     }
 
     @Test(description = "Test unsupported nullable path parameter with enums")
@@ -243,11 +258,12 @@ public class ParameterGeneratorTest {
                 .withOpenAPI(openAPI)
                 .withFilters(filter)
                 .build();
-        TypeHandler.createInstance(openAPI, false);
-        ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
-        syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
-        List<Diagnostic> diagnostics = ballerinaServiceGenerator.getDiagnostics();
-        TestUtils.compareDiagnosticWarnings(diagnostics, "Path parameter value cannot be null.");
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, false)) {
+            ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
+            syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
+            List<Diagnostic> diagnostics = ballerinaServiceGenerator.getDiagnostics();
+            TestUtils.compareDiagnosticWarnings(diagnostics, "Path parameter value cannot be null.");
+        }
     }
 
     @Test(description = "Tests int32, int64, and invalid integer path parameters")
@@ -258,10 +274,11 @@ public class ParameterGeneratorTest {
                 .withOpenAPI(openAPI)
                 .withFilters(filter)
                 .build();
-        TypeHandler.createInstance(openAPI, false);
-        ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
-        syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
-        CommonTestFunctions.compareGeneratedSyntaxTreewithExpectedSyntaxTree("intPathParam.bal", syntaxTree);
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, false)) {
+            ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
+            syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
+            CommonTestFunctions.compareGeneratedSyntaxTreewithExpectedSyntaxTree("intPathParam.bal", syntaxTree);
+        }
     }
 
     @Test(description = "Tests for referenced parameters in OpenAPI 3.1 version specs")
@@ -272,11 +289,12 @@ public class ParameterGeneratorTest {
                 .withOpenAPI(openAPI)
                 .withFilters(filter)
                 .build();
-        TypeHandler.createInstance(openAPI, false);
-        ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
-        syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
-        CommonTestFunctions.compareGeneratedSyntaxTreewithExpectedSyntaxTree(
-                "parameter_with_ref_v31.bal", syntaxTree);
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, false)) {
+            ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
+            syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
+            CommonTestFunctions.compareGeneratedSyntaxTreewithExpectedSyntaxTree(
+                    "parameter_with_ref_v31.bal", syntaxTree);
+        }
     }
 
     @Test(description = "Tests for path segments has parameters with extension")
@@ -287,11 +305,12 @@ public class ParameterGeneratorTest {
                 .withOpenAPI(openAPI)
                 .withFilters(filter)
                 .build();
-        TypeHandler.createInstance(openAPI, false);
-        ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
-        syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
-        CommonTestFunctions.compareGeneratedSyntaxTreewithExpectedSyntaxTree(
-                "multiPathParamWithExtensionType.bal", syntaxTree);
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, false)) {
+            ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
+            syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
+            CommonTestFunctions.compareGeneratedSyntaxTreewithExpectedSyntaxTree(
+                    "multiPathParamWithExtensionType.bal", syntaxTree);
+        }
     }
 
     @Test(description = "Tests for path parameters in the common section for v3.1.0")
@@ -302,10 +321,11 @@ public class ParameterGeneratorTest {
                 .withOpenAPI(openAPI)
                 .withFilters(filter)
                 .build();
-        TypeHandler.createInstance(openAPI, false);
-        ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
-        syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
-        CommonTestFunctions.compareGeneratedSyntaxTreewithExpectedSyntaxTree(
-                "commonPathParamsV310.bal", syntaxTree);
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, false)) {
+            ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
+            syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
+            CommonTestFunctions.compareGeneratedSyntaxTreewithExpectedSyntaxTree(
+                    "commonPathParamsV310.bal", syntaxTree);
+        }
     }
 }
@@ -20,6 +20,7 @@ package io.ballerina.openapi.generators.service;
 import io.ballerina.compiler.syntax.tree.SyntaxTree;
 import io.ballerina.openapi.TestUtils;
 import io.ballerina.openapi.cmd.CmdUtils;
+import io.ballerina.openapi.core.generators.common.GenerationContext;
 import io.ballerina.openapi.core.generators.common.GeneratorUtils;
 import io.ballerina.openapi.core.generators.common.TypeHandler;
 import io.ballerina.openapi.core.generators.common.exception.BallerinaOpenApiException;
@@ -54,10 +55,11 @@ public class QueryParameterTests {
                 .withOpenAPI(openAPI)
                 .withFilters(filter)
                 .build();
-        TypeHandler.createInstance(openAPI, false);
-        ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
-        syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
-        CommonTestFunctions.compareGeneratedSyntaxTreewithExpectedSyntaxTree("query/query_01.bal", syntaxTree);
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, false)) {
+            ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
+            syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
+            CommonTestFunctions.compareGeneratedSyntaxTreewithExpectedSyntaxTree("query/query_01.bal", syntaxTree);
+        }
     }
 
     @Test(description = "02. Required query parameter has array data type")
@@ -68,10 +70,11 @@ public class QueryParameterTests {
                 .withOpenAPI(openAPI)
                 .withFilters(filter)
                 .build();
-        TypeHandler.createInstance(openAPI, false);
-        ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
-        syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
-        CommonTestFunctions.compareGeneratedSyntaxTreewithExpectedSyntaxTree("query/query_02.bal", syntaxTree);
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, false)) {
+            ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
+            syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
+            CommonTestFunctions.compareGeneratedSyntaxTreewithExpectedSyntaxTree("query/query_02.bal", syntaxTree);
+        }
     }
 
     @Test(description = "03. Required query parameter has nested array data type")
@@ -83,12 +86,13 @@ public class QueryParameterTests {
                 .withOpenAPI(openAPI)
                 .withFilters(filter)
                 .build();
-        TypeHandler.createInstance(openAPI, false);
-        ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
-        syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
-        CommonTestFunctions.compareGeneratedSyntaxTreewithExpectedSyntaxTree("query/query_03.bal", syntaxTree);
-        TestUtils.compareDiagnosticWarnings(ballerinaServiceGenerator.getDiagnostics(),
-                "Query parameters with nested array types are not supported in Ballerina.");
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, false)) {
+            ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
+            syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
+            CommonTestFunctions.compareGeneratedSyntaxTreewithExpectedSyntaxTree("query/query_03.bal", syntaxTree);
+            TestUtils.compareDiagnosticWarnings(ballerinaServiceGenerator.getDiagnostics(),
+                    "Query parameters with nested array types are not supported in Ballerina.");
+        }
     }
 
     @Test(description = "04. Required query parameter has array data type with no item types")
@@ -99,13 +103,14 @@ public class QueryParameterTests {
                 .withOpenAPI(openAPI)
                 .withFilters(filter)
                 .build();
-        TypeHandler.createInstance(openAPI, false);
-        ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
-        syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
-        CommonTestFunctions.compareGeneratedSyntaxTreewithExpectedSyntaxTree("query/query_04.bal", syntaxTree);
-        TestUtils.compareDiagnosticWarnings(ballerinaServiceGenerator.getDiagnostics(),
-                "Query parameters with no array item type can not be " +
-                        "mapped to Ballerina resource query parameters.");
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, false)) {
+            ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
+            syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
+            CommonTestFunctions.compareGeneratedSyntaxTreewithExpectedSyntaxTree("query/query_04.bal", syntaxTree);
+            TestUtils.compareDiagnosticWarnings(ballerinaServiceGenerator.getDiagnostics(),
+                    "Query parameters with no array item type can not be " +
+                            "mapped to Ballerina resource query parameters.");
+        }
     }
 
     /*
@@ -125,10 +130,11 @@ public class QueryParameterTests {
                 .withOpenAPI(openAPI)
                 .withFilters(filter)
                 .build();
-        TypeHandler.createInstance(openAPI, false);
-        ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
-        syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
-        CommonTestFunctions.compareGeneratedSyntaxTreewithExpectedSyntaxTree("query/query_05.bal", syntaxTree);
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, false)) {
+            ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
+            syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
+            CommonTestFunctions.compareGeneratedSyntaxTreewithExpectedSyntaxTree("query/query_05.bal", syntaxTree);
+        }
     }
 
     @Test(description = "06. Nullable query parameter with array")
@@ -139,10 +145,11 @@ public class QueryParameterTests {
                 .withOpenAPI(openAPI)
                 .withFilters(filter)
                 .build();
-        TypeHandler.createInstance(openAPI, false);
-        ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
-        syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
-        CommonTestFunctions.compareGeneratedSyntaxTreewithExpectedSyntaxTree("query/query_06.bal", syntaxTree);
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, false)) {
+            ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
+            syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
+            CommonTestFunctions.compareGeneratedSyntaxTreewithExpectedSyntaxTree("query/query_06.bal", syntaxTree);
+        }
     }
 
     @Test(description = "07. Optional query parameter has nested array data type")
@@ -154,12 +161,13 @@ public class QueryParameterTests {
                 .withOpenAPI(openAPI)
                 .withFilters(filter)
                 .build();
-        TypeHandler.createInstance(openAPI, false);
-        ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
-        syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
-        CommonTestFunctions.compareGeneratedSyntaxTreewithExpectedSyntaxTree("query/query_07.bal", syntaxTree);
-        TestUtils.compareDiagnosticWarnings(ballerinaServiceGenerator.getDiagnostics(),
-                "Query parameters with nested array types are not supported in Ballerina.");
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, false)) {
+            ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
+            syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
+            CommonTestFunctions.compareGeneratedSyntaxTreewithExpectedSyntaxTree("query/query_07.bal", syntaxTree);
+            TestUtils.compareDiagnosticWarnings(ballerinaServiceGenerator.getDiagnostics(),
+                    "Query parameters with nested array types are not supported in Ballerina.");
+        }
     }
 
     @Test(description = "08. Optional query parameter has array data type with no item types")
@@ -170,13 +178,14 @@ public class QueryParameterTests {
                 .withOpenAPI(openAPI)
                 .withFilters(filter)
                 .build();
-        TypeHandler.createInstance(openAPI, false);
-        ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
-        syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
-        CommonTestFunctions.compareGeneratedSyntaxTreewithExpectedSyntaxTree("query/query_08.bal", syntaxTree);
-        TestUtils.compareDiagnosticWarnings(ballerinaServiceGenerator.getDiagnostics(),
-                "Query parameters with no array item type can not be mapped to " +
-                        "Ballerina resource query parameters.");
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, false)) {
+            ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
+            syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
+            CommonTestFunctions.compareGeneratedSyntaxTreewithExpectedSyntaxTree("query/query_08.bal", syntaxTree);
+            TestUtils.compareDiagnosticWarnings(ballerinaServiceGenerator.getDiagnostics(),
+                    "Query parameters with no array item type can not be mapped to " +
+                            "Ballerina resource query parameters.");
+        }
     }
 
     /*
@@ -198,10 +207,11 @@ public class QueryParameterTests {
                 .withOpenAPI(openAPI)
                 .withFilters(filter)
                 .build();
-        TypeHandler.createInstance(openAPI, false);
-        ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
-        syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
-        CommonTestFunctions.compareGeneratedSyntaxTreewithExpectedSyntaxTree("query/query_09.bal", syntaxTree);
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, false)) {
+            ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
+            syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
+            CommonTestFunctions.compareGeneratedSyntaxTreewithExpectedSyntaxTree("query/query_09.bal", syntaxTree);
+        }
     }
 
     @Test(description = "10. Optional query parameter has array data type with no item types")
@@ -212,13 +222,14 @@ public class QueryParameterTests {
                 .withOpenAPI(openAPI)
                 .withFilters(filter)
                 .build();
-        TypeHandler.createInstance(openAPI, false);
-        ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
-        syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
-        CommonTestFunctions.compareGeneratedSyntaxTreewithExpectedSyntaxTree("query/query_10.bal", syntaxTree);
-        TestUtils.compareDiagnosticWarnings(ballerinaServiceGenerator.getDiagnostics(),
-                "Query parameters with no array item type can not be mapped to Ballerina resource " +
-                        "query parameters.");
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, false)) {
+            ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
+            syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
+            CommonTestFunctions.compareGeneratedSyntaxTreewithExpectedSyntaxTree("query/query_10.bal", syntaxTree);
+            TestUtils.compareDiagnosticWarnings(ballerinaServiceGenerator.getDiagnostics(),
+                    "Query parameters with no array item type can not be mapped to Ballerina resource " +
+                            "query parameters.");
+        }
     }
 
     @Test(description = "11. Required query parameter has nullable true")
@@ -229,10 +240,11 @@ public class QueryParameterTests {
                 .withOpenAPI(openAPI)
                 .withFilters(filter)
                 .build();
-        TypeHandler.createInstance(openAPI, false);
-        ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
-        syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
-        CommonTestFunctions.compareGeneratedSyntaxTreewithExpectedSyntaxTree("query/query_11.bal", syntaxTree);
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, false)) {
+            ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
+            syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
+            CommonTestFunctions.compareGeneratedSyntaxTreewithExpectedSyntaxTree("query/query_11.bal", syntaxTree);
+        }
     }
 
     @Test(description = "12. Required query parameter has map<json> type")
@@ -243,10 +255,11 @@ public class QueryParameterTests {
                 .withOpenAPI(openAPI)
                 .withFilters(filter)
                 .build();
-        TypeHandler.createInstance(openAPI, false);
-        ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
-        syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
-        CommonTestFunctions.compareGeneratedSyntaxTreewithExpectedSyntaxTree("query/query_12.bal", syntaxTree);
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, false)) {
+            ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
+            syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
+            CommonTestFunctions.compareGeneratedSyntaxTreewithExpectedSyntaxTree("query/query_12.bal", syntaxTree);
+        }
     }
 
     @Test(description = "13. Default query parameter has string type")
@@ -257,10 +270,11 @@ public class QueryParameterTests {
                 .withOpenAPI(openAPI)
                 .withFilters(filter)
                 .build();
-        TypeHandler.createInstance(openAPI, false);
-        ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
-        syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
-        CommonTestFunctions.compareGeneratedSyntaxTreewithExpectedSyntaxTree("query/query_13.bal", syntaxTree);
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, false)) {
+            ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
+            syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
+            CommonTestFunctions.compareGeneratedSyntaxTreewithExpectedSyntaxTree("query/query_13.bal", syntaxTree);
+        }
     }
 
     @Test(description = "14. Fix the query parameter order")
@@ -271,10 +285,11 @@ public class QueryParameterTests {
                 .withOpenAPI(openAPI)
                 .withFilters(filter)
                 .build();
-        TypeHandler.createInstance(openAPI, false);
-        ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
-        syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
-        CommonTestFunctions.compareGeneratedSyntaxTreewithExpectedSyntaxTree("query/query_14.bal", syntaxTree);
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, false)) {
+            ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
+            syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
+            CommonTestFunctions.compareGeneratedSyntaxTreewithExpectedSyntaxTree("query/query_14.bal", syntaxTree);
+        }
     }
 
     @Test(description = "15. Optional query parameter")
@@ -285,10 +300,11 @@ public class QueryParameterTests {
                 .withOpenAPI(openAPI)
                 .withFilters(filter)
                 .build();
-        TypeHandler.createInstance(openAPI, false);
-        ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
-        syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
-        CommonTestFunctions.compareGeneratedSyntaxTreewithExpectedSyntaxTree("query/query_15.bal", syntaxTree);
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, false)) {
+            ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
+            syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
+            CommonTestFunctions.compareGeneratedSyntaxTreewithExpectedSyntaxTree("query/query_15.bal", syntaxTree);
+        }
     }
 
     @Test(description = "16. Query parameter(s) having a referenced schema")
@@ -299,11 +315,12 @@ public class QueryParameterTests {
                 .withOpenAPI(openAPI)
                 .withFilters(filter)
                 .build();
-        TypeHandler.createInstance(openAPI, false);
-        ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
-        syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
-        CommonTestFunctions.compareGeneratedSyntaxTreewithExpectedSyntaxTree(
-                "parameters_with_object_ref_schema.bal", syntaxTree);
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, false)) {
+            ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
+            syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
+            CommonTestFunctions.compareGeneratedSyntaxTreewithExpectedSyntaxTree(
+                    "parameters_with_object_ref_schema.bal", syntaxTree);
+        }
     }
 
     @Test(description = "17. Query parameter(s) having a referenced schema of unsupported type")
@@ -314,13 +331,14 @@ public class QueryParameterTests {
                 .withOpenAPI(openAPI)
                 .withFilters(filter)
                 .build();
-        TypeHandler.createInstance(openAPI, false);
-        ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
-        syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
-        TestUtils.compareDiagnosticWarnings(ballerinaServiceGenerator.getDiagnostics(),
-                "Type 'xml' is not a valid query parameter type in Ballerina. The supported " +
-                        "types are string, int, float, boolean, decimal, array types of the aforementioned " +
-                        "types and map<json>.");
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, false)) {
+            ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
+            syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
+            TestUtils.compareDiagnosticWarnings(ballerinaServiceGenerator.getDiagnostics(),
+                    "Type 'xml' is not a valid query parameter type in Ballerina. The supported " +
+                            "types are string, int, float, boolean, decimal, array types of the aforementioned " +
+                            "types and map<json>.");
+        }
     }
 
     @Test(description = "18. Query parameter(s) having a referenced schema of array of unsupported type",
@@ -334,9 +352,10 @@ public class QueryParameterTests {
                 .withOpenAPI(openAPI)
                 .withFilters(filter)
                 .build();
-        TypeHandler.createInstance(openAPI, false);
-        ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
-        syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, false)) {
+            ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
+            syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
+        }
     }
 
     @Test(description = "19. Query parameter(s) having a referenced schema type")
@@ -347,11 +366,12 @@ public class QueryParameterTests {
                 .withOpenAPI(openAPI)
                 .withFilters(filter)
                 .build();
-        TypeHandler.createInstance(openAPI, false);
-        ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
-        syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
-        CommonTestFunctions.compareGeneratedSyntaxTreewithExpectedSyntaxTree(
-                "query/parameters_with_object_ref_schema.bal", syntaxTree);
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, false)) {
+            ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
+            syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
+            CommonTestFunctions.compareGeneratedSyntaxTreewithExpectedSyntaxTree(
+                    "query/parameters_with_object_ref_schema.bal", syntaxTree);
+        }
     }
 
     @Test(description = "20. Query parameter(s) having a referenced schema of array type")
@@ -362,11 +382,12 @@ public class QueryParameterTests {
                 .withOpenAPI(openAPI)
                 .withFilters(filter)
                 .build();
-        TypeHandler.createInstance(openAPI, false);
-        ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
-        syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
-        CommonTestFunctions.compareGeneratedSyntaxTreewithExpectedSyntaxTree(
-                "query/parameter_with_ref_array_object_schema.bal", syntaxTree);
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, false)) {
+            ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
+            syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
+            CommonTestFunctions.compareGeneratedSyntaxTreewithExpectedSyntaxTree(
+                    "query/parameter_with_ref_array_object_schema.bal", syntaxTree);
+        }
     }
 
     @Test(description = "21. Query parameter(s) having a object schema")
@@ -377,13 +398,14 @@ public class QueryParameterTests {
                 .withOpenAPI(openAPI)
                 .withFilters(filter)
                 .build();
-        TypeHandler.createInstance(openAPI, false);
-        ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
-        syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
-        CommonTestFunctions.compareGeneratedSyntaxTreewithExpectedSyntaxTree(
-                "query/object_query.bal", syntaxTree);
-        syntaxTree = TypeHandler.getInstance().generateTypeSyntaxTree();
-        CommonTestFunctions.compareGeneratedSyntaxTreewithExpectedSyntaxTree(
-                "query/object_query_type.bal", syntaxTree);
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, false)) {
+            ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
+            syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
+            CommonTestFunctions.compareGeneratedSyntaxTreewithExpectedSyntaxTree(
+                    "query/object_query.bal", syntaxTree);
+            syntaxTree = TypeHandler.getInstance().generateTypeSyntaxTree();
+            CommonTestFunctions.compareGeneratedSyntaxTreewithExpectedSyntaxTree(
+                    "query/object_query_type.bal", syntaxTree);
+        }
     }
 }
@@ -19,6 +19,7 @@
 package io.ballerina.openapi.generators.service;
 
 import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.openapi.core.generators.common.GenerationContext;
 import io.ballerina.openapi.core.generators.common.GeneratorUtils;
 import io.ballerina.openapi.core.generators.common.TypeHandler;
 import io.ballerina.openapi.core.generators.common.exception.BallerinaOpenApiException;
@@ -50,13 +51,14 @@ public class ServiceContractTests {
                 .withOpenAPI(openAPI)
                 .withFilters(filter)
                 .build();
-        TypeHandler.createInstance(openAPI, false);
-        ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
-        ServiceContractGenerator serviceContractGenerator = new ServiceContractGenerator(oasServiceMetadata,
-                ballerinaServiceGenerator.getFunctionsList());
-        syntaxTree = serviceContractGenerator.generateSyntaxTree();
-        CommonTestFunctions.compareGeneratedSyntaxTreewithExpectedSyntaxTree(
-                "service_type/default_service_type_name.bal", syntaxTree);
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, false)) {
+            ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
+            ServiceContractGenerator serviceContractGenerator = new ServiceContractGenerator(oasServiceMetadata,
+                    ballerinaServiceGenerator.getFunctionsList());
+            syntaxTree = serviceContractGenerator.generateSyntaxTree();
+            CommonTestFunctions.compareGeneratedSyntaxTreewithExpectedSyntaxTree(
+                    "service_type/default_service_type_name.bal", syntaxTree);
+        }
     }
 
     @Test(description = "Test custom service object type name")
@@ -68,13 +70,14 @@ public class ServiceContractTests {
                 .withFilters(filter)
                 .withServiceObjectTypeName("CustomServiceObjectTypeName")
                 .build();
-        TypeHandler.createInstance(openAPI, false);
-        ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
-        ServiceContractGenerator serviceContractGenerator = new ServiceContractGenerator(oasServiceMetadata,
-                ballerinaServiceGenerator.getFunctionsList());
-        syntaxTree = serviceContractGenerator.generateSyntaxTree();
-        CommonTestFunctions.compareGeneratedSyntaxTreewithExpectedSyntaxTree(
-                "service_type/custom_service_type_name.bal", syntaxTree);
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, false)) {
+            ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
+            ServiceContractGenerator serviceContractGenerator = new ServiceContractGenerator(oasServiceMetadata,
+                    ballerinaServiceGenerator.getFunctionsList());
+            syntaxTree = serviceContractGenerator.generateSyntaxTree();
+            CommonTestFunctions.compareGeneratedSyntaxTreewithExpectedSyntaxTree(
+                    "service_type/custom_service_type_name.bal", syntaxTree);
+        }
     }
 
     @Test(description = "Test custom service object type name with special characters")
@@ -86,13 +89,14 @@ public class ServiceContractTests {
                 .withFilters(filter)
                 .withServiceObjectTypeName("CustomServiceObject-TypeName1")
                 .build();
-        TypeHandler.createInstance(openAPI, false);
-        ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
-        ServiceContractGenerator serviceContractGenerator = new ServiceContractGenerator(oasServiceMetadata,
-                ballerinaServiceGenerator.getFunctionsList());
-        syntaxTree = serviceContractGenerator.generateSyntaxTree();
-        CommonTestFunctions.compareGeneratedSyntaxTreewithExpectedSyntaxTree(
-                "service_type/custom_name_with_special_characters.bal", syntaxTree);
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, false)) {
+            ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
+            ServiceContractGenerator serviceContractGenerator = new ServiceContractGenerator(oasServiceMetadata,
+                    ballerinaServiceGenerator.getFunctionsList());
+            syntaxTree = serviceContractGenerator.generateSyntaxTree();
+            CommonTestFunctions.compareGeneratedSyntaxTreewithExpectedSyntaxTree(
+                    "service_type/custom_name_with_special_characters.bal", syntaxTree);
+        }
     }
 
     @Test(description = "Test custom service object type name with a whitespace")
@@ -104,13 +108,14 @@ public class ServiceContractTests {
                 .withFilters(filter)
                 .withServiceObjectTypeName("CustomServiceObject TypeName2")
                 .build();
-        TypeHandler.createInstance(openAPI, false);
-        ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
-        ServiceContractGenerator serviceContractGenerator = new ServiceContractGenerator(oasServiceMetadata,
-                ballerinaServiceGenerator.getFunctionsList());
-        syntaxTree = serviceContractGenerator.generateSyntaxTree();
-        CommonTestFunctions.compareGeneratedSyntaxTreewithExpectedSyntaxTree(
-                "service_type/custom_name_with_whitespace.bal", syntaxTree);
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, false)) {
+            ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
+            ServiceContractGenerator serviceContractGenerator = new ServiceContractGenerator(oasServiceMetadata,
+                    ballerinaServiceGenerator.getFunctionsList());
+            syntaxTree = serviceContractGenerator.generateSyntaxTree();
+            CommonTestFunctions.compareGeneratedSyntaxTreewithExpectedSyntaxTree(
+                    "service_type/custom_name_with_whitespace.bal", syntaxTree);
+        }
     }
 
     @Test(description = "Test custom service object type name with an empty value")
@@ -122,13 +127,14 @@ public class ServiceContractTests {
                 .withFilters(filter)
                 .withServiceObjectTypeName("")
                 .build();
-        TypeHandler.createInstance(openAPI, false);
-        ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
-        ServiceContractGenerator serviceContractGenerator = new ServiceContractGenerator(oasServiceMetadata,
-                ballerinaServiceGenerator.getFunctionsList());
-        syntaxTree = serviceContractGenerator.generateSyntaxTree();
-        CommonTestFunctions.compareGeneratedSyntaxTreewithExpectedSyntaxTree(
-                "service_type/custom_name_with_empty_value.bal", syntaxTree);
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, false)) {
+            ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
+            ServiceContractGenerator serviceContractGenerator = new ServiceContractGenerator(oasServiceMetadata,
+                    ballerinaServiceGenerator.getFunctionsList());
+            syntaxTree = serviceContractGenerator.generateSyntaxTree();
+            CommonTestFunctions.compareGeneratedSyntaxTreewithExpectedSyntaxTree(
+                    "service_type/custom_name_with_empty_value.bal", syntaxTree);
+        }
     }
 
     @Test(description = "Test custom service object type name with only whitespace")
@@ -140,12 +146,13 @@ public class ServiceContractTests {
                 .withFilters(filter)
                 .withServiceObjectTypeName("    ")
                 .build();
-        TypeHandler.createInstance(openAPI, false);
-        ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
-        ServiceContractGenerator serviceContractGenerator = new ServiceContractGenerator(oasServiceMetadata,
-                ballerinaServiceGenerator.getFunctionsList());
-        syntaxTree = serviceContractGenerator.generateSyntaxTree();
-        CommonTestFunctions.compareGeneratedSyntaxTreewithExpectedSyntaxTree(
-                "service_type/custom_name_only_whitespace.bal", syntaxTree);
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, false)) {
+            ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
+            ServiceContractGenerator serviceContractGenerator = new ServiceContractGenerator(oasServiceMetadata,
+                    ballerinaServiceGenerator.getFunctionsList());
+            syntaxTree = serviceContractGenerator.generateSyntaxTree();
+            CommonTestFunctions.compareGeneratedSyntaxTreewithExpectedSyntaxTree(
+                    "service_type/custom_name_only_whitespace.bal", syntaxTree);
+        }
     }
 }
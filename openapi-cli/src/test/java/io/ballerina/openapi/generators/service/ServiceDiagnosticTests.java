@@ -19,6 +19,7 @@
 package io.ballerina.openapi.generators.service;
 
 import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.openapi.core.generators.common.GenerationContext;
 import io.ballerina.openapi.core.generators.common.GeneratorUtils;
 import io.ballerina.openapi.core.generators.common.TypeHandler;
 import io.ballerina.openapi.core.generators.common.exception.BallerinaOpenApiException;
@@ -69,13 +70,14 @@ public class ServiceDiagnosticTests {
                 .withGenerateServiceType(false)
                 .withGenerateWithoutDataBinding(false)
                 .build();
-        TypeHandler.createInstance(openAPI, false);
-        ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
-        syntaxTree =  ballerinaServiceGenerator.generateSyntaxTree();
-        List<Diagnostic> diagnostics = getDiagnosticsForService(syntaxTree, yamlFile);
-        boolean hasErrors = diagnostics.stream()
-                .anyMatch(d -> DiagnosticSeverity.ERROR.equals(d.diagnosticInfo().severity()));
-        Assert.assertFalse(hasErrors);
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, false)) {
+            ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
+            syntaxTree =  ballerinaServiceGenerator.generateSyntaxTree();
+            List<Diagnostic> diagnostics = getDiagnosticsForService(syntaxTree, yamlFile);
+            boolean hasErrors = diagnostics.stream()
+                    .anyMatch(d -> DiagnosticSeverity.ERROR.equals(d.diagnosticInfo().severity()));
+            Assert.assertFalse(hasErrors);
+        }
     }
 
     @Test(description = "Test for compilation errors in OpenAPI definition to ballerina service skeleton generation",
@@ -91,13 +93,14 @@ public class ServiceDiagnosticTests {
                 .withGenerateServiceType(false)
                 .withGenerateWithoutDataBinding(true)
                 .build();
-        TypeHandler.createInstance(openAPI, false);
-        ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
-        syntaxTree =  ballerinaServiceGenerator.generateSyntaxTree();
-        List<Diagnostic> diagnostics = getDiagnosticsForService(syntaxTree, yamlFile);
-        boolean hasErrors = diagnostics.stream()
-                .anyMatch(d -> DiagnosticSeverity.ERROR.equals(d.diagnosticInfo().severity()));
-        Assert.assertFalse(hasErrors);
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, false)) {
+            ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
+            syntaxTree =  ballerinaServiceGenerator.generateSyntaxTree();
+            List<Diagnostic> diagnostics = getDiagnosticsForService(syntaxTree, yamlFile);
+            boolean hasErrors = diagnostics.stream()
+                    .anyMatch(d -> DiagnosticSeverity.ERROR.equals(d.diagnosticInfo().severity()));
+            Assert.assertFalse(hasErrors);
+        }
     }
 
     @Test(description = "Test for compilation errors in OpenAPI 3.1.0 definition to ballerina service " +
@@ -115,13 +118,14 @@ public class ServiceDiagnosticTests {
                 .withGenerateWithoutDataBinding(false)
                 .build();
         // Initialize ballerina types generator
-        TypeHandler.createInstance(openAPI, false);
-        ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
-        syntaxTree =  ballerinaServiceGenerator.generateSyntaxTree();
-        List<Diagnostic> diagnostics = getDiagnosticsForService(syntaxTree, yamlFile);
-        boolean hasErrors = diagnostics.stream()
-                .anyMatch(d -> DiagnosticSeverity.ERROR.equals(d.diagnosticInfo().severity()));
-        Assert.assertFalse(hasErrors);
+        try (GenerationContext.Scope ignored = TypeHandler.createScopedInstance(openAPI, false)) {
+            ServiceDeclarationGenerator ballerinaServiceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
+            syntaxTree =  ballerinaServiceGenerator.generateSyntaxTree();
+            List<Diagnostic> diagnostics = getDiagnosticsForService(syntaxTree, yamlFile);
+            boolean hasErrors = diagnostics.stream()
+                    .anyMatch(d -> DiagnosticSeverity.ERROR.equals(d.diagnosticInfo().severity()));
+            Assert.assertFalse(hasErrors);
+        }
     }
 
     @DataProvider(name = "singleFileProviderForDiagnosticCheck")
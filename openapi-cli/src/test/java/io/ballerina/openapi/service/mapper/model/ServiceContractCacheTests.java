@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.openapi.service.mapper.model;
+
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.media.Schema;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+
+/**
+ * This contains the tests for caching the OpenAPI definitions of the service contracts.
+ */
+public class ServiceContractCacheTests {
+    private static final Path RES_DIR = Paths.get("src/test/resources/generators/client/swagger/")
+            .toAbsolutePath();
+
+    @Test(description = "A cached definition is the same as the parsed definition, but is a new instance")
+    public void testCacheHit() throws IOException {
+        byte[] content = Files.readAllBytes(RES_DIR.resolve("filtered_operations_unselected.yaml"));
+        OpenAPI parsed = getOpenAPI("hit", content);
+        OpenAPI cached = getOpenAPI("hit", content);
+        Assert.assertNotSame(cached, parsed);
+        Assert.assertNotSame(cached.getPaths(), parsed.getPaths());
+        Assert.assertNotSame(cached.getComponents(), parsed.getComponents());
+        Assert.assertEquals(Json.pretty(cached), Json.pretty(parsed));
+        // The inline request bodies are moved to the components when the definition is parsed.
+        Assert.assertTrue(cached.getComponents().getSchemas().containsKey("Pet_body"));
+    }
+
+    @Test(description = "A definition is parsed again when the content of the resource is changed")
+    public void testContentChange() throws IOException {
+        String content = Files.readString(RES_DIR.resolve("filtered_operations_unselected.yaml"));
+        Assert.assertEquals(getOpenAPI("change", content.getBytes(StandardCharsets.UTF_8)).getInfo().getTitle(),
+                "Pet Store");
+        byte[] changedContent = content.replace("title: Pet Store", "title: Owner Store")
+                .getBytes(StandardCharsets.UTF_8);
+        Assert.assertEquals(getOpenAPI("change", changedContent).getInfo().getTitle(), "Owner Store");
+        Assert.assertEquals(getOpenAPI("change", changedContent).getInfo().getTitle(), "Owner Store");
+    }
+
+    @Test(description = "Modifying a definition does not modify the definitions handed out later")
+    public void testCopyIsolation() throws IOException {
+        byte[] content = Files.readAllBytes(RES_DIR.resolve("filtered_operations_unselected.yaml"));
+        String expected = Json.pretty(getOpenAPI("isolation", content));
+        OpenAPI modified = getOpenAPI("isolation", content);
+        modified.getInfo().setTitle("Modified");
+        modified.getServers().clear();
+        modified.getPaths().remove("/pets");
+        modified.getComponents().getSchemas().remove("Owner");
+        modified.getComponents().getSchemas().get("Pet").setDescription("Modified");
+        modified.getComponents().addSchemas("Added", new Schema<>());
+        Assert.assertEquals(Json.pretty(getOpenAPI("isolation", content)), expected);
+    }
+
+    @Test(description = "A resource which can not be parsed does not have a definition")
+    public void testInvalidContent() {
+        Assert.assertTrue(ServiceContractCache.getOpenAPI("invalid", new byte[0]).isEmpty());
+    }
+
+    private static OpenAPI getOpenAPI(String key, byte[] content) {
+        Optional<OpenAPI> openAPI = ServiceContractCache.getOpenAPI(key, content);
+        Assert.assertTrue(openAPI.isPresent());
+        return openAPI.get();
+    }
+}
@@ -0,0 +1,100 @@
+import ballerina/jballerina.java;
+import ballerina/test;
+
+isolated client class ItemClient {
+
+    @MethodImpl {name: "getItemsImpl"}
+    resource isolated function get items(map<string|string[]> headers = {}, typedesc<string> targetType = <>) returns targetType|error = @java:Method {'class: "io.ballerina.openapi.client.GeneratedClient", name: "invokeResourceWithoutPath"} external;
+
+    @MethodImpl {name: "getItemsIdImpl"}
+    resource isolated function get items/[string id](map<string|string[]> headers = {}, typedesc<string> targetType = <>) returns targetType|error = @java:Method {'class: "io.ballerina.openapi.client.GeneratedClient", name: "invokeResource"} external;
+
+    @MethodImpl {name: "getItemsIdVersionImpl"}
+    resource isolated function get items/[string id]/[int version](map<string|string[]> headers = {}, typedesc<string> targetType = <>) returns targetType|error = @java:Method {'class: "io.ballerina.openapi.client.GeneratedClient", name: "invokeResource"} external;
+
+    @MethodImpl {name: "postItemsIdImpl"}
+    resource isolated function post items/[string id](string name, map<string|string[]> headers = {}, typedesc<string> targetType = <>) returns targetType|error = @java:Method {'class: "io.ballerina.openapi.client.GeneratedClient", name: "invokeResource"} external;
+
+    @MethodImpl {name: "getItemsIdImpl"}
+    remote isolated function getItemsId(string id, map<string|string[]> headers = {}, typedesc<string> targetType = <>) returns targetType|error = @java:Method {'class: "io.ballerina.openapi.client.GeneratedClient", name: "invoke"} external;
+
+    @MethodImpl {name: "getItemsIdVersionImpl"}
+    remote isolated function getItemsIdVersion(string id, int version, map<string|string[]> headers = {}, typedesc<string> targetType = <>) returns targetType|error = @java:Method {'class: "io.ballerina.openapi.client.GeneratedClient", name: "invoke"} external;
+
+    private isolated function getItemsImpl(map<string|string[]> headers, typedesc<string> targetType) returns string|error {
+        return "getItemsImpl";
+    }
+
+    private isolated function getItemsIdImpl(string id, map<string|string[]> headers, typedesc<string> targetType) returns string|error {
+        return string `getItemsIdImpl(${id})`;
+    }
+
+    private isolated function getItemsIdVersionImpl(string id, int version, map<string|string[]> headers, typedesc<string> targetType) returns string|error {
+        return string `getItemsIdVersionImpl(${id}, ${version})`;
+    }
+
+    private isolated function postItemsIdImpl(string id, string name, map<string|string[]> headers, typedesc<string> targetType) returns string|error {
+        return string `postItemsIdImpl(${id}, ${name})`;
+    }
+}
+
+isolated client class OtherItemClient {
+
+    @MethodImpl {name: "getOtherItemsImpl"}
+    resource isolated function get items(map<string|string[]> headers = {}, typedesc<string> targetType = <>) returns targetType|error = @java:Method {'class: "io.ballerina.openapi.client.GeneratedClient", name: "invokeResourceWithoutPath"} external;
+
+    resource isolated function get items/[string id](map<string|string[]> headers = {}, typedesc<string> targetType = <>) returns targetType|error = @java:Method {'class: "io.ballerina.openapi.client.GeneratedClient", name: "invokeResource"} external;
+
+    private isolated function getOtherItemsImpl(map<string|string[]> headers, typedesc<string> targetType) returns string|error {
+        return "getOtherItemsImpl";
+    }
+}
+
+final ItemClient itemClient = new;
+final OtherItemClient otherItemClient = new;
+
+@test:Config {}
+function testResourceDispatchByPathArity() returns error? {
+    string res = check itemClient->/items;
+    test:assertEquals(res, "getItemsImpl");
+    res = check itemClient->/items/["a"];
+    test:assertEquals(res, "getItemsIdImpl(a)");
+    res = check itemClient->/items/["a"]/[2];
+    test:assertEquals(res, "getItemsIdVersionImpl(a, 2)");
+}
+
+@test:Config {}
+function testResourceDispatchByMethod() returns error? {
+    string res = check itemClient->/items/["a"].post("b");
+    test:assertEquals(res, "postItemsIdImpl(a, b)");
+    res = check itemClient->/items/["a"];
+    test:assertEquals(res, "getItemsIdImpl(a)");
+}
+
+@test:Config {}
+function testRemoteDispatchByName() returns error? {
+    string res = check itemClient->getItemsId("a");
+    test:assertEquals(res, "getItemsIdImpl(a)");
+    res = check itemClient->getItemsIdVersion("a", 2);
+    test:assertEquals(res, "getItemsIdVersionImpl(a, 2)");
+}
+
+@test:Config {}
+function testDispatchByClientType() returns error? {
+    string res = check otherItemClient->/items;
+    test:assertEquals(res, "getOtherItemsImpl");
+    res = check itemClient->/items;
+    test:assertEquals(res, "getItemsImpl");
+}
+
+@test:Config {}
+function testDispatchWithoutImplAnnotation() {
+    string|error res = otherItemClient->/items/["a"];
+    if res is error {
+        test:assertTrue(res is ClientMethodInvocationError);
+        test:assertEquals(res.message(),
+                "error in invoking client resource method: Method implementation annotation not found");
+    } else {
+        test:assertFail("invalid response type");
+    }
+}
@@ -0,0 +1,114 @@
+import ballerina/jballerina.java;
+import ballerina/test;
+
+type Address record {
+    string street;
+    int number;
+    string[] tags;
+};
+
+type Owner record {
+    string name;
+    Address address;
+};
+
+final Address address = {street: "Main St & 1st", number: 42, tags: ["home", "ශ්‍රී", "a b*c~"]};
+final Address[] addresses = [address, {street: "Elm", number: 7, tags: []}];
+
+@test:Config {
+    dataProvider: queryParamData
+}
+function testNativeQueryParamSerializer(map<anydata> queryParam, map<Encoding> encodingMap) returns error? {
+    map<anydata> nativeQueryParam = queryParam.clone();
+    string expected = check getPathForQueryParam(queryParam, encodingMap);
+    test:assertEquals(nativeGetPathForQueryParam(nativeQueryParam, encodingMap), expected);
+}
+
+function queryParamData() returns map<[map<anydata>, map<Encoding>]> {
+    string[] values = ["x y", "1,2", "p|q", "ok"];
+    Owner owner = {name: "John Doe", address: address};
+    return {
+        "empty": [{}, {}],
+        "nil": [{"a": (), "b": ()}, {}],
+        "simple": [{"s": "a b~*&=", "i": -3, "f": 1.5, "d": 2.25d, "b": true, "n": ()}, {}],
+        "formExploded": [{"values": values}, {"values": {style: FORM, explode: true}}],
+        "form": [{"values": values}, {"values": {style: FORM, explode: false}}],
+        "spaceDelimited": [{"values": values}, {"values": {style: SPACEDELIMITED, explode: false}}],
+        "pipeDelimited": [{"values": values}, {"values": {style: PIPEDELIMITED, explode: false}}],
+        "deepObjectArray": [{"values": values}, {"values": {style: DEEPOBJECT}}],
+        "emptyArray": [{"values": <string[]>[], "id": 1}, {"values": {style: FORM, explode: false}}],
+        "deepObject": [{"owner": owner}, {"owner": {style: DEEPOBJECT}}],
+        "formObjectExploded": [{"owner": owner}, {"owner": {style: FORM, explode: true}}],
+        "formObject": [{"owner": owner}, {"owner": {style: FORM, explode: false}}],
+        "anydataArray": [{"values": <anydata[]>["a", 1]}, {}]
+    };
+}
+
+@test:Config {
+    dataProvider: serializedArrayData
+}
+function testNativeArraySerializer(anydata[] anyArray, string style, boolean explode) {
+    test:assertEquals(nativeGetSerializedArray("ids", anyArray, style, explode),
+            getSerializedArray("ids", anyArray, style, explode));
+}
+
+function serializedArrayData() returns [anydata[], string, boolean][] {
+    [anydata[], string, boolean][] data = [];
+    anydata[][] arrays = [<string[]>[], <int[]>[1, 2, 3], <string[]>["a b", "c/d", "é"], <decimal[]>[1.0d, 2.50d]];
+    foreach anydata[] anyArray in arrays {
+        foreach string style in ["form", FORM, SPACEDELIMITED, PIPEDELIMITED, DEEPOBJECT] {
+            data.push([anyArray, style, true], [anyArray, style, false]);
+        }
+    }
+    return data;
+}
+
+@test:Config {}
+function testNativeDeepObjectSerializer() {
+    record {} value = {"owner": <Owner>{name: "John", address: address}, "addresses": addresses, "ids": [1, 2]};
+    test:assertEquals(nativeGetDeepObjectStyleRequest("filter", value), getDeepObjectStyleRequest("filter", value));
+}
+
+@test:Config {
+    dataProvider: formURLEncodedData
+}
+function testNativeFormURLEncodedSerializer(record {|anydata...;|} anyRecord, map<Encoding> encodingMap) {
+    test:assertEquals(nativeCreateFormURLEncodedRequestBody(anyRecord, encodingMap),
+            createFormURLEncodedRequestBody(anyRecord, encodingMap));
+}
+
+function formURLEncodedData() returns map<[record {|anydata...;|}, map<Encoding>]> {
+    record {|anydata...;|} body = {"name": "John Doe", "age": 30, "tags": ["a", "b c"], "address": address,
+        "addresses": addresses};
+    return {
+        "default": [body, {}],
+        "form": [body, {"tags": {style: FORM, explode: false}, "addresses": {style: FORM, explode: false}}],
+        "spaceDelimited": [body, {"tags": {style: SPACEDELIMITED, explode: false}}],
+        "pipeDelimited": [body, {"tags": {style: PIPEDELIMITED, explode: false}}],
+        "deepObject": [body, {"tags": {style: DEEPOBJECT}, "address": {style: DEEPOBJECT},
+            "addresses": {style: DEEPOBJECT}}]
+    };
+}
+
+isolated function nativeGetPathForQueryParam(map<anydata> queriesMap, map<Encoding> encodingMap) returns string =
+@java:Method {
+    'class: "io.ballerina.openapi.client.ParameterSerializer",
+    name: "getPathForQueryParam"
+} external;
+
+isolated function nativeGetSerializedArray(string arrayName, anydata[] anyArray, string style, boolean explode)
+returns string = @java:Method {
+    'class: "io.ballerina.openapi.client.ParameterSerializer",
+    name: "getSerializedArray"
+} external;
+
+isolated function nativeGetDeepObjectStyleRequest(string parent, record {} anyRecord) returns string = @java:Method {
+    'class: "io.ballerina.openapi.client.ParameterSerializer",
+    name: "getDeepObjectStyleRequest"
+} external;
+
+isolated function nativeCreateFormURLEncodedRequestBody(record {|anydata...;|} anyRecord, map<Encoding> encodingMap)
+returns string = @java:Method {
+    'class: "io.ballerina.openapi.client.ParameterSerializer",
+    name: "createFormURLEncodedRequestBody"
+} external;
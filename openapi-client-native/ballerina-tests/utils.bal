@@ -15,6 +15,29 @@ enum EncodingStyle {
 
 final Encoding & readonly defaultEncoding = {};
 
+isolated function createFormURLEncodedRequestBody(record {|anydata...; |} anyRecord, map<Encoding> encodingMap = {}) returns string {
+    string[] payload = [];
+    foreach [string, anydata] [key, value] in anyRecord.entries() {
+        Encoding encodingData = encodingMap.hasKey(key) ? encodingMap.get(key) : defaultEncoding;
+        if value is SimpleBasicType {
+            payload.push(key, "=", getEncodedUri(value.toString()));
+        } else if value is SimpleBasicType[] {
+            payload.push(getSerializedArray(key, value, encodingData.style, encodingData.explode));
+        } else if (value is record {}) {
+            if encodingData.style == DEEPOBJECT {
+                payload.push(getDeepObjectStyleRequest(key, value));
+            } else {
+                payload.push(getFormStyleRequest(key, value));
+            }
+        } else if (value is record {}[]) {
+            payload.push(getSerializedRecordArray(key, value, encodingData.style, encodingData.explode));
+        }
+        payload.push("&");
+    }
+    _ = payload.pop();
+    return string:'join("", ...payload);
+}
+
 isolated function getDeepObjectStyleRequest(string parent, record {} anyRecord) returns string {
     string[] recordArray = [];
     foreach [string, anydata] [key, value] in anyRecord.entries() {
@@ -28,8 +28,16 @@ import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BString;
 
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * This class contains the generated client's utility functions.
@@ -39,6 +47,10 @@ import java.util.Objects;
 public class ClientUtil {
 
     static final String CLIENT_ERROR = "ClientMethodInvocationError";
+    // The tables are weakly keyed by the client type, hence they are dropped along with the types of the unloaded
+    // modules. The tables are looked up without a lock, and only a missing table is created under the lock.
+    private static final Map<Object, DispatchTable> DISPATCH_TABLES = new ConcurrentHashMap<>();
+    private static final ReferenceQueue<ClientType> UNLOADED_CLIENT_TYPES = new ReferenceQueue<>();
 
     public static BError createHttpError(String message, BError cause) {
         return ErrorCreator.createError(ModuleUtils.getPackage(), CLIENT_ERROR, StringUtils.fromString(message),
@@ -46,19 +58,75 @@ public class ClientUtil {
     }
 
     public static String getResourceImplFunctionName(String functionName, BObject client) throws RuntimeException {
-        ResourceMethodType resourceMethodNotFound = Arrays.stream(((ClientType) client.getOriginalType()).
-                        getResourceMethods()).filter(resourceMethod -> resourceMethod.getName().equals(functionName)).
-                findFirst().orElseThrow(() -> new RuntimeException("Resource method not found"));
+        ClientType clientType = (ClientType) client.getOriginalType();
+        String implFunctionName = getDispatchTable(clientType).resourceImplFunctionNames().get(functionName);
+        if (implFunctionName != null) {
+            return implFunctionName;
+        }
+        ResourceMethodType resourceMethodNotFound = Arrays.stream(clientType.getResourceMethods())
+                .filter(resourceMethod -> resourceMethod.getName().equals(functionName))
+                .findFirst().orElseThrow(() -> new RuntimeException("Resource method not found"));
         return getImplFunctionName(resourceMethodNotFound);
     }
 
     public static String getRemoteImplFunctionName(String functionName, BObject client) throws RuntimeException {
-        RemoteMethodType remoteMethodNotFound = Arrays.stream(((ClientType) client.getOriginalType()).
-                        getRemoteMethods()).filter(remoteMethod -> remoteMethod.getName().equals(functionName)).
-                findFirst().orElseThrow(() -> new RuntimeException("Remote method not found"));
+        ClientType clientType = (ClientType) client.getOriginalType();
+        String implFunctionName = getDispatchTable(clientType).remoteImplFunctionNames().get(functionName);
+        if (implFunctionName != null) {
+            return implFunctionName;
+        }
+        RemoteMethodType remoteMethodNotFound = Arrays.stream(clientType.getRemoteMethods())
+                .filter(remoteMethod -> remoteMethod.getName().equals(functionName))
+                .findFirst().orElseThrow(() -> new RuntimeException("Remote method not found"));
         return getImplFunctionName(remoteMethodNotFound);
     }
 
+    /**
+     * Returns the implementation function names of the methods of the given client type, which are resolved once
+     * for each client type. The methods which do not have a valid implementation annotation are not in the table, so
+     * that looking them up reports the same error as before.
+     */
+    static DispatchTable getDispatchTable(ClientType clientType) {
+        DispatchTable dispatchTable = DISPATCH_TABLES.get(new ClientTypeLookupKey(clientType));
+        if (dispatchTable != null) {
+            return dispatchTable;
+        }
+        synchronized (UNLOADED_CLIENT_TYPES) {
+            Reference<? extends ClientType> unloadedClientType;
+            while ((unloadedClientType = UNLOADED_CLIENT_TYPES.poll()) != null) {
+                DISPATCH_TABLES.remove(unloadedClientType);
+            }
+            dispatchTable = DISPATCH_TABLES.get(new ClientTypeLookupKey(clientType));
+            if (dispatchTable == null) {
+                dispatchTable = createDispatchTable(clientType);
+                DISPATCH_TABLES.put(new ClientTypeKey(clientType, UNLOADED_CLIENT_TYPES), dispatchTable);
+            }
+            return dispatchTable;
+        }
+    }
+
+    private static DispatchTable createDispatchTable(ClientType clientType) {
+        return new DispatchTable(getImplFunctionNames(clientType.getResourceMethods()),
+                getImplFunctionNames(clientType.getRemoteMethods()));
+    }
+
+    private static Map<String, String> getImplFunctionNames(MethodType[] clientMethods) {
+        Map<String, String> implFunctionNames = new HashMap<>();
+        Set<String> methodNames = new HashSet<>();
+        for (MethodType clientMethod : clientMethods) {
+            // Only the first method of a name is looked up, as in the scan of the methods.
+            if (!methodNames.add(clientMethod.getName())) {
+                continue;
+            }
+            try {
+                implFunctionNames.put(clientMethod.getName(), getImplFunctionName(clientMethod));
+            } catch (RuntimeException e) {
+                // The error is reported when the method is invoked.
+            }
+        }
+        return Map.copyOf(implFunctionNames);
+    }
+
     private static String getImplFunctionName(MethodType clientMethod) {
         BString methodImplKey = Arrays.stream(clientMethod.getAnnotations().getKeys()).
                 filter(key -> key.getValue().contains("MethodImpl")).
@@ -70,4 +138,59 @@ public class ClientUtil {
         }
         return implFunctionName.getValue();
     }
+
+    /**
+     * Implementation function names of the resource and the remote methods of a client type by the method name.
+     */
+    record DispatchTable(Map<String, String> resourceImplFunctionNames, Map<String, String> remoteImplFunctionNames) {
+    }
+
+    /**
+     * Key of the dispatch table of a client type, which does not keep the client type reachable. The keys are
+     * compared by the identity of their client types.
+     */
+    private static final class ClientTypeKey extends WeakReference<ClientType> {
+
+        private final int hashCode;
+
+        ClientTypeKey(ClientType clientType, ReferenceQueue<ClientType> queue) {
+            super(clientType, queue);
+            this.hashCode = System.identityHashCode(clientType);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+            ClientType clientType = get();
+            if (clientType == null) {
+                return false;
+            }
+            return other instanceof ClientTypeKey clientTypeKey ? clientTypeKey.get() == clientType :
+                    other instanceof ClientTypeLookupKey lookupKey && lookupKey.clientType() == clientType;
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
+    /**
+     * Key which is used to look up the dispatch table of a client type, without creating a weak reference.
+     */
+    private record ClientTypeLookupKey(ClientType clientType) {
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof ClientTypeKey clientTypeKey ? clientTypeKey.get() == clientType :
+                    other instanceof ClientTypeLookupKey lookupKey && lookupKey.clientType() == clientType;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(clientType);
+        }
+    }
 }
@@ -65,13 +65,8 @@ public class GeneratedClient {
         int paramLength = (int) params.getLength();
 
         Object[] paramFeed = new Object[pathLength + paramLength];
-        for (int i = 0; i < pathLength; i++) {
-            paramFeed[i] = path.get(i);
-        }
-        for (int i = 0; i < paramLength; i++) {
-            paramFeed[pathLength + i] = params.get(i);
-        }
-
+        copyValues(path, paramFeed, 0, pathLength);
+        copyValues(params, paramFeed, pathLength, paramLength);
         return invokeClientMethod(env, client, methodName, paramFeed);
     }
 
@@ -80,13 +75,22 @@ public class GeneratedClient {
         int paramLength = (int) params.getLength();
 
         Object[] paramFeed = new Object[paramLength];
-        for (int i = 0; i < paramLength; i++) {
-            paramFeed[i] = params.get(i);
-        }
-
+        copyValues(params, paramFeed, 0, paramLength);
         return invokeClientMethod(env, client, methodName, paramFeed);
     }
 
+    private static void copyValues(BArray source, Object[] destination, int offset, int length) {
+        // The values of the arrays of reference types are copied at once, while the other arrays box each value.
+        Object[] values = source.getValues();
+        if (values != null && values.length >= length) {
+            System.arraycopy(values, 0, destination, offset, length);
+            return;
+        }
+        for (int i = 0; i < length; i++) {
+            destination[offset + i] = source.get(i);
+        }
+    }
+
     private static Object invokeClientMethod(Environment env, BObject client, String methodName, Object[] paramFeed) {
         return env.yieldAndRun(() -> {
             try {
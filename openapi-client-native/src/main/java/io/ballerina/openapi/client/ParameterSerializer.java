@@ -0,0 +1,352 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.openapi.client;
+
+import io.ballerina.runtime.api.types.ArrayType;
+import io.ballerina.runtime.api.types.FiniteType;
+import io.ballerina.runtime.api.types.TupleType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.types.TypeTags;
+import io.ballerina.runtime.api.types.UnionType;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * This class contains the native implementations of the query parameter and the URL-encoded request body serializers
+ * of the generated client's util functions. Each serializer writes the whole value into a single string builder, and
+ * the result is the same as the Ballerina implementation of the util function with the same name.
+ *
+ * @since 2.4.2
+ */
+public class ParameterSerializer {
+
+    private static final String DEEP_OBJECT = "DEEPOBJECT";
+    private static final String FORM = "FORM";
+    private static final String SPACE_DELIMITED = "SPACEDELIMITED";
+    private static final String PIPE_DELIMITED = "PIPEDELIMITED";
+    // The default style of `getSerializedArray`, which is not one of the encoding styles.
+    private static final String DEFAULT_ARRAY_STYLE = "form";
+    private static final BString STYLE = StringUtils.fromString("style");
+    private static final BString EXPLODE = StringUtils.fromString("explode");
+    private static final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
+
+    private ParameterSerializer() {}
+
+    public static BString createFormURLEncodedRequestBody(BMap<BString, Object> anyRecord,
+                                                          BMap<BString, Object> encodingMap) {
+        StringBuilder payload = new StringBuilder();
+        boolean pushed = false;
+        for (Map.Entry<BString, Object> entry : anyRecord.entrySet()) {
+            String key = entry.getKey().getValue();
+            Object value = entry.getValue();
+            Object encodingData = encodingMap.get(entry.getKey());
+            String style = getStyle(encodingData);
+            if (isSimpleBasicValue(value)) {
+                payload.append(key).append('=');
+                appendEncoded(payload, value);
+            } else if (isSimpleBasicArray(value)) {
+                appendSerializedArray(payload, key, (BArray) value, style, isExplode(encodingData));
+            } else if (value instanceof BMap<?, ?> mapValue) {
+                if (DEEP_OBJECT.equals(style)) {
+                    appendDeepObjectStyleRequest(payload, key, mapValue);
+                } else {
+                    appendFormStyleRequest(payload, key, mapValue, true);
+                }
+            } else if (isMappingArray(value)) {
+                appendSerializedRecordArray(payload, key, (BArray) value, style, isExplode(encodingData));
+            }
+            payload.append('&');
+            pushed = true;
+        }
+        removeSeparator(payload, pushed, 1);
+        return StringUtils.fromString(payload.toString());
+    }
+
+    public static BString getDeepObjectStyleRequest(BString parent, BMap<?, ?> anyRecord) {
+        StringBuilder request = new StringBuilder();
+        appendDeepObjectStyleRequest(request, parent.getValue(), anyRecord);
+        return StringUtils.fromString(request.toString());
+    }
+
+    public static BString getSerializedArray(BString arrayName, BArray anyArray, BString style, boolean explode) {
+        StringBuilder serializedArray = new StringBuilder();
+        appendSerializedArray(serializedArray, arrayName.getValue(), anyArray, style.getValue(), explode);
+        return StringUtils.fromString(serializedArray.toString());
+    }
+
+    /**
+     * Serializes the query parameters, which are already mapped to their original names by `http:getQueryMap`.
+     */
+    public static BString getPathForQueryParam(BMap<BString, Object> queriesMap, BMap<BString, Object> encodingMap) {
+        if (queriesMap.isEmpty()) {
+            return StringUtils.fromString("");
+        }
+        StringBuilder path = new StringBuilder().append('?');
+        for (Map.Entry<BString, Object> entry : queriesMap.entrySet()) {
+            String key = entry.getKey().getValue();
+            Object value = entry.getValue();
+            if (value == null) {
+                continue;
+            }
+            Object encodingData = encodingMap.get(entry.getKey());
+            if (isSimpleBasicValue(value)) {
+                path.append(key).append('=');
+                appendEncoded(path, value);
+            } else if (isSimpleBasicArray(value)) {
+                appendSerializedArray(path, key, (BArray) value, getStyle(encodingData), isExplode(encodingData));
+            } else if (value instanceof BMap<?, ?> mapValue) {
+                if (DEEP_OBJECT.equals(getStyle(encodingData))) {
+                    appendDeepObjectStyleRequest(path, key, mapValue);
+                } else {
+                    appendFormStyleRequest(path, key, mapValue, isExplode(encodingData));
+                }
+            } else {
+                path.append(key).append('=').append(StringUtils.getStringValue(value));
+            }
+            path.append('&');
+        }
+        // When all the parameters are nil, the `?` is the last element to be removed.
+        removeSeparator(path, true, 1);
+        return StringUtils.fromString(path.toString());
+    }
+
+    private static void appendDeepObjectStyleRequest(StringBuilder builder, String parent, BMap<?, ?> anyRecord) {
+        boolean pushed = false;
+        for (Map.Entry<?, ?> entry : anyRecord.entrySet()) {
+            String key = ((BString) entry.getKey()).getValue();
+            Object value = entry.getValue();
+            if (isSimpleBasicValue(value)) {
+                builder.append(parent).append('[').append(key).append("]=");
+                appendEncoded(builder, value);
+            } else if (isSimpleBasicArray(value)) {
+                appendSerializedArray(builder, parent + "[" + key + "][]", (BArray) value, DEEP_OBJECT, true);
+            } else if (value instanceof BMap<?, ?> mapValue) {
+                appendDeepObjectStyleRequest(builder, parent + "[" + key + "]", mapValue);
+            } else if (isMappingArray(value)) {
+                appendSerializedRecordArray(builder, parent + "[" + key + "]", (BArray) value, DEEP_OBJECT, true);
+            }
+            builder.append('&');
+            pushed = true;
+        }
+        removeSeparator(builder, pushed, 1);
+    }
+
+    private static void appendFormStyleRequest(StringBuilder builder, String parent, BMap<?, ?> anyRecord,
+                                               boolean explode) {
+        char separator = explode ? '&' : ',';
+        boolean pushed = false;
+        for (Map.Entry<?, ?> entry : anyRecord.entrySet()) {
+            String key = ((BString) entry.getKey()).getValue();
+            Object value = entry.getValue();
+            if (isSimpleBasicValue(value)) {
+                builder.append(key).append(explode ? '=' : ',');
+                appendEncoded(builder, value);
+            } else if (isSimpleBasicArray(value)) {
+                appendSerializedArray(builder, key, (BArray) value, DEFAULT_ARRAY_STYLE, explode);
+            } else if (value instanceof BMap<?, ?> mapValue) {
+                appendFormStyleRequest(builder, parent, mapValue, explode);
+            }
+            builder.append(separator);
+            pushed = true;
+        }
+        removeSeparator(builder, pushed, 1);
+    }
+
+    private static void appendSerializedArray(StringBuilder builder, String arrayName, BArray anyArray, String style,
+                                              boolean explode) {
+        int length = anyArray.size();
+        if (length == 0) {
+            return;
+        }
+        String separator;
+        if (FORM.equals(style) && !explode) {
+            separator = ",";
+        } else if (SPACE_DELIMITED.equals(style) && !explode) {
+            separator = "%20";
+        } else if (PIPE_DELIMITED.equals(style) && !explode) {
+            separator = "|";
+        } else {
+            String key = DEEP_OBJECT.equals(style) ? arrayName + "[]=" : arrayName + "=";
+            for (int i = 0; i < length; i++) {
+                builder.append(key);
+                appendEncoded(builder, anyArray.get(i));
+                builder.append('&');
+            }
+            removeSeparator(builder, true, 1);
+            return;
+        }
+        builder.append(arrayName).append('=');
+        for (int i = 0; i < length; i++) {
+            appendEncoded(builder, anyArray.get(i));
+            builder.append(separator);
+        }
+        removeSeparator(builder, true, separator.length());
+    }
+
+    private static void appendSerializedRecordArray(StringBuilder builder, String parent, BArray value, String style,
+                                                    boolean explode) {
+        int length = value.size();
+        if (DEEP_OBJECT.equals(style)) {
+            for (int i = 0; i < length; i++) {
+                appendDeepObjectStyleRequest(builder, parent + "[" + i + "]", (BMap<?, ?>) value.get(i));
+                builder.append('&');
+            }
+            removeSeparator(builder, length > 0, 1);
+            return;
+        }
+        if (!explode) {
+            builder.append(parent).append('=');
+            if (length == 0) {
+                // The `=` is the last element to be removed.
+                removeSeparator(builder, true, 1);
+                return;
+            }
+        }
+        for (int i = 0; i < length; i++) {
+            appendFormStyleRequest(builder, parent, (BMap<?, ?>) value.get(i), explode);
+            builder.append(',');
+        }
+        removeSeparator(builder, length > 0, 1);
+    }
+
+    /**
+     * Appends the given value encoded as `url:encode` does with UTF-8, where only the unreserved characters of RFC
+     * 3986 are not percent-encoded. Values without any other character are appended as they are.
+     */
+    private static void appendEncoded(StringBuilder builder, Object value) {
+        String text = value instanceof BString bString ? bString.getValue() : StringUtils.getStringValue(value);
+        int length = text.length();
+        int index = 0;
+        while (index < length && isUnreserved(text.charAt(index))) {
+            index++;
+        }
+        builder.append(text, 0, index);
+        while (index < length) {
+            char character = text.charAt(index);
+            if (isUnreserved(character)) {
+                builder.append(character);
+                index++;
+                continue;
+            }
+            int codePoint = text.codePointAt(index);
+            int charCount = Character.charCount(codePoint);
+            if (Character.isSurrogate(character) && charCount == 1) {
+                // Unpaired surrogates are replaced with `?` by the encoder.
+                appendPercentEncoded(builder, (byte) '?');
+            } else {
+                for (byte octet : text.substring(index, index + charCount).getBytes(StandardCharsets.UTF_8)) {
+                    appendPercentEncoded(builder, octet);
+                }
+            }
+            index += charCount;
+        }
+    }
+
+    private static void appendPercentEncoded(StringBuilder builder, byte octet) {
+        builder.append('%').append(HEX_DIGITS[(octet >> 4) & 0x0F]).append(HEX_DIGITS[octet & 0x0F]);
+    }
+
+    private static boolean isUnreserved(char character) {
+        return (character >= 'a' && character <= 'z') || (character >= 'A' && character <= 'Z') ||
+                (character >= '0' && character <= '9') || character == '-' || character == '.' ||
+                character == '_' || character == '~';
+    }
+
+    private static void removeSeparator(StringBuilder builder, boolean pushed, int separatorLength) {
+        if (pushed) {
+            builder.setLength(builder.length() - separatorLength);
+        }
+    }
+
+    private static String getStyle(Object encodingData) {
+        if (encodingData instanceof BMap<?, ?> encoding && encoding.get(STYLE) instanceof BString style) {
+            return style.getValue();
+        }
+        return FORM;
+    }
+
+    private static boolean isExplode(Object encodingData) {
+        if (encodingData instanceof BMap<?, ?> encoding && encoding.get(EXPLODE) instanceof Boolean explode) {
+            return explode;
+        }
+        return true;
+    }
+
+    // `value is SimpleBasicType`, where the runtime represents byte values as integers.
+    private static boolean isSimpleBasicValue(Object value) {
+        return value instanceof BString || value instanceof Boolean || value instanceof Long ||
+                value instanceof Integer || value instanceof Double || value instanceof BDecimal;
+    }
+
+    // `value is SimpleBasicType[]`, which depends on the inherent type of the list rather than its members.
+    private static boolean isSimpleBasicArray(Object value) {
+        return value instanceof BArray array && isListOf(array.getType(), ParameterSerializer::isSimpleBasicType);
+    }
+
+    // `value is record {}[]`
+    private static boolean isMappingArray(Object value) {
+        return value instanceof BArray array && isListOf(array.getType(), ParameterSerializer::isMappingType);
+    }
+
+    private static boolean isListOf(Type listType, Predicate<Type> memberTest) {
+        Type type = TypeUtils.getImpliedType(listType);
+        if (type.getTag() == TypeTags.ARRAY_TAG) {
+            return memberTest.test(((ArrayType) type).getElementType());
+        }
+        if (type.getTag() == TypeTags.TUPLE_TAG) {
+            TupleType tupleType = (TupleType) type;
+            Type restType = tupleType.getRestType();
+            return tupleType.getTupleTypes().stream().allMatch(memberTest) &&
+                    (restType == null || memberTest.test(restType));
+        }
+        return false;
+    }
+
+    private static boolean isSimpleBasicType(Type memberType) {
+        Type type = TypeUtils.getImpliedType(memberType);
+        return switch (type.getTag()) {
+            case TypeTags.STRING_TAG, TypeTags.CHAR_STRING_TAG, TypeTags.BOOLEAN_TAG, TypeTags.INT_TAG,
+                 TypeTags.SIGNED8_INT_TAG, TypeTags.SIGNED16_INT_TAG, TypeTags.SIGNED32_INT_TAG,
+                 TypeTags.UNSIGNED8_INT_TAG, TypeTags.UNSIGNED16_INT_TAG, TypeTags.UNSIGNED32_INT_TAG,
+                 TypeTags.BYTE_TAG, TypeTags.FLOAT_TAG, TypeTags.DECIMAL_TAG, TypeTags.NEVER_TAG -> true;
+            case TypeTags.FINITE_TYPE_TAG ->
+                    ((FiniteType) type).getValueSpace().stream().allMatch(ParameterSerializer::isSimpleBasicValue);
+            case TypeTags.UNION_TAG ->
+                    ((UnionType) type).getMemberTypes().stream().allMatch(ParameterSerializer::isSimpleBasicType);
+            default -> false;
+        };
+    }
+
+    private static boolean isMappingType(Type memberType) {
+        Type type = TypeUtils.getImpliedType(memberType);
+        return switch (type.getTag()) {
+            case TypeTags.MAP_TAG, TypeTags.RECORD_TYPE_TAG, TypeTags.NEVER_TAG -> true;
+            case TypeTags.UNION_TAG ->
+                    ((UnionType) type).getMemberTypes().stream().allMatch(ParameterSerializer::isMappingType);
+            default -> false;
+        };
+    }
+}
@@ -46,6 +46,8 @@ import io.ballerina.compiler.syntax.tree.Token;
 import io.ballerina.openapi.core.generators.client.diagnostic.ClientDiagnostic;
 import io.ballerina.openapi.core.generators.client.exception.ClientException;
 import io.ballerina.openapi.core.generators.client.model.OASClientConfig;
+import io.ballerina.openapi.core.generators.common.GenerationContext;
+import io.ballerina.openapi.core.generators.common.GenerationProfiler;
 import io.ballerina.openapi.core.generators.common.GeneratorConstants;
 import io.ballerina.openapi.core.generators.common.GeneratorUtils;
 import io.ballerina.openapi.core.generators.common.exception.BallerinaOpenApiException;
@@ -111,7 +113,7 @@ import static io.ballerina.openapi.core.generators.common.GeneratorConstants.X_B
  *
  * @since 1.3.0
  */
-public class BallerinaClientGenerator {
+public class BallerinaClientGenerator implements Cloneable {
 
     protected OASClientConfig oasClientConfig;
     private final Filter filter;
@@ -119,10 +121,11 @@ public class BallerinaClientGenerator {
     private List<String> apiKeyNameList = new ArrayList<>();
     protected final OpenAPI openAPI;
     protected final BallerinaUtilGenerator ballerinaUtilGenerator;
-    private final List<String> remoteFunctionNameList;
+    private List<String> remoteFunctionNameList;
     protected AuthConfigGeneratorImp authConfigGeneratorImp;
     private final boolean resourceMode;
-    protected final List<ClientDiagnostic> diagnostics = new ArrayList<>();
+    protected List<ClientDiagnostic> diagnostics = new ArrayList<>();
+    protected final GenerationContext generationContext;
     private String serverURL;
 
     /**
@@ -155,8 +158,16 @@ public class BallerinaClientGenerator {
         return serverURL;
     }
 
+    /**
+     * Creates the client generator with the generation context bound to the current thread.
+     */
     public BallerinaClientGenerator(OASClientConfig oasClientConfig) {
+        this(oasClientConfig, GenerationContext.current());
+    }
 
+    public BallerinaClientGenerator(OASClientConfig oasClientConfig, GenerationContext generationContext) {
+
+        this.generationContext = generationContext;
         this.filter = oasClientConfig.getFilter();
         this.openAPI = oasClientConfig.getOpenAPI();
         this.ballerinaUtilGenerator = new BallerinaUtilGenerator();
@@ -178,19 +189,19 @@ public class BallerinaClientGenerator {
     }
 
     protected SyntaxTree getSyntaxTree() throws ClientException, BallerinaOpenApiException {
-        // Add authentication related records
-        authConfigGeneratorImp.addAuthRelatedRecords(openAPI);
-        List<ModuleMemberDeclarationNode> nodes = getModuleMemberDeclarationNodes();
-        NodeList<ImportDeclarationNode> importsList = createNodeList(imports);
-        ModulePartNode modulePartNode =
-                createModulePartNode(importsList, createNodeList(nodes), createToken(EOF_TOKEN));
-        TextDocument textDocument = TextDocuments.from("");
-        SyntaxTree syntaxTree = SyntaxTree.from(textDocument);
-        syntaxTree = syntaxTree.modifyWith(modulePartNode);
-        //Add comments
-        ClientDocCommentGenerator clientDocCommentGenerator = new ClientDocCommentGenerator(syntaxTree, openAPI,
-                resourceMode);
-        return clientDocCommentGenerator.updateSyntaxTreeWithDocComments();
+        try (GenerationContext.Scope ignored = GenerationContext.enter(generationContext, openAPI,
+                oasClientConfig.isNullable());
+             GenerationProfiler.Phase phase = GenerationProfiler.phase(GenerationProfiler.CLIENT)) {
+            // Add authentication related records
+            authConfigGeneratorImp.addAuthRelatedRecords(openAPI);
+            List<ModuleMemberDeclarationNode> nodes = getModuleMemberDeclarationNodes();
+            NodeList<ImportDeclarationNode> importsList = createNodeList(imports);
+            ModulePartNode modulePartNode =
+                    createModulePartNode(importsList, createNodeList(nodes), createToken(EOF_TOKEN));
+            TextDocument textDocument = TextDocuments.from("");
+            SyntaxTree syntaxTree = SyntaxTree.from(textDocument);
+            return syntaxTree.modifyWith(modulePartNode);
+        }
     }
 
     private void generateHttpImport() {
@@ -251,6 +262,9 @@ public class BallerinaClientGenerator {
             functionDefinitionNodeList.addAll(createRemoteFunctions(filteredOperations));
         }
         memberNodeList.addAll(functionDefinitionNodeList);
+        GenerationProfiler.count(GenerationProfiler.OPERATIONS,
+                filteredOperations.values().stream().mapToLong(Map::size).sum());
+        GenerationProfiler.count(GenerationProfiler.CLIENT_FUNCTIONS, functionDefinitionNodeList.size());
         // Generate the class combining members
         MetadataNode metadataNode = getClassMetadataNode();
         IdentifierToken className = createIdentifierToken(GeneratorConstants.CLIENT);
@@ -258,7 +272,20 @@ public class BallerinaClientGenerator {
                 createToken(ISOLATED_KEYWORD), createToken(CLIENT_KEYWORD));
         return createClassDefinitionNode(metadataNode, createToken(PUBLIC_KEYWORD), classTypeQualifiers,
                 createToken(CLASS_KEYWORD), className, createToken(OPEN_BRACE_TOKEN),
-                createNodeList(memberNodeList), createToken(CLOSE_BRACE_TOKEN), null);
+                createNodeList(addDocComments(memberNodeList)), createToken(CLOSE_BRACE_TOKEN), null);
+    }
+
+    /**
+     * Adds the doc comments of the operations to the client functions before the client class is created.
+     *
+     * @param memberNodeList members of the client class
+     * @return the members with the doc comments
+     */
+    protected List<Node> addDocComments(List<Node> memberNodeList) {
+        try (GenerationProfiler.Phase ignored = GenerationProfiler.phase(GenerationProfiler.DOC_COMMENTS)) {
+            return new ClientDocCommentGenerator(openAPI, resourceMode)
+                    .updateClassMembersWithDocComments(memberNodeList);
+        }
     }
 
     /**
@@ -572,13 +599,29 @@ public class BallerinaClientGenerator {
 
     List<FunctionDefinitionNode> createRemoteFunctions(Map<String, Map<PathItem.HttpMethod, Operation>>
                                                                filteredOperations) {
-        List<FunctionDefinitionNode> remoteFunctionNodes = new ArrayList<>();
-        for (Map.Entry<String, Map<PathItem.HttpMethod, Operation>> operation : filteredOperations.entrySet()) {
-            for (Map.Entry<PathItem.HttpMethod, Operation> operationEntry : operation.getValue().entrySet()) {
-                addRemoteFunction(operationEntry, operation.getKey(), remoteFunctionNodes);
-            }
+        return ClientFunctionShards.generate(this, filteredOperations,
+                (generator, operationEntry, path, functionNodes) ->
+                        generator.addRemoteFunction(operationEntry, path, functionNodes));
+    }
+
+    /**
+     * Creates a copy of this generator to generate a shard of the operations concurrently. The copy shares the
+     * definition, the auth config generator and the util generator with this generator, which are not modified while
+     * the functions are generated, except the flags of the util generator which are only set. The imports, the
+     * diagnostics and the function names of the shard are collected separately.
+     *
+     * @return the copy of this generator
+     */
+    BallerinaClientGenerator copyForShard() {
+        try {
+            BallerinaClientGenerator copy = (BallerinaClientGenerator) clone();
+            copy.imports = new ArrayList<>(imports);
+            copy.diagnostics = new ArrayList<>();
+            copy.remoteFunctionNameList = new ArrayList<>();
+            return copy;
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException(e);
         }
-        return remoteFunctionNodes;
     }
 
     /**
@@ -618,13 +661,9 @@ public class BallerinaClientGenerator {
 
     List<FunctionDefinitionNode> createResourceFunctions(Map<String,
             Map<PathItem.HttpMethod, Operation>> filteredOperations) {
-        List<FunctionDefinitionNode> resourceFunctionNodes = new ArrayList<>();
-        for (Map.Entry<String, Map<PathItem.HttpMethod, Operation>> operation : filteredOperations.entrySet()) {
-            for (Map.Entry<PathItem.HttpMethod, Operation> operationEntry : operation.getValue().entrySet()) {
-                addResourceFunction(operationEntry, operation.getKey(), resourceFunctionNodes);
-            }
-        }
-        return resourceFunctionNodes;
+        return ClientFunctionShards.generate(this, filteredOperations,
+                (generator, operationEntry, path, functionNodes) ->
+                        generator.addResourceFunction(operationEntry, path, functionNodes));
     }
 
     protected FunctionGeneratorResults addResourceFunction(Map.Entry<PathItem.HttpMethod, Operation> operationEntry,
@@ -47,6 +47,7 @@ import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
 import io.ballerina.openapi.core.generators.client.diagnostic.ClientDiagnosticImp;
 import io.ballerina.openapi.core.generators.client.diagnostic.DiagnosticMessages;
 import io.ballerina.openapi.core.generators.client.model.OASClientConfig;
+import io.ballerina.openapi.core.generators.common.GenerationContext;
 import io.ballerina.openapi.core.generators.common.GeneratorConstants;
 import io.ballerina.openapi.core.generators.common.GeneratorUtils;
 import io.ballerina.openapi.core.generators.common.exception.BallerinaOpenApiException;
@@ -118,6 +119,14 @@ public class BallerinaClientGeneratorWithStatusCodeBinding extends BallerinaClie
     public BallerinaClientGeneratorWithStatusCodeBinding(OASClientConfig oasClientConfig) {
         super(oasClientConfig);
         authConfigGeneratorImp = new AuthConfigGeneratorImp(false, false);
+        ballerinaUtilGenerator.setNativeSerializersEnabled(oasClientConfig.isNativeSerializers());
+    }
+
+    public BallerinaClientGeneratorWithStatusCodeBinding(OASClientConfig oasClientConfig,
+                                                         GenerationContext generationContext) {
+        super(oasClientConfig, generationContext);
+        authConfigGeneratorImp = new AuthConfigGeneratorImp(false, false);
+        ballerinaUtilGenerator.setNativeSerializersEnabled(oasClientConfig.isNativeSerializers());
     }
 
     /**
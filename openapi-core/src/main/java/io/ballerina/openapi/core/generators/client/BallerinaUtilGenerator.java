@@ -18,10 +18,10 @@
 package io.ballerina.openapi.core.generators.client;
 
 import io.ballerina.compiler.syntax.tree.CaptureBindingPatternNode;
-import io.ballerina.compiler.syntax.tree.ChildNodeEntry;
 import io.ballerina.compiler.syntax.tree.EnumDeclarationNode;
 import io.ballerina.compiler.syntax.tree.EnumMemberNode;
 import io.ballerina.compiler.syntax.tree.ExpressionNode;
+import io.ballerina.compiler.syntax.tree.FunctionDefinitionNode;
 import io.ballerina.compiler.syntax.tree.ImportDeclarationNode;
 import io.ballerina.compiler.syntax.tree.IntersectionTypeDescriptorNode;
 import io.ballerina.compiler.syntax.tree.MarkdownDocumentationNode;
@@ -34,35 +34,28 @@ import io.ballerina.compiler.syntax.tree.NodeList;
 import io.ballerina.compiler.syntax.tree.RecordFieldNode;
 import io.ballerina.compiler.syntax.tree.RecordFieldWithDefaultValueNode;
 import io.ballerina.compiler.syntax.tree.SeparatedNodeList;
-import io.ballerina.compiler.syntax.tree.SyntaxKind;
 import io.ballerina.compiler.syntax.tree.SyntaxTree;
 import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
 import io.ballerina.compiler.syntax.tree.TypeDescriptorNode;
 import io.ballerina.compiler.syntax.tree.TypedBindingPatternNode;
 import io.ballerina.openapi.core.generators.common.GeneratorUtils;
 import io.ballerina.openapi.core.generators.document.DocCommentsGeneratorUtil;
-import io.ballerina.projects.DocumentId;
-import io.ballerina.projects.Package;
-import io.ballerina.projects.Project;
-import io.ballerina.projects.directory.ProjectLoader;
 import io.ballerina.tools.text.TextDocument;
 import io.ballerina.tools.text.TextDocuments;
-import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.IOUtils;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.PrintWriter;
 import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
-import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createEmptyNodeList;
 import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createIdentifierToken;
@@ -108,6 +101,7 @@ import static io.ballerina.openapi.core.generators.common.GeneratorConstants.ENC
 import static io.ballerina.openapi.core.generators.common.GeneratorConstants.EXPLODE;
 import static io.ballerina.openapi.core.generators.common.GeneratorConstants.FORM;
 import static io.ballerina.openapi.core.generators.common.GeneratorConstants.HTTP;
+import static io.ballerina.openapi.core.generators.common.GeneratorConstants.J_BALLERINA;
 import static io.ballerina.openapi.core.generators.common.GeneratorConstants.MIME;
 import static io.ballerina.openapi.core.generators.common.GeneratorConstants.PIPE_DELIMITED;
 import static io.ballerina.openapi.core.generators.common.GeneratorConstants.SPACE_DELIMITED;
@@ -126,7 +120,11 @@ public class BallerinaUtilGenerator {
     private boolean requestBodyEncodingFound = false;
     private boolean requestBodyMultipartFormDatafound = false;
     private boolean defaultStatusCodeResponseBindingFound = false;
-    private static final Logger LOGGER = LoggerFactory.getLogger(BallerinaUtilGenerator.class);
+    private boolean nativeSerializersEnabled = false;
+    private static final String UTIL_TEMPLATE = "templates/utils_openapi.bal";
+    private static final String NATIVE_UTIL_TEMPLATE = "templates/utils_openapi_native.bal";
+    private static final Map<String, Map<String, FunctionDefinitionNode>> templateFunctions =
+            new ConcurrentHashMap<>();
 
     private static final String CREATE_FORM_URLENCODED_REQUEST_BODY = "createFormURLEncodedRequestBody";
     private static final String GET_DEEP_OBJECT_STYLE_REQUEST = "getDeepObjectStyleRequest";
@@ -135,6 +133,7 @@ public class BallerinaUtilGenerator {
     private static final String GET_ENCODED_URI = "getEncodedUri";
     private static final String GET_ORIGINAL_KEY = "getOriginalKey";
     private static final String GET_PATH_FOR_QUERY_PARAM = "getPathForQueryParam";
+    private static final String GET_PATH_FOR_QUERY_MAP = "getPathForQueryMap";
     private static final String GET_SERIALIZED_RECORD_ARRAY = "getSerializedRecordArray";
     private static final String CREATE_MULTIPART_BODY_PARTS = "createBodyParts";
     private static final String CONSTRUCT_ENTITY = "constructEntity";
@@ -189,6 +188,17 @@ public class BallerinaUtilGenerator {
         this.defaultStatusCodeResponseBindingFound = flag;
     }
 
+    /**
+     * Set `nativeSerializersEnabled` flag to `true` to generate the query parameter and the URL-encoded request body
+     * serializers as bindings to their native implementations in the OpenAPI client native library. The generated
+     * package must depend on the client native library.
+     *
+     * @param flag Function will be called only in the occasions where value needs to be set to `true`.
+     */
+    public void setNativeSerializersEnabled(boolean flag) {
+        this.nativeSerializersEnabled = flag;
+    }
+
     public boolean hasDefaultStatusCodeResponseBinding() {
         return defaultStatusCodeResponseBindingFound;
     }
@@ -214,23 +224,21 @@ public class BallerinaUtilGenerator {
 
     private void addUtilFunctionDeclarationNodes(List<ModuleMemberDeclarationNode> memberDeclarationNodes,
                                                  Set<String> functionNameList) throws IOException {
-        Path path = getResourceFilePath();
-        Project project = ProjectLoader.load(path).project();
-        Package currentPackage = project.currentPackage();
-        DocumentId docId = currentPackage.getDefaultModule().documentIds().iterator().next();
-        SyntaxTree fileSyntaxTree = currentPackage.getDefaultModule().document(docId).syntaxTree();
-
-        ModulePartNode modulePartNode = fileSyntaxTree.rootNode();
-        NodeList<ModuleMemberDeclarationNode> members = modulePartNode.members();
-        for (ModuleMemberDeclarationNode node : members) {
-            if (node.kind().equals(SyntaxKind.FUNCTION_DEFINITION)) {
-                for (ChildNodeEntry childNodeEntry : node.childEntries()) {
-                    if (childNodeEntry.name().equals("functionName")) {
-                        if (functionNameList.contains(childNodeEntry.node().get().toString())) {
-                            memberDeclarationNodes.add(node);
-                        }
-                    }
-                }
+        // The functions are added in the order of the template, where the native bindings replace the functions
+        // with the same name.
+        Map<String, FunctionDefinitionNode> utilFunctions = getTemplateFunctions(UTIL_TEMPLATE);
+        Map<String, FunctionDefinitionNode> nativeFunctions = nativeSerializersEnabled ?
+                getTemplateFunctions(NATIVE_UTIL_TEMPLATE) : Collections.emptyMap();
+        for (Map.Entry<String, FunctionDefinitionNode> utilFunction : utilFunctions.entrySet()) {
+            if (functionNameList.contains(utilFunction.getKey())) {
+                memberDeclarationNodes.add(nativeFunctions.getOrDefault(utilFunction.getKey(),
+                        utilFunction.getValue()));
+            }
+        }
+        for (Map.Entry<String, FunctionDefinitionNode> nativeFunction : nativeFunctions.entrySet()) {
+            if (!utilFunctions.containsKey(nativeFunction.getKey()) &&
+                    functionNameList.contains(nativeFunction.getKey())) {
+                memberDeclarationNodes.add(nativeFunction.getValue());
             }
         }
     }
@@ -264,6 +272,16 @@ public class BallerinaUtilGenerator {
                     CREATE_STATUS_CODE_RESPONSE_BINDING_ERROR
             ));
         }
+        if (nativeSerializersEnabled && (requestBodyEncodingFound || queryParamsFound)) {
+            // The native serializers do not use the Ballerina helper functions.
+            functionNameList.removeAll(Arrays.asList(GET_FORM_STYLE_REQUEST, GET_SERIALIZED_RECORD_ARRAY));
+            if (!pathParametersFound) {
+                functionNameList.remove(GET_ENCODED_URI);
+            }
+            if (queryParamsFound) {
+                functionNameList.add(GET_PATH_FOR_QUERY_MAP);
+            }
+        }
         return functionNameList;
     }
 
@@ -281,6 +299,11 @@ public class BallerinaUtilGenerator {
             ImportDeclarationNode importForHttp = GeneratorUtils.getImportDeclarationNode(BALLERINA, HTTP);
             imports.add(importForHttp);
         }
+        if (nativeSerializersEnabled && (requestBodyEncodingFound || queryParamsFound)) {
+            ImportDeclarationNode importForJBallerina = GeneratorUtils.getImportDeclarationNode(BALLERINA,
+                    J_BALLERINA);
+            imports.add(importForJBallerina);
+        }
         return imports;
     }
 
@@ -440,30 +463,42 @@ public class BallerinaUtilGenerator {
     }
 
     /**
-     * Gets the path of the utils_openapi.bal template at the time of execution.
+     * Gets the functions of the given template by their names. Each template is parsed once, and the function nodes
+     * are shared by the generated util files since the syntax tree nodes are immutable.
      *
-     * @return Path to utils_openapi.bal file in the temporary directory created
-     * @throws IOException When failed to get the templates/utils_openapi.bal file from resources
+     * @param template Path of the template in the resources
+     * @return Util function nodes by the function name, in the order of the template
+     * @throws IOException When failed to get the template file from resources
      */
-    private Path getResourceFilePath() throws IOException {
-        Path path = null;
-        ClassLoader classLoader = getClass().getClassLoader();
-        InputStream inputStream = classLoader.getResourceAsStream("templates/utils_openapi.bal");
-        if (inputStream != null) {
-            String clientSyntaxTreeString = IOUtils.toString(inputStream, StandardCharsets.UTF_8);
-            Path tmpDir = Files.createTempDirectory(".util-tmp" + System.nanoTime());
-            path = tmpDir.resolve("utils.bal");
-            try (PrintWriter writer = new PrintWriter(path.toString(), StandardCharsets.UTF_8)) {
-                writer.print(clientSyntaxTreeString);
+    private static Map<String, FunctionDefinitionNode> getTemplateFunctions(String template) throws IOException {
+        Map<String, FunctionDefinitionNode> functions = templateFunctions.get(template);
+        if (functions == null) {
+            // A template may be parsed more than once by concurrent generations, and the first one is kept.
+            Map<String, FunctionDefinitionNode> parsedFunctions = parseTemplateFunctions(template);
+            functions = templateFunctions.putIfAbsent(template, parsedFunctions);
+            if (functions == null) {
+                functions = parsedFunctions;
+            }
+        }
+        return functions;
+    }
+
+    private static Map<String, FunctionDefinitionNode> parseTemplateFunctions(String templatePath) throws IOException {
+        String template;
+        try (InputStream inputStream = BallerinaUtilGenerator.class.getClassLoader()
+                .getResourceAsStream(templatePath)) {
+            if (inputStream == null) {
+                throw new IOException("Unable to find the " + templatePath + " file in the resources");
+            }
+            template = IOUtils.toString(inputStream, StandardCharsets.UTF_8);
+        }
+        ModulePartNode modulePartNode = SyntaxTree.from(TextDocuments.from(template)).rootNode();
+        Map<String, FunctionDefinitionNode> functions = new LinkedHashMap<>();
+        for (ModuleMemberDeclarationNode node : modulePartNode.members()) {
+            if (node instanceof FunctionDefinitionNode functionDefinitionNode) {
+                functions.put(functionDefinitionNode.functionName().text(), functionDefinitionNode);
             }
-            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
-                try {
-                    FileUtils.deleteDirectory(tmpDir.toFile());
-                } catch (IOException ex) {
-                    LOGGER.error("Unable to delete the temporary directory : " + tmpDir, ex);
-                }
-            }));
         }
-        return path;
+        return Collections.unmodifiableMap(functions);
     }
 }
@@ -0,0 +1,233 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.openapi.core.generators.client;
+
+import io.ballerina.compiler.syntax.tree.FunctionDefinitionNode;
+import io.ballerina.compiler.syntax.tree.ImportDeclarationNode;
+import io.ballerina.openapi.core.generators.common.ComponentSchemas;
+import io.ballerina.openapi.core.generators.common.GenerationContext;
+import io.ballerina.openapi.core.generators.common.OperationSequence;
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.media.Schema;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static io.ballerina.openapi.core.generators.common.GeneratorConstants.CLIENT_PARALLELISM_PROPERTY;
+
+/**
+ * Generates the client functions of the operations in shards, which are generated concurrently up to the parallelism
+ * given by the {@code openapi.client.parallelism} system property. The operations are generated one after another by
+ * default, since the generation may already run on the threads of a build or of the formatter.
+ * <p>
+ * A shard is a range of paths in the order of the definition, hence the operations of a path, which share the
+ * parameters of the path, are generated by the same shard. Each shard collects the imports, the diagnostics and the
+ * function names of its operations separately, and they are merged in the order of the shards. The shards only read
+ * the schemas of the components while they are generating, hence the records of the parameters, which are added to
+ * the components, are collected by each shard with {@link ComponentSchemas} and merged in the order of the shards as
+ * well. The effects of the operations on the type definitions are ordered by an {@link OperationSequence}, hence the
+ * generated functions and types are the same as when the operations are generated one after another.
+ *
+ * @since 2.4.2
+ */
+final class ClientFunctionShards {
+
+    private static final int MIN_OPERATIONS_PER_SHARD = 16;
+
+    private ClientFunctionShards() {
+    }
+
+    /**
+     * Generates a client function of an operation, and adds it to the given function nodes.
+     */
+    @FunctionalInterface
+    interface FunctionAdder {
+        void add(BallerinaClientGenerator generator, Map.Entry<PathItem.HttpMethod, Operation> operation,
+                 String path, List<FunctionDefinitionNode> functionNodes);
+    }
+
+    /**
+     * Generates the client functions of the given operations.
+     *
+     * @param generator          client generator, which collects the imports, the diagnostics and the function names
+     * @param filteredOperations operations of the client, grouped by their paths
+     * @param functionAdder      generates the client function of an operation
+     * @return the client functions, in the order of the operations
+     */
+    static List<FunctionDefinitionNode> generate(BallerinaClientGenerator generator,
+                                                 Map<String, Map<PathItem.HttpMethod, Operation>> filteredOperations,
+                                                 FunctionAdder functionAdder) {
+        List<Map.Entry<String, Map<PathItem.HttpMethod, Operation>>> paths =
+                new ArrayList<>(filteredOperations.entrySet());
+        int operationCount = paths.stream().mapToInt(path -> path.getValue().size()).sum();
+        int parallelism = Integer.getInteger(CLIENT_PARALLELISM_PROPERTY, 1);
+        int shardCount = Math.min(parallelism, operationCount / MIN_OPERATIONS_PER_SHARD);
+        if (shardCount <= 1 || generator.openAPI.getComponents() == null || hasSharedOperations(paths)) {
+            List<FunctionDefinitionNode> functionNodes = new ArrayList<>();
+            generateShard(generator, paths, functionAdder, functionNodes);
+            return functionNodes;
+        }
+
+        List<Shard> shards = split(generator, paths, operationCount, shardCount);
+        OperationSequence sequence = new OperationSequence(operationCount);
+        // The nested generators reach the generation context through the thread, hence it is bound to the workers.
+        GenerationContext generationContext = GenerationContext.current();
+        List<Future<List<FunctionDefinitionNode>>> results = new ArrayList<>(shards.size());
+        try (ExecutorService executor = Executors.newFixedThreadPool(shards.size())) {
+            // Each shard has its own thread, since a shard may wait for the operations of the preceding shards.
+            for (Shard shard : shards) {
+                results.add(executor.submit(() -> {
+                    try (GenerationContext.Scope ignored = GenerationContext.enter(generationContext)) {
+                        return shard.generate(sequence, functionAdder);
+                    }
+                }));
+            }
+        }
+        List<FunctionDefinitionNode> functionNodes = new ArrayList<>();
+        for (int i = 0; i < shards.size(); i++) {
+            functionNodes.addAll(getResult(results.get(i)));
+            shards.get(i).mergeInto(generator);
+        }
+        return functionNodes;
+    }
+
+    private static void generateShard(BallerinaClientGenerator generator,
+                                      List<Map.Entry<String, Map<PathItem.HttpMethod, Operation>>> paths,
+                                      FunctionAdder functionAdder, List<FunctionDefinitionNode> functionNodes) {
+        for (Map.Entry<String, Map<PathItem.HttpMethod, Operation>> path : paths) {
+            for (Map.Entry<PathItem.HttpMethod, Operation> operation : path.getValue().entrySet()) {
+                functionAdder.add(generator, operation, path.getKey(), functionNodes);
+            }
+        }
+    }
+
+    /**
+     * Splits the given paths into ranges of about the same number of operations.
+     */
+    private static List<Shard> split(BallerinaClientGenerator generator,
+                                     List<Map.Entry<String, Map<PathItem.HttpMethod, Operation>>> paths,
+                                     int operationCount, int shardCount) {
+        int operationsPerShard = (operationCount + shardCount - 1) / shardCount;
+        List<Shard> shards = new ArrayList<>(shardCount);
+        int fromPath = 0;
+        int fromIndex = 0;
+        int index = 0;
+        for (int i = 0; i < paths.size(); i++) {
+            index += paths.get(i).getValue().size();
+            if (index - fromIndex >= operationsPerShard || i == paths.size() - 1) {
+                shards.add(new Shard(generator.copyForShard(), paths.subList(fromPath, i + 1), fromIndex, index,
+                        new LinkedHashMap<>()));
+                fromPath = i + 1;
+                fromIndex = index;
+            }
+        }
+        return shards;
+    }
+
+    /**
+     * Checks whether an operation or a path item is shared by more than one path, such as a path item which is
+     * referred from the components. The operations of those paths are not independent of each other.
+     */
+    private static boolean hasSharedOperations(List<Map.Entry<String, Map<PathItem.HttpMethod, Operation>>> paths) {
+        Set<Object> operations = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Map.Entry<String, Map<PathItem.HttpMethod, Operation>> path : paths) {
+            for (Operation operation : path.getValue().values()) {
+                if (!operations.add(operation)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static List<FunctionDefinitionNode> getResult(Future<List<FunctionDefinitionNode>> result) {
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * A range of paths, which is generated by a copy of the client generator. The schemas added to the components
+     * by the operations of the shard are collected in the schemas of the shard.
+     */
+    private record Shard(BallerinaClientGenerator generator,
+                         List<Map.Entry<String, Map<PathItem.HttpMethod, Operation>>> paths,
+                         int fromIndex, int toIndex, Map<String, Schema> schemas) {
+
+        List<FunctionDefinitionNode> generate(OperationSequence sequence, FunctionAdder functionAdder) {
+            List<FunctionDefinitionNode> functionNodes = new ArrayList<>();
+            int index = fromIndex;
+            try (ComponentSchemas.Scope schemaScope = ComponentSchemas.collect(schemas)) {
+                for (Map.Entry<String, Map<PathItem.HttpMethod, Operation>> path : paths) {
+                    for (Map.Entry<PathItem.HttpMethod, Operation> operation : path.getValue().entrySet()) {
+                        try (OperationSequence.Step ignored = sequence.start(index++)) {
+                            functionAdder.add(generator, operation, path.getKey(), functionNodes);
+                        }
+                    }
+                }
+            } finally {
+                // The operations which are not generated are skipped, so that the following shards do not wait.
+                sequence.skip(index, toIndex);
+            }
+            return functionNodes;
+        }
+
+        /**
+         * Adds the imports, the diagnostics and the function names of the shard to the given generator, and the
+         * collected schemas to the components. An import is added only if it is not already imported, in the same way
+         * as the imports are added to a single generator.
+         */
+        void mergeInto(BallerinaClientGenerator target) {
+            List<String> imports = new ArrayList<>(target.imports.size());
+            target.imports.forEach(importNode -> imports.add(importNode.toSourceCode()));
+            for (ImportDeclarationNode importNode : generator.imports) {
+                if (!imports.contains(importNode.toSourceCode())) {
+                    imports.add(importNode.toSourceCode());
+                    target.imports.add(importNode);
+                }
+            }
+            target.diagnostics.addAll(generator.diagnostics);
+            target.getRemoteFunctionNameList().addAll(generator.getRemoteFunctionNameList());
+            Components components = target.openAPI.getComponents();
+            schemas.forEach(components::addSchemas);
+        }
+    }
+}
@@ -30,6 +30,7 @@ import io.ballerina.openapi.core.generators.client.BallerinaUtilGenerator;
 import io.ballerina.openapi.core.generators.client.FunctionBodyGenerator;
 import io.ballerina.openapi.core.generators.client.ImplFunctionSignatureGenerator;
 import io.ballerina.openapi.core.generators.client.model.OASClientConfig;
+import io.ballerina.openapi.core.generators.common.GenerationContext;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.Operation;
 import io.swagger.v3.oas.models.PathItem;
@@ -58,6 +59,10 @@ public class AdvanceMockClientGenerator extends BallerinaClientGeneratorWithStat
         super(oasClientConfig);
     }
 
+    public AdvanceMockClientGenerator(OASClientConfig oasClientConfig, GenerationContext generationContext) {
+        super(oasClientConfig, generationContext);
+    }
+
     @Override
     public FunctionBodyNode getInitFunctionBodyNode() {
         List<StatementNode> assignmentNodes = new ArrayList<>();
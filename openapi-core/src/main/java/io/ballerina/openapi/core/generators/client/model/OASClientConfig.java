@@ -38,6 +38,7 @@ public class OASClientConfig {
     private final boolean isMock;
     private final boolean singleFile;
     private final boolean isUsingSanitizedOas;
+    private final boolean nativeSerializers;
 
 
     private OASClientConfig(Builder clientConfigBuilder) {
@@ -51,6 +52,7 @@ public class OASClientConfig {
         this.isMock = clientConfigBuilder.isMock;
         this.singleFile = clientConfigBuilder.singleFile;
         this.isUsingSanitizedOas = clientConfigBuilder.isUsingSanitizedOas;
+        this.nativeSerializers = clientConfigBuilder.nativeSerializers;
     }
 
     public OpenAPI getOpenAPI() {
@@ -91,6 +93,10 @@ public class OASClientConfig {
         return isUsingSanitizedOas;
     }
 
+    public boolean isNativeSerializers() {
+        return nativeSerializers;
+    }
+
     /**
      * Client IDL plugin meta data builder class.
      */
@@ -105,6 +111,7 @@ public class OASClientConfig {
         private boolean isMock = false;
         private boolean singleFile = false;
         private boolean isUsingSanitizedOas = false;
+        private boolean nativeSerializers = false;
 
         public Builder withOpenAPI(OpenAPI openAPI) {
             this.openAPI = openAPI;
@@ -156,6 +163,16 @@ public class OASClientConfig {
             return this;
         }
 
+        /**
+         * Uses the native serializers of the OpenAPI client native library for the query parameters and the
+         * URL-encoded request bodies. This is only applied along with the status code binding, which already depends
+         * on the library.
+         */
+        public Builder withNativeSerializers(boolean nativeSerializers) {
+            this.nativeSerializers = nativeSerializers;
+            return this;
+        }
+
         public OASClientConfig build() {
             return new OASClientConfig(this);
         }
@@ -13,6 +13,7 @@ import io.ballerina.compiler.syntax.tree.TypeParameterNode;
 import io.ballerina.compiler.syntax.tree.UnionTypeDescriptorNode;
 import io.ballerina.openapi.core.generators.client.diagnostic.ClientDiagnostic;
 import io.ballerina.openapi.core.generators.client.diagnostic.ClientDiagnosticImp;
+import io.ballerina.openapi.core.generators.common.ComponentSchemas;
 import io.ballerina.openapi.core.generators.common.GeneratorConstants;
 import io.ballerina.openapi.core.generators.common.GeneratorUtils;
 import io.ballerina.openapi.core.generators.common.TypeHandler;
@@ -94,7 +95,9 @@ public class HeadersParameterGenerator implements ParameterGenerator {
         String operationId = GeneratorUtils.generateOperationUniqueId(operation, path, httpMethod);
         headersSchema.setDescription("Represents the Headers record for the operation: " + operationId);
         String headersName = GeneratorUtils.getValidName(operationId, true) + "Headers";
-        openAPI.getComponents().addSchemas(headersName, headersSchema);
+        // The record is collected by the shard when the operations are generated concurrently, and it is added to
+        // the components in the order of the operations once the shards are completed.
+        ComponentSchemas.add(openAPI.getComponents(), headersName, headersSchema);
 
         Schema headersRefSchema = new ObjectSchema().$ref(headersName);
         Optional<TypeDescriptorNode> headersType =  TypeHandler.getInstance().getTypeNodeFromOASSchema(
@@ -41,14 +41,17 @@ public interface ParameterGenerator {
         if (Objects.isNull(schema)) {
             return null;
         }
-        Optional.ofNullable(parameter.getDescription()).ifPresent(schema::setDescription);
-        Optional.ofNullable(parameter.getDeprecated()).ifPresent(schema::setDeprecated);
-        Map<String, Object> extensions = parameter.getExtensions();
-        if (Objects.isNull(extensions)) {
-            extensions = new HashMap<>();
+        // A parameter of the components is shared by the operations, which may be generated concurrently.
+        synchronized (parameter) {
+            Optional.ofNullable(parameter.getDescription()).ifPresent(schema::setDescription);
+            Optional.ofNullable(parameter.getDeprecated()).ifPresent(schema::setDeprecated);
+            Map<String, Object> extensions = parameter.getExtensions();
+            if (Objects.isNull(extensions)) {
+                extensions = new HashMap<>();
+            }
+            extensions.put(X_PARAM_TYPE, parameter.getIn());
+            schema.setExtensions(extensions);
         }
-        extensions.put(X_PARAM_TYPE, parameter.getIn());
-        schema.setExtensions(extensions);
         return schema;
     }
 }
@@ -22,6 +22,7 @@ import io.ballerina.compiler.syntax.tree.ParameterNode;
 import io.ballerina.compiler.syntax.tree.TypeDescriptorNode;
 import io.ballerina.openapi.core.generators.client.diagnostic.ClientDiagnostic;
 import io.ballerina.openapi.core.generators.client.diagnostic.ClientDiagnosticImp;
+import io.ballerina.openapi.core.generators.common.ComponentSchemas;
 import io.ballerina.openapi.core.generators.common.GeneratorUtils;
 import io.ballerina.openapi.core.generators.common.TypeHandler;
 import io.swagger.v3.oas.models.OpenAPI;
@@ -78,7 +79,9 @@ public class QueriesParameterGenerator implements ParameterGenerator {
         String operationId = GeneratorUtils.generateOperationUniqueId(operation, path, httpMethod);
         queriesSchema.setDescription("Represents the Queries record for the operation: " + operationId);
         String queriesName = GeneratorUtils.getValidName(operationId, true) + "Queries";
-        openAPI.getComponents().addSchemas(queriesName, queriesSchema);
+        // The record is collected by the shard when the operations are generated concurrently, and it is added to
+        // the components in the order of the operations once the shards are completed.
+        ComponentSchemas.add(openAPI.getComponents(), queriesName, queriesSchema);
         Schema queriesRefSchema = new ObjectSchema().$ref(queriesName);
         Optional<TypeDescriptorNode> queriesType =  TypeHandler.getInstance().getTypeNodeFromOASSchema(queriesRefSchema,
                 true);
@@ -0,0 +1,95 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.openapi.core.generators.common;
+
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.media.Schema;
+
+import java.util.Map;
+
+/**
+ * Adds the schemas which are created while generating the operations, such as the records of the query and header
+ * parameters, to the components of the definition.
+ * <p>
+ * The operations generated concurrently in shards read the schemas of the components, hence a shard does not add
+ * its schemas to the components while it is generating. Instead, the schemas are collected in a map of the shard,
+ * which is bound to the thread generating the shard, and the maps of the shards are added to the components in the
+ * order of the operations once all the shards are completed. A schema collected by a shard takes precedence over a
+ * schema of the same name in the components when it is looked up by the shard. When no map is bound to the thread,
+ * the schemas are added to the components directly, hence a sequential generation is not affected.
+ *
+ * @since 2.4.2
+ */
+public final class ComponentSchemas {
+
+    private static final ThreadLocal<Map<String, Schema>> collectedSchemas = new ThreadLocal<>();
+
+    private ComponentSchemas() {
+    }
+
+    /**
+     * Collects the schemas added on the current thread in the given map, instead of adding them to the components,
+     * until the returned scope is closed.
+     *
+     * @param schemas map of the schemas added by a shard, in the order they are added
+     * @return the scope of the collection
+     */
+    public static Scope collect(Map<String, Schema> schemas) {
+        collectedSchemas.set(schemas);
+        return new Scope();
+    }
+
+    /**
+     * Adds the given schema to the components, or to the map collecting the schemas of the current thread.
+     */
+    public static void add(Components components, String name, Schema schema) {
+        Map<String, Schema> schemas = collectedSchemas.get();
+        if (schemas == null) {
+            components.addSchemas(name, schema);
+        } else {
+            schemas.put(name, schema);
+        }
+    }
+
+    /**
+     * Returns the schema of the given name, which is looked up in the schemas collected on the current thread and
+     * then in the components.
+     */
+    public static Schema get(Components components, String name) {
+        Map<String, Schema> schemas = collectedSchemas.get();
+        if (schemas != null && schemas.containsKey(name)) {
+            return schemas.get(name);
+        }
+        return components.getSchemas() == null ? null : components.getSchemas().get(name);
+    }
+
+    /**
+     * Stops collecting the schemas of the current thread when closed.
+     */
+    public static final class Scope implements AutoCloseable {
+
+        private Scope() {
+        }
+
+        @Override
+        public void close() {
+            collectedSchemas.remove();
+        }
+    }
+}
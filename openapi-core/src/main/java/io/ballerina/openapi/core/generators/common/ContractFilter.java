@@ -0,0 +1,323 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.openapi.core.generators.common;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.ballerina.openapi.core.generators.common.model.Filter;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.core.util.Json31;
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.SpecVersion;
+import io.swagger.v3.oas.models.media.Content;
+import io.swagger.v3.oas.models.media.MediaType;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.parameters.RequestBody;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+import io.swagger.v3.oas.models.responses.ApiResponses;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Reduces an unresolved OpenAPI definition to the operations selected by a {@link Filter} and the components which
+ * are reachable from them, so that the resolution and the flattening of the definition work only on the selected
+ * subset of a large definition.
+ * <p>
+ * The reduction does not change the generated code:
+ * <ul>
+ *     <li>The retained operations are a superset of the operations the client generator selects with the same
+ *     filter, since an operation id is matched both as it is and as it is normalized.</li>
+ *     <li>The other operations are replaced with stubs which keep only the operation id and whether a request body
+ *     is given, hence the complex paths and the validations of the definition see all the operations.</li>
+ *     <li>The operations and the components with inline models are kept as they are, since the names of the models
+ *     the flattening hoists depend on the models hoisted before them.</li>
+ *     <li>The schemas which are not reachable are replaced with empty schemas, since the names of the hoisted models
+ *     are made unique against the names of the schemas.</li>
+ * </ul>
+ *
+ * @since 2.4.2
+ */
+public final class ContractFilter {
+
+    private static final String COMPONENTS_PREFIX = "#/components/";
+    private static final String SCHEMAS = "schemas";
+    private static final List<String> COMPONENT_TYPES = List.of(SCHEMAS, "responses", "parameters", "examples",
+            "requestBodies", "headers", "links", "callbacks", "pathItems");
+    private static final List<String> COMPOSED_KEYWORDS = List.of("allOf", "anyOf", "oneOf");
+
+    private ContractFilter() {
+    }
+
+    /**
+     * Checks whether the given filter selects a subset of the operations.
+     */
+    public static boolean isFiltered(Filter filter) {
+        return filter != null && (!filter.getTags().isEmpty() || !filter.getOperations().isEmpty());
+    }
+
+    /**
+     * Replaces the operations which are not selected by the given filter with stubs, and removes the components
+     * which are not reachable from the remaining operations. The security schemes and the other components which
+     * are not referred with a {@code $ref} or a discriminator mapping are kept as they are.
+     *
+     * @param openAPI unresolved OpenAPI definition, which is modified in place
+     * @param filter  filter which selects the operations
+     * @return the given OpenAPI definition
+     */
+    public static OpenAPI retain(OpenAPI openAPI, Filter filter) {
+        ObjectMapper mapper = SpecVersion.V31.equals(openAPI.getSpecVersion()) ? Json31.mapper() : Json.mapper();
+        Deque<String> pending = new ArrayDeque<>();
+        if (openAPI.getPaths() != null) {
+            for (PathItem pathItem : openAPI.getPaths().values()) {
+                for (Map.Entry<PathItem.HttpMethod, Operation> operation : pathItem.readOperationsMap().entrySet()) {
+                    if (isSelected(operation.getValue(), filter)) {
+                        continue;
+                    }
+                    JsonNode operationNode = toTree(mapper, operation.getValue());
+                    if (operationNode == null) {
+                        // The content of the operation is not known, hence the definition is kept as it is.
+                        return openAPI;
+                    }
+                    if (!hasInlineModels(operationNode, false)) {
+                        pathItem.operation(operation.getKey(), stub(operation.getValue()));
+                    }
+                }
+                if (!addReferences(mapper, pathItem, pending)) {
+                    return openAPI;
+                }
+            }
+        }
+        if (openAPI.getWebhooks() != null && !addReferences(mapper, openAPI.getWebhooks(), pending)) {
+            return openAPI;
+        }
+        Components components = openAPI.getComponents();
+        if (components == null) {
+            return openAPI;
+        }
+        // Only the reachable components and the components with inline models are serialized to find their
+        // references, until no more components are reached.
+        Set<String> reachable = new HashSet<>();
+        Set<String> unreachable = new HashSet<>();
+        do {
+            if (!addReachable(mapper, components, pending, reachable)) {
+                return openAPI;
+            }
+            for (String componentType : COMPONENT_TYPES) {
+                Map<String, ?> componentsOfType = getComponentsOfType(components, componentType);
+                if (componentsOfType == null) {
+                    continue;
+                }
+                for (Map.Entry<String, ?> component : componentsOfType.entrySet()) {
+                    String key = componentType + "/" + component.getKey();
+                    if (reachable.contains(key) || unreachable.contains(key)) {
+                        continue;
+                    }
+                    JsonNode componentNode = toTree(mapper, component.getValue());
+                    if (componentNode == null) {
+                        return openAPI;
+                    }
+                    if (hasInlineModels(componentNode, SCHEMAS.equals(componentType))) {
+                        pending.push(key);
+                    } else {
+                        unreachable.add(key);
+                    }
+                }
+            }
+        } while (!pending.isEmpty());
+        for (String componentType : COMPONENT_TYPES) {
+            Map<String, ?> componentsOfType = getComponentsOfType(components, componentType);
+            if (componentsOfType == null) {
+                continue;
+            }
+            if (SCHEMAS.equals(componentType)) {
+                for (Map.Entry<String, Schema> schema : components.getSchemas().entrySet()) {
+                    if (!reachable.contains(SCHEMAS + "/" + schema.getKey())) {
+                        schema.setValue(new Schema<>());
+                    }
+                }
+            } else {
+                componentsOfType.keySet().removeIf(name -> !reachable.contains(componentType + "/" + name));
+            }
+        }
+        return openAPI;
+    }
+
+    private static boolean isSelected(Operation operation, Filter filter) {
+        List<String> tags = operation.getTags();
+        if (tags != null && !Collections.disjoint(filter.getTags(), tags)) {
+            return true;
+        }
+        String operationId = operation.getOperationId();
+        return operationId != null && (filter.getOperations().contains(operationId) ||
+                filter.getOperations().contains(GeneratorUtils.getValidName(operationId, false)));
+    }
+
+    /**
+     * Creates a stub of the given operation, which keeps only what the validations of the definition read. The
+     * request body and the responses of the stub are kept valid, without any schema.
+     */
+    private static Operation stub(Operation operation) {
+        Operation stub = new Operation().operationId(operation.getOperationId());
+        if (operation.getRequestBody() != null) {
+            stub.requestBody(new RequestBody().content(new Content().addMediaType("*/*", new MediaType())));
+        }
+        if (operation.getResponses() != null) {
+            ApiResponses responses = new ApiResponses();
+            operation.getResponses().keySet().forEach(code ->
+                    responses.addApiResponse(code, new ApiResponse().description("")));
+            stub.responses(responses);
+        }
+        return stub;
+    }
+
+    /**
+     * Marks the pending components and the components they refer as reachable.
+     *
+     * @return {@code false} if a component can not be serialized to find its references
+     */
+    private static boolean addReachable(ObjectMapper mapper, Components components, Deque<String> pending,
+                                        Set<String> reachable) {
+        while (!pending.isEmpty()) {
+            String key = pending.pop();
+            if (!reachable.add(key)) {
+                continue;
+            }
+            String[] parts = key.split("/", 2);
+            Map<String, ?> componentsOfType = getComponentsOfType(components, parts[0]);
+            if (componentsOfType != null && componentsOfType.containsKey(parts[1]) &&
+                    !addReferences(mapper, componentsOfType.get(parts[1]), pending)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Adds the components referred by the given fragment, with a {@code $ref} or a discriminator mapping, to the
+     * pending components.
+     *
+     * @return {@code false} if the fragment can not be serialized to find its references
+     */
+    private static boolean addReferences(ObjectMapper mapper, Object fragment, Deque<String> pending) {
+        JsonNode node = toTree(mapper, fragment);
+        if (node == null) {
+            return false;
+        }
+        addReferences(node, pending);
+        return true;
+    }
+
+    private static void addReferences(JsonNode node, Deque<String> pending) {
+        if (node.isObject()) {
+            JsonNode reference = node.get("$ref");
+            if (reference != null && reference.isTextual()) {
+                addReference(reference.asText(), pending);
+            }
+            JsonNode discriminator = node.get("discriminator");
+            if (discriminator != null && discriminator.isObject() && discriminator.get("mapping") != null) {
+                for (JsonNode target : discriminator.get("mapping")) {
+                    if (!target.isTextual()) {
+                        continue;
+                    }
+                    String value = target.asText();
+                    // A mapping value is either a reference or the name of a schema.
+                    if (value.startsWith(COMPONENTS_PREFIX)) {
+                        addReference(value, pending);
+                    } else if (!value.contains("/") && !value.contains("#")) {
+                        pending.push(SCHEMAS + "/" + value);
+                    }
+                }
+            }
+        }
+        for (JsonNode child : node) {
+            addReferences(child, pending);
+        }
+    }
+
+    private static void addReference(String reference, Deque<String> pending) {
+        if (!reference.startsWith(COMPONENTS_PREFIX)) {
+            return;
+        }
+        String[] parts = reference.substring(COMPONENTS_PREFIX.length()).split("/", 2);
+        if (parts.length == 2) {
+            // The names in the references are JSON pointer tokens.
+            pending.push(parts[0] + "/" + parts[1].replace("~1", "/").replace("~0", "~"));
+        }
+    }
+
+    /**
+     * Checks whether the given fragment has an inline object or composed schema, which the flattening may hoist into
+     * a model. A value which only looks like a schema, such as an example, is also taken as an inline model.
+     *
+     * @param node     serialized fragment
+     * @param isSchema whether the fragment itself is a schema of the components, which is not hoisted
+     */
+    private static boolean hasInlineModels(JsonNode node, boolean isSchema) {
+        if (!isSchema && node.isObject()) {
+            JsonNode properties = node.get("properties");
+            if (properties != null && properties.isObject() && !properties.isEmpty()) {
+                return true;
+            }
+            for (String keyword : COMPOSED_KEYWORDS) {
+                if (node.get(keyword) != null && node.get(keyword).isArray()) {
+                    return true;
+                }
+            }
+        }
+        for (JsonNode child : node) {
+            if (hasInlineModels(child, false)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static JsonNode toTree(ObjectMapper mapper, Object fragment) {
+        try {
+            return mapper.valueToTree(fragment);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static Map<String, ?> getComponentsOfType(Components components, String componentType) {
+        return switch (componentType) {
+            case SCHEMAS -> components.getSchemas();
+            case "responses" -> components.getResponses();
+            case "parameters" -> components.getParameters();
+            case "examples" -> components.getExamples();
+            case "requestBodies" -> components.getRequestBodies();
+            case "headers" -> components.getHeaders();
+            case "links" -> components.getLinks();
+            case "callbacks" -> components.getCallbacks();
+            case "pathItems" -> components.getPathItems();
+            default -> null;
+        };
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.openapi.core.generators.common;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.core.util.Json31;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.SpecVersion;
+import io.swagger.v3.parser.OpenAPIV3Parser;
+import io.swagger.v3.parser.core.models.SwaggerParseResult;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Optional;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * A snapshot of a parsed OpenAPI contract, which is kept in a build cache so that a later generation for the same
+ * contract does not parse the YAML, resolve the references and flatten the inline schemas again.
+ * <p>
+ * A snapshot is a header, which holds the format version and the hash of the contract, followed by the compact JSON
+ * of the resolved and flattened definition, compressed with deflate. The snapshot is written and read as a stream,
+ * hence neither the JSON nor the compressed bytes are held in memory as a whole.
+ *
+ * @since 2.4.2
+ */
+public final class ContractSnapshot {
+
+    private static final int MAGIC = 0x4F415353;
+    private static final int FORMAT_VERSION = 1;
+    private static final int BUFFER_SIZE = 8192;
+
+    private ContractSnapshot() {
+    }
+
+    /**
+     * Reads the snapshot of the contract with the given hash.
+     *
+     * @param snapshotPath path of the snapshot file
+     * @param contractHash hash of the contract, along with the files it refers and the version of the tool
+     * @return the definition of the snapshot, or an empty value if the snapshot does not exist, can not be read or is
+     * written for another contract
+     */
+    public static Optional<OpenAPI> read(Path snapshotPath, String contractHash) {
+        if (!Files.isRegularFile(snapshotPath)) {
+            return Optional.empty();
+        }
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(snapshotPath),
+                BUFFER_SIZE))) {
+            if (input.readInt() != MAGIC || input.readInt() != FORMAT_VERSION ||
+                    !contractHash.equals(input.readUTF())) {
+                return Optional.empty();
+            }
+            JsonNode definition;
+            try (InputStream inflater = new InflaterInputStream(input)) {
+                definition = Json.mapper().readTree(inflater);
+            }
+            // The definition is already resolved and flattened, hence it is only deserialized.
+            SwaggerParseResult parseResult = new OpenAPIV3Parser().parseJsonNode(snapshotPath.toString(),
+                    definition);
+            if (parseResult.getOpenAPI() == null ||
+                    (parseResult.getMessages() != null && !parseResult.getMessages().isEmpty())) {
+                return Optional.empty();
+            }
+            return Optional.of(parseResult.getOpenAPI());
+        } catch (IOException | RuntimeException e) {
+            // A snapshot which can not be read is discarded, hence the contract is parsed again.
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Writes the snapshot of the given definition. The snapshot is written into a temporary file in the same
+     * directory, which is then moved to the snapshot file, hence a concurrent reader never sees a partial snapshot.
+     *
+     * @param snapshotPath path of the snapshot file
+     * @param contractHash hash of the contract, along with the files it refers and the version of the tool
+     * @param openAPI      resolved and flattened definition of the contract
+     * @throws IOException when the snapshot can not be written
+     */
+    public static void write(Path snapshotPath, String contractHash, OpenAPI openAPI) throws IOException {
+        Path parentDirectory = snapshotPath.toAbsolutePath().getParent();
+        Files.createDirectories(parentDirectory);
+        Path tempFile = Files.createTempFile(parentDirectory, snapshotPath.getFileName().toString(), ".tmp");
+        try {
+            try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(
+                    Files.newOutputStream(tempFile), BUFFER_SIZE))) {
+                output.writeInt(MAGIC);
+                output.writeInt(FORMAT_VERSION);
+                output.writeUTF(contractHash);
+                Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+                try (OutputStream deflaterOutput = new DeflaterOutputStream(output, deflater, BUFFER_SIZE)) {
+                    ObjectMapper mapper = SpecVersion.V31.equals(openAPI.getSpecVersion()) ? Json31.mapper() :
+                            Json.mapper();
+                    mapper.writeValue(deflaterOutput, openAPI);
+                } finally {
+                    deflater.end();
+                }
+            }
+            try {
+                Files.move(tempFile, snapshotPath, StandardCopyOption.REPLACE_EXISTING,
+                        StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile, snapshotPath, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+}
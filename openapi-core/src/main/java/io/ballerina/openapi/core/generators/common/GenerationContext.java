@@ -0,0 +1,146 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.openapi.core.generators.common;
+
+import io.ballerina.openapi.core.generators.type.model.GeneratorMetaData;
+import io.swagger.v3.oas.models.OpenAPI;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Holds the state of a single code generation, which includes the type handler, the generator metadata and the
+ * record name counts. Each generation owns its context, hence generations running in the same JVM do not share
+ * their type definitions.
+ * <p>
+ * The context is passed to the client, service, type, constraint and document generators. While a generator is
+ * working it binds its context to the running thread, so that the nested generators can reach it through
+ * {@link #current()}. The context is bound only to the thread which entered it, hence a generator which hands work
+ * to other threads captures the context with {@link #current()} and enters it on each worker, as the client function
+ * shards do. A context is bound within a {@link Scope}, hence no context is left bound to a thread once its
+ * generation is done, except the contexts bound by {@link TypeHandler#createInstance(OpenAPI, boolean)}.
+ *
+ * @since 2.4.2
+ */
+public class GenerationContext {
+
+    private static final ThreadLocal<GenerationContext> currentContext = new ThreadLocal<>();
+
+    private GeneratorMetaData generatorMetaData;
+    private TypeHandler typeHandler;
+    private final Map<String, Integer> recordCountMap = new HashMap<>();
+
+    private GenerationContext(GeneratorMetaData generatorMetaData) {
+        this.generatorMetaData = generatorMetaData;
+    }
+
+    /**
+     * Creates a new context to generate the code for the given OpenAPI definition.
+     *
+     * @param openAPI    normalized OpenAPI definition
+     * @param isNullable whether the nullable option is enabled
+     * @return the created generation context
+     */
+    public static GenerationContext create(OpenAPI openAPI, boolean isNullable) {
+        GenerationContext context = new GenerationContext(new GeneratorMetaData(openAPI, isNullable));
+        try (Scope ignored = context.enter()) {
+            context.typeHandler = new TypeHandler(context);
+        }
+        return context;
+    }
+
+    /**
+     * Returns the context bound to the current thread, or {@code null} if there is no generation in progress.
+     */
+    public static GenerationContext current() {
+        return currentContext.get();
+    }
+
+    /**
+     * Binds the given context to the current thread until the returned scope is closed. When the given context is
+     * {@code null}, the context bound to the thread is kept as it is.
+     */
+    public static Scope enter(GenerationContext context) {
+        GenerationContext previous = currentContext.get();
+        if (context != null) {
+            currentContext.set(context);
+        }
+        return new Scope(previous);
+    }
+
+    /**
+     * Binds the given context to the current thread until the returned scope is closed. When the given context is
+     * {@code null} and no context is bound to the thread, a new context is created for the given OpenAPI definition
+     * and bound instead.
+     */
+    public static Scope enter(GenerationContext context, OpenAPI openAPI, boolean isNullable) {
+        if (context == null && currentContext.get() == null) {
+            return enter(create(openAPI, isNullable));
+        }
+        return enter(context);
+    }
+
+    public Scope enter() {
+        return enter(this);
+    }
+
+    /**
+     * Binds the given context to the current thread, without a scope to restore the previously bound context.
+     */
+    static void bind(GenerationContext context) {
+        currentContext.set(context);
+    }
+
+    public GeneratorMetaData getGeneratorMetaData() {
+        return generatorMetaData;
+    }
+
+    public void setGeneratorMetaData(GeneratorMetaData generatorMetaData) {
+        this.generatorMetaData = generatorMetaData;
+    }
+
+    public TypeHandler getTypeHandler() {
+        return typeHandler;
+    }
+
+    public Map<String, Integer> getRecordCountMap() {
+        return recordCountMap;
+    }
+
+    /**
+     * Restores the previously bound context of the thread when closed.
+     */
+    public static final class Scope implements AutoCloseable {
+
+        private final GenerationContext previous;
+
+        private Scope(GenerationContext previous) {
+            this.previous = previous;
+        }
+
+        @Override
+        public void close() {
+            if (previous == null) {
+                currentContext.remove();
+            } else {
+                currentContext.set(previous);
+            }
+        }
+    }
+}
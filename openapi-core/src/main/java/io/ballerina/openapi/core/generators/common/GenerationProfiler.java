@@ -0,0 +1,242 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.openapi.core.generators.common;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Profiles the phases of a code generation. A phase records the elapsed time and the bytes allocated by the thread
+ * which runs it, and the generators count the operations, the schemas and the nodes they emit.
+ * <p>
+ * A profiler is bound to the thread which runs the generation, in the same way as the {@link GenerationContext}.
+ * When no profiler is bound, the phases and the counts are not recorded, hence the instrumentation costs nothing
+ * unless profiling is requested. The work a phase hands over to other threads, such as the concurrent formatting,
+ * is included in its elapsed time but not in its allocated bytes.
+ * <p>
+ * Phases may be nested, such as the parsing within the client generation. The time and the allocated bytes of a
+ * phase include its nested phases, while its self time and self allocated bytes exclude the nested phases run by the
+ * same thread, so that the self values of all the phases add up to the profiled work.
+ *
+ * @since 2.4.2
+ */
+public class GenerationProfiler {
+
+    public static final String PARSE = "parse";
+    public static final String FLATTEN = "flatten";
+    public static final String SANITIZE = "sanitize";
+    public static final String CLIENT = "client";
+    public static final String TYPES = "types";
+    public static final String CONSTRAINTS = "constraints";
+    public static final String TYPE_FIXER = "typeFixer";
+    public static final String DOC_COMMENTS = "docComments";
+    public static final String FORMAT = "format";
+    public static final String WRITE = "write";
+
+    public static final String OPERATIONS = "operations";
+    public static final String SCHEMAS = "schemas";
+    public static final String CLIENT_FUNCTIONS = "clientFunctions";
+    public static final String TYPE_DEFINITIONS = "typeDefinitions";
+    public static final String MODULE_MEMBERS = "moduleMembers";
+    public static final String FILES_WRITTEN = "filesWritten";
+
+    private static final ThreadLocal<GenerationProfiler> currentProfiler = new ThreadLocal<>();
+    private static final ThreadLocal<Phase> currentPhase = new ThreadLocal<>();
+    private static final Phase NO_OP_PHASE = new Phase(null, null, null, 0, 0);
+    private static final long NANOS_PER_MILLI = 1_000_000L;
+    private static final double BYTES_PER_MB = 1024.0 * 1024.0;
+
+    private final Map<String, PhaseStats> phases = new LinkedHashMap<>();
+    private final Map<String, Long> counts = new LinkedHashMap<>();
+
+    /**
+     * Binds the given profiler to the current thread until the returned scope is closed. When the given profiler is
+     * {@code null}, the profiler bound to the thread is kept as it is.
+     */
+    public static Scope enter(GenerationProfiler profiler) {
+        GenerationProfiler previous = currentProfiler.get();
+        if (profiler != null) {
+            currentProfiler.set(profiler);
+        }
+        return new Scope(previous);
+    }
+
+    /**
+     * Starts the given phase, which ends when the returned phase is closed.
+     *
+     * @param name name of the phase
+     * @return the started phase
+     */
+    public static Phase phase(String name) {
+        GenerationProfiler profiler = currentProfiler.get();
+        if (profiler == null) {
+            return NO_OP_PHASE;
+        }
+        Phase phase = new Phase(profiler, name, currentPhase.get(), System.nanoTime(), getAllocatedBytes());
+        currentPhase.set(phase);
+        return phase;
+    }
+
+    /**
+     * Adds the given amount to the given count.
+     *
+     * @param name   name of the count
+     * @param amount amount to be added
+     */
+    public static void count(String name, long amount) {
+        GenerationProfiler profiler = currentProfiler.get();
+        if (profiler != null) {
+            synchronized (profiler) {
+                profiler.counts.merge(name, amount, Long::sum);
+            }
+        }
+    }
+
+    /**
+     * Returns the JSON representation of the recorded phases and counts.
+     */
+    public synchronized String toJson() throws JsonProcessingException {
+        ObjectMapper objectMapper = new ObjectMapper();
+        ObjectNode root = objectMapper.createObjectNode();
+        ObjectNode phasesNode = root.putObject("phases");
+        phases.forEach((name, stats) -> phasesNode.putObject(name)
+                .put("invocations", stats.invocations)
+                .put("timeNanos", stats.timeNanos)
+                .put("selfTimeNanos", stats.selfTimeNanos)
+                .put("allocatedBytes", stats.allocatedBytes)
+                .put("selfAllocatedBytes", stats.selfAllocatedBytes));
+        ObjectNode countsNode = root.putObject("counts");
+        counts.forEach(countsNode::put);
+        return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(root);
+    }
+
+    /**
+     * Returns a readable report of the recorded phases and counts.
+     */
+    public synchronized String toReport() {
+        StringBuilder report = new StringBuilder(String.format(Locale.ENGLISH, "%-14s %12s %12s %14s %14s %12s%n",
+                "phase", "time (ms)", "self (ms)", "allocated (MB)", "self (MB)", "invocations"));
+        phases.forEach((name, stats) -> report.append(String.format(Locale.ENGLISH,
+                "%-14s %12d %12d %14.2f %14.2f %12d%n", name, stats.timeNanos / NANOS_PER_MILLI,
+                stats.selfTimeNanos / NANOS_PER_MILLI, stats.allocatedBytes / BYTES_PER_MB,
+                stats.selfAllocatedBytes / BYTES_PER_MB, stats.invocations)));
+        counts.forEach((name, count) -> report.append(String.format(Locale.ENGLISH, "%-14s %12d%n", name, count)));
+        return report.toString();
+    }
+
+    private synchronized void record(String name, long timeNanos, long selfTimeNanos, long allocatedBytes,
+                                     long selfAllocatedBytes) {
+        PhaseStats stats = phases.computeIfAbsent(name, key -> new PhaseStats());
+        stats.invocations++;
+        stats.timeNanos += timeNanos;
+        stats.selfTimeNanos += selfTimeNanos;
+        stats.allocatedBytes += allocatedBytes;
+        stats.selfAllocatedBytes += selfAllocatedBytes;
+    }
+
+    /**
+     * Returns the bytes allocated by the current thread, or zero when the JVM does not measure them.
+     */
+    private static long getAllocatedBytes() {
+        ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        if (threadMXBean instanceof com.sun.management.ThreadMXBean allocationMXBean &&
+                allocationMXBean.isThreadAllocatedMemorySupported() &&
+                allocationMXBean.isThreadAllocatedMemoryEnabled()) {
+            return allocationMXBean.getCurrentThreadAllocatedBytes();
+        }
+        return 0;
+    }
+
+    private static final class PhaseStats {
+        private long invocations;
+        private long timeNanos;
+        private long selfTimeNanos;
+        private long allocatedBytes;
+        private long selfAllocatedBytes;
+    }
+
+    /**
+     * A started phase, which is recorded in its profiler when closed.
+     */
+    public static final class Phase implements AutoCloseable {
+
+        private final GenerationProfiler profiler;
+        private final String name;
+        private final Phase parent;
+        private final long startNanos;
+        private final long startAllocatedBytes;
+        private long nestedNanos;
+        private long nestedAllocatedBytes;
+
+        private Phase(GenerationProfiler profiler, String name, Phase parent, long startNanos,
+                      long startAllocatedBytes) {
+            this.profiler = profiler;
+            this.name = name;
+            this.parent = parent;
+            this.startNanos = startNanos;
+            this.startAllocatedBytes = startAllocatedBytes;
+        }
+
+        @Override
+        public void close() {
+            if (profiler == null) {
+                return;
+            }
+            long timeNanos = System.nanoTime() - startNanos;
+            long allocatedBytes = getAllocatedBytes() - startAllocatedBytes;
+            profiler.record(name, timeNanos, timeNanos - nestedNanos, allocatedBytes,
+                    allocatedBytes - nestedAllocatedBytes);
+            if (parent == null) {
+                currentPhase.remove();
+            } else {
+                parent.nestedNanos += timeNanos;
+                parent.nestedAllocatedBytes += allocatedBytes;
+                currentPhase.set(parent);
+            }
+        }
+    }
+
+    /**
+     * Restores the previously bound profiler of the thread when closed.
+     */
+    public static final class Scope implements AutoCloseable {
+
+        private final GenerationProfiler previous;
+
+        private Scope(GenerationProfiler previous) {
+            this.previous = previous;
+        }
+
+        @Override
+        public void close() {
+            if (previous == null) {
+                currentProfiler.remove();
+            } else {
+                currentProfiler.set(previous);
+            }
+        }
+    }
+}
@@ -506,4 +506,7 @@ public class GeneratorConstants {
     public static final String NAME_ANNOTATION = "jsondata:Name";
     public static final String QUERY_ANNOTATION = "http:Query";
     public static final String HEADER_ANNOTATION = "http:Header";
+    public static final String FORMATTER_PARALLELISM_PROPERTY = "openapi.formatter.parallelism";
+    public static final String FORMATTER_CHUNK_SIZE_PROPERTY = "openapi.formatter.chunkSize";
+    public static final String CLIENT_PARALLELISM_PROPERTY = "openapi.client.parallelism";
 }
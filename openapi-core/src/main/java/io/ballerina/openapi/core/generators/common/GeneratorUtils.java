@@ -18,6 +18,7 @@
 
 package io.ballerina.openapi.core.generators.common;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.ballerina.compiler.syntax.tree.AbstractNodeFactory;
 import io.ballerina.compiler.syntax.tree.AnnotationNode;
 import io.ballerina.compiler.syntax.tree.ArrayDimensionNode;
@@ -52,16 +53,20 @@ import io.ballerina.openapi.core.generators.common.exception.BallerinaOpenApiExc
 import io.ballerina.openapi.core.generators.common.exception.InvalidReferenceException;
 import io.ballerina.openapi.core.generators.common.exception.NullPathParameterException;
 import io.ballerina.openapi.core.generators.common.exception.UnsupportedOASDataTypeException;
+import io.ballerina.openapi.core.generators.common.model.Filter;
 import io.ballerina.openapi.core.generators.common.model.GenSrcFile;
 import io.ballerina.openapi.core.generators.type.exception.OASTypeGenException;
 import io.ballerina.openapi.core.generators.type.generators.EnumGenerator;
 import io.ballerina.openapi.core.generators.type.model.GeneratorMetaData;
 import io.ballerina.tools.diagnostics.Diagnostic;
 import io.swagger.parser.OpenAPIParser;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.core.util.Json31;
 import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.Operation;
 import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.SpecVersion;
 import io.swagger.v3.oas.models.headers.Header;
 import io.swagger.v3.oas.models.media.ArraySchema;
 import io.swagger.v3.oas.models.media.BooleanSchema;
@@ -163,9 +168,6 @@ import static io.ballerina.openapi.core.generators.common.GeneratorConstants.OPE
 import static io.ballerina.openapi.core.generators.common.GeneratorConstants.OPEN_CURLY_BRACE;
 import static io.ballerina.openapi.core.generators.common.GeneratorConstants.QUERY;
 import static io.ballerina.openapi.core.generators.common.GeneratorConstants.QUERY_ANNOTATION;
-import static io.ballerina.openapi.core.generators.common.GeneratorConstants.REGEX_ONLY_NUMBERS_OR_NUMBERS_WITH_SPECIAL_CHARACTERS;
-import static io.ballerina.openapi.core.generators.common.GeneratorConstants.REGEX_WITHOUT_SPECIAL_CHARACTERS;
-import static io.ballerina.openapi.core.generators.common.GeneratorConstants.REGEX_WORDS_STARTING_WITH_NUMBERS;
 import static io.ballerina.openapi.core.generators.common.GeneratorConstants.RESPONSE_RECORD_NAME;
 import static io.ballerina.openapi.core.generators.common.GeneratorConstants.SLASH;
 import static io.ballerina.openapi.core.generators.common.GeneratorConstants.SPECIAL_CHARACTERS_REGEX;
@@ -196,16 +198,18 @@ public class GeneratorUtils {
     public static final char CHAR = '"';
     public static final String JSONDATA_IMPORT = "import ballerina/data.jsondata;";
     public static final String HTTP_IMPORT = "import ballerina/http;";
-    private static HashMap<String, Integer> recordCountMap;
 
     private static final List<String> primitiveTypeList =
             new ArrayList<>(Arrays.asList(GeneratorConstants.INTEGER, GeneratorConstants.NUMBER,
                     GeneratorConstants.STRING, GeneratorConstants.BOOLEAN));
 
     // This is needs to be initialized at every CLI run. Otherwise, the record type details are persisted
-    // for a second invocation as well. Todo: Need to update this with a different appraoch.
+    // for a second invocation as well. The counts are held by the generation context bound to the current thread.
     public static void initializeRecordCountMap() {
-        recordCountMap = new HashMap<>();
+        GenerationContext generationContext = GenerationContext.current();
+        if (generationContext != null) {
+            generationContext.getRecordCountMap().clear();
+        }
     }
 
     public static ImportDeclarationNode getImportDeclarationNode(String orgName, String moduleName) {
@@ -400,17 +404,7 @@ public class GeneratorUtils {
      * @return - escaped string
      */
     public static String escapeIdentifier(String identifier) {
-
-        if (identifier.matches(REGEX_ONLY_NUMBERS_OR_NUMBERS_WITH_SPECIAL_CHARACTERS)
-                || identifier.matches(REGEX_WORDS_STARTING_WITH_NUMBERS)) {
-            // this is to handle scenarios 220 => '220, 2023-06-28 => '2023\-06\-28, 3h => '3h
-            return "'" + identifier.replaceAll(GeneratorConstants.ESCAPE_PATTERN, "\\\\$1");
-        } else if (!identifier.matches(REGEX_WITHOUT_SPECIAL_CHARACTERS)) {
-            return identifier.replaceAll(GeneratorConstants.ESCAPE_PATTERN, "\\\\$1");
-        } else if (BAL_KEYWORDS.contains(identifier)) {
-            return "'" + identifier;
-        }
-        return identifier;
+        return IdentifierSanitizer.escapeIdentifier(identifier);
     }
 
     /**
@@ -420,29 +414,7 @@ public class GeneratorUtils {
      * @return string with new generated name
      */
     public static String getValidName(String identifier, boolean isSchema) {
-        if (identifier.isBlank()) {
-            return "\\" + identifier;
-        }
-        //For the flatten enable we need to remove first Part of valid name check
-        // this - > !identifier.matches("\\b[a-zA-Z][a-zA-Z0-9]*\\b") &&
-        if (!identifier.matches("\\b[0-9]*\\b")) {
-            String[] split = identifier.split(GeneratorConstants.ESCAPE_PATTERN_FOR_MODIFIER);
-            StringBuilder validName = new StringBuilder();
-            for (String part : split) {
-                if (!part.isBlank()) {
-                    if (split.length > 1) {
-                        part = part.substring(0, 1).toUpperCase(Locale.ENGLISH) + part.substring(1);
-                    }
-                    validName.append(part);
-                }
-            }
-            identifier = validName.toString();
-        }
-        if (isSchema) {
-            return identifier.substring(0, 1).toUpperCase(Locale.ENGLISH) + identifier.substring(1);
-        } else {
-            return escapeIdentifier(identifier.substring(0, 1).toLowerCase(Locale.ENGLISH) + identifier.substring(1));
-        }
+        return IdentifierSanitizer.getValidName(identifier, isSchema);
     }
 
     /**
@@ -452,8 +424,7 @@ public class GeneratorUtils {
      * @return - boolean value
      */
     public static boolean isValidSchemaName(String recordName) {
-
-        return !recordName.matches("\\b[0-9]*\\b");
+        return IdentifierSanitizer.isValidSchemaName(recordName);
     }
 
     /**
@@ -512,7 +483,65 @@ public class GeneratorUtils {
      */
     public static OpenAPI getOpenAPIFromOpenAPIV3Parser(Path definitionPath) throws
             IOException, BallerinaOpenApiException {
+        validateDefinitionPath(definitionPath);
+        try (GenerationProfiler.Phase ignored = GenerationProfiler.phase(GenerationProfiler.PARSE)) {
+            return parseOpenAPIContent(Files.readString(definitionPath), true);
+        }
+    }
 
+    /**
+     * Util for take OpenApi spec from given yaml file, through the given snapshot. The snapshot is loaded when it is
+     * written for the same contract, otherwise the contract is parsed and the snapshot is written for the next
+     * generation.
+     *
+     * @param definitionPath path of the OpenAPI definition
+     * @param snapshotPath   path of the snapshot in the build cache
+     * @param contractHash   hash of the contract, along with the files it refers and the version of the tool
+     * @return the resolved OpenAPI definition
+     */
+    public static OpenAPI getOpenAPIFromOpenAPIV3Parser(Path definitionPath, Path snapshotPath, String contractHash)
+            throws IOException, BallerinaOpenApiException {
+        try (GenerationProfiler.Phase ignored = GenerationProfiler.phase(GenerationProfiler.PARSE)) {
+            Optional<OpenAPI> snapshot = ContractSnapshot.read(snapshotPath, contractHash);
+            if (snapshot.isPresent()) {
+                return snapshot.get();
+            }
+        }
+        OpenAPI openAPI = getOpenAPIFromOpenAPIV3Parser(definitionPath);
+        try (GenerationProfiler.Phase ignored = GenerationProfiler.phase(GenerationProfiler.WRITE)) {
+            ContractSnapshot.write(snapshotPath, contractHash, openAPI);
+        } catch (IOException e) {
+            // The snapshot only speeds up the next generation, hence the generation goes on without it.
+        }
+        return openAPI;
+    }
+
+    /**
+     * Util for take OpenApi spec from given yaml file, with only the operations selected by the given filter. The
+     * definition is first parsed without resolving the references, then the operations which are not selected are
+     * replaced with stubs and the components which are not reachable from the selected operations are removed, as
+     * described in {@link ContractFilter}, and only the rest of the definition is resolved and flattened.
+     *
+     * @param definitionPath path of the OpenAPI definition
+     * @param filter         filter which selects the operations
+     * @return the resolved OpenAPI definition with the selected operations
+     */
+    public static OpenAPI getOpenAPIFromOpenAPIV3Parser(Path definitionPath, Filter filter) throws
+            IOException, BallerinaOpenApiException {
+        if (!ContractFilter.isFiltered(filter)) {
+            return getOpenAPIFromOpenAPIV3Parser(definitionPath);
+        }
+        validateDefinitionPath(definitionPath);
+        try (GenerationProfiler.Phase ignored = GenerationProfiler.phase(GenerationProfiler.PARSE)) {
+            OpenAPI openAPI = parseOpenAPIContent(Files.readString(definitionPath), false);
+            ContractFilter.retain(openAPI, filter);
+            ObjectMapper mapper = SpecVersion.V31.equals(openAPI.getSpecVersion()) ? Json31.mapper() :
+                    Json.mapper();
+            return parseOpenAPIContent(mapper.writeValueAsString(openAPI), true);
+        }
+    }
+
+    private static void validateDefinitionPath(Path definitionPath) throws BallerinaOpenApiException {
         Path contractPath = java.nio.file.Paths.get(definitionPath.toString());
         if (!Files.exists(contractPath)) {
             throw new BallerinaOpenApiException(ErrorMessages.invalidFilePath(definitionPath.toString()));
@@ -522,10 +551,13 @@ public class GeneratorUtils {
                 definitionPath.toString().endsWith(YML_EXTENSION))) {
             throw new BallerinaOpenApiException(ErrorMessages.invalidFileType());
         }
-        String openAPIFileContent = Files.readString(definitionPath);
+    }
+
+    private static OpenAPI parseOpenAPIContent(String openAPIFileContent, boolean resolve)
+            throws BallerinaOpenApiException {
         ParseOptions parseOptions = new ParseOptions();
-        parseOptions.setResolve(true);
-        parseOptions.setFlatten(true);
+        parseOptions.setResolve(resolve);
+        parseOptions.setFlatten(resolve);
         SwaggerParseResult parseResult = new OpenAPIParser().readContents(openAPIFileContent, null, parseOptions);
         if (!parseResult.getMessages().isEmpty()) {
             if (parseResult.getMessages().contains(UNSUPPORTED_OPENAPI_VERSION_PARSER_MESSAGE)) {
@@ -855,10 +887,14 @@ public class GeneratorUtils {
         }
         validateRequestBody(openAPIPaths.entrySet());
         if (flatten) {
-            new InlineModelResolver(true, false).flatten(openAPI);
+            try (GenerationProfiler.Phase ignored = GenerationProfiler.phase(GenerationProfiler.FLATTEN)) {
+                new InlineModelResolver(true, false).flatten(openAPI);
+            }
         }
         if (isSanitized) {
-            openAPI = new OASModifier().modify(openAPI);
+            try (GenerationProfiler.Phase ignored = GenerationProfiler.phase(GenerationProfiler.SANITIZE)) {
+                openAPI = new OASModifier().modify(openAPI);
+            }
         }
         return openAPI;
     }
@@ -1244,11 +1280,17 @@ public class GeneratorUtils {
                 GeneratorUtils.getValidName(path, true);
         String typeSuffix = isRequest ? GeneratorConstants.REQUEST_RECORD_NAME : RESPONSE_RECORD_NAME;
         String recordName = pathRecord + typeSuffix;
-        if (recordCountMap.containsKey(recordName)) {
-            recordCountMap.put(recordName, recordCountMap.get(recordName) + 1);
-            return recordName + "_" + recordCountMap.get(recordName);
+        // The count of the record depends on the records of the preceding operations.
+        OperationSequence.awaitTurn();
+        // Without a generation in progress, the name is only unique among the records of this call.
+        GenerationContext generationContext = GenerationContext.current();
+        Map<String, Integer> recordCounts = generationContext == null ? new HashMap<>() :
+                generationContext.getRecordCountMap();
+        if (recordCounts.containsKey(recordName)) {
+            recordCounts.put(recordName, recordCounts.get(recordName) + 1);
+            return recordName + "_" + recordCounts.get(recordName);
         } else {
-            recordCountMap.put(recordName, 0);
+            recordCounts.put(recordName, 0);
             return recordName;
         }
     }
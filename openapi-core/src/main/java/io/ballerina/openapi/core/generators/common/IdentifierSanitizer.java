@@ -0,0 +1,330 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.openapi.core.generators.common;
+
+import io.ballerina.compiler.syntax.tree.SyntaxInfo;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
+import java.util.regex.Pattern;
+
+/**
+ * Sanitizes the names in an OpenAPI contract into Ballerina identifiers. The names are scanned once against a table
+ * of character classes, which is built from the patterns in {@link GeneratorConstants}, instead of matching the
+ * patterns on every name, and the sanitized names are memoized since the same names are sanitized many times in a
+ * generation.
+ *
+ * @since 2.4.2
+ */
+final class IdentifierSanitizer {
+
+    private static final int DIGIT = 1;
+    private static final int IDENTIFIER_START = 1 << 1;
+    private static final int ESCAPED = 1 << 2;
+    private static final int SEPARATOR = 1 << 3;
+    private static final int MAX_MEMO_SIZE = 1 << 14;
+
+    // The patterns match only ASCII characters, hence the other characters do not have a class.
+    private static final byte[] CHARACTER_CLASSES = new byte[128];
+    private static final String[] ENCODED_CHARACTERS = new String[128];
+    private static final Set<String> KEYWORDS = new HashSet<>(SyntaxInfo.keywords());
+
+    private static final Memo ESCAPED_IDENTIFIERS = new Memo();
+    private static final Memo VALID_NAMES = new Memo();
+    private static final Memo VALID_SCHEMA_NAMES = new Memo();
+    private static final Map<String, Memo> VALID_STRINGS = new ConcurrentHashMap<>();
+
+    static {
+        Pattern escapePattern = Pattern.compile(GeneratorConstants.ESCAPE_PATTERN);
+        Pattern separatorPattern = Pattern.compile(GeneratorConstants.ESCAPE_PATTERN_FOR_MODIFIER);
+        for (char c = 0; c < CHARACTER_CLASSES.length; c++) {
+            String character = String.valueOf(c);
+            int characterClass = 0;
+            if (c >= '0' && c <= '9') {
+                characterClass |= DIGIT;
+            } else if (c == '_' || (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z')) {
+                characterClass |= IDENTIFIER_START;
+            }
+            if (escapePattern.matcher(character).matches()) {
+                characterClass |= ESCAPED;
+            }
+            if (separatorPattern.matcher(character).matches()) {
+                characterClass |= SEPARATOR;
+            }
+            CHARACTER_CLASSES[c] = (byte) characterClass;
+            ENCODED_CHARACTERS[c] = GeneratorConstants.SPECIAL_CHAR_ENCODING.get(character);
+        }
+    }
+
+    private IdentifierSanitizer() {
+    }
+
+    /**
+     * Escapes the special characters of the given identifier, and quotes it when it starts with a digit or is a
+     * keyword.
+     *
+     * @param identifier identifier or method name
+     * @return escaped identifier
+     */
+    static String escapeIdentifier(String identifier) {
+        return ESCAPED_IDENTIFIERS.get(identifier, IdentifierSanitizer::escape);
+    }
+
+    /**
+     * Removes the special characters of the given name and joins its parts in camel case.
+     *
+     * @param identifier function name, record name or operation id
+     * @param isSchema   whether the name is a type name, which starts with an upper case letter
+     * @return valid name
+     */
+    static String getValidName(String identifier, boolean isSchema) {
+        if (isSchema) {
+            return VALID_SCHEMA_NAMES.get(identifier, name -> toValidName(name, true));
+        }
+        return VALID_NAMES.get(identifier, name -> toValidName(name, false));
+    }
+
+    /**
+     * Checks whether the given name is a valid schema name, which is a name not made of digits only.
+     */
+    static boolean isValidSchemaName(String recordName) {
+        return recordName.isEmpty() || !isDigits(recordName);
+    }
+
+    /**
+     * Encodes the leading special characters of the given identifier, removes the other special characters and joins
+     * its parts in camel case. An identifier which has to be quoted is prefixed with the given prefix instead.
+     *
+     * @param identifier name of a schema or a parameter
+     * @param prefix     prefix of the identifiers which would otherwise be quoted
+     * @return valid identifier
+     */
+    static String getValidStringFromIdentifier(String identifier, String prefix) {
+        return VALID_STRINGS.computeIfAbsent(prefix, key -> new Memo())
+                .get(identifier, name -> toValidString(name, prefix));
+    }
+
+    private static String escape(String identifier) {
+        if (!identifier.isEmpty() && isDigit(identifier.charAt(0)) &&
+                (!containsLineTerminator(identifier) || isNumberWithSpecialCharacters(identifier))) {
+            // this is to handle scenarios 220 => '220, 2023-06-28 => '2023\-06\-28, 3h => '3h
+            return "'" + escapeCharacters(identifier);
+        } else if (!isPlainIdentifier(identifier)) {
+            return escapeCharacters(identifier);
+        } else if (KEYWORDS.contains(identifier)) {
+            return "'" + identifier;
+        }
+        return identifier;
+    }
+
+    private static String toValidName(String identifier, boolean isSchema) {
+        if (identifier.isBlank()) {
+            return "\\" + identifier;
+        }
+        if (!isDigits(identifier)) {
+            List<String> parts = split(identifier);
+            StringBuilder validName = new StringBuilder(identifier.length());
+            for (String part : parts) {
+                if (!part.isBlank()) {
+                    if (parts.size() > 1) {
+                        appendUpperCase(validName, part.charAt(0));
+                        validName.append(part, 1, part.length());
+                    } else {
+                        validName.append(part);
+                    }
+                }
+            }
+            identifier = validName.toString();
+        }
+        StringBuilder validIdentifier = new StringBuilder(identifier.length() + 1);
+        if (isSchema) {
+            appendUpperCase(validIdentifier, identifier.charAt(0));
+            return validIdentifier.append(identifier, 1, identifier.length()).toString();
+        }
+        appendLowerCase(validIdentifier, identifier.charAt(0));
+        return escapeIdentifier(validIdentifier.append(identifier, 1, identifier.length()).toString());
+    }
+
+    private static String toValidString(String identifier, String prefix) {
+        StringBuilder validName = new StringBuilder(identifier.length() + prefix.length());
+        int startIndex = 0;
+        while (startIndex < identifier.length()) {
+            char c = identifier.charAt(startIndex);
+            if (c >= ENCODED_CHARACTERS.length || ENCODED_CHARACTERS[c] == null) {
+                break;
+            }
+            validName.append(ENCODED_CHARACTERS[c]);
+            startIndex++;
+        }
+        for (String part : split(identifier.substring(startIndex))) {
+            if (!part.isBlank()) {
+                appendUpperCase(validName, part.charAt(0));
+                validName.append(part, 1, part.length());
+            }
+        }
+        String validString = escapeIdentifier(validName.toString());
+        if (validString.startsWith("'")) {
+            return prefix + validString.substring(1);
+        }
+        return validString;
+    }
+
+    /**
+     * Splits the given identifier at the runs of separators, in the same way as splitting it with
+     * {@link GeneratorConstants#ESCAPE_PATTERN_FOR_MODIFIER}.
+     */
+    private static List<String> split(String identifier) {
+        List<String> parts = new ArrayList<>();
+        int start = 0;
+        int index = 0;
+        while (index < identifier.length()) {
+            if (!hasClass(identifier.charAt(index), SEPARATOR)) {
+                index++;
+                continue;
+            }
+            parts.add(identifier.substring(start, index));
+            while (index < identifier.length() && hasClass(identifier.charAt(index), SEPARATOR)) {
+                index++;
+            }
+            start = index;
+        }
+        if (parts.isEmpty()) {
+            return List.of(identifier);
+        }
+        parts.add(identifier.substring(start));
+        // The trailing empty parts are removed.
+        int size = parts.size();
+        while (size > 0 && parts.get(size - 1).isEmpty()) {
+            size--;
+        }
+        return parts.subList(0, size);
+    }
+
+    private static String escapeCharacters(String identifier) {
+        StringBuilder escaped = null;
+        for (int i = 0; i < identifier.length(); i++) {
+            char c = identifier.charAt(i);
+            if (hasClass(c, ESCAPED)) {
+                if (escaped == null) {
+                    escaped = new StringBuilder(identifier.length() + 8).append(identifier, 0, i);
+                }
+                escaped.append('\\');
+            }
+            if (escaped != null) {
+                escaped.append(c);
+            }
+        }
+        return escaped == null ? identifier : escaped.toString();
+    }
+
+    /**
+     * Checks whether the given identifier is made of digits and escaped characters, starting and ending with a
+     * digit, such as a number or a date.
+     */
+    private static boolean isNumberWithSpecialCharacters(String identifier) {
+        for (int i = 0; i < identifier.length(); i++) {
+            char c = identifier.charAt(i);
+            if (!hasClass(c, DIGIT) && !hasClass(c, ESCAPED)) {
+                return false;
+            }
+        }
+        return isDigit(identifier.charAt(identifier.length() - 1));
+    }
+
+    private static boolean isPlainIdentifier(String identifier) {
+        if (identifier.isEmpty() || !hasClass(identifier.charAt(0), IDENTIFIER_START)) {
+            return false;
+        }
+        for (int i = 1; i < identifier.length(); i++) {
+            if (!hasClass(identifier.charAt(i), IDENTIFIER_START | DIGIT)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isDigits(String identifier) {
+        for (int i = 0; i < identifier.length(); i++) {
+            if (!isDigit(identifier.charAt(i))) {
+                return false;
+            }
+        }
+        return !identifier.isEmpty();
+    }
+
+    private static boolean containsLineTerminator(String identifier) {
+        for (int i = 0; i < identifier.length(); i++) {
+            char c = identifier.charAt(i);
+            if (c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isDigit(char c) {
+        return hasClass(c, DIGIT);
+    }
+
+    private static boolean hasClass(char c, int characterClass) {
+        return c < CHARACTER_CLASSES.length && (CHARACTER_CLASSES[c] & characterClass) != 0;
+    }
+
+    private static void appendUpperCase(StringBuilder builder, char c) {
+        if (c < CHARACTER_CLASSES.length) {
+            builder.append(c >= 'a' && c <= 'z' ? (char) (c - 'a' + 'A') : c);
+        } else {
+            builder.append(String.valueOf(c).toUpperCase(Locale.ENGLISH));
+        }
+    }
+
+    private static void appendLowerCase(StringBuilder builder, char c) {
+        if (c < CHARACTER_CLASSES.length) {
+            builder.append(c >= 'A' && c <= 'Z' ? (char) (c - 'A' + 'a') : c);
+        } else {
+            builder.append(String.valueOf(c).toLowerCase(Locale.ENGLISH));
+        }
+    }
+
+    /**
+     * A bounded memo of the sanitized names, which is cleared when it is full.
+     */
+    private static final class Memo {
+
+        private final Map<String, String> values = new ConcurrentHashMap<>();
+
+        String get(String name, UnaryOperator<String> sanitizer) {
+            String value = values.get(name);
+            if (value == null) {
+                value = sanitizer.apply(name);
+                if (values.size() >= MAX_MEMO_SIZE) {
+                    values.clear();
+                }
+                values.put(name, value);
+            }
+            return value;
+        }
+    }
+}
@@ -17,7 +17,6 @@
  */
 package io.ballerina.openapi.core.generators.common;
 
-import io.swagger.v3.core.util.Json;
 import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.Operation;
@@ -44,7 +43,9 @@ public class InlineModelResolver {
     private OpenAPI openAPI;
 
     Map<String, Schema> addedModels = new HashMap<>();
-    Map<String, String> generatedSignature = new HashMap<>();
+    Map<SchemaSignature, String> generatedSignature = new HashMap<>();
+    // Signature of the last matched schema, which is reused when the same schema is added next
+    private SchemaSignature lastMatchedSignature;
 
     private final boolean flattenComposedSchemas;
     private boolean skipMatches;
@@ -441,15 +442,15 @@ public class InlineModelResolver {
         if (skipMatches) {
             return null;
         }
-        String json = Json.pretty(model);
-        if (generatedSignature.containsKey(json)) {
-            return generatedSignature.get(json);
-        }
-        return null;
+        lastMatchedSignature = SchemaSignature.of(model);
+        return generatedSignature.get(lastMatchedSignature);
     }
 
     public void addGenerated(String name, Schema model) {
-        generatedSignature.put(Json.pretty(model), name);
+        SchemaSignature signature = lastMatchedSignature != null && lastMatchedSignature.isSignatureOf(model) ?
+                lastMatchedSignature : SchemaSignature.of(model);
+        lastMatchedSignature = null;
+        generatedSignature.put(signature, name);
     }
 
     public String uniqueName(String key) {
@@ -20,8 +20,6 @@ package io.ballerina.openapi.core.generators.common;
 import io.ballerina.openapi.core.generators.common.exception.BallerinaOpenApiException;
 import io.ballerina.openapi.core.generators.common.exception.InvalidReferenceException;
 import io.ballerina.tools.diagnostics.Diagnostic;
-import io.swagger.parser.OpenAPIParser;
-import io.swagger.v3.core.util.Json;
 import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.Operation;
@@ -38,7 +36,6 @@ import io.swagger.v3.oas.models.responses.ApiResponse;
 import io.swagger.v3.oas.models.responses.ApiResponses;
 import io.swagger.v3.oas.models.security.SecurityScheme;
 import io.swagger.v3.oas.models.servers.Server;
-import io.swagger.v3.parser.core.models.ParseOptions;
 import io.swagger.v3.parser.core.models.SwaggerParseResult;
 
 import java.io.PrintStream;
@@ -47,6 +44,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -54,6 +52,7 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.StringJoiner;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -71,9 +70,6 @@ import static io.ballerina.openapi.core.generators.common.GeneratorUtils.extract
  */
 public class OASModifier {
     private static final String REGEX_FOR_CURLY_BRACED_CONTENT = "\\{([^}]*)}";
-    private static final String COMPONENT_REF_WITH_NAME_PATTERN = "\"$ref\":\"#/components/schemas/%s\"";
-    private static final String COMPONENT_REF_REGEX_PATTERN = "(\\\"\\$ref\\\"\\s*:\\s*\\\"#/components/schemas/%s" +
-            "\\\")|('\\$ref'\\s*:\\s*'#/components/schemas/%s')";
     private static final PrintStream outErrorStream = System.err;
     private static final String BALLERINA_NAME_EXT = "x-ballerina-name";
     public static final String ENDS_WITH_FULLSTOP = "\\.$";
@@ -317,17 +313,17 @@ public class OASModifier {
             return;
         }
 
-        String openApiJson = Json.pretty(openAPI);
+        Set<String> referencedSchemaNames = new HashSet<>();
+        new SchemaReferenceUpdater(schemaName -> {
+            referencedSchemaNames.add(schemaName);
+            return schemaName;
+        }).update(openAPI);
         Map<String, Schema> schemas = components.getSchemas();
         Map<String, Schema> usedSchemas = new HashMap<>();
 
         for (Map.Entry<String, Schema> schemaEntry : schemas.entrySet()) {
-            String schemaName = schemaEntry.getKey();
-            String patternString = COMPONENT_REF_REGEX_PATTERN.formatted(schemaName, schemaName);
-            Pattern pattern = Pattern.compile(patternString);
-            Matcher matcher = pattern.matcher(openApiJson);
-            if (matcher.find()) {
-                usedSchemas.put(schemaName, schemaEntry.getValue());
+            if (referencedSchemaNames.contains(schemaEntry.getKey())) {
+                usedSchemas.put(schemaEntry.getKey(), schemaEntry.getValue());
             }
         }
         components.setSchemas(usedSchemas);
@@ -380,23 +376,19 @@ public class OASModifier {
         components.setSchemas(modifiedSchemas);
         openapi.setComponents(components);
 
-        String openApiJson = Json.pretty(openapi);
-        for (Map.Entry<String, String> entry : nameMap.entrySet()) {
-            String schemaName = entry.getKey();
-            String modifiedName = entry.getValue();
-            if (schemaName.equals(modifiedName)) {
-                continue;
-            }
-            String patternString = COMPONENT_REF_REGEX_PATTERN.formatted(schemaName, schemaName);
-            Pattern pattern = Pattern.compile(patternString);
-            Matcher matcher = pattern.matcher(openApiJson);
-
-            String replacement = COMPONENT_REF_WITH_NAME_PATTERN.formatted(modifiedName).replace("$", "\\$");
-            openApiJson = matcher.replaceAll(replacement);
+        // Rename the references in the model itself, in a single walk over the definition
+        SchemaReferenceUpdater.withNameMap(nameMap).update(openapi);
+        // A parsed definition without servers has the default server, as the parser adds it, hence the renamed
+        // definition has it as well.
+        if (Objects.isNull(openapi.getServers()) || openapi.getServers().isEmpty()) {
+            List<Server> servers = new ArrayList<>();
+            servers.add(new Server().url(SLASH));
+            openapi.setServers(servers);
         }
 
-        ParseOptions parseOptions = new ParseOptions();
-        return new OpenAPIParser().readContents(openApiJson, null, parseOptions);
+        SwaggerParseResult result = new SwaggerParseResult();
+        result.setOpenAPI(openapi);
+        return result;
     }
 
     private static PathDetails updateParameterNameDetails(OpenAPI openAPI, Map.Entry<String, PathItem> path) {
@@ -692,41 +684,7 @@ public class OASModifier {
     }
 
     private static String getValidStringFromIdentifier(String identifier, String prefix) {
-        // Check if identifier starts with a special character and encode it
-        StringBuilder encodedPrefix = new StringBuilder();
-        int startIndex = 0;
-        while (startIndex < identifier.length()) {
-            String charAtStart = String.valueOf(identifier.charAt(startIndex));
-            if (GeneratorConstants.SPECIAL_CHAR_ENCODING.containsKey(charAtStart)) {
-                encodedPrefix.append(GeneratorConstants.SPECIAL_CHAR_ENCODING.get(charAtStart));
-                startIndex++;
-            } else {
-                break;
-            }
-        }
-        // Get the remaining part of the identifier after leading special characters
-        String remainingIdentifier = startIndex < identifier.length() ? identifier.substring(startIndex) : "";
-        // Remove invalid characters and apply camel case
-        String[] split = remainingIdentifier.split(GeneratorConstants.ESCAPE_PATTERN_FOR_MODIFIER);
-        StringBuilder validName = new StringBuilder();
-        if (!encodedPrefix.isEmpty()) {
-            validName.append(encodedPrefix);
-        }
-        for (String part : split) {
-            if (!part.isBlank()) {
-                if (part.length() > 1) {
-                    part = part.substring(0, 1).toUpperCase(Locale.ENGLISH) + part.substring(1);
-                } else {
-                    part = part.toUpperCase(Locale.ENGLISH);
-                }
-                validName.append(part);
-            }
-        }
-        identifier = GeneratorUtils.escapeIdentifier(validName.toString());
-        if (identifier.startsWith("'")) {
-            identifier = prefix + identifier.substring(1);
-        }
-        return identifier;
+        return IdentifierSanitizer.getValidStringFromIdentifier(identifier, prefix);
     }
 
     public static Map<String, String> collectParameterNames(OpenAPI openAPI, List<Parameter> parameters) {
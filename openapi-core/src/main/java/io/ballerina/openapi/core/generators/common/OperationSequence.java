@@ -0,0 +1,181 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.openapi.core.generators.common;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Orders the effects of the operations which are generated concurrently, so that the shared state of a generation,
+ * such as the type definitions of the {@link TypeHandler}, ends up the same as when the operations are generated one
+ * after another in the order of the definition.
+ * <p>
+ * Each operation is generated in a step, which is bound to the thread generating it. While a step is not the next in
+ * order, the effects it makes on the shared state are deferred, and they are applied in the order of the steps once
+ * all the preceding steps are completed. A step which has to read the shared state, such as to find a free name for
+ * a record, waits until all the preceding steps are completed, and then applies its effects directly.
+ * <p>
+ * When no step is bound to the thread, the effects are applied immediately, hence a sequential generation is not
+ * affected.
+ *
+ * @since 2.4.2
+ */
+public final class OperationSequence {
+
+    private static final ThreadLocal<Step> currentStep = new ThreadLocal<>();
+
+    private final Step[] steps;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition stepCompleted = lock.newCondition();
+    private int completedSteps;
+
+    /**
+     * Creates a sequence of the given number of steps.
+     *
+     * @param size number of operations to be generated
+     */
+    public OperationSequence(int size) {
+        this.steps = new Step[size];
+        for (int i = 0; i < size; i++) {
+            steps[i] = new Step(this, i);
+        }
+    }
+
+    /**
+     * Starts the step of the given operation on the current thread. The step is completed when the returned step is
+     * closed. The steps of a thread must be started in their order.
+     *
+     * @param index index of the operation in the order of the definition
+     * @return the started step
+     */
+    public Step start(int index) {
+        Step step = steps[index];
+        currentStep.set(step);
+        return step;
+    }
+
+    /**
+     * Completes the steps in the given range without generating them, so that the following steps do not wait for
+     * them, such as when the generation of a preceding step has failed.
+     */
+    public void skip(int fromIndex, int toIndex) {
+        for (int i = fromIndex; i < toIndex; i++) {
+            steps[i].complete();
+        }
+    }
+
+    /**
+     * Applies the given effect on the shared state. The effect is deferred when the step of the current thread is
+     * not the next in order, and it is applied immediately otherwise.
+     *
+     * @param effect effect on the shared state
+     */
+    public static void run(Runnable effect) {
+        Step step = currentStep.get();
+        if (step == null || step.inOrder) {
+            effect.run();
+        } else {
+            step.effects.add(effect);
+        }
+    }
+
+    /**
+     * Checks whether the effects of the current thread are deferred.
+     */
+    public static boolean isDeferred() {
+        Step step = currentStep.get();
+        return step != null && !step.inOrder;
+    }
+
+    /**
+     * Waits until all the steps preceding the step of the current thread are completed, so that the shared state
+     * can be read as it is in a sequential generation. The deferred effects of the step are applied, and the
+     * following effects of the step are applied immediately.
+     */
+    public static void awaitTurn() {
+        Step step = currentStep.get();
+        if (step != null && !step.inOrder) {
+            step.sequence.awaitTurn(step);
+        }
+    }
+
+    private void awaitTurn(Step step) {
+        lock.lock();
+        try {
+            while (completedSteps < step.index) {
+                stepCompleted.awaitUninterruptibly();
+            }
+            step.applyEffects();
+            step.inOrder = true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void complete(Step step) {
+        lock.lock();
+        try {
+            step.completed = true;
+            // The completed steps are applied in order, hence the effects of a step wait for the preceding steps.
+            while (completedSteps < steps.length && steps[completedSteps].completed) {
+                steps[completedSteps].applyEffects();
+                completedSteps++;
+            }
+            stepCompleted.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * The generation of an operation, which holds its deferred effects.
+     */
+    public static final class Step implements AutoCloseable {
+
+        private final OperationSequence sequence;
+        private final int index;
+        private final List<Runnable> effects = new ArrayList<>();
+        private boolean inOrder;
+        private boolean completed;
+
+        private Step(OperationSequence sequence, int index) {
+            this.sequence = sequence;
+            this.index = index;
+        }
+
+        private void applyEffects() {
+            effects.forEach(Runnable::run);
+            effects.clear();
+        }
+
+        private void complete() {
+            if (!completed) {
+                sequence.complete(this);
+            }
+        }
+
+        @Override
+        public void close() {
+            currentStep.remove();
+            complete();
+        }
+    }
+}
@@ -0,0 +1,213 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.openapi.core.generators.common;
+
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.callbacks.Callback;
+import io.swagger.v3.oas.models.headers.Header;
+import io.swagger.v3.oas.models.media.Content;
+import io.swagger.v3.oas.models.media.Encoding;
+import io.swagger.v3.oas.models.media.MediaType;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.parameters.Parameter;
+import io.swagger.v3.oas.models.parameters.RequestBody;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
+
+/**
+ * This class walks an OpenAPI model once and updates each local component schema reference
+ * ({@code #/components/schemas/{name}}) with the name given by the name mapper. The walk covers the schemas,
+ * parameters, headers, request bodies, responses and callbacks of the paths, the webhooks and the components.
+ *
+ * @since 2.4.2
+ */
+public class SchemaReferenceUpdater {
+
+    private static final String SCHEMA_REF_PREFIX = "#/components/schemas/";
+
+    private final UnaryOperator<String> nameMapper;
+    private final Set<Schema<?>> visitedSchemas = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    /**
+     * @param nameMapper returns the new name for a referenced schema name. Returning the given name keeps the
+     *                   reference as it is.
+     */
+    public SchemaReferenceUpdater(UnaryOperator<String> nameMapper) {
+        this.nameMapper = nameMapper;
+    }
+
+    /**
+     * Creates an updater which renames the references according to the given name map.
+     */
+    public static SchemaReferenceUpdater withNameMap(Map<String, String> nameMap) {
+        return new SchemaReferenceUpdater(name -> nameMap.getOrDefault(name, name));
+    }
+
+    public void update(OpenAPI openAPI) {
+        if (Objects.nonNull(openAPI.getPaths())) {
+            openAPI.getPaths().values().forEach(this::updatePathItem);
+        }
+        if (Objects.nonNull(openAPI.getWebhooks())) {
+            openAPI.getWebhooks().values().forEach(this::updatePathItem);
+        }
+        updateComponents(openAPI.getComponents());
+    }
+
+    private void updateComponents(Components components) {
+        if (Objects.isNull(components)) {
+            return;
+        }
+        updateSchemas(components.getSchemas());
+        updateValues(components.getParameters(), this::updateParameter);
+        updateValues(components.getHeaders(), this::updateHeader);
+        updateValues(components.getRequestBodies(), this::updateRequestBody);
+        updateValues(components.getResponses(), this::updateResponse);
+        updateValues(components.getCallbacks(), this::updateCallback);
+        updateValues(components.getPathItems(), this::updatePathItem);
+    }
+
+    private void updatePathItem(PathItem pathItem) {
+        if (Objects.isNull(pathItem)) {
+            return;
+        }
+        updateValues(pathItem.getParameters(), this::updateParameter);
+        pathItem.readOperations().forEach(this::updateOperation);
+    }
+
+    private void updateOperation(Operation operation) {
+        updateValues(operation.getParameters(), this::updateParameter);
+        updateRequestBody(operation.getRequestBody());
+        if (Objects.nonNull(operation.getResponses())) {
+            operation.getResponses().values().forEach(this::updateResponse);
+        }
+        updateValues(operation.getCallbacks(), this::updateCallback);
+    }
+
+    private void updateCallback(Callback callback) {
+        if (Objects.nonNull(callback)) {
+            callback.values().forEach(this::updatePathItem);
+        }
+    }
+
+    private void updateParameter(Parameter parameter) {
+        if (Objects.nonNull(parameter)) {
+            updateSchema(parameter.getSchema());
+            updateContent(parameter.getContent());
+        }
+    }
+
+    private void updateHeader(Header header) {
+        if (Objects.nonNull(header)) {
+            updateSchema(header.getSchema());
+            updateContent(header.getContent());
+        }
+    }
+
+    private void updateRequestBody(RequestBody requestBody) {
+        if (Objects.nonNull(requestBody)) {
+            updateContent(requestBody.getContent());
+        }
+    }
+
+    private void updateResponse(ApiResponse response) {
+        if (Objects.nonNull(response)) {
+            updateValues(response.getHeaders(), this::updateHeader);
+            updateContent(response.getContent());
+        }
+    }
+
+    private void updateContent(Content content) {
+        if (Objects.isNull(content)) {
+            return;
+        }
+        for (MediaType mediaType : content.values()) {
+            if (Objects.isNull(mediaType)) {
+                continue;
+            }
+            updateSchema(mediaType.getSchema());
+            if (Objects.nonNull(mediaType.getEncoding())) {
+                for (Encoding encoding : mediaType.getEncoding().values()) {
+                    updateValues(encoding.getHeaders(), this::updateHeader);
+                }
+            }
+        }
+    }
+
+    private void updateSchemas(Map<String, Schema> schemas) {
+        if (Objects.nonNull(schemas)) {
+            schemas.values().forEach(this::updateSchema);
+        }
+    }
+
+    private void updateSchemas(Collection<Schema> schemas) {
+        if (Objects.nonNull(schemas)) {
+            schemas.forEach(this::updateSchema);
+        }
+    }
+
+    private void updateSchema(Schema<?> schema) {
+        // Resolved models can share the same schema instance in many places, hence each instance is visited once.
+        if (Objects.isNull(schema) || !visitedSchemas.add(schema)) {
+            return;
+        }
+        String ref = schema.get$ref();
+        if (Objects.nonNull(ref) && ref.startsWith(SCHEMA_REF_PREFIX)) {
+            String schemaName = ref.substring(SCHEMA_REF_PREFIX.length());
+            String modifiedName = nameMapper.apply(schemaName);
+            if (Objects.nonNull(modifiedName) && !modifiedName.equals(schemaName)) {
+                schema.set$ref(SCHEMA_REF_PREFIX + modifiedName);
+            }
+        }
+        updateSchemas(schema.getProperties());
+        updateSchema(schema.getItems());
+        if (schema.getAdditionalProperties() instanceof Schema<?> additionalProperties) {
+            updateSchema(additionalProperties);
+        }
+        updateSchemas(schema.getAllOf());
+        updateSchemas(schema.getAnyOf());
+        updateSchemas(schema.getOneOf());
+        updateSchema(schema.getNot());
+        updateSchemas(schema.getPrefixItems());
+        updateSchemas(schema.getPatternProperties());
+        updateSchema(schema.getContains());
+        updateSchema(schema.getPropertyNames());
+    }
+
+    private static <T> void updateValues(Map<String, T> values, Consumer<T> updater) {
+        if (Objects.nonNull(values)) {
+            values.values().forEach(updater);
+        }
+    }
+
+    private static <T> void updateValues(Collection<T> values, Consumer<T> updater) {
+        if (Objects.nonNull(values)) {
+            values.forEach(updater);
+        }
+    }
+}
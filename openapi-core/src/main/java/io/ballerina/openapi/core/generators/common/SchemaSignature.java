@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.openapi.core.generators.common;
+
+import io.swagger.v3.oas.models.ExternalDocumentation;
+import io.swagger.v3.oas.models.media.Discriminator;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.media.XML;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Structural signature of a schema, which is used by the {@link InlineModelResolver} to find an inline schema that
+ * was already moved to the components. Two signatures are equal when their schemas had the same OpenAPI 3.0
+ * representation when the signatures were created, which gives the same result as comparing the serialized JSON of
+ * the schemas without serializing them.
+ * <p>
+ * The fields of the schema tree are captured when the signature is created, since the schemas are changed by the
+ * later steps of the flattening. The default and the example values are captured as they are, since the flattening
+ * does not change them.
+ *
+ * @since 2.4.2
+ */
+final class SchemaSignature {
+
+    private final Schema<?> schema;
+    private final Node node;
+
+    private SchemaSignature(Schema<?> schema, Node node) {
+        this.schema = schema;
+        this.node = node;
+    }
+
+    static SchemaSignature of(Schema<?> schema) {
+        return new SchemaSignature(schema, new Capture().capture(schema));
+    }
+
+    boolean isSignatureOf(Schema<?> schema) {
+        return this.schema == schema;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(node);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        return obj instanceof SchemaSignature other && Objects.equals(node, other.node);
+    }
+
+    /**
+     * The captured fields of a schema, along with their hash, which is computed once.
+     */
+    private static final class Node {
+
+        // A recursive reference to a schema which is still being captured.
+        private static final Node RECURSION = new Node(List.of());
+
+        private final List<Object> values;
+        private final int hash;
+
+        private Node(List<Object> values) {
+            this.values = values;
+            this.hash = values.hashCode();
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            return obj instanceof Node other && hash == other.hash && values.equals(other.values);
+        }
+    }
+
+    /**
+     * Captures the fields of a schema tree. Each schema instance is captured once, hence the subtrees shared by the
+     * resolved schemas are not walked again.
+     */
+    private static final class Capture {
+
+        private final Map<Schema<?>, Node> nodes = new IdentityHashMap<>();
+
+        Node capture(Schema<?> schema) {
+            if (schema == null) {
+                return null;
+            }
+            if (nodes.containsKey(schema)) {
+                Node node = nodes.get(schema);
+                return node == null ? Node.RECURSION : node;
+            }
+            nodes.put(schema, null);
+            Object additionalProperties = schema.getAdditionalProperties();
+            Node node = new Node(values(schema.get$ref(), schema.getType(), schema.getFormat(), schema.getTitle(),
+                    schema.getDescription(), schema.getDefault(), copy(schema.getEnum()),
+                    copy(schema.getRequired()), schema.getMultipleOf(), schema.getMaximum(),
+                    schema.getExclusiveMaximum(), schema.getMinimum(), schema.getExclusiveMinimum(),
+                    schema.getMaxLength(), schema.getMinLength(), schema.getPattern(), schema.getMaxItems(),
+                    schema.getMinItems(), schema.getUniqueItems(), schema.getMaxProperties(),
+                    schema.getMinProperties(), schema.getNullable(), schema.getReadOnly(), schema.getWriteOnly(),
+                    schema.getDeprecated(), schema.getExample(), schema.getExampleSetFlag(),
+                    capture(schema.getDiscriminator()), capture(schema.getXml()), capture(schema.getExternalDocs()),
+                    copy(schema.getExtensions()), capture(schema.getNot()), capture(schema.getItems()),
+                    additionalProperties instanceof Schema<?> additionalSchema ? capture(additionalSchema) :
+                            additionalProperties,
+                    capture(schema.getProperties()), capture(schema.getAllOf()), capture(schema.getAnyOf()),
+                    capture(schema.getOneOf())));
+            nodes.put(schema, node);
+            return node;
+        }
+
+        private List<Node> capture(List<Schema> schemas) {
+            if (schemas == null) {
+                return null;
+            }
+            List<Node> captured = new ArrayList<>(schemas.size());
+            for (Schema schema : schemas) {
+                captured.add(capture(schema));
+            }
+            return Collections.unmodifiableList(captured);
+        }
+
+        // The properties are captured in their order, as the order is part of the serialized schema.
+        private List<Object> capture(Map<String, Schema> properties) {
+            if (properties == null) {
+                return null;
+            }
+            List<Object> captured = new ArrayList<>(properties.size() * 2);
+            for (Map.Entry<String, Schema> entry : properties.entrySet()) {
+                captured.add(entry.getKey());
+                captured.add(capture(entry.getValue()));
+            }
+            return Collections.unmodifiableList(captured);
+        }
+
+        private static List<Object> capture(Discriminator discriminator) {
+            return discriminator == null ? null : values(discriminator.getPropertyName(),
+                    copy(discriminator.getMapping()), copy(discriminator.getExtensions()));
+        }
+
+        private static List<Object> capture(XML xml) {
+            return xml == null ? null : values(xml.getName(), xml.getNamespace(), xml.getPrefix(), xml.getAttribute(),
+                    xml.getWrapped(), copy(xml.getExtensions()));
+        }
+
+        private static List<Object> capture(ExternalDocumentation externalDocs) {
+            return externalDocs == null ? null : values(externalDocs.getDescription(), externalDocs.getUrl(),
+                    copy(externalDocs.getExtensions()));
+        }
+
+        private static List<Object> values(Object... values) {
+            return Collections.unmodifiableList(Arrays.asList(values));
+        }
+
+        private static List<?> copy(List<?> list) {
+            return list == null ? null : Collections.unmodifiableList(new ArrayList<>(list));
+        }
+
+        private static Map<?, ?> copy(Map<?, ?> map) {
+            return map == null ? null : Collections.unmodifiableMap(new LinkedHashMap<>(map));
+        }
+    }
+}
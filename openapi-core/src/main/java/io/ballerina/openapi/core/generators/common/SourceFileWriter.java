@@ -0,0 +1,157 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.openapi.core.generators.common;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.UUID;
+
+/**
+ * This class writes the generated source files. The content of a file is streamed into a temporary file in the same
+ * directory, which is then moved to the file, hence a concurrent reader never sees a partial file. A file whose
+ * content is not changed is not written again, so that its modification time stays the same and the incremental
+ * compilation does not compile it again.
+ *
+ * @since 2.4.2
+ */
+public final class SourceFileWriter {
+
+    private static final int BUFFER_SIZE = 8192;
+    private static final String POSIX_FILE_ATTRIBUTE_VIEW = "posix";
+
+    private SourceFileWriter() {
+    }
+
+    /**
+     * Writes the given content to the given file, unless the file already has the same content.
+     *
+     * @param filePath path of the file
+     * @param content  content of the file
+     * @return {@code true} if the file is written, {@code false} if the file already has the given content
+     * @throws IOException when the file can not be read or written
+     */
+    public static boolean write(Path filePath, CharSequence content) throws IOException {
+        try (GenerationProfiler.Phase ignored = GenerationProfiler.phase(GenerationProfiler.WRITE)) {
+            if (hasContent(filePath, content)) {
+                return false;
+            }
+            writeContent(filePath, content);
+            GenerationProfiler.count(GenerationProfiler.FILES_WRITTEN, 1);
+            return true;
+        }
+    }
+
+    private static void writeContent(Path filePath, CharSequence content) throws IOException {
+        Path parentDirectory = filePath.toAbsolutePath().getParent();
+        Files.createDirectories(parentDirectory);
+        // The temporary file is created with the default permissions of the new files, as the file itself would be,
+        // while a file which is written again keeps its own permissions.
+        Path tempFile = Files.createFile(parentDirectory.resolve(
+                String.format("%s.%s.tmp", filePath.getFileName(), UUID.randomUUID())));
+        try {
+            if (Files.isRegularFile(filePath) &&
+                    filePath.getFileSystem().supportedFileAttributeViews().contains(POSIX_FILE_ATTRIBUTE_VIEW)) {
+                Files.setPosixFilePermissions(tempFile, Files.getPosixFilePermissions(filePath));
+            }
+            // The writer replaces the malformed characters as the encoder of the content hash does.
+            try (Writer writer = new BufferedWriter(new OutputStreamWriter(Files.newOutputStream(tempFile),
+                    StandardCharsets.UTF_8), BUFFER_SIZE)) {
+                writer.append(content);
+            }
+            try {
+                Files.move(tempFile, filePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile, filePath, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    /**
+     * Checks whether the given file exists with the given content, by comparing the hash of the file with the hash
+     * of the UTF-8 encoded content. Both are computed in chunks, without a copy of the whole content in memory.
+     */
+    private static boolean hasContent(Path filePath, CharSequence content) throws IOException {
+        if (!Files.isRegularFile(filePath)) {
+            return false;
+        }
+        MessageDigest contentDigest = newDigest();
+        long contentSize = digestContent(contentDigest, content);
+        if (contentSize != Files.size(filePath)) {
+            return false;
+        }
+        MessageDigest fileDigest = newDigest();
+        try (InputStream inputStream = Files.newInputStream(filePath)) {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            int read;
+            while ((read = inputStream.read(buffer)) != -1) {
+                fileDigest.update(buffer, 0, read);
+            }
+        }
+        return MessageDigest.isEqual(contentDigest.digest(), fileDigest.digest());
+    }
+
+    private static long digestContent(MessageDigest digest, CharSequence content) {
+        CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        CharBuffer input = CharBuffer.wrap(content);
+        ByteBuffer output = ByteBuffer.allocate(BUFFER_SIZE);
+        long size = 0;
+        boolean endOfInput = false;
+        while (true) {
+            CoderResult result = endOfInput ? encoder.flush(output) : encoder.encode(input, output, true);
+            output.flip();
+            size += output.remaining();
+            digest.update(output);
+            output.clear();
+            if (result.isUnderflow()) {
+                if (endOfInput) {
+                    return size;
+                }
+                endOfInput = true;
+            }
+        }
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to support SHA-256.
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,437 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.openapi.core.generators.common;
+
+import io.ballerina.compiler.syntax.tree.ClassDefinitionNode;
+import io.ballerina.compiler.syntax.tree.FunctionDefinitionNode;
+import io.ballerina.compiler.syntax.tree.ImportDeclarationNode;
+import io.ballerina.compiler.syntax.tree.ModuleMemberDeclarationNode;
+import io.ballerina.compiler.syntax.tree.ModulePartNode;
+import io.ballerina.compiler.syntax.tree.Node;
+import io.ballerina.compiler.syntax.tree.NodeList;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
+import io.ballerina.openapi.core.generators.common.model.FormatterCache;
+import io.ballerina.openapi.core.generators.common.model.FormatterCache.FileEntry;
+import io.ballerina.openapi.core.generators.common.model.FormatterCache.MemberEntry;
+import io.ballerina.tools.text.TextDocuments;
+import org.ballerinalang.formatter.core.Formatter;
+import org.ballerinalang.formatter.core.FormatterException;
+
+import java.security.CodeSource;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createEmptyNodeList;
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createNodeList;
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createToken;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createModulePartNode;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.EOF_TOKEN;
+import static io.ballerina.openapi.core.generators.common.GeneratorConstants.FORMATTER_CHUNK_SIZE_PROPERTY;
+import static io.ballerina.openapi.core.generators.common.GeneratorConstants.FORMATTER_PARALLELISM_PROPERTY;
+
+/**
+ * This class formats the generated syntax trees. The syntax trees of a generation are independent of each other,
+ * hence they are formatted concurrently up to the parallelism given by the {@code openapi.formatter.parallelism}
+ * system property. They are formatted one after another by default, since the formatter may already run on the
+ * threads of a build.
+ * <p>
+ * When the {@code openapi.formatter.chunkSize} system property is set, a syntax tree with more module members than
+ * the chunk size, such as the types of a large definition, is formatted in chunks of that many members which are
+ * formatted concurrently and merged afterwards.
+ * <p>
+ * When the formatter output cache of a previous generation is given, the formatted source of a file or a module
+ * member whose source is not changed since that generation is reused, and only the changed members are formatted and
+ * spliced into the formatted source of the file. A module member is formatted the same on its own as within its file,
+ * hence a spliced file is the same as the file formatted as a whole. The members of a file are cached only when
+ * joining them reproduces the file formatted as a whole.
+ *
+ * @since 2.4.2
+ */
+public final class SourceFormatter {
+
+    private static final String MEMBER_SEPARATOR = "\n\n";
+
+    private SourceFormatter() {
+    }
+
+    /**
+     * Formats the given syntax trees.
+     *
+     * @param syntaxTrees syntax trees to be formatted
+     * @return the formatted source code of the syntax trees, in the order of the given syntax trees
+     * @throws FormatterException when a syntax tree can not be formatted
+     */
+    public static List<String> format(List<SyntaxTree> syntaxTrees) throws FormatterException {
+        try (GenerationProfiler.Phase ignored = GenerationProfiler.phase(GenerationProfiler.FORMAT)) {
+            countModuleMembers(syntaxTrees);
+            return formatInChunks(syntaxTrees);
+        }
+    }
+
+    private static List<String> formatInChunks(List<SyntaxTree> syntaxTrees) throws FormatterException {
+        int chunkSize = Integer.getInteger(FORMATTER_CHUNK_SIZE_PROPERTY, 0);
+        // Each syntax tree is formatted as one or more chunks, which are merged in order afterwards.
+        List<List<SyntaxTree>> chunks = new ArrayList<>(syntaxTrees.size());
+        List<SyntaxTree> formattingTasks = new ArrayList<>();
+        for (SyntaxTree syntaxTree : syntaxTrees) {
+            List<SyntaxTree> treeChunks = splitIntoChunks(syntaxTree, chunkSize);
+            chunks.add(treeChunks);
+            formattingTasks.addAll(treeChunks);
+        }
+        List<String> formattedChunks = formatConcurrently(formattingTasks).stream()
+                .map(SyntaxTree::toSourceCode)
+                .toList();
+        List<String> sources = new ArrayList<>(syntaxTrees.size());
+        int index = 0;
+        for (List<SyntaxTree> treeChunks : chunks) {
+            List<String> formattedTreeChunks = formattedChunks.subList(index, index + treeChunks.size());
+            sources.add(formattedTreeChunks.size() == 1 ? formattedTreeChunks.get(0) :
+                    mergeChunks(formattedTreeChunks));
+            index += treeChunks.size();
+        }
+        return sources;
+    }
+
+    /**
+     * Formats the given syntax trees.
+     *
+     * @param syntaxTrees syntax trees to be formatted
+     * @return the formatted source code of the syntax trees, in the order of the given syntax trees
+     * @throws FormatterException when a syntax tree can not be formatted
+     */
+    public static List<String> format(SyntaxTree... syntaxTrees) throws FormatterException {
+        return format(List.of(syntaxTrees));
+    }
+
+    /**
+     * Formats the given syntax trees of the generated files, reusing the formatted source of the files and the module
+     * members which are not changed since the previous generation. The formatted files are recorded in the formatter
+     * output cache of the current generation.
+     *
+     * @param syntaxTrees syntax trees to be formatted
+     * @param fileNames   names of the files of the syntax trees
+     * @param previous    formatter output cache of the previous generation, or {@code null} if there is none
+     * @param current     formatter output cache of the current generation
+     * @return the formatted source code of the syntax trees, in the order of the given syntax trees
+     * @throws FormatterException when a syntax tree can not be formatted
+     */
+    public static List<String> format(List<SyntaxTree> syntaxTrees, List<String> fileNames,
+                                      FormatterCache previous, FormatterCache current)
+            throws FormatterException {
+        try (GenerationProfiler.Phase ignored = GenerationProfiler.phase(GenerationProfiler.FORMAT)) {
+            countModuleMembers(syntaxTrees);
+            return formatIncrementally(syntaxTrees, fileNames, previous, current);
+        }
+    }
+
+    private static List<String> formatIncrementally(List<SyntaxTree> syntaxTrees, List<String> fileNames,
+                                                    FormatterCache previous, FormatterCache current)
+            throws FormatterException {
+        List<FilePlan> filePlans = new ArrayList<>(syntaxTrees.size());
+        List<SyntaxTree> formattingTasks = new ArrayList<>();
+        for (int i = 0; i < syntaxTrees.size(); i++) {
+            Optional<FileEntry> previousEntry = previous == null ? Optional.empty() :
+                    previous.getFile(fileNames.get(i));
+            filePlans.add(FilePlan.create(syntaxTrees.get(i), previousEntry, formattingTasks));
+        }
+        List<SyntaxTree> formattedTrees = formatConcurrently(formattingTasks);
+        List<String> sources = new ArrayList<>(syntaxTrees.size());
+        for (int i = 0; i < filePlans.size(); i++) {
+            FileEntry fileEntry = filePlans.get(i).complete(formattedTrees);
+            current.putFile(fileNames.get(i), fileEntry);
+            sources.add(fileEntry.content());
+        }
+        return sources;
+    }
+
+    private static void countModuleMembers(List<SyntaxTree> syntaxTrees) {
+        long moduleMembers = 0;
+        for (SyntaxTree syntaxTree : syntaxTrees) {
+            moduleMembers += ((ModulePartNode) syntaxTree.rootNode()).members().size();
+        }
+        GenerationProfiler.count(GenerationProfiler.MODULE_MEMBERS, moduleMembers);
+    }
+
+    private static List<SyntaxTree> splitIntoChunks(SyntaxTree syntaxTree, int chunkSize) {
+        ModulePartNode modulePartNode = syntaxTree.rootNode();
+        NodeList<ModuleMemberDeclarationNode> members = modulePartNode.members();
+        if (chunkSize <= 0 || members.size() <= chunkSize) {
+            return List.of(syntaxTree);
+        }
+        List<SyntaxTree> treeChunks = new ArrayList<>();
+        List<ModuleMemberDeclarationNode> memberList = members.stream().toList();
+        for (int start = 0; start < memberList.size(); start += chunkSize) {
+            List<ModuleMemberDeclarationNode> chunkMembers = memberList.subList(start,
+                    Math.min(start + chunkSize, memberList.size()));
+            // Only the first chunk has the imports, so that the merged source has them once at the top.
+            NodeList<ImportDeclarationNode> imports = start == 0 ? modulePartNode.imports() : createEmptyNodeList();
+            treeChunks.add(createSyntaxTree(imports, createNodeList(chunkMembers)));
+        }
+        return treeChunks;
+    }
+
+    private static SyntaxTree createSyntaxTree(NodeList<ImportDeclarationNode> imports,
+                                               NodeList<ModuleMemberDeclarationNode> members) {
+        ModulePartNode modulePartNode = createModulePartNode(imports, members, createToken(EOF_TOKEN));
+        return SyntaxTree.from(TextDocuments.from("")).modifyWith(modulePartNode);
+    }
+
+    /**
+     * Returns the version of the formatter, since the formatted sources kept in a formatter output cache are valid only
+     * for the formatter which formatted them.
+     *
+     * @return the implementation version of the formatter, or the name of its jar if the version is not given
+     */
+    public static String getFormatterVersion() {
+        String version = Formatter.class.getPackage().getImplementationVersion();
+        if (version != null) {
+            return version;
+        }
+        // The name of the formatter jar carries its version.
+        CodeSource codeSource = Formatter.class.getProtectionDomain().getCodeSource();
+        if (codeSource == null || codeSource.getLocation() == null) {
+            return "";
+        }
+        String location = codeSource.getLocation().getPath();
+        return location.substring(location.lastIndexOf('/', location.length() - 2) + 1);
+    }
+
+    private static String mergeChunks(List<String> formattedChunks) {
+        StringBuilder source = new StringBuilder();
+        for (String formattedChunk : formattedChunks) {
+            String chunk = formattedChunk.strip();
+            if (chunk.isEmpty()) {
+                continue;
+            }
+            if (!source.isEmpty()) {
+                source.append(MEMBER_SEPARATOR);
+            }
+            source.append(chunk);
+        }
+        return source.append("\n").toString();
+    }
+
+    private static List<SyntaxTree> formatConcurrently(List<SyntaxTree> syntaxTrees) throws FormatterException {
+        List<SyntaxTree> formattedTrees = new ArrayList<>(syntaxTrees.size());
+        int parallelism = Math.min(syntaxTrees.size(),
+                Integer.getInteger(FORMATTER_PARALLELISM_PROPERTY, 1));
+        if (parallelism <= 1) {
+            for (SyntaxTree syntaxTree : syntaxTrees) {
+                formattedTrees.add(Formatter.format(syntaxTree));
+            }
+            return formattedTrees;
+        }
+        try (ExecutorService executor = Executors.newFixedThreadPool(parallelism)) {
+            List<Future<SyntaxTree>> results = new ArrayList<>(syntaxTrees.size());
+            for (SyntaxTree syntaxTree : syntaxTrees) {
+                results.add(executor.submit(() -> Formatter.format(syntaxTree)));
+            }
+            for (Future<SyntaxTree> result : results) {
+                formattedTrees.add(getResult(result));
+            }
+        }
+        return formattedTrees;
+    }
+
+    private static SyntaxTree getResult(Future<SyntaxTree> result) throws FormatterException {
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof FormatterException formatterException) {
+                throw formatterException;
+            }
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * The plan to format a generated file. The file is either reused as a whole, formatted as a whole, or spliced
+     * from its imports and module members, each of which is either reused or formatted on its own.
+     */
+    private static final class FilePlan {
+        private static final String IMPORTS = "imports";
+
+        private final SyntaxTree syntaxTree;
+        private final String sourceHash;
+        private FileEntry reusedEntry;
+        private int formattingTask = -1;
+        private Part imports;
+        private List<Part> members;
+
+        private FilePlan(SyntaxTree syntaxTree, String sourceHash) {
+            this.syntaxTree = syntaxTree;
+            this.sourceHash = sourceHash;
+        }
+
+        private static FilePlan create(SyntaxTree syntaxTree, Optional<FileEntry> previousEntry,
+                                       List<SyntaxTree> formattingTasks) {
+            FilePlan filePlan = new FilePlan(syntaxTree, FormatterCache.hash(syntaxTree.toSourceCode()));
+            if (previousEntry.isPresent() && previousEntry.get().sourceHash().equals(filePlan.sourceHash)) {
+                filePlan.reusedEntry = previousEntry.get();
+                return filePlan;
+            }
+            if (previousEntry.isEmpty() || previousEntry.get().members() == null) {
+                filePlan.formattingTask = addTask(formattingTasks, syntaxTree);
+                return filePlan;
+            }
+            FileEntry previous = previousEntry.get();
+            ModulePartNode modulePartNode = syntaxTree.rootNode();
+            filePlan.imports = new Part(IMPORTS, FormatterCache.hash(getImportsSource(modulePartNode)));
+            if (filePlan.imports.sourceHash.equals(previous.importsHash())) {
+                filePlan.imports.content = previous.imports();
+            } else {
+                filePlan.imports.formattingTask = addTask(formattingTasks,
+                        createSyntaxTree(modulePartNode.imports(), createEmptyNodeList()));
+            }
+            Map<String, String> formattedMembers = new HashMap<>();
+            for (MemberEntry member : previous.members()) {
+                formattedMembers.put(member.sourceHash(), member.content());
+            }
+            filePlan.members = new ArrayList<>(modulePartNode.members().size());
+            for (ModuleMemberDeclarationNode member : modulePartNode.members()) {
+                Part part = new Part(getMemberName(member), FormatterCache.hash(member.toSourceCode()));
+                part.content = formattedMembers.get(part.sourceHash);
+                if (part.content == null) {
+                    part.formattingTask = addTask(formattingTasks,
+                            createSyntaxTree(createEmptyNodeList(), createNodeList(member)));
+                }
+                filePlan.members.add(part);
+            }
+            return filePlan;
+        }
+
+        private FileEntry complete(List<SyntaxTree> formattedTrees) {
+            if (reusedEntry != null) {
+                return reusedEntry;
+            }
+            if (formattingTask >= 0) {
+                return record(formattedTrees.get(formattingTask));
+            }
+            imports.complete(formattedTrees);
+            List<MemberEntry> memberEntries = new ArrayList<>(members.size());
+            for (Part member : members) {
+                member.complete(formattedTrees);
+                memberEntries.add(new MemberEntry(member.name, member.sourceHash, member.content));
+            }
+            return new FileEntry(sourceHash, join(imports.content, memberEntries), imports.sourceHash,
+                    imports.content, memberEntries);
+        }
+
+        /**
+         * Records the imports and the module members of a file formatted as a whole. The members are recorded only
+         * if joining them reproduces the formatted file, otherwise the file can not be spliced in the next
+         * generation.
+         */
+        private FileEntry record(SyntaxTree formattedTree) {
+            String content = formattedTree.toSourceCode();
+            ModulePartNode modulePartNode = syntaxTree.rootNode();
+            ModulePartNode formattedModulePartNode = formattedTree.rootNode();
+            NodeList<ModuleMemberDeclarationNode> formattedMembers = formattedModulePartNode.members();
+            if (formattedMembers.size() != modulePartNode.members().size()) {
+                return new FileEntry(sourceHash, content, null, null, null);
+            }
+            String formattedImports = getImportsSource(formattedModulePartNode).strip();
+            List<MemberEntry> memberEntries = new ArrayList<>(formattedMembers.size());
+            for (int i = 0; i < formattedMembers.size(); i++) {
+                ModuleMemberDeclarationNode member = modulePartNode.members().get(i);
+                memberEntries.add(new MemberEntry(getMemberName(member),
+                        FormatterCache.hash(member.toSourceCode()),
+                        formattedMembers.get(i).toSourceCode().strip()));
+            }
+            if (!content.equals(join(formattedImports, memberEntries))) {
+                return new FileEntry(sourceHash, content, null, null, null);
+            }
+            return new FileEntry(sourceHash, content,
+                    FormatterCache.hash(getImportsSource(modulePartNode)), formattedImports, memberEntries);
+        }
+
+        private static String join(String imports, List<MemberEntry> members) {
+            List<String> parts = new ArrayList<>(members.size() + 1);
+            parts.add(imports);
+            for (MemberEntry member : members) {
+                parts.add(member.content());
+            }
+            return mergeChunks(parts);
+        }
+
+        private static int addTask(List<SyntaxTree> formattingTasks, SyntaxTree syntaxTree) {
+            formattingTasks.add(syntaxTree);
+            return formattingTasks.size() - 1;
+        }
+
+        private static String getImportsSource(ModulePartNode modulePartNode) {
+            return modulePartNode.imports().stream()
+                    .map(Node::toSourceCode)
+                    .collect(Collectors.joining());
+        }
+
+        private static String getMemberName(ModuleMemberDeclarationNode member) {
+            if (member instanceof TypeDefinitionNode typeDefinitionNode) {
+                return typeDefinitionNode.typeName().text();
+            }
+            if (member instanceof FunctionDefinitionNode functionDefinitionNode) {
+                return functionDefinitionNode.functionName().text();
+            }
+            if (member instanceof ClassDefinitionNode classDefinitionNode) {
+                return classDefinitionNode.className().text();
+            }
+            return member.kind().toString();
+        }
+    }
+
+    /**
+     * The imports or a module member of a spliced file, with either the reused formatted source or the index of the
+     * formatting task which formats it.
+     */
+    private static final class Part {
+        private final String name;
+        private final String sourceHash;
+        private String content;
+        private int formattingTask = -1;
+
+        private Part(String name, String sourceHash) {
+            this.name = name;
+            this.sourceHash = sourceHash;
+        }
+
+        private void complete(List<SyntaxTree> formattedTrees) {
+            if (formattingTask >= 0) {
+                content = formattedTrees.get(formattingTask).toSourceCode().strip();
+            }
+        }
+    }
+}
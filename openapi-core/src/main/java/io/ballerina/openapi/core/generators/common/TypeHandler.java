@@ -37,16 +37,15 @@ import io.ballerina.compiler.syntax.tree.Token;
 import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
 import io.ballerina.compiler.syntax.tree.TypeDescriptorNode;
 import io.ballerina.compiler.syntax.tree.TypeReferenceNode;
-import io.ballerina.openapi.core.generators.common.model.GenSrcFile;
 import io.ballerina.openapi.core.generators.constraint.ConstraintGeneratorImp;
 import io.ballerina.openapi.core.generators.constraint.ConstraintResult;
-import io.ballerina.openapi.core.generators.document.DocCommentGeneratorImp;
+import io.ballerina.openapi.core.generators.document.TypesDocCommentGenerator;
 import io.ballerina.openapi.core.generators.type.BallerinaTypesGenerator;
-import io.ballerina.openapi.core.generators.type.model.GeneratorMetaData;
 import io.ballerina.openapi.core.generators.type.model.TypeGeneratorResult;
 import io.ballerina.tools.diagnostics.Diagnostic;
 import io.ballerina.tools.text.TextDocument;
 import io.ballerina.tools.text.TextDocuments;
+import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.media.Schema;
 
@@ -78,25 +77,47 @@ import static io.ballerina.openapi.core.generators.common.GeneratorConstants.DEF
 import static io.ballerina.openapi.core.generators.common.GeneratorUtils.HTTP_IMPORT;
 
 public class TypeHandler {
-    private static TypeHandler typeHandlerInstance;
 
-    private static BallerinaTypesGenerator ballerinaTypesGenerator;
+    private final GenerationContext generationContext;
+    private final BallerinaTypesGenerator ballerinaTypesGenerator;
     private HashMap<String, TypeDefinitionNode> typeDefinitionNodes = new HashMap<>();
     private final Set<String> imports = new LinkedHashSet<>();
-    private static List<Diagnostic> diagnostics;
+    private final List<Diagnostic> diagnostics;
 
 
-    private TypeHandler() {}
+    TypeHandler(GenerationContext generationContext) {
+        this.generationContext = generationContext;
+        this.ballerinaTypesGenerator = new BallerinaTypesGenerator(generationContext);
+        this.diagnostics = ballerinaTypesGenerator.getDiagnostics();
+    }
 
+    /**
+     * Creates a new generation context for the given OpenAPI definition and binds it to the current thread, replacing
+     * the context bound to the thread. The context stays bound until another context is bound to the thread or an
+     * enclosing scope is closed, and it is not visible to the other threads. Prefer
+     * {@link #createScopedInstance(OpenAPI, boolean)}, which unbinds the context once the generation is done.
+     */
     public static void createInstance(OpenAPI openAPI, boolean isNullable) {
-        typeHandlerInstance = new TypeHandler();
-        ballerinaTypesGenerator = new BallerinaTypesGenerator(openAPI, isNullable);
-        diagnostics = ballerinaTypesGenerator.getDiagnostics();
-        GeneratorUtils.initializeRecordCountMap();
+        GenerationContext.bind(GenerationContext.create(openAPI, isNullable));
+    }
+
+    /**
+     * Creates a new generation context for the given OpenAPI definition and binds it to the current thread until the
+     * returned scope is closed. Prefer {@link GenerationContext#create(OpenAPI, boolean)} when the generation context
+     * can be passed to the generators.
+     *
+     * @return the scope which unbinds the created context
+     */
+    public static GenerationContext.Scope createScopedInstance(OpenAPI openAPI, boolean isNullable) {
+        return GenerationContext.create(openAPI, isNullable).enter();
     }
 
+    /**
+     * Returns the type handler of the generation context bound to the current thread.
+     */
     public static TypeHandler getInstance() {
-        return typeHandlerInstance;
+        GenerationContext generationContext = GenerationContext.current();
+        return generationContext == null ? null : generationContext.getTypeHandler();
     }
 
     public List<Diagnostic> getDiagnostics() {
@@ -104,42 +125,59 @@ public class TypeHandler {
     }
 
     public void addTypeDefinitionNode(String key, TypeDefinitionNode typeDefinitionNode) {
-        typeDefinitionNodes.put(key, typeDefinitionNode);
+        OperationSequence.run(() -> typeDefinitionNodes.put(key, typeDefinitionNode));
     }
 
     public void addImport(String importValue) {
-        imports.add(importValue);
+        OperationSequence.run(() -> imports.add(importValue));
     }
 
     public SyntaxTree generateTypeSyntaxTree() {
-        NodeList<ModuleMemberDeclarationNode> typeMembers = getTypeMembers();
-        NodeList<ImportDeclarationNode> imports = generateImportNodes();
-        Token eofToken = AbstractNodeFactory.createIdentifierToken("");
-        ModulePartNode modulePartNode = NodeFactory.createModulePartNode(imports, typeMembers, eofToken);
-        TextDocument textDocument = TextDocuments.from("");
-        SyntaxTree syntaxTree = SyntaxTree.from(textDocument);
-        syntaxTree = syntaxTree.modifyWith(modulePartNode);
-        DocCommentGeneratorImp docCommentGenerator = new DocCommentGeneratorImp(GeneratorMetaData.getInstance()
-                .getOpenAPI(), syntaxTree, GenSrcFile.GenFileType.GEN_TYPE, false);
-        return docCommentGenerator.updateSyntaxTreeWithDocComments();
+        try (GenerationContext.Scope ignored = generationContext.enter();
+             GenerationProfiler.Phase phase = GenerationProfiler.phase(GenerationProfiler.TYPES)) {
+            NodeList<ModuleMemberDeclarationNode> typeMembers = getTypeMembers();
+            NodeList<ImportDeclarationNode> imports = generateImportNodes();
+            Token eofToken = AbstractNodeFactory.createIdentifierToken("");
+            ModulePartNode modulePartNode = NodeFactory.createModulePartNode(imports, typeMembers, eofToken);
+            TextDocument textDocument = TextDocuments.from("");
+            SyntaxTree syntaxTree = SyntaxTree.from(textDocument);
+            return syntaxTree.modifyWith(modulePartNode);
+        }
     }
 
     private NodeList<ModuleMemberDeclarationNode> getTypeMembers() {
-        if (!GeneratorMetaData.getInstance().isNullable()) {
-            ConstraintGeneratorImp constraintGenerator = new ConstraintGeneratorImp(GeneratorMetaData
-                    .getInstance().getOpenAPI(), typeDefinitionNodes);
-            ConstraintResult constraintResult = constraintGenerator.updateTypeDefinitionsWithConstraints();
-            typeDefinitionNodes = constraintResult.typeDefinitionNodeHashMap();
-            boolean isConstraintAvailable = constraintResult.isConstraintAvailable();
-            if (isConstraintAvailable) {
-                imports.add("import ballerina/constraint;");
+        Components components = generationContext.getGeneratorMetaData().getOpenAPI().getComponents();
+        if (components != null && components.getSchemas() != null) {
+            GenerationProfiler.count(GenerationProfiler.SCHEMAS, components.getSchemas().size());
+        }
+        if (!generationContext.getGeneratorMetaData().isNullable()) {
+            try (GenerationProfiler.Phase ignored = GenerationProfiler.phase(GenerationProfiler.CONSTRAINTS)) {
+                ConstraintGeneratorImp constraintGenerator = new ConstraintGeneratorImp(generationContext,
+                        typeDefinitionNodes);
+                ConstraintResult constraintResult = constraintGenerator.updateTypeDefinitionsWithConstraints();
+                typeDefinitionNodes = constraintResult.typeDefinitionNodeHashMap();
+                boolean isConstraintAvailable = constraintResult.isConstraintAvailable();
+                if (isConstraintAvailable) {
+                    imports.add("import ballerina/constraint;");
+                }
+                diagnostics.addAll(constraintResult.diagnostics());
             }
-            diagnostics.addAll(constraintResult.diagnostics());
         }
-        TypeFixer typeFixer = new TypeFixer(typeDefinitionNodes, diagnostics);
-        typeFixer.apply();
-        return AbstractNodeFactory.createNodeList(
-                typeDefinitionNodes.values().toArray(new TypeDefinitionNode[typeDefinitionNodes.size()]));
+        try (GenerationProfiler.Phase ignored = GenerationProfiler.phase(GenerationProfiler.TYPE_FIXER)) {
+            TypeFixer typeFixer = new TypeFixer(typeDefinitionNodes, diagnostics);
+            typeFixer.apply();
+        }
+        // The doc comments are added while the members are created, instead of walking the generated syntax tree.
+        List<TypeDefinitionNode> typeMembers = new ArrayList<>(typeDefinitionNodes.size());
+        try (GenerationProfiler.Phase ignored = GenerationProfiler.phase(GenerationProfiler.DOC_COMMENTS)) {
+            TypesDocCommentGenerator docCommentGenerator = new TypesDocCommentGenerator(
+                    generationContext.getGeneratorMetaData().getOpenAPI());
+            for (TypeDefinitionNode typeDefinitionNode : typeDefinitionNodes.values()) {
+                typeMembers.add(docCommentGenerator.updateTypeDefinitionWithDocComments(typeDefinitionNode));
+            }
+        }
+        GenerationProfiler.count(GenerationProfiler.TYPE_DEFINITIONS, typeMembers.size());
+        return AbstractNodeFactory.createNodeList(typeMembers.toArray(new TypeDefinitionNode[0]));
     }
 
     private NodeList<ImportDeclarationNode> generateImportNodes() {
@@ -191,6 +229,17 @@ public class TypeHandler {
     }
 
     public Optional<TypeDescriptorNode> getTypeNodeFromOASSchema(Schema schema, boolean ignoreNullableFlag) {
+        if (OperationSequence.isDeferred()) {
+            // The type generator of a concurrently generated operation collects its diagnostics separately.
+            BallerinaTypesGenerator typesGenerator = new BallerinaTypesGenerator(generationContext);
+            TypeGeneratorResult typeGeneratorResult = typesGenerator
+                    .generateTypeDescriptorNodeForOASSchema(schema, ignoreNullableFlag);
+            if (!typesGenerator.getDiagnostics().isEmpty()) {
+                OperationSequence.run(() -> diagnostics.addAll(typesGenerator.getDiagnostics()));
+            }
+            handleSubtypes(typeGeneratorResult.subtypeDefinitions());
+            return typeGeneratorResult.typeDescriptorNode();
+        }
         TypeGeneratorResult typeGeneratorResult = ballerinaTypesGenerator
                 .generateTypeDescriptorNodeForOASSchema(schema, ignoreNullableFlag);
         handleSubtypes(typeGeneratorResult.subtypeDefinitions());
@@ -203,6 +252,8 @@ public class TypeHandler {
 
     public NameReferenceNode createTypeInclusionRecord(String statusCode, TypeDescriptorNode bodyType,
                                                        TypeDescriptorNode headersType, String method) {
+        // The name of the record depends on the records of the preceding operations.
+        OperationSequence.awaitTurn();
         String recordName;
         String statusCodeName = statusCode.equals(DEFAULT_STATUS_CODE_RESPONSE) ? DEFAULT_STATUS : statusCode;
 
@@ -291,11 +342,11 @@ public class TypeHandler {
 
     private void handleSubtypes(HashMap<String, TypeDefinitionNode> subTypesMap) {
         if (!subTypesMap.isEmpty()) {
-            subTypesMap.forEach((recordName, typeDefinitionNode) -> {
+            OperationSequence.run(() -> subTypesMap.forEach((recordName, typeDefinitionNode) -> {
                 if (!typeDefinitionNodes.containsKey(recordName)) {
                     typeDefinitionNodes.put(typeDefinitionNode.typeName().text(), typeDefinitionNode);
                 }
-            });
+            }));
         }
     }
 
@@ -0,0 +1,246 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.openapi.core.generators.common.model;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Model class to hold the formatter output cache of a generation. The cache maps the generated files and their module
+ * members to the hash of their source before formatting, so that the next generation formats only the files and the
+ * members whose source is changed and reuses the formatted source of the others. The syntax trees are still generated
+ * in full, hence the cache saves only the formatting.
+ * <p>
+ * The cache file does not hold the formatted sources. It holds the hash and the length of each formatted file and the
+ * lengths of its members, while the formatted sources are read back from the generated files. A generated file which
+ * is changed since it was generated is not reused. The cache is kept for the versions of the tool and the formatter
+ * which generated it.
+ *
+ * @since 2.4.2
+ */
+public class FormatterCache {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    // The separator of the formatted members, as they are joined by the source formatter.
+    private static final String MEMBER_SEPARATOR = "\n\n";
+    private static final String VERSION = "version";
+    private static final String FILES = "files";
+    private static final String NAME = "name";
+    private static final String SOURCE_HASH = "sourceHash";
+    private static final String CONTENT_HASH = "contentHash";
+    private static final String LENGTH = "length";
+    private static final String IMPORTS_HASH = "importsHash";
+    private static final String IMPORTS_LENGTH = "importsLength";
+    private static final String MEMBERS = "members";
+
+    private final String version;
+    private final Map<String, FileEntry> files = new LinkedHashMap<>();
+
+    public FormatterCache(String version) {
+        this.version = version;
+    }
+
+    public String getVersion() {
+        return version;
+    }
+
+    public Optional<FileEntry> getFile(String fileName) {
+        return Optional.ofNullable(files.get(fileName));
+    }
+
+    public void putFile(String fileName, FileEntry fileEntry) {
+        files.put(fileName, fileEntry);
+    }
+
+    /**
+     * Reads the formatter output cache of a previous generation. The formatted source of a file is read back from the
+     * end of the generated file, after the license header, and a file whose formatted source is changed since the
+     * previous generation is left out of the cache.
+     *
+     * @param cachePath  path of the cache file
+     * @param version    versions of the tool and the formatter which generate the sources
+     * @param outputPath path of the directory of the generated files
+     * @return the cache, or an empty value if the cache does not exist, can not be read or is written by another
+     * version of the tool or the formatter
+     */
+    public static Optional<FormatterCache> read(Path cachePath, String version, Path outputPath) {
+        if (!Files.isRegularFile(cachePath)) {
+            return Optional.empty();
+        }
+        try {
+            JsonNode root = OBJECT_MAPPER.readTree(cachePath.toFile());
+            if (!version.equals(root.path(VERSION).asText(null))) {
+                return Optional.empty();
+            }
+            FormatterCache cache = new FormatterCache(version);
+            Iterator<Map.Entry<String, JsonNode>> files = root.path(FILES).fields();
+            while (files.hasNext()) {
+                Map.Entry<String, JsonNode> file = files.next();
+                Optional<String> content = readContent(outputPath.resolve(file.getKey()), file.getValue());
+                if (content.isPresent()) {
+                    cache.putFile(file.getKey(), readFileEntry(file.getValue(), content.get()));
+                }
+            }
+            return Optional.of(cache);
+        } catch (IOException | RuntimeException e) {
+            // A cache which can not be read is discarded, hence all the sources are formatted again.
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Returns the JSON representation of the cache.
+     */
+    public String toJson() throws IOException {
+        ObjectNode root = OBJECT_MAPPER.createObjectNode();
+        root.put(VERSION, version);
+        ObjectNode filesNode = root.putObject(FILES);
+        files.forEach((fileName, fileEntry) -> {
+            ObjectNode fileNode = filesNode.putObject(fileName);
+            fileNode.put(SOURCE_HASH, fileEntry.sourceHash());
+            fileNode.put(CONTENT_HASH, hash(fileEntry.content()));
+            fileNode.put(LENGTH, fileEntry.content().length());
+            if (fileEntry.members() == null) {
+                return;
+            }
+            fileNode.put(IMPORTS_HASH, fileEntry.importsHash());
+            fileNode.put(IMPORTS_LENGTH, fileEntry.imports().length());
+            ArrayNode membersNode = fileNode.putArray(MEMBERS);
+            for (MemberEntry member : fileEntry.members()) {
+                membersNode.addObject()
+                        .put(NAME, member.name())
+                        .put(SOURCE_HASH, member.sourceHash())
+                        .put(LENGTH, member.content().length());
+            }
+        });
+        return OBJECT_MAPPER.writerWithDefaultPrettyPrinter().writeValueAsString(root);
+    }
+
+    /**
+     * Returns the SHA-256 hash of the given content, in hexadecimal.
+     */
+    public static String hash(String content) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(content.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to support SHA-256.
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Optional<String> readContent(Path filePath, JsonNode node) throws IOException {
+        int length = node.path(LENGTH).asInt(-1);
+        String content;
+        if (length == 0) {
+            // A blank file is not written.
+            content = "";
+        } else {
+            if (length < 0 || !Files.isRegularFile(filePath)) {
+                return Optional.empty();
+            }
+            String fileContent = Files.readString(filePath);
+            if (fileContent.length() < length) {
+                return Optional.empty();
+            }
+            content = fileContent.substring(fileContent.length() - length);
+        }
+        return hash(content).equals(node.path(CONTENT_HASH).asText()) ? Optional.of(content) : Optional.empty();
+    }
+
+    private static FileEntry readFileEntry(JsonNode node, String content) {
+        String sourceHash = node.path(SOURCE_HASH).asText();
+        if (!node.has(MEMBERS)) {
+            return new FileEntry(sourceHash, content, null, null, null);
+        }
+        // The formatted file is the imports and the members, each stripped and separated by a blank line.
+        int[] position = {0};
+        String imports = readPart(content, position, node.path(IMPORTS_LENGTH).asInt(-1));
+        List<MemberEntry> members = new ArrayList<>();
+        for (JsonNode member : node.get(MEMBERS)) {
+            String memberContent = readPart(content, position, member.path(LENGTH).asInt(-1));
+            if (imports == null || memberContent == null) {
+                return new FileEntry(sourceHash, content, null, null, null);
+            }
+            members.add(new MemberEntry(member.path(NAME).asText(), member.path(SOURCE_HASH).asText(),
+                    memberContent));
+        }
+        if (imports == null || position[0] + 1 != content.length() || !content.endsWith("\n")) {
+            return new FileEntry(sourceHash, content, null, null, null);
+        }
+        return new FileEntry(sourceHash, content, node.path(IMPORTS_HASH).asText(null), imports, members);
+    }
+
+    private static String readPart(String content, int[] position, int length) {
+        if (length <= 0) {
+            return length == 0 ? "" : null;
+        }
+        int start = position[0];
+        if (start > 0) {
+            if (!content.startsWith(MEMBER_SEPARATOR, start)) {
+                return null;
+            }
+            start += MEMBER_SEPARATOR.length();
+        }
+        if (start + length > content.length()) {
+            return null;
+        }
+        position[0] = start + length;
+        return content.substring(start, start + length);
+    }
+
+    /**
+     * A generated file. The members are {@code null} when the formatted source of the file can not be reproduced by
+     * joining the formatted members, in which case the file is reused only as a whole.
+     *
+     * @param sourceHash  hash of the source of the file before formatting
+     * @param content     formatted source of the file
+     * @param importsHash hash of the source of the imports before formatting
+     * @param imports     formatted source of the imports
+     * @param members     formatted module members of the file
+     */
+    public record FileEntry(String sourceHash, String content, String importsHash, String imports,
+                            List<MemberEntry> members) {
+    }
+
+    /**
+     * A module member of a generated file, such as the client class, a function or a type definition.
+     *
+     * @param name       name of the member
+     * @param sourceHash hash of the source of the member before formatting
+     * @param content    formatted source of the member
+     */
+    public record MemberEntry(String name, String sourceHash, String content) {
+    }
+}
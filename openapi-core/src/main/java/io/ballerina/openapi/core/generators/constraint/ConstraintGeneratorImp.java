@@ -33,10 +33,10 @@ import io.ballerina.compiler.syntax.tree.RecordTypeDescriptorNode;
 import io.ballerina.compiler.syntax.tree.SimpleNameReferenceNode;
 import io.ballerina.compiler.syntax.tree.SyntaxKind;
 import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
+import io.ballerina.openapi.core.generators.common.GenerationContext;
 import io.ballerina.openapi.core.generators.common.GeneratorConstants;
 import io.ballerina.openapi.core.generators.common.GeneratorUtils;
 import io.ballerina.openapi.core.generators.common.exception.BallerinaOpenApiException;
-import io.ballerina.openapi.core.generators.type.model.GeneratorMetaData;
 import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.internal.regexp.RegExpFactory;
 import io.ballerina.tools.diagnostics.Diagnostic;
@@ -77,12 +77,26 @@ import static io.ballerina.openapi.core.generators.common.GeneratorUtils.isCompo
  */
 public class ConstraintGeneratorImp implements ConstraintGenerator {
     OpenAPI openAPI;
+    boolean nullable;
     HashMap<String, TypeDefinitionNode> typeDefinitions;
     boolean isConstraint = false;
     List<Diagnostic> diagnostics = new ArrayList<>();
 
+    public ConstraintGeneratorImp(GenerationContext generationContext,
+                                  HashMap<String, TypeDefinitionNode> typeDefinitions) {
+        this.openAPI = generationContext.getGeneratorMetaData().getOpenAPI();
+        this.nullable = generationContext.getGeneratorMetaData().isNullable();
+        this.typeDefinitions = typeDefinitions;
+    }
+
+    /**
+     * @deprecated use {@link #ConstraintGeneratorImp(GenerationContext, HashMap)} instead
+     */
+    @Deprecated
     public ConstraintGeneratorImp(OpenAPI openAPI, HashMap<String, TypeDefinitionNode> typeDefinitions) {
+        GenerationContext generationContext = GenerationContext.current();
         this.openAPI = openAPI;
+        this.nullable = generationContext != null && generationContext.getGeneratorMetaData().isNullable();
         this.typeDefinitions = typeDefinitions;
     }
 
@@ -141,7 +155,6 @@ public class ConstraintGeneratorImp implements ConstraintGenerator {
                                         fieldSchema.getNullable() != null &&
                                         fieldSchema.getNullable() || (fieldSchema.getOneOf() != null ||
                                         fieldSchema.getAnyOf() != null);
-                                boolean nullable = GeneratorMetaData.getInstance().isNullable();
                                 if (nullable) {
                                     constraintNode = null;
                                 } else if (isConstraintSupport) {
@@ -221,7 +234,6 @@ public class ConstraintGeneratorImp implements ConstraintGenerator {
                                     constraintNode != null && value.getNullable() != null && value.getNullable() ||
                                             ((value.getOneOf() != null ||
                                                     value.getAnyOf() != null));
-                            boolean nullable = GeneratorMetaData.getInstance().isNullable();
                             if (nullable) {
                                 constraintNode = null;
                             } else if (isConstraintSupport) {
@@ -292,7 +304,6 @@ public class ConstraintGeneratorImp implements ConstraintGenerator {
                             constraintNode != null && itemSchema.getNullable() != null && itemSchema.getNullable() ||
                                     ((itemSchema.getOneOf() != null ||
                                             itemSchema.getAnyOf() != null));
-                    boolean nullable = GeneratorMetaData.getInstance().isNullable();
                     if (nullable) {
                         constraintNode = null;
                     } else if (isConstraintSupport) {
@@ -414,7 +425,6 @@ public class ConstraintGeneratorImp implements ConstraintGenerator {
 
         boolean isConstraintNotAllowed = schema.getNullable() != null && schema.getNullable() ||
                 (schema.getOneOf() != null || schema.getAnyOf() != null) || getOpenAPIType(schema) == null;
-        boolean nullable = GeneratorMetaData.getInstance().isNullable();
         if (nullable) {
             return false;
         } else if (isConstraintNotAllowed) {
@@ -40,7 +40,6 @@ import io.ballerina.compiler.syntax.tree.SyntaxTree;
 import io.ballerina.compiler.syntax.tree.Token;
 import io.ballerina.openapi.core.generators.common.exception.BallerinaOpenApiException;
 import io.ballerina.openapi.core.generators.common.exception.InvalidReferenceException;
-import io.ballerina.openapi.core.generators.type.model.GeneratorMetaData;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.Operation;
 import io.swagger.v3.oas.models.PathItem;
@@ -54,7 +53,6 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -88,52 +86,30 @@ public class ClientDocCommentGenerator implements DocCommentsGenerator {
     SyntaxTree syntaxTree;
     boolean isResource;
 
+    private HashMap<String, OperationDetails> operationDetailsMap;
+
     public ClientDocCommentGenerator(SyntaxTree syntaxTree, OpenAPI openAPI, boolean isResource) {
         this.openAPI = openAPI;
         this.syntaxTree = syntaxTree;
         this.isResource = isResource;
     }
+
+    /**
+     * Creates a generator which adds the doc comments to the client members while the client is generated.
+     */
+    public ClientDocCommentGenerator(OpenAPI openAPI, boolean isResource) {
+        this(null, openAPI, isResource);
+    }
+
     @Override
     public SyntaxTree updateSyntaxTreeWithDocComments() {
-        //collect all the operation details
-        HashMap<String, OperationDetails> operationDetailsMap = new HashMap<>();
-        Paths paths = openAPI.getPaths();
-        extractOperations(operationDetailsMap, paths);
-        //Generate type doc comments
-        Node rootNode = syntaxTree.rootNode();
-        ModulePartNode modulePartNode = (ModulePartNode) rootNode;
-        NodeList<ModuleMemberDeclarationNode> members = modulePartNode.members();
+        ModulePartNode modulePartNode = syntaxTree.rootNode();
         List<ModuleMemberDeclarationNode> updatedMembers = new ArrayList<>();
-        members.forEach(member -> {
+        for (ModuleMemberDeclarationNode member : modulePartNode.members()) {
             if (member.kind().equals(SyntaxKind.CLASS_DEFINITION)) {
                 ClassDefinitionNode classDef = (ClassDefinitionNode) member;
-                List<Node> updatedList = new LinkedList<>();
-                NodeList<Node> classMembers = classDef.members();
-                classMembers.forEach(classMember -> {
-                    if (classMember.kind().equals(SyntaxKind.OBJECT_METHOD_DEFINITION) ||
-                            classMember.kind().equals(SyntaxKind.RESOURCE_ACCESSOR_DEFINITION)) {
-                        FunctionDefinitionNode funcDef = (FunctionDefinitionNode) classMember;
-
-                        //remote : operationId
-                        if (isResource) {
-                            NodeList<Node> nodes = funcDef.relativeResourcePath();
-                            StringBuilder path = new StringBuilder();
-                            for (Node node: nodes) {
-                                path.append(DocCommentsGeneratorUtil.unescapeIdentifier(node.toString()
-                                        .replace("\"", "")));
-                            }
-                            String key = replaceContentWithinBrackets(path.toString(), "XXX") + "_" +
-                                    funcDef.functionName().text();
-                            funcDef = updateDocCommentsForFunctionNode(operationDetailsMap, funcDef, key);
-                        } else {
-                            String key = funcDef.functionName().text();
-                            funcDef = updateDocCommentsForFunctionNode(operationDetailsMap, funcDef, key);
-                        }
-                        classMember = funcDef;
-                    }
-                    updatedList.add(classMember);
-                });
-                classDef = classDef.modify(
+                List<Node> updatedList = updateClassMembersWithDocComments(classDef.members().stream().toList());
+                member = classDef.modify(
                         classDef.metadata().orElse(null),
                         classDef.visibilityQualifier().orElse(null),
                         classDef.classTypeQualifiers(),
@@ -143,17 +119,62 @@ public class ClientDocCommentGenerator implements DocCommentsGenerator {
                         updatedList.isEmpty() ? classDef.members() : createNodeList(updatedList),
                         classDef.closeBrace(),
                         classDef.semicolonToken().orElse(null));
-                member = classDef;
             }
-
             updatedMembers.add(member);
-            NodeList<ModuleMemberDeclarationNode> clientMembers = AbstractNodeFactory.createNodeList(updatedMembers);
-            ModulePartNode updatedmodulePartNode = modulePartNode.modify(modulePartNode.imports(), clientMembers,
-                    modulePartNode.eofToken());
+        }
+        if (updatedMembers.isEmpty()) {
+            return syntaxTree;
+        }
+        NodeList<ModuleMemberDeclarationNode> clientMembers = AbstractNodeFactory.createNodeList(updatedMembers);
+        ModulePartNode updatedmodulePartNode = modulePartNode.modify(modulePartNode.imports(), clientMembers,
+                modulePartNode.eofToken());
+        return syntaxTree.modifyWith(updatedmodulePartNode);
+    }
 
-            syntaxTree = syntaxTree.modifyWith(updatedmodulePartNode);
-        });
-        return syntaxTree;
+    /**
+     * Adds the doc comments of the operations to the client functions among the given class members, so that the
+     * doc comments are added before the class is created rather than by modifying the generated syntax tree.
+     *
+     * @param classMembers members of the client class
+     * @return the class members in the same order, where the client functions have the doc comments
+     */
+    public List<Node> updateClassMembersWithDocComments(List<? extends Node> classMembers) {
+        List<Node> updatedList = new ArrayList<>(classMembers.size());
+        for (Node classMember : classMembers) {
+            if (classMember.kind().equals(SyntaxKind.OBJECT_METHOD_DEFINITION) ||
+                    classMember.kind().equals(SyntaxKind.RESOURCE_ACCESSOR_DEFINITION)) {
+                classMember = updateFunctionWithDocComments((FunctionDefinitionNode) classMember);
+            }
+            updatedList.add(classMember);
+        }
+        return updatedList;
+    }
+
+    private FunctionDefinitionNode updateFunctionWithDocComments(FunctionDefinitionNode funcDef) {
+        //remote : operationId
+        String key;
+        if (isResource) {
+            NodeList<Node> nodes = funcDef.relativeResourcePath();
+            StringBuilder path = new StringBuilder();
+            for (Node node: nodes) {
+                path.append(DocCommentsGeneratorUtil.unescapeIdentifier(node.toString()
+                        .replace("\"", "")));
+            }
+            key = replaceContentWithinBrackets(path.toString(), "XXX") + "_" +
+                    funcDef.functionName().text();
+        } else {
+            key = funcDef.functionName().text();
+        }
+        return updateDocCommentsForFunctionNode(getOperationDetailsMap(), funcDef, key);
+    }
+
+    // The operations are indexed once by the key of their client functions.
+    private HashMap<String, OperationDetails> getOperationDetailsMap() {
+        if (operationDetailsMap == null) {
+            operationDetailsMap = new HashMap<>();
+            extractOperations(operationDetailsMap, openAPI.getPaths());
+        }
+        return operationDetailsMap;
     }
 
     private void extractOperations(HashMap<String, OperationDetails> operationDetailsMap, Paths paths) {
@@ -315,7 +336,7 @@ public class ClientDocCommentGenerator implements DocCommentsGenerator {
         boolean hasQueryParams = operation.getParameters().stream().anyMatch(parameter -> {
             if (parameter.get$ref() != null) {
                 try {
-                    parameter = GeneratorMetaData.getInstance().getOpenAPI().getComponents()
+                    parameter = openAPI.getComponents()
                             .getParameters().get(extractReferenceType(parameter.get$ref()));
                 } catch (InvalidReferenceException e) {
                     return false;
@@ -326,7 +347,7 @@ public class ClientDocCommentGenerator implements DocCommentsGenerator {
         operation.getParameters().forEach(parameter -> {
             if (parameter.get$ref() != null) {
                 try {
-                    parameter = GeneratorMetaData.getInstance().getOpenAPI().getComponents()
+                    parameter = openAPI.getComponents()
                             .getParameters().get(extractReferenceType(parameter.get$ref()));
                 } catch (InvalidReferenceException e) {
                     return;
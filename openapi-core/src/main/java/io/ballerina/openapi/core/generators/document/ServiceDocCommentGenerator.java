@@ -80,58 +80,33 @@ import static io.ballerina.openapi.core.generators.document.DocCommentsGenerator
 public class ServiceDocCommentGenerator implements DocCommentsGenerator {
     OpenAPI openAPI;
     SyntaxTree syntaxTree;
+    private HashMap<String, OperationDetails> operationDetailsMap;
 
     public ServiceDocCommentGenerator(SyntaxTree syntaxTree, OpenAPI openAPI, boolean isProxyService) {
         this.openAPI = openAPI;
         this.syntaxTree = syntaxTree;
     }
+
+    /**
+     * Creates a generator which adds the doc comments to the service members while the service is generated.
+     */
+    public ServiceDocCommentGenerator(OpenAPI openAPI, boolean isProxyService) {
+        this(null, openAPI, isProxyService);
+    }
+
     @Override
     public SyntaxTree updateSyntaxTreeWithDocComments() {
-        //collect all the operation details
-        HashMap<String, OperationDetails> operationDetailsMap = new HashMap<>();
-        Paths paths = openAPI.getPaths();
-        extractOperations(operationDetailsMap, paths);
         //Generate type doc comments
         Node rootNode = syntaxTree.rootNode();
         ModulePartNode modulePartNode = (ModulePartNode) rootNode;
         NodeList<ModuleMemberDeclarationNode> members = modulePartNode.members();
+        if (members.isEmpty()) {
+            return syntaxTree;
+        }
         List<ModuleMemberDeclarationNode> updatedMembers = new ArrayList<>();
         members.forEach(member -> {
             if (member.kind().equals(SyntaxKind.SERVICE_DECLARATION)) {
                 ServiceDeclarationNode classDef = (ServiceDeclarationNode) member;
-                HashMap<String, Node> updatedList = new HashMap<>();
-                NodeList<Node> classMembers = classDef.members();
-                //sort these members according to .toString();
-                List<String> sortedMembers = new ArrayList<>();
-                List<Node> clientInitNodes = new ArrayList<>();
-                classMembers.forEach(classMember -> {
-                    String sortKey = "";
-                    if (classMember.kind().equals(SyntaxKind.RESOURCE_ACCESSOR_DEFINITION)) {
-                        FunctionDefinitionNode funcDef = (FunctionDefinitionNode) classMember;
-                            sortKey = funcDef.toSourceCode();
-                            sortedMembers.add(sortKey);
-                            NodeList<Node> nodes = funcDef.relativeResourcePath();
-                            StringBuilder path = new StringBuilder();
-                            for (Node node: nodes) {
-                                path.append(node.toString().replace("\"", ""));
-                            }
-                            String key = replaceContentWithinBrackets(path.toString(), "XXX") + "_" +
-                                    funcDef.functionName().text();
-                            funcDef = updateDocCommentsForFunctionNode(operationDetailsMap, funcDef, key);
-
-                        classMember = funcDef;
-                    } else {
-                        clientInitNodes.add(classMember);
-                    }
-                    updatedList.put(sortKey, classMember);
-                });
-                //sort the members
-                List<Node> sortedNodes = new ArrayList<>();
-                sortedNodes.addAll(clientInitNodes);
-                sortedMembers.sort(String::compareTo);
-                for (String memberStr: sortedMembers) {
-                    sortedNodes.add(updatedList.get(memberStr));
-                }
                 member = classDef.modify(
                         classDef.metadata().orElse(null),
                         classDef.qualifiers(),
@@ -141,21 +116,74 @@ public class ServiceDocCommentGenerator implements DocCommentsGenerator {
                         classDef.onKeyword(),
                         classDef.expressions(),
                         classDef.openBraceToken(),
-                        updatedList.isEmpty() ? classDef.members() : createNodeList(sortedNodes),
+                        classDef.members().isEmpty() ? classDef.members() :
+                                createNodeList(updateServiceMembersWithDocComments(classDef.members().stream()
+                                        .toList())),
                         classDef.closeBraceToken(),
                         classDef.semicolonToken().orElse(null));
             }
-
             updatedMembers.add(member);
-            NodeList<ModuleMemberDeclarationNode> clientMembers = AbstractNodeFactory.createNodeList(updatedMembers);
-            ModulePartNode updatedmodulePartNode = modulePartNode.modify(modulePartNode.imports(), clientMembers,
-                    modulePartNode.eofToken());
-
-            syntaxTree = syntaxTree.modifyWith(updatedmodulePartNode);
         });
+        NodeList<ModuleMemberDeclarationNode> serviceMembers = AbstractNodeFactory.createNodeList(updatedMembers);
+        ModulePartNode updatedmodulePartNode = modulePartNode.modify(modulePartNode.imports(), serviceMembers,
+                modulePartNode.eofToken());
+        syntaxTree = syntaxTree.modifyWith(updatedmodulePartNode);
         return syntaxTree;
     }
 
+    /**
+     * Adds the doc comments of the operations to the resource functions of a service. The members which are not
+     * resource functions are placed first, followed by the resource functions sorted by their source code.
+     *
+     * @param serviceMembers members of the service
+     * @return the documented and sorted members of the service
+     */
+    public List<Node> updateServiceMembersWithDocComments(List<? extends Node> serviceMembers) {
+        HashMap<String, Node> updatedList = new HashMap<>();
+        //sort these members according to .toString();
+        List<String> sortedMembers = new ArrayList<>();
+        List<Node> clientInitNodes = new ArrayList<>();
+        for (Node serviceMember : serviceMembers) {
+            String sortKey = "";
+            Node updatedMember = serviceMember;
+            if (serviceMember.kind().equals(SyntaxKind.RESOURCE_ACCESSOR_DEFINITION)) {
+                FunctionDefinitionNode funcDef = (FunctionDefinitionNode) serviceMember;
+                sortKey = funcDef.toSourceCode();
+                sortedMembers.add(sortKey);
+                NodeList<Node> nodes = funcDef.relativeResourcePath();
+                StringBuilder path = new StringBuilder();
+                for (Node node: nodes) {
+                    path.append(node.toString().replace("\"", ""));
+                }
+                String key = replaceContentWithinBrackets(path.toString(), "XXX") + "_" +
+                        funcDef.functionName().text();
+                updatedMember = updateDocCommentsForFunctionNode(getOperationDetailsMap(), funcDef, key);
+            } else {
+                clientInitNodes.add(serviceMember);
+            }
+            updatedList.put(sortKey, updatedMember);
+        }
+        //sort the members
+        List<Node> sortedNodes = new ArrayList<>(clientInitNodes);
+        sortedMembers.sort(String::compareTo);
+        for (String memberStr: sortedMembers) {
+            sortedNodes.add(updatedList.get(memberStr));
+        }
+        return sortedNodes;
+    }
+
+    private HashMap<String, OperationDetails> getOperationDetailsMap() {
+        if (operationDetailsMap == null) {
+            //collect all the operation details
+            operationDetailsMap = new HashMap<>();
+            Paths paths = openAPI.getPaths();
+            if (paths != null) {
+                extractOperations(operationDetailsMap, paths);
+            }
+        }
+        return operationDetailsMap;
+    }
+
     private void extractOperations(HashMap<String, OperationDetails> operationDetailsMap, Paths paths) {
         paths.forEach((path, pathItem) -> {
             for (Map.Entry<PathItem.HttpMethod, Operation> entry : pathItem.readOperationsMap().entrySet()) {
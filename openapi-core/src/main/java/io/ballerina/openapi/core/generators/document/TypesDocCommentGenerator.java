@@ -33,6 +33,7 @@ import io.ballerina.compiler.syntax.tree.RecordTypeDescriptorNode;
 import io.ballerina.compiler.syntax.tree.SyntaxKind;
 import io.ballerina.compiler.syntax.tree.SyntaxTree;
 import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
+import io.ballerina.compiler.syntax.tree.TypeDescriptorNode;
 import io.ballerina.openapi.core.generators.common.GeneratorUtils;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.media.ComposedSchema;
@@ -56,149 +57,137 @@ public class TypesDocCommentGenerator implements DocCommentsGenerator {
         this.openAPI = openAPI;
         this.syntaxTree = syntaxTree;
     }
+
+    /**
+     * Creates a generator which adds the doc comments to the type definitions while the types are generated.
+     */
+    public TypesDocCommentGenerator(OpenAPI openAPI) {
+        this(null, openAPI);
+    }
+
     @Override
     public SyntaxTree updateSyntaxTreeWithDocComments() {
         if (openAPI.getComponents() == null) {
             return syntaxTree;
         }
         //generate type doc comments
-        Node rootNode = syntaxTree.rootNode();
-        //iterate through the root node and add doc comments
-        Map<String, Schema> schemas = openAPI.getComponents().getSchemas();
-        ModulePartNode modulePartNode = (ModulePartNode) rootNode;
-        NodeList<ModuleMemberDeclarationNode> members = modulePartNode.members();
+        ModulePartNode modulePartNode = syntaxTree.rootNode();
         List<ModuleMemberDeclarationNode> updatedMemberTypesList = new ArrayList<>();
+        for (ModuleMemberDeclarationNode member : modulePartNode.members()) {
+            updatedMemberTypesList.add(member instanceof TypeDefinitionNode typeDef ?
+                    updateTypeDefinitionWithDocComments(typeDef) : member);
+        }
+        NodeList<ModuleMemberDeclarationNode> updatedMembers = AbstractNodeFactory.createNodeList(
+                updatedMemberTypesList.toArray(new ModuleMemberDeclarationNode[updatedMemberTypesList.size()]));
 
-        members.stream().forEach(member -> {
-            if (!(member instanceof TypeDefinitionNode typeDef)) {
-                updatedMemberTypesList.add(member);
-                return;
-            }
-            // Find a matching schema based on type name
-            TypeDefinitionNode finalTypeDef = typeDef;
-            if (schemas == null) {
-                updatedMemberTypesList.add(typeDef);
-                return;
-            }
-            Schema<?> schema = schemas.entrySet()
-                    .stream()
-                    .filter(entry -> entry.getKey().equals(finalTypeDef.typeName().text()))
-                    .map(Map.Entry::getValue)
-                    .findAny()
-                    .orElse(null); // handle if no matching schema is found
-
-            if (schema != null) {
-                if (finalTypeDef.typeDescriptor().kind().equals(SyntaxKind.RECORD_TYPE_DESC)) {
-                    List<Node> updatedFields = new ArrayList<>();
-                    RecordTypeDescriptorNode record = (RecordTypeDescriptorNode) finalTypeDef.typeDescriptor();
-                    NodeList<Node> fields = record.fields();
-                    if (schema instanceof ComposedSchema composedSchema) {
-                        List<Schema> allOf = composedSchema.getAllOf();
-                        //handle special scenarios which allOf has inline objects
-                        Map<String, Schema> properties = new HashMap<>();
-                        if (allOf != null) {
-                            for (Schema<?> allOfSchema: allOf) {
-                                if (allOfSchema.getProperties() != null) {
-                                    properties.putAll(allOfSchema.getProperties());
-                                }
-                            }
+        modulePartNode = modulePartNode.modify(modulePartNode.imports(), updatedMembers, modulePartNode.eofToken());
+        return syntaxTree.modifyWith(modulePartNode);
+    }
+
+    /**
+     * Adds the doc comments of the schema with the same name to the given type definition and its record fields.
+     *
+     * @param typeDef type definition to be documented
+     * @return the type definition with the doc comments, or the given one if there is no schema with its name
+     */
+    public TypeDefinitionNode updateTypeDefinitionWithDocComments(TypeDefinitionNode typeDef) {
+        if (openAPI.getComponents() == null || openAPI.getComponents().getSchemas() == null) {
+            return typeDef;
+        }
+        Schema<?> schema = openAPI.getComponents().getSchemas().get(typeDef.typeName().text());
+        if (schema == null) {
+            return typeDef;
+        }
+        TypeDescriptorNode typeDescriptor = typeDef.typeDescriptor();
+        if (typeDescriptor.kind().equals(SyntaxKind.RECORD_TYPE_DESC)) {
+            List<Node> updatedFields = new ArrayList<>();
+            RecordTypeDescriptorNode record = (RecordTypeDescriptorNode) typeDescriptor;
+            NodeList<Node> fields = record.fields();
+            if (schema instanceof ComposedSchema composedSchema) {
+                List<Schema> allOf = composedSchema.getAllOf();
+                //handle special scenarios which allOf has inline objects
+                Map<String, Schema> properties = new HashMap<>();
+                if (allOf != null) {
+                    for (Schema<?> allOfSchema: allOf) {
+                        if (allOfSchema.getProperties() != null) {
+                            properties.putAll(allOfSchema.getProperties());
                         }
-                        schema.setProperties(properties);
                     }
-
-                    updateRecordFields(schema, updatedFields, fields, openAPI);
-
-                    typeDef = typeDef.modify(typeDef.metadata().orElse(null),
-                            typeDef.visibilityQualifier().get(),
-                            typeDef.typeKeyword(),
-                            typeDef.typeName(),
-                            NodeFactory.createRecordTypeDescriptorNode(
-                                    record.recordKeyword(),
-                                    record.bodyStartDelimiter(),
-                                    updatedFields.isEmpty() ? fields : createNodeList(updatedFields),
-                                    record.recordRestDescriptor().orElse(null),
-                                    record.bodyEndDelimiter()),
-                            typeDef.semicolonToken());
                 }
-                Optional<MetadataNode> metadata = typeDef.metadata();
-                Optional<String> schemaDescription = getSchemaDescription(schema, openAPI.getComponents());
-                if (schemaDescription.isPresent() || Objects.nonNull(schema.getDeprecated())) {
-                    MetadataNode metadataNode = updateMetadataNode(metadata, schema, schemaDescription);
-                    typeDef = typeDef.modify(metadataNode,
-                            typeDef.visibilityQualifier().get(),
-                            typeDef.typeKeyword(),
-                            typeDef.typeName(),
-                            typeDef.typeDescriptor(),
-                            typeDef.semicolonToken());
-                }
-                updatedMemberTypesList.add(typeDef);
-            } else {
-                updatedMemberTypesList.add(typeDef);
+                schema.setProperties(properties);
             }
-        });
-        NodeList<ModuleMemberDeclarationNode> updatedMembers = AbstractNodeFactory.createNodeList(
-                updatedMemberTypesList.toArray(new ModuleMemberDeclarationNode[updatedMemberTypesList.size()]));
 
-        modulePartNode = modulePartNode.modify(modulePartNode.imports(), updatedMembers, modulePartNode.eofToken());
-        return syntaxTree.modifyWith(modulePartNode);
+            updateRecordFields(schema, updatedFields, fields, openAPI);
+
+            typeDescriptor = NodeFactory.createRecordTypeDescriptorNode(
+                    record.recordKeyword(),
+                    record.bodyStartDelimiter(),
+                    updatedFields.isEmpty() ? fields : createNodeList(updatedFields),
+                    record.recordRestDescriptor().orElse(null),
+                    record.bodyEndDelimiter());
+        }
+        MetadataNode metadataNode = typeDef.metadata().orElse(null);
+        Optional<String> schemaDescription = getSchemaDescription(schema, openAPI.getComponents());
+        if (schemaDescription.isPresent() || Objects.nonNull(schema.getDeprecated())) {
+            metadataNode = updateMetadataNode(typeDef.metadata(), schema, schemaDescription);
+        }
+        if (typeDescriptor == typeDef.typeDescriptor() && metadataNode == typeDef.metadata().orElse(null)) {
+            return typeDef;
+        }
+        // The type definition is modified once with both the record fields and the metadata.
+        return typeDef.modify(metadataNode,
+                typeDef.visibilityQualifier().get(),
+                typeDef.typeKeyword(),
+                typeDef.typeName(),
+                typeDescriptor,
+                typeDef.semicolonToken());
     }
 
     private static void updateRecordFields(Schema<?> schema, List<Node> updatedFields, NodeList<Node> fields,
                                            OpenAPI openAPI) {
         if (schema.getProperties() != null) {
+            // Index the properties by their field names, since several properties may map to the same field name.
+            Map<String, List<Schema<?>>> propertiesByKey = new HashMap<>();
+            for (Map.Entry<String, Schema> entry : schema.getProperties().entrySet()) {
+                propertiesByKey.computeIfAbsent(getKey(entry), key -> new ArrayList<>()).add(entry.getValue());
+            }
             for (Node field : fields) {
-                boolean isUpdated = false;
-                for (Map.Entry<String, Schema> entry : schema.getProperties().entrySet()) {
-                    String key = getKey(entry);
-                    Schema<?> value = entry.getValue();
-                    if (field instanceof RecordFieldNode recordFieldNode) {
-                        if (recordFieldNode.fieldName().text().trim().equals(key)) {
-                            Optional<String> valueDescription = getSchemaDescription(value, openAPI.getComponents());
-                            if (valueDescription.isPresent() || Objects.nonNull(value.getDeprecated())) {
-                                Optional<MetadataNode> metadata = recordFieldNode.metadata();
-                                MetadataNode metadataNode = updateMetadataNode(metadata, value,
-                                        valueDescription);
-                                recordFieldNode = recordFieldNode.modify(metadataNode,
-                                        recordFieldNode.readonlyKeyword().orElse(null),
-                                        recordFieldNode.typeName(),
-                                        recordFieldNode.fieldName(),
-                                        recordFieldNode.questionMarkToken().orElse(null),
-                                        recordFieldNode.semicolonToken());
-                                updatedFields.add(recordFieldNode);
-                                isUpdated = true;
-                            }
-                        }
-
-                    } else if (field instanceof RecordFieldWithDefaultValueNode
-                            recordFieldWithDefaultValueNode) {
-                        if (recordFieldWithDefaultValueNode.fieldName().text().trim().equals(key)) {
-                            Optional<String> valueDescription = getSchemaDescription(value, openAPI.getComponents());
-                            if (valueDescription.isPresent() || Objects.nonNull(value.getDeprecated())) {
-                                Optional<MetadataNode> metadata = recordFieldWithDefaultValueNode
-                                        .metadata();
-                                MetadataNode metadataNode = updateMetadataNode(metadata, value,
-                                        valueDescription);
-                                recordFieldWithDefaultValueNode = recordFieldWithDefaultValueNode
-                                        .modify(metadataNode,
-                                                recordFieldWithDefaultValueNode.readonlyKeyword().orElse(null),
-                                                recordFieldWithDefaultValueNode.typeName(),
-                                                recordFieldWithDefaultValueNode.fieldName(),
-                                                recordFieldWithDefaultValueNode.equalsToken(),
-                                                recordFieldWithDefaultValueNode.expression(),
-                                                recordFieldWithDefaultValueNode.semicolonToken());
-
-                                updatedFields.add(recordFieldWithDefaultValueNode);
-                                isUpdated = true;
-                            }
+                Node updatedField = null;
+                if (field instanceof RecordFieldNode recordFieldNode) {
+                    for (Schema<?> value : propertiesByKey.getOrDefault(recordFieldNode.fieldName().text().trim(),
+                            List.of())) {
+                        Optional<String> valueDescription = getSchemaDescription(value, openAPI.getComponents());
+                        if (valueDescription.isPresent() || Objects.nonNull(value.getDeprecated())) {
+                            Optional<MetadataNode> metadata = recordFieldNode.metadata();
+                            MetadataNode metadataNode = updateMetadataNode(metadata, value, valueDescription);
+                            updatedField = recordFieldNode.modify(metadataNode,
+                                    recordFieldNode.readonlyKeyword().orElse(null),
+                                    recordFieldNode.typeName(),
+                                    recordFieldNode.fieldName(),
+                                    recordFieldNode.questionMarkToken().orElse(null),
+                                    recordFieldNode.semicolonToken());
+                            break;
                         }
                     }
-                    if (isUpdated) {
-                        break;
+                } else if (field instanceof RecordFieldWithDefaultValueNode recordFieldWithDefaultValueNode) {
+                    for (Schema<?> value : propertiesByKey.getOrDefault(
+                            recordFieldWithDefaultValueNode.fieldName().text().trim(), List.of())) {
+                        Optional<String> valueDescription = getSchemaDescription(value, openAPI.getComponents());
+                        if (valueDescription.isPresent() || Objects.nonNull(value.getDeprecated())) {
+                            Optional<MetadataNode> metadata = recordFieldWithDefaultValueNode.metadata();
+                            MetadataNode metadataNode = updateMetadataNode(metadata, value, valueDescription);
+                            updatedField = recordFieldWithDefaultValueNode.modify(metadataNode,
+                                    recordFieldWithDefaultValueNode.readonlyKeyword().orElse(null),
+                                    recordFieldWithDefaultValueNode.typeName(),
+                                    recordFieldWithDefaultValueNode.fieldName(),
+                                    recordFieldWithDefaultValueNode.equalsToken(),
+                                    recordFieldWithDefaultValueNode.expression(),
+                                    recordFieldWithDefaultValueNode.semicolonToken());
+                            break;
+                        }
                     }
                 }
-                if (!isUpdated) {
-                    updatedFields.add(field);
-                }
+                updatedFields.add(updatedField != null ? updatedField : field);
             }
         }
     }
@@ -33,6 +33,7 @@ import io.ballerina.compiler.syntax.tree.SyntaxKind;
 import io.ballerina.compiler.syntax.tree.SyntaxTree;
 import io.ballerina.compiler.syntax.tree.Token;
 import io.ballerina.compiler.syntax.tree.TypeDescriptorNode;
+import io.ballerina.openapi.core.generators.common.GenerationContext;
 import io.ballerina.openapi.core.generators.common.GeneratorUtils;
 import io.ballerina.openapi.core.generators.common.exception.BallerinaOpenApiException;
 import io.ballerina.openapi.core.generators.document.ServiceDocCommentGenerator;
@@ -62,11 +63,25 @@ import static io.ballerina.openapi.core.generators.common.GeneratorUtils.escapeI
  */
 public class ServiceDeclarationGenerator extends ServiceGenerator {
 
+    /**
+     * Creates the service declaration generator, which sets the generator metadata of the service to the generation
+     * context bound to the current thread. A new context is bound when there is no generation in progress.
+     */
     public ServiceDeclarationGenerator(OASServiceMetadata oasServiceMetadata) {
         super(oasServiceMetadata);
         GeneratorMetaData.createInstance(oasServiceMetadata.getOpenAPI(), oasServiceMetadata.isNullable());
     }
 
+    /**
+     * Creates the service declaration generator, which sets the generator metadata of the service to the given
+     * generation context instead of the context bound to the current thread.
+     */
+    public ServiceDeclarationGenerator(OASServiceMetadata oasServiceMetadata, GenerationContext generationContext) {
+        super(oasServiceMetadata);
+        generationContext.setGeneratorMetaData(new GeneratorMetaData(oasServiceMetadata.getOpenAPI(),
+                oasServiceMetadata.isNullable()));
+    }
+
     @Override
     public SyntaxTree generateSyntaxTree() throws BallerinaOpenApiException {
 
@@ -84,7 +99,11 @@ public class ServiceDeclarationGenerator extends ServiceGenerator {
         if (functionsList == null) {
             functionsList = createResourceFunctions(oasServiceMetadata.getOpenAPI(), oasServiceMetadata.getFilters());
         }
-        NodeList<Node> members = createNodeList(functionsList);
+        // Add comments while creating the service members, instead of walking the generated syntax tree
+        ServiceDocCommentGenerator serviceDocCommentGenerator = new ServiceDocCommentGenerator(
+                oasServiceMetadata.getOpenAPI(), oasServiceMetadata.generateWithoutDataBinding());
+        NodeList<Node> members = functionsList.isEmpty() ? createNodeList(functionsList) :
+                createNodeList(serviceDocCommentGenerator.updateServiceMembersWithDocComments(functionsList));
         // Create annotation if nullable property is enabled
         // @http:ServiceConfig {
         //     treatNilableAsOptional : false
@@ -113,11 +132,7 @@ public class ServiceDeclarationGenerator extends ServiceGenerator {
 
         TextDocument textDocument = TextDocuments.from("");
         SyntaxTree syntaxTree = SyntaxTree.from(textDocument);
-        syntaxTree = syntaxTree.modifyWith(modulePartNode);
-        // Add comments
-        ServiceDocCommentGenerator serviceDocCommentGenerator = new ServiceDocCommentGenerator(syntaxTree,
-                oasServiceMetadata.getOpenAPI(), oasServiceMetadata.generateWithoutDataBinding());
-        return serviceDocCommentGenerator.updateSyntaxTreeWithDocComments();
+        return syntaxTree.modifyWith(modulePartNode);
     }
 
     private NodeList<Node> createBasePathNodeList(ListenerGenerator listener) {
@@ -20,15 +20,17 @@ package io.ballerina.openapi.core.generators.service;
 
 import io.ballerina.compiler.syntax.tree.Node;
 import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.openapi.core.generators.common.GenerationContext;
 import io.ballerina.openapi.core.generators.common.SingleFileGenerator;
+import io.ballerina.openapi.core.generators.common.SourceFormatter;
 import io.ballerina.openapi.core.generators.common.exception.BallerinaOpenApiException;
 import io.ballerina.openapi.core.generators.common.model.GenSrcFile;
 import io.ballerina.openapi.core.generators.service.model.OASServiceMetadata;
 import io.ballerina.tools.diagnostics.Diagnostic;
-import org.ballerinalang.formatter.core.Formatter;
 import org.ballerinalang.formatter.core.FormatterException;
 
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
 
@@ -38,48 +40,78 @@ import static io.ballerina.openapi.core.generators.common.GeneratorConstants.DO_
 public class ServiceGenerationHandler {
 
     private final List<Diagnostic> diagnostics = new ArrayList<>();
+    private final GenerationContext generationContext;
+
+    /**
+     * Creates the service generation handler with the generation context bound to the current thread.
+     */
+    public ServiceGenerationHandler() {
+        this(GenerationContext.current());
+    }
+
+    public ServiceGenerationHandler(GenerationContext generationContext) {
+        this.generationContext = generationContext;
+    }
 
     public List<GenSrcFile> generateServiceFiles(OASServiceMetadata oasServiceMetadata) throws
             FormatterException, BallerinaOpenApiException {
-        List<GenSrcFile> sourceFiles = new ArrayList<>();
-        ServiceDeclarationGenerator serviceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
+        try (GenerationContext.Scope ignored = GenerationContext.enter(generationContext,
+                oasServiceMetadata.getOpenAPI(), oasServiceMetadata.isNullable())) {
+            List<GenSrcFile> sourceFiles = new ArrayList<>();
+            ServiceDeclarationGenerator serviceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata,
+                    GenerationContext.current());
+            List<SyntaxTree> syntaxTrees = new ArrayList<>();
+            if (!oasServiceMetadata.isServiceContractRequired()) {
+                syntaxTrees.add(serviceGenerator.generateSyntaxTree());
+            }
 
-        if (!oasServiceMetadata.isServiceContractRequired()) {
-            String mainContent = Formatter.format(serviceGenerator.generateSyntaxTree()).toSourceCode();
-            sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, oasServiceMetadata.getSrcPackage(),
-                    oasServiceMetadata.getSrcFile(),
-                    (oasServiceMetadata.getLicenseHeader().isBlank() ? DEFAULT_FILE_HEADER :
-                            oasServiceMetadata.getLicenseHeader()) + mainContent));
-        }
+            Optional<ServiceTypeGenerator> serviceTypeGenerator = getServiceTypeGenerator(oasServiceMetadata,
+                    serviceGenerator.getFunctionsList());
+            if (serviceTypeGenerator.isPresent()) {
+                syntaxTrees.add(serviceTypeGenerator.get().generateSyntaxTree());
+            }
+            // The service and the service type are formatted concurrently.
+            Iterator<String> contents = SourceFormatter.format(syntaxTrees).iterator();
+            if (!oasServiceMetadata.isServiceContractRequired()) {
+                String mainContent = contents.next();
+                sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, oasServiceMetadata.getSrcPackage(),
+                        oasServiceMetadata.getSrcFile(),
+                        (oasServiceMetadata.getLicenseHeader().isBlank() ? DEFAULT_FILE_HEADER :
+                                oasServiceMetadata.getLicenseHeader()) + mainContent));
+            }
+            if (serviceTypeGenerator.isPresent()) {
+                String serviceType = contents.next();
+                sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.GEN_SERVICE_TYPE,
+                        oasServiceMetadata.getSrcPackage(),
+                        oasServiceMetadata.isServiceContractRequired() ? "service_contract.bal" : "service_type.bal",
+                        (oasServiceMetadata.getLicenseHeader().isBlank() ? DO_NOT_MODIFY_FILE_HEADER :
+                                oasServiceMetadata.getLicenseHeader()) + serviceType));
+            }
 
-        Optional<ServiceTypeGenerator> serviceTypeGenerator = getServiceTypeGenerator(oasServiceMetadata,
-                serviceGenerator.getFunctionsList());
-        if (serviceTypeGenerator.isPresent()) {
-            String serviceType = Formatter.format(serviceTypeGenerator.get().generateSyntaxTree()).toSourceCode();
-            sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.GEN_SERVICE_TYPE, oasServiceMetadata.getSrcPackage(),
-                    oasServiceMetadata.isServiceContractRequired() ? "service_contract.bal" : "service_type.bal",
-                    (oasServiceMetadata.getLicenseHeader().isBlank() ? DO_NOT_MODIFY_FILE_HEADER :
-                            oasServiceMetadata.getLicenseHeader()) + serviceType));
+            diagnostics.addAll(serviceGenerator.getDiagnostics());
+            return sourceFiles;
         }
-
-        diagnostics.addAll(serviceGenerator.getDiagnostics());
-        return sourceFiles;
     }
 
     public SyntaxTree generateSingleSyntaxTree(OASServiceMetadata oasServiceMetadata) throws BallerinaOpenApiException {
-        ServiceDeclarationGenerator serviceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
-        SyntaxTree syntaxTree = serviceGenerator.generateSyntaxTree();
-        if (oasServiceMetadata.isServiceContractRequired()) {
-            ServiceContractGenerator serviceContractGenerator = new ServiceContractGenerator(oasServiceMetadata,
-                    serviceGenerator.getFunctionsList());
-            syntaxTree = serviceContractGenerator.generateSyntaxTree();
-        } else if (oasServiceMetadata.isServiceTypeRequired()) {
-            ServiceTypeGenerator serviceTypeGenerator = new ServiceTypeGenerator(oasServiceMetadata,
-                    serviceGenerator.getFunctionsList());
-            syntaxTree = SingleFileGenerator.combineSyntaxTrees(syntaxTree, serviceTypeGenerator.generateSyntaxTree());
+        try (GenerationContext.Scope ignored = GenerationContext.enter(generationContext,
+                oasServiceMetadata.getOpenAPI(), oasServiceMetadata.isNullable())) {
+            ServiceDeclarationGenerator serviceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata,
+                    GenerationContext.current());
+            SyntaxTree syntaxTree = serviceGenerator.generateSyntaxTree();
+            if (oasServiceMetadata.isServiceContractRequired()) {
+                ServiceContractGenerator serviceContractGenerator = new ServiceContractGenerator(oasServiceMetadata,
+                        serviceGenerator.getFunctionsList());
+                syntaxTree = serviceContractGenerator.generateSyntaxTree();
+            } else if (oasServiceMetadata.isServiceTypeRequired()) {
+                ServiceTypeGenerator serviceTypeGenerator = new ServiceTypeGenerator(oasServiceMetadata,
+                        serviceGenerator.getFunctionsList());
+                syntaxTree = SingleFileGenerator.combineSyntaxTrees(syntaxTree,
+                        serviceTypeGenerator.generateSyntaxTree());
+            }
+            diagnostics.addAll(serviceGenerator.getDiagnostics());
+            return syntaxTree;
         }
-        diagnostics.addAll(serviceGenerator.getDiagnostics());
-        return syntaxTree;
     }
 
     public List<Diagnostic> getDiagnostics() {
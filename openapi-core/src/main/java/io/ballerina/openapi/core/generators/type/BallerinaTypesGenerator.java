@@ -24,6 +24,8 @@ import io.ballerina.compiler.syntax.tree.Token;
 import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
 import io.ballerina.compiler.syntax.tree.TypeDescriptorNode;
 import io.ballerina.compiler.syntax.tree.UnionTypeDescriptorNode;
+import io.ballerina.openapi.core.generators.common.ComponentSchemas;
+import io.ballerina.openapi.core.generators.common.GenerationContext;
 import io.ballerina.openapi.core.generators.common.GeneratorUtils;
 import io.ballerina.openapi.core.generators.common.exception.InvalidReferenceException;
 import io.ballerina.openapi.core.generators.type.diagnostic.TypeGenerationDiagnosticMessages;
@@ -35,7 +37,6 @@ import io.ballerina.openapi.core.generators.type.generators.PrimitiveTypeGenerat
 import io.ballerina.openapi.core.generators.type.generators.RecordTypeGenerator;
 import io.ballerina.openapi.core.generators.type.generators.TypeGenerator;
 import io.ballerina.openapi.core.generators.type.generators.UnionTypeGenerator;
-import io.ballerina.openapi.core.generators.type.model.GeneratorMetaData;
 import io.ballerina.openapi.core.generators.type.model.TypeGeneratorResult;
 import io.ballerina.tools.diagnostics.Diagnostic;
 import io.swagger.v3.oas.models.OpenAPI;
@@ -65,6 +66,17 @@ import static io.ballerina.compiler.syntax.tree.SyntaxKind.TYPE_KEYWORD;
 public class BallerinaTypesGenerator {
 
     private final List<Diagnostic> diagnostics = new ArrayList<>();
+    private final GenerationContext generationContext;
+
+    /**
+     * This public constructor is used to generate record and other relevant data type for the OAS definition and
+     * the nullable option of the given generation context.
+     *
+     * @param generationContext generation context which holds the OAS definition and the nullable value
+     */
+    public BallerinaTypesGenerator(GenerationContext generationContext) {
+        this.generationContext = generationContext;
+    }
 
     /**
      * This public constructor is used to generate record and other relevant data type when the nullable flag is
@@ -72,9 +84,11 @@ public class BallerinaTypesGenerator {
      *
      * @param openAPI    OAS definition
      * @param isNullable nullable value
+     * @deprecated use {@link #BallerinaTypesGenerator(GenerationContext)} instead
      */
+    @Deprecated
     public BallerinaTypesGenerator(OpenAPI openAPI, boolean isNullable) {
-        GeneratorMetaData.createInstance(openAPI, isNullable);
+        this(GenerationContext.create(openAPI, isNullable));
     }
 
     public List<Diagnostic> getDiagnostics() {
@@ -84,7 +98,7 @@ public class BallerinaTypesGenerator {
     public TypeGeneratorResult generateTypeDescriptorNodeForOASSchema(Schema<?> schema, boolean ignoreNullableFlag) {
         HashMap<String, TypeDefinitionNode> subtypesMap = new HashMap<>();
         Optional<TypeDescriptorNode> typeDescriptorNode;
-        try {
+        try (GenerationContext.Scope ignored = generationContext.enter()) {
             typeDescriptorNode = generateTypeDescriptorNodeForOASSchema(schema, ignoreNullableFlag,
                     subtypesMap, new HashMap<>());
         } catch (InvalidReferenceException | OASTypeGenException e) {
@@ -111,12 +125,13 @@ public class BallerinaTypesGenerator {
             String schemaName = GeneratorUtils.extractReferenceType(schema.get$ref());
             String typeName = GeneratorUtils.escapeIdentifier(schemaName);
             if (!pregeneratedTypeMap.containsKey(typeName)) {
-                schema = GeneratorMetaData.getInstance()
-                        .getOpenAPI().getComponents().getSchemas().get(schemaName);
+                // The records of the parameters may be collected by the shard which is generating the operation.
+                schema = ComponentSchemas.get(generationContext.getGeneratorMetaData().getOpenAPI().getComponents(),
+                        schemaName);
                 if (schema == null) {
                     //this check for safe method because swagger parser has a issue with representing
                     // the wrong name for reference
-                    schema = GeneratorMetaData.getInstance()
+                    schema = generationContext.getGeneratorMetaData()
                             .getOpenAPI().getComponents().getSchemas().get(schemaName);
                 }
                 TypeGenerator typeGenerator = TypeGeneratorUtils.getTypeGenerator(schema,
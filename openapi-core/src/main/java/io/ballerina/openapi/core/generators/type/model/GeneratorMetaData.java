@@ -18,6 +18,8 @@
 
 package io.ballerina.openapi.core.generators.type.model;
 
+import io.ballerina.openapi.core.generators.common.GenerationContext;
+import io.ballerina.openapi.core.generators.common.TypeHandler;
 import io.swagger.v3.oas.models.OpenAPI;
 
 /**
@@ -29,20 +31,34 @@ public class GeneratorMetaData {
 
     private final OpenAPI openAPI;
     private final boolean nullable;
-    private static GeneratorMetaData generatorMetaData = null;
 
-    private GeneratorMetaData(OpenAPI openAPI, boolean nullable) {
+    public GeneratorMetaData(OpenAPI openAPI, boolean nullable) {
         this.openAPI = openAPI;
         this.nullable = nullable;
     }
 
+    /**
+     * Creates the metadata and sets it to the generation context bound to the current thread. When there is no
+     * generation in progress, a new generation context is created for the metadata and bound to the current thread,
+     * as {@link TypeHandler#createInstance(OpenAPI, boolean)} does.
+     */
     public static GeneratorMetaData createInstance(OpenAPI openAPI, boolean nullable) {
-        generatorMetaData = new GeneratorMetaData(openAPI, nullable);
-        return generatorMetaData;
+        GenerationContext generationContext = GenerationContext.current();
+        if (generationContext == null) {
+            TypeHandler.createInstance(openAPI, nullable);
+            return getInstance();
+        }
+        GeneratorMetaData metaData = new GeneratorMetaData(openAPI, nullable);
+        generationContext.setGeneratorMetaData(metaData);
+        return metaData;
     }
 
+    /**
+     * Returns the metadata of the generation context bound to the current thread.
+     */
     public static GeneratorMetaData getInstance() {
-        return generatorMetaData;
+        GenerationContext generationContext = GenerationContext.current();
+        return generationContext == null ? null : generationContext.getGeneratorMetaData();
     }
 
     public OpenAPI getOpenAPI() {
@@ -27,6 +27,8 @@ module io.ballerina.openapi.core {
     requires io.ballerina.formatter.core;
     requires io.swagger.v3.core;
     requires io.swagger.v3.oas.models;
+    requires java.management;
+    requires jdk.management;
     requires java.ws.rs;
     requires jsr305;
     requires org.apache.commons.io;
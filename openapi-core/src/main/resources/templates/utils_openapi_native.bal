@@ -0,0 +1,50 @@
+import ballerina/http;
+import ballerina/jballerina.java;
+
+# Generate client request when the media type is given as application/x-www-form-urlencoded.
+#
+# + encodingMap - Includes the information about the encoding mechanism
+# + anyRecord - Record to be serialized
+# + return - Serialized request body or query parameter as a string
+isolated function createFormURLEncodedRequestBody(record {|anydata...; |} anyRecord, map<Encoding> encodingMap = {}) returns string = @java:Method {
+    'class: "io.ballerina.openapi.client.ParameterSerializer"
+} external;
+
+# Serialize the record according to the deepObject style.
+#
+# + parent - Parent record name
+# + anyRecord - Record to be serialized
+# + return - Serialized record as a string
+isolated function getDeepObjectStyleRequest(string parent, record {} anyRecord) returns string = @java:Method {
+    'class: "io.ballerina.openapi.client.ParameterSerializer"
+} external;
+
+# Serialize arrays.
+#
+# + arrayName - Name of the field with arrays
+# + anyArray - Array to be serialized
+# + style - Defines how multiple values are delimited
+# + explode - Specifies whether arrays and objects should generate separate parameters
+# + return - Serialized array as a string
+isolated function getSerializedArray(string arrayName, anydata[] anyArray, string style = "form", boolean explode = true) returns string = @java:Method {
+    'class: "io.ballerina.openapi.client.ParameterSerializer"
+} external;
+
+# Generate query path with query parameter.
+#
+# + queryParam - Query parameter map
+# + encodingMap - Details on serialization mechanism
+# + return - Returns generated Path or error at failure of client initialization
+isolated function getPathForQueryParam(map<anydata> queryParam, map<Encoding> encodingMap = {}) returns string|error {
+    return getPathForQueryMap(http:getQueryMap(queryParam), encodingMap);
+}
+
+# Generate query path with the query parameters mapped to their original names.
+#
+# + queriesMap - Query parameter map
+# + encodingMap - Details on serialization mechanism
+# + return - Returns generated Path
+isolated function getPathForQueryMap(map<anydata> queriesMap, map<Encoding> encodingMap) returns string = @java:Method {
+    'class: "io.ballerina.openapi.client.ParameterSerializer",
+    name: "getPathForQueryParam"
+} external;
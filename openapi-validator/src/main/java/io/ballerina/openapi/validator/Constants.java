@@ -55,6 +55,7 @@ public class Constants {
     public static final String PATCH = "patch";
     public static final String OPTIONS = "options";
     public static final String TRACE = "trace";
+    public static final String SHARED_CONTRACT_CACHE_PROPERTY = "openapi.validator.sharedContractCache";
     public static final String FULL_STOP = ".";
     public static final String SLASH = "/";
     public static final String HTTP_HEADER = "http:Header";
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.openapi.validator;
+
+import io.ballerina.openapi.validator.model.OpenAPIPathSummary;
+import io.ballerina.projects.PackageCompilation;
+import io.ballerina.projects.plugins.SyntaxNodeAnalysisContext;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.parser.OpenAPIV3Parser;
+import io.swagger.v3.parser.core.models.ParseOptions;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static io.ballerina.openapi.validator.Constants.SHARED_CONTRACT_CACHE_PROPERTY;
+
+/**
+ * This cache keeps the parsed OpenAPI contracts of a compilation, so that the services of a package which refer to
+ * the same contract parse it once. A cached contract is reused while the last modified time of the file is the same,
+ * and when the time is changed but the content hash is the same.
+ * <p>
+ * When the {@code openapi.validator.sharedContractCache} system property is set to {@code true}, the contracts are
+ * also reused across compilations, which avoids parsing the contracts again on each compilation of the language
+ * server.
+ *
+ * @since 2.4.2
+ */
+final class ContractCache {
+
+    private static final int SHARED_CACHE_SIZE = 32;
+    private static final Map<PackageCompilation, ContractCache> compilationCaches =
+            Collections.synchronizedMap(new WeakHashMap<>());
+    private static final Map<Path, Contract> sharedContracts = Collections.synchronizedMap(
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Path, Contract> eldest) {
+                    return size() > SHARED_CACHE_SIZE;
+                }
+            });
+
+    private final Map<Path, Contract> contracts = new ConcurrentHashMap<>();
+
+    private ContractCache() {
+    }
+
+    /**
+     * Returns the contract cache of the compilation of the given context.
+     */
+    static ContractCache of(SyntaxNodeAnalysisContext context) {
+        return compilationCaches.computeIfAbsent(context.compilation(), compilation -> new ContractCache());
+    }
+
+    /**
+     * Returns the contract of the given file, parsing it only if it is not cached or the content is changed.
+     *
+     * @param contractPath path of an existing OpenAPI contract
+     * @return the cached contract, where the OpenAPI is {@code null} if the contract can not be parsed
+     */
+    Contract get(Path contractPath) throws IOException {
+        Path canonicalPath = contractPath.toRealPath();
+        FileTime lastModified = Files.getLastModifiedTime(canonicalPath);
+        Contract cached = contracts.get(canonicalPath);
+        if (cached != null && cached.lastModified().equals(lastModified)) {
+            return cached;
+        }
+        byte[] content = Files.readAllBytes(canonicalPath);
+        String contentHash = hash(content);
+        if (cached == null && Boolean.getBoolean(SHARED_CONTRACT_CACHE_PROPERTY)) {
+            cached = sharedContracts.get(canonicalPath);
+        }
+        Contract contract;
+        if (cached != null && cached.contentHash().equals(contentHash)) {
+            contract = new Contract(lastModified, contentHash, cached.openAPI(), cached.pathSummaries());
+        } else {
+            OpenAPI openAPI = new OpenAPIV3Parser().readContents(new String(content, StandardCharsets.UTF_8), null,
+                    new ParseOptions()).getOpenAPI();
+            List<OpenAPIPathSummary> pathSummaries = openAPI == null || openAPI.getPaths() == null ?
+                    List.of() : ValidatorUtils.summarizeOpenAPI(openAPI);
+            contract = new Contract(lastModified, contentHash, openAPI, pathSummaries);
+        }
+        contracts.put(canonicalPath, contract);
+        if (Boolean.getBoolean(SHARED_CONTRACT_CACHE_PROPERTY)) {
+            sharedContracts.put(canonicalPath, contract);
+        }
+        return contract;
+    }
+
+    private static String hash(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to support SHA-256.
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * A parsed contract along with the summaries of all the operations of its paths. The summaries are shared by the
+     * services, hence they must be copied before being filtered or modified.
+     */
+    record Contract(FileTime lastModified, String contentHash, OpenAPI openAPI,
+                    List<OpenAPIPathSummary> pathSummaries) {
+    }
+}
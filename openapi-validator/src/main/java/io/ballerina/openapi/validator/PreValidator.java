@@ -32,6 +32,7 @@ import io.ballerina.compiler.syntax.tree.SpecificFieldNode;
 import io.ballerina.compiler.syntax.tree.SyntaxKind;
 import io.ballerina.compiler.syntax.tree.Token;
 import io.ballerina.openapi.validator.model.Filter;
+import io.ballerina.openapi.validator.model.OpenAPIPathSummary;
 import io.ballerina.projects.DocumentId;
 import io.ballerina.projects.Package;
 import io.ballerina.projects.plugins.SyntaxNodeAnalysisContext;
@@ -57,7 +58,7 @@ import static io.ballerina.openapi.validator.Constants.EMBED;
 import static io.ballerina.openapi.validator.Constants.OPENAPI_ANNOTATION;
 import static io.ballerina.openapi.validator.Constants.TRUE;
 import static io.ballerina.openapi.validator.ValidatorUtils.isHttpService;
-import static io.ballerina.openapi.validator.ValidatorUtils.parseOpenAPIFile;
+import static io.ballerina.openapi.validator.ValidatorUtils.loadOpenAPIContract;
 import static io.ballerina.openapi.validator.ValidatorUtils.reportDiagnostic;
 import static io.ballerina.openapi.validator.error.CompilationError.EMPTY_CONTRACT_PATH;
 import static io.ballerina.openapi.validator.error.CompilationError.NON_HTTP_SERVICE;
@@ -65,20 +66,21 @@ import static io.ballerina.openapi.validator.error.CompilationError.UNEXPECTED_E
 
 /**
  * This PreValidator class contains validation for given service if it is an HTTP service, and summarise all the
- * resources.
+ * resources. A PreValidator is created for each service declaration, hence the state of a service is never shared
+ * with another service.
  *
  * @since 1.1.0
  */
 public class PreValidator implements Validator {
+    private final SyntaxNodeAnalysisContext context;
     private Filter filter;
-    private SyntaxNodeAnalysisContext context;
     private OpenAPI openAPI;
+    private List<OpenAPIPathSummary> openAPIPathSummaries;
 
-    public void initialize(SyntaxNodeAnalysisContext context) {
+    public PreValidator(SyntaxNodeAnalysisContext context) {
         this.context = context;
-        this.openAPI = null;
     }
-    
+
     public Filter getFilter() {
         return filter;
     }
@@ -87,6 +89,14 @@ public class PreValidator implements Validator {
         return openAPI;
     }
 
+    /**
+     * Returns the summaries of all the operations of the contract, which are shared by the services of the
+     * compilation that use the same contract.
+     */
+    public List<OpenAPIPathSummary> getOpenAPIPathSummaries() {
+        return openAPIPathSummaries;
+    }
+
     /**
      * During the Pre validation , it is checking whether the given service is http service, that service has openapi
      * annotation @openapi:ServiceInfo and that annotation includes valid openapi contract path.
@@ -166,8 +176,11 @@ public class PreValidator implements Validator {
                                 Path openAPIPath = Paths.get(expression.toString().replaceAll("\"",
                                         "").trim());
                                 Path ballerinaFilePath = getBallerinaFilePath();
-                                this.openAPI = getOpenAPIContract(ballerinaFilePath, location, openAPIPath);
-                                if (openAPI != null) {
+                                ContractCache.Contract contract = getOpenAPIContract(ballerinaFilePath, location,
+                                        openAPIPath);
+                                if (contract != null) {
+                                    this.openAPI = contract.openAPI();
+                                    this.openAPIPathSummaries = contract.pathSummaries();
                                     validatorEnable = true;
                                 }
                                 break;
@@ -232,7 +245,7 @@ public class PreValidator implements Validator {
     /**
      * OpenAPI contract path resolution.
      */
-    private OpenAPI getOpenAPIContract(Path ballerinaFilePath, Location location, Path openAPIPath) {
+    private ContractCache.Contract getOpenAPIContract(Path ballerinaFilePath, Location location, Path openAPIPath) {
         Path relativePath = null;
         try {
             if (openAPIPath.toString().isBlank()) {
@@ -246,7 +259,7 @@ public class PreValidator implements Validator {
                 relativePath = Paths.get(openapiContract.getCanonicalPath());
             }
             if (relativePath != null) {
-                return parseOpenAPIFile(context, relativePath.toString(), location);
+                return loadOpenAPIContract(context, relativePath.toString(), location);
             }
         } catch (IOException e) {
             reportDiagnostic(context, UNEXPECTED_EXCEPTIONS, location, DiagnosticSeverity.ERROR, e.getMessage());
@@ -27,26 +27,21 @@ import static io.ballerina.openapi.validator.ValidatorUtils.reportDiagnostic;
 
 /**
  * This model used to filter and validate all the operations according to the given filter and filter the service
- * resource in the resource file.
+ * resource in the resource file. The task does not hold any state, the validators are created for each service
+ * declaration, hence the task can be performed for the services of a compilation concurrently.
  *
  * @since 1.1.0
  */
 public class ServiceAnalysisTask implements AnalysisTask<SyntaxNodeAnalysisContext> {
-    private final ServiceValidator serviceValidator;
-    private final PreValidator preValidator;
 
-    public ServiceAnalysisTask() {
-        this.preValidator = new PreValidator();
-        this.serviceValidator = new ServiceValidator();
-    }
     @Override
     public void perform(SyntaxNodeAnalysisContext syntaxContext) {
-        this.preValidator.initialize(syntaxContext);
-        this.preValidator.validate();
-        if (this.preValidator.getOpenAPI() == null) {
+        PreValidator preValidator = new PreValidator(syntaxContext);
+        preValidator.validate();
+        if (preValidator.getOpenAPI() == null) {
             return;
         }
-        Filter filter = this.preValidator.getFilter();
+        Filter filter = preValidator.getFilter();
         boolean tagEnabled = filter.getTag() != null;
         boolean operationEnabled = filter.getOperation() != null;
         boolean excludeTagsEnabled = filter.getExcludeTag() != null;
@@ -73,7 +68,8 @@ public class ServiceAnalysisTask implements AnalysisTask<SyntaxNodeAnalysisConte
             return;
         }
 
-        this.serviceValidator.initialize(syntaxContext, this.preValidator.getOpenAPI(), filter);
-        this.serviceValidator.validate();
+        ServiceValidator serviceValidator = new ServiceValidator(syntaxContext, preValidator.getOpenAPI(),
+                preValidator.getOpenAPIPathSummaries(), filter);
+        serviceValidator.validate();
     }
 }
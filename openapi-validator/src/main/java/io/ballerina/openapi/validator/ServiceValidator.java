@@ -37,10 +37,12 @@ import io.swagger.v3.oas.models.responses.ApiResponses;
 
 import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import static io.ballerina.openapi.validator.ValidatorUtils.filterOpenAPISummaries;
 import static io.ballerina.openapi.validator.ValidatorUtils.getNormalizedPath;
 import static io.ballerina.openapi.validator.ValidatorUtils.reportDiagnostic;
 import static io.ballerina.openapi.validator.ValidatorUtils.summarizeOpenAPI;
@@ -48,18 +50,30 @@ import static io.ballerina.openapi.validator.ValidatorUtils.summarizeResources;
 
 /**
  * This model used to filter and validate all the operations according to the given filter and filter the service
- * resource in the resource file.
+ * resource in the resource file. A ServiceValidator is created for each service declaration, and it does not modify
+ * the shared contract and the summaries of its operations, hence services can be validated concurrently.
  *
  * @since 1.1.0
  */
 public class ServiceValidator implements Validator {
-    private Filter filter;
-    private SyntaxNodeAnalysisContext context;
-    private OpenAPI openAPI;
+    private final Filter filter;
+    private final SyntaxNodeAnalysisContext context;
+    private final OpenAPI openAPI;
+    private final List<OpenAPIPathSummary> openAPIPathSummaries;
 
-    public void initialize(SyntaxNodeAnalysisContext context, OpenAPI openAPI, Filter filter) {
+    public ServiceValidator(SyntaxNodeAnalysisContext context, OpenAPI openAPI, Filter filter) {
+        this(context, openAPI, null, filter);
+    }
+
+    /**
+     * Create the validator with the precomputed summaries of all the operations of the contract. When the
+     * summaries are not given, they are computed from the contract.
+     */
+    public ServiceValidator(SyntaxNodeAnalysisContext context, OpenAPI openAPI,
+                            List<OpenAPIPathSummary> openAPIPathSummaries, Filter filter) {
         this.context = context;
         this.openAPI = openAPI;
+        this.openAPIPathSummaries = openAPIPathSummaries;
         this.filter = filter;
     }
 
@@ -76,7 +90,9 @@ public class ServiceValidator implements Validator {
         ServiceDeclarationNode serviceNode = (ServiceDeclarationNode) context.node();
 
         // 1. Summaries the OAS operations and return the filtered operations
-        List<OpenAPIPathSummary> openAPIPathSummaries = summarizeOpenAPI(openAPI, context, filter);
+        List<OpenAPIPathSummary> openAPIPathSummaries = this.openAPIPathSummaries == null ?
+                summarizeOpenAPI(openAPI, context, filter) :
+                filterOpenAPISummaries(this.openAPIPathSummaries, context, filter);
         // 2. Summaries the ballerina resource
         NodeList<Node> members = serviceNode.members();
         List<FunctionDefinitionNode> resourceFunctions = new ArrayList<>();
@@ -88,118 +104,113 @@ public class ServiceValidator implements Validator {
         // 3. Summaries the resource functions
         Map<String, ResourcePathSummary> resourcePathMap = summarizeResources(resourceFunctions, context);
 
-        // 4. Unimplemented resource in service file (extra resource in openapi spec)
-        List<OpenAPIPathSummary> updatedOASPaths = validateMissingBalResources(openAPIPathSummaries,
-                resourcePathMap);
-        // 5. Undocumented resource in service file (extra resource in ballerina service)
-        Map<String, ResourcePathSummary> updatedResourcePath = validateUndefinedBalResources(openAPIPathSummaries,
-                resourcePathMap);
+        // 4. Index the OAS paths, so that each resource path is matched with a single lookup
+        Map<String, OpenAPIPathSummary> oasPathIndex = new LinkedHashMap<>();
+        for (OpenAPIPathSummary openAPIPathSummary : openAPIPathSummaries) {
+            oasPathIndex.put(openAPIPathSummary.getPath(), openAPIPathSummary);
+        }
+        // 5. Unimplemented resource in service file (extra resource in openapi spec)
+        validateMissingBalResources(oasPathIndex, resourcePathMap);
+        // 6. Undocumented resource in service file (extra resource in ballerina service)
+        validateUndefinedBalResources(oasPathIndex, resourcePathMap);
+
+        // 7. Resource validation
+        validateBalServiceWithOAS(resourcePathMap, oasPathIndex);
 
-        // 6. Resource validation
-        validateBalServiceWithOAS(updatedResourcePath, updatedOASPaths);
+    }
 
+    private boolean isFilterEnabled() {
+        return filter.getOperation() != null || filter.getTag() != null ||
+                filter.getExcludeTag() != null || filter.getExcludeOperation() != null;
     }
 
     /**
      * Validate all the resource with operations to check whether there is any missing implementation for operations.
+     * The operations and the paths which are not implemented are removed from the given index.
      * OAS-> ballerina validate add
      */
-    private List<OpenAPIPathSummary> validateMissingBalResources(List<OpenAPIPathSummary> operations, Map<String,
-            ResourcePathSummary> resources) {
-        boolean filterEnable = filter.getOperation() != null || filter.getTag() != null ||
-                filter.getExcludeTag() != null || filter.getExcludeOperation() != null;
-        Iterator<OpenAPIPathSummary> openAPIPathIterator = operations.iterator();
+    private void validateMissingBalResources(Map<String, OpenAPIPathSummary> oasPathIndex,
+                                             Map<String, ResourcePathSummary> resources) {
+        boolean filterEnable = isFilterEnabled();
+        Iterator<OpenAPIPathSummary> openAPIPathIterator = oasPathIndex.values().iterator();
         while (openAPIPathIterator.hasNext()) {
             OpenAPIPathSummary operationPath = openAPIPathIterator.next();
+            ResourcePathSummary resourcePath = resources.get(operationPath.getPath());
             // Extra path openapi
-            if (!resources.containsKey(operationPath.getPath())) {
+            if (resourcePath == null) {
                 if (!filterEnable) {
                     reportDiagnostic(context, CompilationError.MISSING_RESOURCE_PATH, context.node().location(),
                             filter.getKind(),
                             getNormalizedPath(operationPath.getPath()));
                 }
                 openAPIPathIterator.remove();
-            } else {
-                // Extra operation in openAPI
-                ResourcePathSummary resourcePath = resources.get(operationPath.getPath());
-                Map<String, ResourceMethod> resourceMethods = resourcePath.getMethods();
-                Map<String, Operation> methods = operationPath.getOperations();
-                for (Map.Entry<String, Operation> operation : methods.entrySet()) {
-                    if (!resourceMethods.containsKey(operation.getKey().trim())) {
-                        if (!filterEnable) {
-                            reportDiagnostic(context, CompilationError.MISSING_RESOURCE_FUNCTION,
-                                    context.node().location(), filter.getKind(), operation.getKey().trim(),
-                                    getNormalizedPath(operationPath.getPath()));
-                        }
-                        methods.remove(operation.getKey());
+                continue;
+            }
+            // Extra operation in openAPI
+            Map<String, ResourceMethod> resourceMethods = resourcePath.getMethods();
+            Iterator<String> methodsIter = operationPath.getOperations().keySet().iterator();
+            while (methodsIter.hasNext()) {
+                String method = methodsIter.next();
+                if (!resourceMethods.containsKey(method)) {
+                    if (!filterEnable) {
+                        reportDiagnostic(context, CompilationError.MISSING_RESOURCE_FUNCTION,
+                                context.node().location(), filter.getKind(), method,
+                                getNormalizedPath(operationPath.getPath()));
                     }
+                    methodsIter.remove();
                 }
             }
         }
-        return operations;
     }
 
     /**
-     * Checking whether there is undocumented resource function with align to openapi spec.
+     * Checking whether there is undocumented resource function with align to openapi spec. The resource functions
+     * and the resource paths which are not documented are removed from the given resources.
      * Ballerina -> OAS
      */
-    private Map<String, ResourcePathSummary> validateUndefinedBalResources(List<OpenAPIPathSummary> operations,
-                                                                           Map<String, ResourcePathSummary>
-                                                                                   resourcePathMap) {
-        boolean filterEnable = filter.getOperation() != null || filter.getTag() != null ||
-                filter.getExcludeTag() != null || filter.getExcludeOperation() != null;
-
+    private void validateUndefinedBalResources(Map<String, OpenAPIPathSummary> oasPathIndex,
+                                               Map<String, ResourcePathSummary> resourcePathMap) {
+        boolean filterEnable = isFilterEnabled();
         Iterator<Map.Entry<String, ResourcePathSummary>> resourcePathIter = resourcePathMap.entrySet().iterator();
         while (resourcePathIter.hasNext()) {
             Map.Entry<String, ResourcePathSummary> resourcePath = resourcePathIter.next();
-            boolean isPathDocumented = false;
-            for (OpenAPIPathSummary operationPath: operations) {
-                if (operationPath.getPath().equals(resourcePath.getKey())) {
-                    isPathDocumented = true;
-                    Set<Map.Entry<String, ResourceMethod>> methods = resourcePath.getValue().getMethods().entrySet();
-                    Iterator<Map.Entry<String, ResourceMethod>> methodsIter = methods.iterator();
-                    while (methodsIter.hasNext()) {
-                        Map.Entry<String, ResourceMethod> method = methodsIter.next();
-                        if (!operationPath.getOperations().containsKey(method.getKey().trim())) {
-                            if (!filterEnable) {
-                                reportDiagnostic(context, CompilationError.UNDEFINED_RESOURCE_FUNCTIONS,
-                                        method.getValue().getLocation(), filter.getKind(), method.getKey(),
-                                        getNormalizedPath(resourcePath.getKey()));
-                            }
-                            methodsIter.remove();
-                        }
-                    }
-                    break;
-                }
-            }
-            if (!isPathDocumented) {
+            OpenAPIPathSummary operationPath = oasPathIndex.get(resourcePath.getKey());
+            if (operationPath == null) {
                 if (!filterEnable) {
                     reportDiagnostic(context, CompilationError.UNDEFINED_RESOURCE_PATH, context.node().location(),
                             filter.getKind(),
                             getNormalizedPath(resourcePath.getKey()));
                 }
                 resourcePathIter.remove();
+                continue;
+            }
+            Map<String, Operation> operations = operationPath.getOperations();
+            Iterator<Map.Entry<String, ResourceMethod>> methodsIter =
+                    resourcePath.getValue().getMethods().entrySet().iterator();
+            while (methodsIter.hasNext()) {
+                Map.Entry<String, ResourceMethod> method = methodsIter.next();
+                if (!operations.containsKey(method.getKey())) {
+                    if (!filterEnable) {
+                        reportDiagnostic(context, CompilationError.UNDEFINED_RESOURCE_FUNCTIONS,
+                                method.getValue().getLocation(), filter.getKind(), method.getKey(),
+                                getNormalizedPath(resourcePath.getKey()));
+                    }
+                    methodsIter.remove();
+                }
             }
         }
-        return resourcePathMap;
     }
 
     /**
      * This validation happens ballerina service against to openapi specification.
      */
     private void validateBalServiceWithOAS(Map<String, ResourcePathSummary> resourcePaths,
-                                           List<OpenAPIPathSummary> oasPaths) {
+                                           Map<String, OpenAPIPathSummary> oasPathIndex) {
 
         Set<Map.Entry<String, ResourcePathSummary>> paths = resourcePaths.entrySet();
         for (Map.Entry<String, ResourcePathSummary> path : paths) {
             Map<String, ResourceMethod> methods = path.getValue().getMethods();
-            OpenAPIPathSummary oasPath = null;
-            for (OpenAPIPathSummary openAPIPath : oasPaths) {
-                if (path.getKey().equals(openAPIPath.getPath())) {
-                    oasPath = openAPIPath;
-                    break;
-                }
-            }
+            OpenAPIPathSummary oasPath = oasPathIndex.get(path.getKey());
 
             for (Map.Entry<String, ResourceMethod> method : methods.entrySet()) {
                 assert oasPath != null;
@@ -60,9 +60,6 @@ import io.ballerina.tools.diagnostics.Location;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.Operation;
 import io.swagger.v3.oas.models.media.Schema;
-import io.swagger.v3.parser.OpenAPIV3Parser;
-import io.swagger.v3.parser.core.models.ParseOptions;
-import io.swagger.v3.parser.core.models.SwaggerParseResult;
 
 import java.io.IOException;
 import java.nio.file.Files;
@@ -117,8 +114,20 @@ public class ValidatorUtils {
      */
     public static OpenAPI parseOpenAPIFile(SyntaxNodeAnalysisContext context, String definitionURI, Location location)
             throws  IOException {
+        ContractCache.Contract contract = loadOpenAPIContract(context, definitionURI, location);
+        return contract == null ? null : contract.openAPI();
+    }
+
+    /**
+     * Get the parsed contract for the given OpenAPI contract from the contract cache of the compilation.
+     *
+     * @param definitionURI URI for the OpenAPI contract
+     * @return the cached contract, or {@code null} if the contract is not valid
+     * @throws IOException in case of exception
+     */
+    static ContractCache.Contract loadOpenAPIContract(SyntaxNodeAnalysisContext context, String definitionURI,
+                                                      Location location) throws IOException {
         Path contractPath = Paths.get(definitionURI);
-        ParseOptions parseOptions = new ParseOptions();
 
         if (!Files.exists(contractPath)) {
             reportDiagnostic(context, CompilationError.INVALID_CONTRACT_PATH, location, DiagnosticSeverity.ERROR,
@@ -131,15 +140,13 @@ public class ValidatorUtils {
             return null;
         }
 
-        String openAPIFileContent = Files.readString(contractPath);
-        SwaggerParseResult parseResult = new OpenAPIV3Parser().readContents(openAPIFileContent, null,
-                parseOptions);
-        OpenAPI api = parseResult.getOpenAPI();
-        if (api == null) {
+        ContractCache.Contract contract = ContractCache.of(context).get(contractPath);
+        if (contract.openAPI() == null) {
             reportDiagnostic(context, CompilationError.PARSER_EXCEPTION, location, DiagnosticSeverity.ERROR,
                     definitionURI);
+            return null;
         }
-        return api;
+        return contract;
     }
 
     /**
@@ -252,36 +259,29 @@ public class ValidatorUtils {
      */
     public static List<OpenAPIPathSummary> summarizeOpenAPI(OpenAPI contract, SyntaxNodeAnalysisContext context,
                                                              Filter filter) {
+        return filterOpenAPISummaries(summarizeOpenAPI(contract), context, filter);
+    }
+
+    /**
+     * Summarize all the operations of the openAPI contract paths without filtering them.
+     * @param contract                openAPI contract
+     * @return List of summarized OpenAPIPathSummary
+     */
+    public static List<OpenAPIPathSummary> summarizeOpenAPI(OpenAPI contract) {
         List<OpenAPIPathSummary> openAPISummaries = new ArrayList<>();
         io.swagger.v3.oas.models.Paths paths = contract.getPaths();
         paths.forEach((path, value) -> {
             OpenAPIPathSummary openAPISummary = new OpenAPIPathSummary();
             if (value != null) {
                 openAPISummary.setPath(path);
-                if (value.getGet() != null) {
-                    addOpenAPISummary(openAPISummary, Constants.GET, value.getGet(), filter, context);
-                }
-                if (value.getPost() != null) {
-                    addOpenAPISummary(openAPISummary, Constants.POST, value.getPost(), filter, context);
-                }
-                if (value.getPut() != null) {
-                    addOpenAPISummary(openAPISummary, Constants.PUT, value.getPut(), filter, context);
-                }
-                if (value.getDelete() != null) {
-                    addOpenAPISummary(openAPISummary, Constants.DELETE, value.getDelete(), filter, context);
-                }
-                if (value.getHead() != null) {
-                    addOpenAPISummary(openAPISummary, Constants.HEAD, value.getHead(), filter, context);
-                }
-                if (value.getPatch() != null) {
-                    addOpenAPISummary(openAPISummary, Constants.PATCH, value.getPatch(), filter, context);
-                }
-                if (value.getOptions() != null) {
-                    addOpenAPISummary(openAPISummary, Constants.OPTIONS, value.getOptions(), filter, context);
-                }
-                if (value.getTrace() != null) {
-                    addOpenAPISummary(openAPISummary, Constants.TRACE, value.getTrace(), filter, context);
-                }
+                addOpenAPISummary(openAPISummary, Constants.GET, value.getGet());
+                addOpenAPISummary(openAPISummary, Constants.POST, value.getPost());
+                addOpenAPISummary(openAPISummary, Constants.PUT, value.getPut());
+                addOpenAPISummary(openAPISummary, Constants.DELETE, value.getDelete());
+                addOpenAPISummary(openAPISummary, Constants.HEAD, value.getHead());
+                addOpenAPISummary(openAPISummary, Constants.PATCH, value.getPatch());
+                addOpenAPISummary(openAPISummary, Constants.OPTIONS, value.getOptions());
+                addOpenAPISummary(openAPISummary, Constants.TRACE, value.getTrace());
             }
             if (openAPISummary.getOperations().size() > 0) {
                 openAPISummaries.add(openAPISummary);
@@ -290,10 +290,35 @@ public class ValidatorUtils {
         return openAPISummaries;
     }
 
-    private static void addOpenAPISummary(OpenAPIPathSummary openAPISummary, String httpMethod, Operation operation,
-                                          Filter filter, SyntaxNodeAnalysisContext context) {
-        openAPISummary.addAvailableOperation(httpMethod);
-        if (applyFilter(filter, operation.getTags(), operation.getOperationId(), context)) {
+    /**
+     * Filter the operations of the given openAPI path summaries. The given summaries are not modified, hence the
+     * returned summaries can be updated by the validation.
+     * @param pathSummaries           summaries of all the operations of the openAPI contract
+     * @return List of summarized OpenAPIPathSummary with the filtered operations
+     */
+    public static List<OpenAPIPathSummary> filterOpenAPISummaries(List<OpenAPIPathSummary> pathSummaries,
+                                                                  SyntaxNodeAnalysisContext context, Filter filter) {
+        List<OpenAPIPathSummary> openAPISummaries = new ArrayList<>(pathSummaries.size());
+        for (OpenAPIPathSummary pathSummary : pathSummaries) {
+            OpenAPIPathSummary openAPISummary = new OpenAPIPathSummary();
+            openAPISummary.setPath(pathSummary.getPath());
+            for (String availableOperation : pathSummary.getAvailableOperations()) {
+                openAPISummary.addAvailableOperation(availableOperation);
+                Operation operation = pathSummary.getOperations().get(availableOperation);
+                if (applyFilter(filter, operation.getTags(), operation.getOperationId(), context)) {
+                    openAPISummary.addOperation(availableOperation, operation);
+                }
+            }
+            if (openAPISummary.getOperations().size() > 0) {
+                openAPISummaries.add(openAPISummary);
+            }
+        }
+        return openAPISummaries;
+    }
+
+    private static void addOpenAPISummary(OpenAPIPathSummary openAPISummary, String httpMethod, Operation operation) {
+        if (operation != null) {
+            openAPISummary.addAvailableOperation(httpMethod);
             openAPISummary.addOperation(httpMethod, operation);
         }
     }
@@ -55,6 +55,10 @@ public class OpenAPIPathSummary {
         this.availableOperations.add(operation);
     }
 
+    public List<String> getAvailableOperations() {
+        return this.availableOperations;
+    }
+
     public Map<String, Operation> getOperations() {
         return this.operations;
     }